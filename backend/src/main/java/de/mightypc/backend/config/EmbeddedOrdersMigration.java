@@ -0,0 +1,65 @@
+package de.mightypc.backend.config;
+
+import de.mightypc.backend.model.shop.order.Order;
+import de.mightypc.backend.model.shop.user.User;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Component
+public class EmbeddedOrdersMigration implements InitializingBean {
+    private static final Logger LOGGER = LoggerFactory.getLogger(EmbeddedOrdersMigration.class);
+
+    private final MongoTemplate mongoTemplate;
+
+    public EmbeddedOrdersMigration(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        migrate();
+    }
+
+    public void migrate() {
+        Query withEmbeddedOrders = Query.query(Criteria.where("orders.0").exists(true));
+        withEmbeddedOrders.fields().include("orders");
+
+        Instant migratedAt = Instant.now();
+        int migratedOrders = 0;
+
+        try (Stream<User> users = mongoTemplate.stream(withEmbeddedOrders, User.class)) {
+            for (User user : (Iterable<User>) users::iterator) {
+                List<Order> orders = user.getOrders();
+
+                for (int i = 0; i < orders.size(); i++) {
+                    Order order = orders.get(i);
+                    order.setUserId(user.getId());
+
+                    // embedded orders had no timestamp, spacing them keeps their original order in the history
+                    if (order.getCreatedAt() == null) {
+                        order.setCreatedAt(migratedAt.minusMillis(orders.size() - (long) i));
+                    }
+
+                    mongoTemplate.save(order);
+                }
+
+                mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(user.getId())), new Update().unset("orders"), User.class);
+                migratedOrders += orders.size();
+            }
+        }
+
+        if (migratedOrders > 0) {
+            LOGGER.info("Moved {} embedded orders into the orders collection", migratedOrders);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package de.mightypc.backend.config;
+
+import de.mightypc.backend.model.hardware.CPU;
+import de.mightypc.backend.model.hardware.GPU;
+import de.mightypc.backend.model.hardware.HDD;
+import de.mightypc.backend.model.hardware.Motherboard;
+import de.mightypc.backend.model.hardware.PcCase;
+import de.mightypc.backend.model.hardware.PowerSupply;
+import de.mightypc.backend.model.hardware.RAM;
+import de.mightypc.backend.model.hardware.SSD;
+import de.mightypc.backend.model.pc.PC;
+import de.mightypc.backend.model.pc.Workstation;
+import org.bson.BsonType;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.aggregation.ConvertOperators;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+public class HardwareSpecPriceMigration implements InitializingBean {
+    private static final String PRICE_FIELD = "hardwareSpec.price";
+
+    private static final List<Class<?>> CATALOG_TYPES = List.of(
+            CPU.class, GPU.class, Motherboard.class, RAM.class, SSD.class, HDD.class,
+            PowerSupply.class, PcCase.class, PC.class, Workstation.class
+    );
+
+    private final MongoTemplate mongoTemplate;
+
+    public HardwareSpecPriceMigration(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        migrate();
+    }
+
+    public void migrate() {
+        Query storedAsString = Query.query(Criteria.where(PRICE_FIELD).type(BsonType.STRING.getValue()));
+
+        AggregationUpdate toDecimal = AggregationUpdate.update()
+                .set(PRICE_FIELD).toValue(ConvertOperators.valueOf(PRICE_FIELD).convertToDecimal());
+
+        for (Class<?> type : CATALOG_TYPES) {
+            mongoTemplate.updateMulti(storedAsString, toDecimal, type);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package de.mightypc.backend.config;
+
+import de.mightypc.backend.model.shop.user.User;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Component
+public class UserPcReferencesMigration implements InitializingBean {
+    private static final Logger LOGGER = LoggerFactory.getLogger(UserPcReferencesMigration.class);
+
+    private static final List<String> COMPONENTS = List.of("cpu", "gpu", "motherboard", "ram", "ssd", "hdd", "powerSupply", "pcCase");
+
+    private final MongoTemplate mongoTemplate;
+
+    public UserPcReferencesMigration(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        migrate();
+    }
+
+    public void migrate() {
+        // user pcs used to embed every component, they now only keep the ids and are hydrated from the catalog
+        Query withEmbeddedSpecs = Query.query(Criteria.where("pcs.specs").exists(true));
+        withEmbeddedSpecs.fields().include("pcs");
+
+        int migratedUsers = 0;
+
+        try (Stream<Document> users = mongoTemplate.stream(withEmbeddedSpecs, Document.class, mongoTemplate.getCollectionName(User.class))) {
+            for (Document user : (Iterable<Document>) users::iterator) {
+                List<Document> pcs = new ArrayList<>();
+
+                for (Document pc : user.getList("pcs", Document.class)) {
+                    pcs.add(toReference(pc));
+                }
+
+                mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(user.get("_id"))), new Update().set("pcs", pcs), User.class);
+                migratedUsers++;
+            }
+        }
+
+        if (migratedUsers > 0) {
+            LOGGER.info("Replaced embedded pc specs with component ids for {} users", migratedUsers);
+        }
+    }
+
+    private static Document toReference(Document pc) {
+        Document specs = pc.get("specs", Document.class);
+
+        if (specs == null) {
+            return pc;
+        }
+
+        Document specsIds = new Document();
+
+        for (String component : COMPONENTS) {
+            Document part = specs.get(component, Document.class);
+            specsIds.append(component + "Id", part == null || part.get("_id") == null ? null : part.get("_id").toString());
+        }
+
+        return new Document("_id", pc.get("_id"))
+                .append("hardwareSpec", pc.get("hardwareSpec"))
+                .append("specsIds", specsIds)
+                .append("energyConsumption", pc.get("energyConsumption"))
+                .append("photos", pc.get("photos"));
+    }
+}
@@ -0,0 +1,31 @@
+package de.mightypc.backend.config;
+
+import de.mightypc.backend.model.shop.user.User;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+// migrations run while the context starts, so the web server never serves or writes documents in the old shape
+@Component
+public class UserVersionMigration implements InitializingBean {
+    private final MongoTemplate mongoTemplate;
+
+    public UserVersionMigration(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        migrate();
+    }
+
+    public void migrate() {
+        // a versioned entity without version is treated as new, so saving an old user would fail as a duplicate insert
+        Query withoutVersion = Query.query(Criteria.where("version").exists(false));
+
+        mongoTemplate.updateMulti(withoutVersion, new Update().set("version", 0L), User.class);
+    }
+}
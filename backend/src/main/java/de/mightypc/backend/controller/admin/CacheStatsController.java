@@ -0,0 +1,24 @@
+package de.mightypc.backend.controller.admin;
+
+import de.mightypc.backend.model.admin.CacheStats;
+import de.mightypc.backend.service.admin.CacheStatsService;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/caches")
+public class CacheStatsController {
+    private final CacheStatsService cacheStatsService;
+
+    public CacheStatsController(CacheStatsService cacheStatsService) {
+        this.cacheStatsService = cacheStatsService;
+    }
+
+    @GetMapping
+    public List<CacheStats> getCacheStats() {
+        return cacheStatsService.getCacheStats();
+    }
+}
@@ -0,0 +1,39 @@
+package de.mightypc.backend.controller.admin;
+
+import de.mightypc.backend.model.admin.PropagationStats;
+import de.mightypc.backend.model.hardware.SpecsComponent;
+import de.mightypc.backend.model.pc.ComponentUsage;
+import de.mightypc.backend.service.pc.ComponentChangePropagator;
+import de.mightypc.backend.service.pc.PcService;
+import de.mightypc.backend.service.pc.WorkstationService;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/components")
+public class ComponentUsageController {
+    private final PcService pcService;
+    private final WorkstationService workstationService;
+    private final ComponentChangePropagator componentChangePropagator;
+
+    public ComponentUsageController(PcService pcService, WorkstationService workstationService, ComponentChangePropagator componentChangePropagator) {
+        this.pcService = pcService;
+        this.workstationService = workstationService;
+        this.componentChangePropagator = componentChangePropagator;
+    }
+
+    @GetMapping("/propagation")
+    public PropagationStats getPropagationStats() {
+        return componentChangePropagator.getStats();
+    }
+
+    @GetMapping("/{category}/{id}/usage")
+    public ComponentUsage getComponentUsage(@PathVariable String category, @PathVariable String id) {
+        SpecsComponent component = SpecsComponent.fromCategory(category)
+                .orElseThrow(() -> new IllegalArgumentException("Unknown component category: " + category));
+
+        return new ComponentUsage(category, id, pcService.getIdsUsingComponent(component, id), workstationService.getIdsUsingComponent(component, id));
+    }
+}
@@ -0,0 +1,24 @@
+package de.mightypc.backend.controller.admin;
+
+import de.mightypc.backend.model.admin.ConflictStats;
+import de.mightypc.backend.service.concurrency.OptimisticLockRetrier;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/conflicts")
+public class ConflictStatsController {
+    private final OptimisticLockRetrier optimisticLockRetrier;
+
+    public ConflictStatsController(OptimisticLockRetrier optimisticLockRetrier) {
+        this.optimisticLockRetrier = optimisticLockRetrier;
+    }
+
+    @GetMapping
+    public List<ConflictStats> getConflictStats() {
+        return optimisticLockRetrier.getStats();
+    }
+}
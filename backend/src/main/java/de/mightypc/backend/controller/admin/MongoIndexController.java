@@ -0,0 +1,24 @@
+package de.mightypc.backend.controller.admin;
+
+import de.mightypc.backend.model.admin.IndexReport;
+import de.mightypc.backend.service.admin.MongoIndexService;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/indexes")
+public class MongoIndexController {
+    private final MongoIndexService mongoIndexService;
+
+    public MongoIndexController(MongoIndexService mongoIndexService) {
+        this.mongoIndexService = mongoIndexService;
+    }
+
+    @GetMapping
+    public List<IndexReport> getIndexReport() {
+        return mongoIndexService.getIndexReport();
+    }
+}
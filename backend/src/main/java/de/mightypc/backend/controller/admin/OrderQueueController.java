@@ -0,0 +1,38 @@
+package de.mightypc.backend.controller.admin;
+
+import de.mightypc.backend.model.admin.OrderQueuePage;
+import de.mightypc.backend.model.admin.OrderStatusCount;
+import de.mightypc.backend.model.shop.order.OrderStatus;
+import de.mightypc.backend.service.admin.OrderQueueService;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Instant;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/orders")
+public class OrderQueueController {
+    private final OrderQueueService orderQueueService;
+
+    public OrderQueueController(OrderQueueService orderQueueService) {
+        this.orderQueueService = orderQueueService;
+    }
+
+    @GetMapping
+    public OrderQueuePage getQueue(@RequestParam OrderStatus status,
+                                   @RequestParam(required = false) Instant from,
+                                   @RequestParam(required = false) Instant to,
+                                   @RequestParam(required = false) String cursor,
+                                   @RequestParam(defaultValue = "20") int size) {
+        return orderQueueService.getQueue(status, from, to, cursor, size);
+    }
+
+    @GetMapping("/counts")
+    public List<OrderStatusCount> getCountsByStatus(@RequestParam(required = false) Instant from,
+                                                    @RequestParam(required = false) Instant to) {
+        return orderQueueService.getCountsByStatus(from, to);
+    }
+}
@@ -0,0 +1,22 @@
+package de.mightypc.backend.controller.admin;
+
+import de.mightypc.backend.model.admin.PasswordHashingStats;
+import de.mightypc.backend.security.PasswordHashingExecutor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/password-hashing")
+public class PasswordHashingStatsController {
+    private final PasswordHashingExecutor passwordHashingExecutor;
+
+    public PasswordHashingStatsController(PasswordHashingExecutor passwordHashingExecutor) {
+        this.passwordHashingExecutor = passwordHashingExecutor;
+    }
+
+    @GetMapping
+    public PasswordHashingStats getPasswordHashingStats() {
+        return passwordHashingExecutor.getStats();
+    }
+}
@@ -1,17 +1,21 @@
 package de.mightypc.backend.controller.configurator;
 
 import de.mightypc.backend.model.configurator.ConfiguratorItems;
+import de.mightypc.backend.model.configurator.ConfiguratorSnapshot;
 import de.mightypc.backend.model.hardware.SpecsIds;
-import de.mightypc.backend.service.configurator.ChatGptService;
 import de.mightypc.backend.service.configurator.ConfiguratorService;
+import de.mightypc.backend.service.configurator.PcRecommendationService;
 import de.mightypc.backend.service.hardware.MotherboardService;
 import de.mightypc.backend.service.hardware.PowerSupplyService;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.Map;
 
@@ -21,18 +25,27 @@ public class ConfiguratorController {
     private final ConfiguratorService configuratorService;
     private final MotherboardService motherboardService;
     private final PowerSupplyService powerSupplyService;
-    private final ChatGptService chatGptService;
+    private final PcRecommendationService pcRecommendationService;
 
-    public ConfiguratorController(ConfiguratorService configuratorService, ChatGptService chatGptService, MotherboardService motherboardService, PowerSupplyService powerSupplyService) {
+    public ConfiguratorController(ConfiguratorService configuratorService, PcRecommendationService pcRecommendationService, MotherboardService motherboardService, PowerSupplyService powerSupplyService) {
         this.configuratorService = configuratorService;
-        this.chatGptService = chatGptService;
+        this.pcRecommendationService = pcRecommendationService;
         this.motherboardService = motherboardService;
         this.powerSupplyService = powerSupplyService;
     }
 
     @GetMapping("/items")
-    public ConfiguratorItems getAllConfiguratorItems() {
-        return configuratorService.getAllItemsWithInfoForConfigurator();
+    public ResponseEntity<ConfiguratorItems> getAllConfiguratorItems(WebRequest request) {
+        ConfiguratorSnapshot snapshot = configuratorService.getConfiguratorSnapshot();
+
+        if (request.checkNotModified(snapshot.etag())) {
+            return null;
+        }
+
+        return ResponseEntity.ok()
+                .eTag(snapshot.etag())
+                .cacheControl(CacheControl.noCache())
+                .body(snapshot.items());
     }
 
     @GetMapping("/motherboard/socket/{cpuSocket}")
@@ -42,7 +55,7 @@ public class ConfiguratorController {
 
     @PostMapping("/gpt")
     public SpecsIds createPcWithChatGpt(@RequestBody String[] userPreferences) {
-        return chatGptService.createChatGptRecommendation(userPreferences[0], userPreferences[1]);
+        return pcRecommendationService.recommend(userPreferences[0], userPreferences[1]);
     }
 
     @PostMapping("/power-supply/energyConsumption/{energyConsumption}")
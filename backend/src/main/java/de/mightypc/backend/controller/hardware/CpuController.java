@@ -1,5 +1,6 @@
 package de.mightypc.backend.controller.hardware;
 
+import de.mightypc.backend.model.catalog.CatalogFacets;
 import de.mightypc.backend.model.hardware.CPU;
 import de.mightypc.backend.model.hardware.HardwareSpec;
 import de.mightypc.backend.model.hardware.createspecs.CreateCpu;
@@ -85,6 +86,15 @@ public class CpuController extends BaseController<CPU, CpuService> {
         return cpuService.getCpus(pageable, sortType, socket, lowestPrice, highestPrice);
     }
 
+    @GetMapping("/facets")
+    public CatalogFacets<CPU> getCpuFacets(Pageable pageable,
+                                           @RequestParam(value = "sortType", required = false) String sortType,
+                                           @RequestParam(value = "socket", required = false) String socket,
+                                           @RequestParam(value = "lowestPrice", required = false) Integer lowestPrice,
+                                           @RequestParam(value = "highestPrice", required = false) Integer highestPrice) {
+        return cpuService.getCpuFacets(pageable, sortType, socket, lowestPrice, highestPrice);
+    }
+
     @GetMapping("/socket/{cpuId}")
     public String getSocketOfCpu(@PathVariable String cpuId) {
         return cpuService.getSocketOfCpuById(cpuId);
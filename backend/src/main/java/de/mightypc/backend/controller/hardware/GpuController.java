@@ -1,5 +1,6 @@
 package de.mightypc.backend.controller.hardware;
 
+import de.mightypc.backend.model.catalog.CatalogFacets;
 import de.mightypc.backend.model.hardware.GPU;
 import de.mightypc.backend.model.hardware.HardwareSpec;
 import de.mightypc.backend.model.hardware.createspecs.CreateGpu;
@@ -70,4 +71,14 @@ public class GpuController extends BaseController<GPU, GpuService> {
 
         return service.getGpus(pageable, sortType, lowestPrice, highestPrice, lowestEnergyConsumption, highestEnergyConsumption);
     }
+
+    @GetMapping("/facets")
+    public CatalogFacets<GPU> getGpuFacets(Pageable pageable,
+                                           @RequestParam(value = "sortType", required = false) String sortType,
+                                           @RequestParam(value = "lowestPrice", required = false) Integer lowestPrice,
+                                           @RequestParam(value = "highestPrice", required = false) Integer highestPrice,
+                                           @RequestParam(value = "lowestEnergyConsumption", required = false) Integer lowestEnergyConsumption,
+                                           @RequestParam(value = "highestEnergyConsumption", required = false) Integer highestEnergyConsumption) {
+        return service.getGpuFacets(pageable, sortType, lowestPrice, highestPrice, lowestEnergyConsumption, highestEnergyConsumption);
+    }
 }
@@ -1,5 +1,6 @@
 package de.mightypc.backend.controller.hardware;
 
+import de.mightypc.backend.model.catalog.CatalogFacets;
 import de.mightypc.backend.model.hardware.HDD;
 import de.mightypc.backend.model.hardware.HardwareSpec;
 import de.mightypc.backend.model.hardware.createspecs.CreateHdd;
@@ -68,4 +69,16 @@ public class HddController extends BaseController<HDD, HddService> {
                              @RequestParam(value = "highestEnergyConsumption", required = false) Integer highestEnergyConsumption) {
         return service.getHdds(pageable, sortType, lowestPrice, highestPrice, minimalCapacity, maximalCapacity, lowestEnergyConsumption, highestEnergyConsumption);
     }
+
+    @GetMapping("/facets")
+    public CatalogFacets<HDD> getHddFacets(Pageable pageable,
+                                           @RequestParam(value = "sortType", required = false) String sortType,
+                                           @RequestParam(value = "lowestPrice", required = false) Integer lowestPrice,
+                                           @RequestParam(value = "highestPrice", required = false) Integer highestPrice,
+                                           @RequestParam(value = "minimalCapacity", required = false) Integer minimalCapacity,
+                                           @RequestParam(value = "maximalCapacity", required = false) Integer maximalCapacity,
+                                           @RequestParam(value = "lowestEnergyConsumption", required = false) Integer lowestEnergyConsumption,
+                                           @RequestParam(value = "highestEnergyConsumption", required = false) Integer highestEnergyConsumption) {
+        return service.getHddFacets(pageable, sortType, lowestPrice, highestPrice, minimalCapacity, maximalCapacity, lowestEnergyConsumption, highestEnergyConsumption);
+    }
 }
@@ -1,5 +1,6 @@
 package de.mightypc.backend.controller.hardware;
 
+import de.mightypc.backend.model.catalog.CatalogFacets;
 import de.mightypc.backend.model.hardware.Motherboard;
 import de.mightypc.backend.model.hardware.HardwareSpec;
 import de.mightypc.backend.model.hardware.createspecs.CreateMotherboard;
@@ -80,5 +81,16 @@ public class MotherboardController extends BaseController<Motherboard, Motherboa
 
         return service.getMotherboards(pageable, sortType, lowestPrice, highestPrice, socket, lowestEnergyConsumption, highestEnergyConsumption);
     }
+
+    @GetMapping("/facets")
+    public CatalogFacets<Motherboard> getMotherboardFacets(Pageable pageable,
+                                                           @RequestParam(value = "sortType", required = false) String sortType,
+                                                           @RequestParam(value = "lowestPrice", required = false) Integer lowestPrice,
+                                                           @RequestParam(value = "highestPrice", required = false) Integer highestPrice,
+                                                           @RequestParam(value = "socket", required = false) String socket,
+                                                           @RequestParam(value = "lowestEnergyConsumption", required = false) Integer lowestEnergyConsumption,
+                                                           @RequestParam(value = "highestEnergyConsumption", required = false) Integer highestEnergyConsumption) {
+        return service.getMotherboardFacets(pageable, sortType, lowestPrice, highestPrice, socket, lowestEnergyConsumption, highestEnergyConsumption);
+    }
 }
 
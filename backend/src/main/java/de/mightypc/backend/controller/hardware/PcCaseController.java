@@ -1,5 +1,6 @@
 package de.mightypc.backend.controller.hardware;
 
+import de.mightypc.backend.model.catalog.CatalogFacets;
 import de.mightypc.backend.model.hardware.PcCase;
 import de.mightypc.backend.model.hardware.HardwareSpec;
 import de.mightypc.backend.model.hardware.createspecs.CreatePcCase;
@@ -67,4 +68,12 @@ public class PcCaseController extends BaseController<PcCase, PcCaseService> {
                                    @RequestParam(value = "highestPrice", required = false) Integer highestPrice) {
         return service.getPcCases(pageable, sortType, lowestPrice, highestPrice);
     }
+
+    @GetMapping("/facets")
+    public CatalogFacets<PcCase> getPcCaseFacets(Pageable pageable,
+                                                 @RequestParam(value = "sortType", required = false) String sortType,
+                                                 @RequestParam(value = "lowestPrice", required = false) Integer lowestPrice,
+                                                 @RequestParam(value = "highestPrice", required = false) Integer highestPrice) {
+        return service.getPcCaseFacets(pageable, sortType, lowestPrice, highestPrice);
+    }
 }
@@ -1,5 +1,6 @@
 package de.mightypc.backend.controller.hardware;
 
+import de.mightypc.backend.model.catalog.CatalogFacets;
 import de.mightypc.backend.model.hardware.PowerSupply;
 import de.mightypc.backend.model.hardware.HardwareSpec;
 import de.mightypc.backend.model.hardware.createspecs.CreatePowerSupply;
@@ -69,5 +70,15 @@ public class PowerSupplyController extends BaseController<PowerSupply, PowerSupp
 
         return service.getPowerSupplies(pageable, sortType, lowestPrice, highestPrice, minimalPower, maximalPower);
     }
+
+    @GetMapping("/facets")
+    public CatalogFacets<PowerSupply> getPowerSupplyFacets(Pageable pageable,
+                                                           @RequestParam(value = "sortType", required = false) String sortType,
+                                                           @RequestParam(value = "lowestPrice", required = false) Integer lowestPrice,
+                                                           @RequestParam(value = "highestPrice", required = false) Integer highestPrice,
+                                                           @RequestParam(value = "minimalPower", required = false) Integer minimalPower,
+                                                           @RequestParam(value = "maximalPower", required = false) Integer maximalPower) {
+        return service.getPowerSupplyFacets(pageable, sortType, lowestPrice, highestPrice, minimalPower, maximalPower);
+    }
 }
 
@@ -1,5 +1,6 @@
 package de.mightypc.backend.controller.hardware;
 
+import de.mightypc.backend.model.catalog.CatalogFacets;
 import de.mightypc.backend.model.hardware.RAM;
 import de.mightypc.backend.model.hardware.HardwareSpec;
 
@@ -71,5 +72,16 @@ public class RamController extends BaseController<RAM, RamService> {
 
         return service.getRams(pageable, sortType, lowestPrice, highestPrice, minimalMemorySize, maximalMemorySize, type);
     }
+
+    @GetMapping("/facets")
+    public CatalogFacets<RAM> getRamFacets(Pageable pageable,
+                                           @RequestParam(value = "sortType", required = false) String sortType,
+                                           @RequestParam(value = "lowestPrice", required = false) Integer lowestPrice,
+                                           @RequestParam(value = "highestPrice", required = false) Integer highestPrice,
+                                           @RequestParam(value = "minimalMemorySize", required = false) Integer minimalMemorySize,
+                                           @RequestParam(value = "maximalMemorySize", required = false) Integer maximalMemorySize,
+                                           @RequestParam(value = "type", required = false) String type) {
+        return service.getRamFacets(pageable, sortType, lowestPrice, highestPrice, minimalMemorySize, maximalMemorySize, type);
+    }
 }
 
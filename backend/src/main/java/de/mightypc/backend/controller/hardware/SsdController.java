@@ -1,5 +1,6 @@
 package de.mightypc.backend.controller.hardware;
 
+import de.mightypc.backend.model.catalog.CatalogFacets;
 import de.mightypc.backend.model.hardware.SSD;
 import de.mightypc.backend.model.hardware.HardwareSpec;
 
@@ -70,4 +71,14 @@ public class SsdController extends BaseController<SSD, SsdService> {
 
         return service.getSsds(pageable, sortType, lowestPrice, highestPrice, minimalCapacity, maximalCapacity);
     }
+
+    @GetMapping("/facets")
+    public CatalogFacets<SSD> getSsdFacets(Pageable pageable,
+                                           @RequestParam(value = "sortType", required = false) String sortType,
+                                           @RequestParam(value = "lowestPrice", required = false) Integer lowestPrice,
+                                           @RequestParam(value = "highestPrice", required = false) Integer highestPrice,
+                                           @RequestParam(value = "minimalCapacity", required = false) Integer minimalCapacity,
+                                           @RequestParam(value = "maximalCapacity", required = false) Integer maximalCapacity) {
+        return service.getSsdFacets(pageable, sortType, lowestPrice, highestPrice, minimalCapacity, maximalCapacity);
+    }
 }
@@ -1,5 +1,6 @@
 package de.mightypc.backend.controller.pc;
 
+import de.mightypc.backend.model.catalog.CatalogFacets;
 import de.mightypc.backend.model.configurator.SpecsIdsForEnergyConsumption;
 import de.mightypc.backend.model.pc.PC;
 import de.mightypc.backend.model.pc.createpc.CreatePC;
@@ -85,4 +86,14 @@ public class PcController {
 
         return service.getPcs(pageable, sortType, lowestPrice, highestPrice, lowestEnergyConsumption, highestEnergyConsumption);
     }
+
+    @GetMapping("/facets")
+    public CatalogFacets<PcResponse> getPcFacets(Pageable pageable,
+                                         @RequestParam(value = "sortType", required = false) String sortType,
+                                         @RequestParam(value = "lowestPrice", required = false) Integer lowestPrice,
+                                         @RequestParam(value = "highestPrice", required = false) Integer highestPrice,
+                                         @RequestParam(value = "lowestEnergyConsumption", required = false) Integer lowestEnergyConsumption,
+                                         @RequestParam(value = "highestEnergyConsumption", required = false) Integer highestEnergyConsumption) {
+        return service.getPcFacets(pageable, sortType, lowestPrice, highestPrice, lowestEnergyConsumption, highestEnergyConsumption);
+    }
 }
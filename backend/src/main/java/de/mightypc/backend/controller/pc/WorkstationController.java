@@ -1,5 +1,6 @@
 package de.mightypc.backend.controller.pc;
 
+import de.mightypc.backend.model.catalog.CatalogFacets;
 import de.mightypc.backend.model.pc.Workstation;
 import de.mightypc.backend.model.pc.createpc.CreateWorkstation;
 import de.mightypc.backend.model.pc.createpc.WorkstationResponse;
@@ -72,4 +73,14 @@ public class WorkstationController {
 
         return service.getWorkstations(pageable, sortType, lowestPrice, highestPrice, lowestEnergyConsumption, highestEnergyConsumption);
     }
+
+    @GetMapping("/facets")
+    public CatalogFacets<WorkstationResponse> getWorkstationFacets(Pageable pageable,
+                                                           @RequestParam(value = "sortType", required = false) String sortType,
+                                                           @RequestParam(value = "lowestPrice", required = false) Integer lowestPrice,
+                                                           @RequestParam(value = "highestPrice", required = false) Integer highestPrice,
+                                                           @RequestParam(value = "lowestEnergyConsumption", required = false) Integer lowestEnergyConsumption,
+                                                           @RequestParam(value = "highestEnergyConsumption", required = false) Integer highestEnergyConsumption) {
+        return service.getWorkstationFacets(pageable, sortType, lowestPrice, highestPrice, lowestEnergyConsumption, highestEnergyConsumption);
+    }
 }
@@ -0,0 +1,33 @@
+package de.mightypc.backend.controller.search;
+
+import de.mightypc.backend.model.search.SearchResult;
+import de.mightypc.backend.model.search.Suggestion;
+import de.mightypc.backend.service.search.CatalogSearchService;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/search")
+public class SearchController {
+    private final CatalogSearchService catalogSearchService;
+
+    public SearchController(CatalogSearchService catalogSearchService) {
+        this.catalogSearchService = catalogSearchService;
+    }
+
+    @GetMapping
+    public List<SearchResult> search(@RequestParam("q") String query,
+                                     @RequestParam(value = "limit", defaultValue = "20") int limit) {
+        return catalogSearchService.search(query, limit);
+    }
+
+    @GetMapping("/suggest")
+    public List<Suggestion> suggest(@RequestParam("q") String prefix,
+                                    @RequestParam(value = "limit", defaultValue = "10") int limit) {
+        return catalogSearchService.suggest(prefix, limit);
+    }
+}
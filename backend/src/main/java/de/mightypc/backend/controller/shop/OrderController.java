@@ -4,6 +4,8 @@ import de.mightypc.backend.model.shop.order.Item;
 import de.mightypc.backend.model.shop.order.Order;
 import de.mightypc.backend.model.shop.order.OrderStatusRequest;
 import de.mightypc.backend.service.shop.OrderService;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 
 import org.springframework.web.bind.annotation.GetMapping;
@@ -48,6 +50,11 @@ public class OrderController {
         return orderService.getAllOrdersByUserId(userId);
     }
 
+    @GetMapping("/page")
+    public Page<Order> getOrdersByPage(@PathVariable String userId, Pageable pageable) {
+        return orderService.getOrdersByUserId(userId, pageable);
+    }
+
     @PutMapping("/{orderId}")
     public void updateStatus(@PathVariable String userId, @PathVariable String orderId, @RequestBody OrderStatusRequest status) {
         orderService.updateStatus(userId, orderId, status);
@@ -1,40 +1,62 @@
 package de.mightypc.backend.controller.shop.user;
 
+import de.mightypc.backend.model.shop.user.ChangePassword;
 import de.mightypc.backend.model.shop.user.CreateUser;
 import de.mightypc.backend.model.shop.user.UserResponse;
 import de.mightypc.backend.security.JwtTokenProvider;
+import de.mightypc.backend.security.LoginAuthenticator;
+import de.mightypc.backend.security.PasswordHashingExecutor;
+import de.mightypc.backend.security.TokenVersionRegistry;
 import de.mightypc.backend.service.shop.user.UserService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 @RestController
 @RequestMapping("/api/user")
 public class UserController {
     private final UserService userService;
-    private final AuthenticationManager authenticationManager;
+    private final LoginAuthenticator loginAuthenticator;
     private final JwtTokenProvider jwtTokenProvider;
+    private final TokenVersionRegistry tokenVersionRegistry;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final PasswordEncoder passwordEncoder;
+    private final Executor applicationTaskExecutor;
 
-    public UserController(UserService userService, AuthenticationManager authenticationManager, JwtTokenProvider jwtTokenProvider) {
+    public UserController(UserService userService,
+                          LoginAuthenticator loginAuthenticator,
+                          JwtTokenProvider jwtTokenProvider,
+                          TokenVersionRegistry tokenVersionRegistry,
+                          PasswordHashingExecutor passwordHashingExecutor,
+                          PasswordEncoder passwordEncoder,
+                          @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) Executor applicationTaskExecutor) {
         this.userService = userService;
-        this.authenticationManager = authenticationManager;
+        this.loginAuthenticator = loginAuthenticator;
         this.jwtTokenProvider = jwtTokenProvider;
+        this.tokenVersionRegistry = tokenVersionRegistry;
+        this.passwordHashingExecutor = passwordHashingExecutor;
+        this.passwordEncoder = passwordEncoder;
+        this.applicationTaskExecutor = applicationTaskExecutor;
     }
 
     @PostMapping("/logout")
@@ -42,10 +64,26 @@ public class UserController {
         userService.logoutUser(request, response);
     }
 
+    @PostMapping("/logout-all")
+    public void logoutEverywhere(Authentication authentication) {
+        userService.logoutEverywhere(authentication.getName());
+    }
+
+    @PutMapping("/password")
+    public void changePassword(@RequestBody ChangePassword changePassword, Authentication authentication) {
+        userService.changePassword(authentication.getName(), changePassword);
+    }
+
     @PostMapping("/register")
-    @ResponseStatus(HttpStatus.CREATED)
-    public void registerUser(@RequestBody CreateUser createUser) {
-        userService.registerUserWithEmailAndPassword(createUser);
+    public CompletableFuture<ResponseEntity<Void>> registerUser(@RequestBody CreateUser createUser) {
+        userService.checkRegistration(createUser);
+
+        // only the hash runs on the hashing pool, the user is stored from the application task executor
+        return passwordHashingExecutor.submit(() -> passwordEncoder.encode(createUser.password()))
+                .thenApplyAsync(passwordHash -> {
+                    userService.registerUserWithPasswordHash(createUser, passwordHash);
+                    return ResponseEntity.status(HttpStatus.CREATED).<Void>build();
+                }, applicationTaskExecutor);
     }
 
     @DeleteMapping("/{userId}")
@@ -55,23 +93,31 @@ public class UserController {
     }
 
     @PostMapping("/login")
-    public ResponseEntity<UserResponse> login(@RequestBody Map<String, String> credentials, HttpServletRequest request, HttpServletResponse response) {
+    public CompletableFuture<ResponseEntity<UserResponse>> login(@RequestBody Map<String, String> credentials) {
+        CompletableFuture<Authentication> authentication;
+
         try {
-            Authentication authentication = authenticationManager.authenticate(
-                    new UsernamePasswordAuthenticationToken(
-                            credentials.get("email"),
-                            credentials.get("password")
-                    )
-            );
-            SecurityContextHolder.getContext().setAuthentication(authentication);
-            String token = jwtTokenProvider.generateToken(authentication);
-            response.setHeader("Authorization", "Bearer " + token);
-            return ResponseEntity.ok(userService.getLoggedInUser(authentication));
-        } catch (BadCredentialsException ex) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(null);
+            authentication = loginAuthenticator.authenticate(credentials.get("email"), credentials.get("password"));
+        } catch (AuthenticationException ex) {
+            return CompletableFuture.completedFuture(unauthorized());
         }
-    }
 
+        return authentication
+                .thenApply(authenticated -> {
+                    long tokenVersion = tokenVersionRegistry.getTokenVersion(authenticated.getName()).orElse(0L);
+                    String token = jwtTokenProvider.generateToken(authenticated, tokenVersion);
+                    return ResponseEntity.ok()
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                            .body(userService.getLoggedInUser(authenticated));
+                })
+                .exceptionally(ex -> {
+                    if (ex.getCause() instanceof AuthenticationException) {
+                        return unauthorized();
+                    }
+
+                    throw ex instanceof CompletionException completionException ? completionException : new CompletionException(ex);
+                });
+    }
 
     @GetMapping("/current")
     public UserResponse getCurrentUser(Authentication authentication) {
@@ -82,4 +128,8 @@ public class UserController {
             throw new IllegalStateException("user can't be null");
         }
     }
+
+    private static ResponseEntity<UserResponse> unauthorized() {
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(null);
+    }
 }
@@ -0,0 +1,28 @@
+package de.mightypc.backend.exception;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.time.ZonedDateTime;
+
+// ahead of GlobalExceptionHandler, which would otherwise answer every exception with 400
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RestControllerAdvice
+public class ConflictExceptionHandler {
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailureException(OptimisticLockingFailureException exception) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                "The resource was modified concurrently, please retry.",
+                HttpStatus.CONFLICT,
+                ZonedDateTime.now()
+        );
+
+        return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+    }
+}
@@ -0,0 +1,7 @@
+package de.mightypc.backend.exception.configurator;
+
+public class RecommendationTimeoutException extends RuntimeException {
+    public RecommendationTimeoutException(String message) {
+        super(message);
+    }
+}
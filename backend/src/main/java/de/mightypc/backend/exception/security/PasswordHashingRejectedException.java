@@ -0,0 +1,7 @@
+package de.mightypc.backend.exception.security;
+
+public class PasswordHashingRejectedException extends RuntimeException {
+    public PasswordHashingRejectedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package de.mightypc.backend.model.admin;
+
+public record CacheStats(
+        String name,
+        int size,
+        int maximumSize,
+        long hits,
+        long misses,
+        long evictions
+) {
+}
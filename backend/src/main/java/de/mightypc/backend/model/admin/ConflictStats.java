@@ -0,0 +1,10 @@
+package de.mightypc.backend.model.admin;
+
+public record ConflictStats(
+        String operation,
+        long attempts,
+        long conflicts,
+        long retries,
+        long failures
+) {
+}
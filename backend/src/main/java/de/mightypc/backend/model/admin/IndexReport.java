@@ -0,0 +1,10 @@
+package de.mightypc.backend.model.admin;
+
+import java.util.List;
+
+public record IndexReport(
+        String collection,
+        List<String> missingIndexes,
+        List<String> unusedIndexes
+) {
+}
@@ -0,0 +1,11 @@
+package de.mightypc.backend.model.admin;
+
+import de.mightypc.backend.model.shop.order.Order;
+
+import java.util.List;
+
+public record OrderQueuePage(
+        List<Order> orders,
+        String nextCursor
+) {
+}
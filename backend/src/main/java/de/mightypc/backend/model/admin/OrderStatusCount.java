@@ -0,0 +1,9 @@
+package de.mightypc.backend.model.admin;
+
+import de.mightypc.backend.model.shop.order.OrderStatus;
+
+public record OrderStatusCount(
+        OrderStatus orderStatus,
+        long count
+) {
+}
@@ -0,0 +1,11 @@
+package de.mightypc.backend.model.admin;
+
+public record PasswordHashingStats(
+        int threads,
+        int activeThreads,
+        int queueDepth,
+        int queueCapacity,
+        long completedTasks,
+        long rejectedTasks
+) {
+}
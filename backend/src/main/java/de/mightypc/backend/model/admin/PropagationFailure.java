@@ -0,0 +1,11 @@
+package de.mightypc.backend.model.admin;
+
+import java.time.Instant;
+
+public record PropagationFailure(
+        String category,
+        String id,
+        String message,
+        Instant failedAt
+) {
+}
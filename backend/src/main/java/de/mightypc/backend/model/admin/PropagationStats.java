@@ -0,0 +1,12 @@
+package de.mightypc.backend.model.admin;
+
+import java.util.List;
+
+public record PropagationStats(
+        int pendingChanges,
+        long propagatedChanges,
+        long updatedDocuments,
+        long failedChanges,
+        List<PropagationFailure> recentFailures
+) {
+}
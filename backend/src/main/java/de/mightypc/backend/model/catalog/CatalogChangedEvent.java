@@ -0,0 +1,7 @@
+package de.mightypc.backend.model.catalog;
+
+public record CatalogChangedEvent(
+        String category,
+        String id
+) {
+}
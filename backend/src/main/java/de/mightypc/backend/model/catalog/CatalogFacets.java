@@ -0,0 +1,13 @@
+package de.mightypc.backend.model.catalog;
+
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+import java.util.Map;
+
+public record CatalogFacets<T>(
+        Page<T> results,
+        Map<String, List<FacetCount>> counts,
+        Map<String, List<HistogramBucket>> histograms
+) {
+}
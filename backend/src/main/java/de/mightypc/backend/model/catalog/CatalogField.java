@@ -0,0 +1,32 @@
+package de.mightypc.backend.model.catalog;
+
+public enum CatalogField {
+    PRICE("hardwareSpec.price", true),
+    RATING("hardwareSpec.rating", false),
+    ENERGY_CONSUMPTION("energyConsumption", false),
+    CAPACITY("capacity", false),
+    POWER("power", false),
+    MEMORY_SIZE("memorySize", false),
+    SOCKET("socket", false),
+    TYPE("type", false);
+
+    private final String path;
+    private final boolean decimal;
+
+    CatalogField(String path, boolean decimal) {
+        this.path = path;
+        this.decimal = decimal;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public String getFacetName() {
+        return path.substring(path.lastIndexOf('.') + 1);
+    }
+
+    public boolean isDecimal() {
+        return decimal;
+    }
+}
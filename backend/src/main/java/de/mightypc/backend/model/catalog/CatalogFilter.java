@@ -0,0 +1,62 @@
+package de.mightypc.backend.model.catalog;
+
+import org.springframework.data.domain.Sort;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+public record CatalogFilter(
+        Map<CatalogField, Range> ranges,
+        Map<CatalogField, String> equalities,
+        String sortType
+) {
+    public CatalogFilter {
+        ranges = Map.copyOf(ranges);
+        equalities = Map.copyOf(equalities);
+    }
+
+    public static CatalogFilter sortedBy(String sortType) {
+        return new CatalogFilter(Map.of(), Map.of(), sortType);
+    }
+
+    public CatalogFilter withRange(CatalogField field, Integer lowest, Integer highest) {
+        if (lowest == null || highest == null) {
+            return this;
+        }
+
+        Map<CatalogField, Range> newRanges = new EnumMap<>(CatalogField.class);
+        newRanges.putAll(ranges);
+        newRanges.put(field, new Range(lowest, highest));
+
+        return new CatalogFilter(newRanges, equalities, sortType);
+    }
+
+    public CatalogFilter withEqualTo(CatalogField field, String value) {
+        if (value == null || value.isEmpty()) {
+            return this;
+        }
+
+        Map<CatalogField, String> newEqualities = new EnumMap<>(CatalogField.class);
+        newEqualities.putAll(equalities);
+        newEqualities.put(field, value);
+
+        return new CatalogFilter(ranges, newEqualities, sortType);
+    }
+
+    public Sort getSort() {
+        if (sortType == null) {
+            return Sort.unsorted();
+        }
+
+        return switch (sortType) {
+            case "price-asc" -> Sort.by(Sort.Direction.ASC, CatalogField.PRICE.getPath(), "id");
+            case "price-desc" -> Sort.by(Sort.Direction.DESC, CatalogField.PRICE.getPath()).and(Sort.by("id"));
+            case "rating-asc" -> Sort.by(Sort.Direction.ASC, CatalogField.RATING.getPath(), "id");
+            case "rating-desc" -> Sort.by(Sort.Direction.DESC, CatalogField.RATING.getPath()).and(Sort.by("id"));
+            default -> Sort.unsorted();
+        };
+    }
+
+    public record Range(int lowest, int highest) {
+    }
+}
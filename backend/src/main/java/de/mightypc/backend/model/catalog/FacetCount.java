@@ -0,0 +1,7 @@
+package de.mightypc.backend.model.catalog;
+
+public record FacetCount(
+        String value,
+        long count
+) {
+}
@@ -0,0 +1,16 @@
+package de.mightypc.backend.model.catalog;
+
+import java.util.List;
+
+public record FacetDefinition(
+        List<CatalogField> countedFields,
+        List<CatalogField> histogramFields
+) {
+    public static FacetDefinition histogramsOf(CatalogField... histogramFields) {
+        return new FacetDefinition(List.of(), List.of(histogramFields));
+    }
+
+    public FacetDefinition withCounts(CatalogField... countedFields) {
+        return new FacetDefinition(List.of(countedFields), histogramFields);
+    }
+}
@@ -0,0 +1,10 @@
+package de.mightypc.backend.model.catalog;
+
+import java.math.BigDecimal;
+
+public record HistogramBucket(
+        BigDecimal lowest,
+        BigDecimal highest,
+        long count
+) {
+}
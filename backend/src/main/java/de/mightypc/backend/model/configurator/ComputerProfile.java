@@ -0,0 +1,52 @@
+package de.mightypc.backend.model.configurator;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Locale;
+
+@Getter
+public enum ComputerProfile {
+    GAMING(List.of("gam", "esport", "stream"), 1.5, 2.5, 1, 1, 1, 0.5, 0.8, 0.8),
+    WORKSTATION(List.of("work", "render", "video", "edit", "develop", "3d", "cad", "program"), 2.5, 1.5, 1, 2, 1.5, 1, 0.8, 0.8),
+    OFFICE(List.of("office", "home", "school", "study", "basic", "budget"), 1.5, 0.5, 1, 1, 1.5, 1, 0.8, 0.8),
+    BALANCED(List.of(), 1.5, 1.5, 1, 1, 1, 1, 0.8, 0.8);
+
+    private final List<String> keywords;
+    private final double cpuWeight;
+    private final double gpuWeight;
+    private final double motherboardWeight;
+    private final double ramWeight;
+    private final double ssdWeight;
+    private final double hddWeight;
+    private final double powerSupplyWeight;
+    private final double pcCaseWeight;
+
+    ComputerProfile(List<String> keywords, double cpuWeight, double gpuWeight, double motherboardWeight, double ramWeight, double ssdWeight, double hddWeight, double powerSupplyWeight, double pcCaseWeight) {
+        this.keywords = keywords;
+        this.cpuWeight = cpuWeight;
+        this.gpuWeight = gpuWeight;
+        this.motherboardWeight = motherboardWeight;
+        this.ramWeight = ramWeight;
+        this.ssdWeight = ssdWeight;
+        this.hddWeight = hddWeight;
+        this.powerSupplyWeight = powerSupplyWeight;
+        this.pcCaseWeight = pcCaseWeight;
+    }
+
+    public static ComputerProfile of(String computerType) {
+        if (computerType == null) {
+            return BALANCED;
+        }
+
+        String normalized = computerType.toLowerCase(Locale.ROOT);
+
+        for (ComputerProfile profile : values()) {
+            if (profile.keywords.stream().anyMatch(normalized::contains)) {
+                return profile;
+            }
+        }
+
+        return BALANCED;
+    }
+}
@@ -0,0 +1,7 @@
+package de.mightypc.backend.model.configurator;
+
+public record ConfiguratorSnapshot(
+        String etag,
+        ConfiguratorItems items
+) {
+}
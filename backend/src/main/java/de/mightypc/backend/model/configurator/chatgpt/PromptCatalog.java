@@ -0,0 +1,7 @@
+package de.mightypc.backend.model.configurator.chatgpt;
+
+public record PromptCatalog(
+        String text,
+        int estimatedTokens
+) {
+}
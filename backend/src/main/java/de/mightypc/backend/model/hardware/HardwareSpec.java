@@ -1,10 +1,14 @@
 package de.mightypc.backend.model.hardware;
 
+import org.springframework.data.mongodb.core.mapping.Field;
+import org.springframework.data.mongodb.core.mapping.FieldType;
+
 import java.math.BigDecimal;
 
 public record HardwareSpec(
         String name,
         String description,
+        @Field(targetType = FieldType.DECIMAL128)
         BigDecimal price,
         float rating
 ) {
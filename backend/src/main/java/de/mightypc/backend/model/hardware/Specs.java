@@ -1,5 +1,8 @@
 package de.mightypc.backend.model.hardware;
 
+import lombok.With;
+
+@With
 public record Specs(
         CPU cpu,
         GPU gpu,
@@ -0,0 +1,45 @@
+package de.mightypc.backend.model.hardware;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+public enum SpecsComponent {
+    CPU("cpu", "cpu"),
+    GPU("gpu", "gpu"),
+    MOTHERBOARD("motherboard", "motherboard"),
+    RAM("ram", "ram"),
+    SSD("ssd", "ssd"),
+    HDD("hdd", "hdd"),
+    POWER_SUPPLY("psu", "powerSupply"),
+    PC_CASE("pc-case", "pcCase");
+
+    private final String category;
+    private final String field;
+
+    SpecsComponent(String category, String field) {
+        this.category = category;
+        this.field = field;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public String getField() {
+        return field;
+    }
+
+    public String getPath() {
+        return "specs." + field;
+    }
+
+    public String getIdPath() {
+        return getPath() + "._id";
+    }
+
+    public static Optional<SpecsComponent> fromCategory(String category) {
+        return Arrays.stream(values())
+                .filter(component -> component.category.equals(category))
+                .findFirst();
+    }
+}
@@ -0,0 +1,11 @@
+package de.mightypc.backend.model.pc;
+
+import java.util.List;
+
+public record ComponentUsage(
+        String category,
+        String id,
+        List<String> pcIds,
+        List<String> workstationIds
+) {
+}
@@ -0,0 +1,10 @@
+package de.mightypc.backend.model.pc;
+
+import java.math.BigDecimal;
+
+public record SpecsTotals(
+        String id,
+        BigDecimal price,
+        int energyConsumption
+) {
+}
@@ -0,0 +1,36 @@
+package de.mightypc.backend.model.pc;
+
+import de.mightypc.backend.model.hardware.HardwareSpec;
+import de.mightypc.backend.model.hardware.Specs;
+import de.mightypc.backend.model.hardware.SpecsIds;
+import lombok.With;
+import org.springframework.data.annotation.Id;
+
+import java.util.List;
+
+@With
+public record UserPc(
+        @Id
+        String id,
+        HardwareSpec hardwareSpec,
+        SpecsIds specsIds,
+        int energyConsumption,
+        List<String> photos
+) {
+    public UserPc(PC pc) {
+        this(pc.id(), pc.hardwareSpec(), specsIdsOf(pc.specs()), pc.energyConsumption(), pc.photos());
+    }
+
+    private static SpecsIds specsIdsOf(Specs specs) {
+        return new SpecsIds(
+                specs.cpu().id(),
+                specs.gpu().id(),
+                specs.motherboard().id(),
+                specs.ram().id(),
+                specs.ssd().id(),
+                specs.hdd().id(),
+                specs.powerSupply().id(),
+                specs.pcCase().id()
+        );
+    }
+}
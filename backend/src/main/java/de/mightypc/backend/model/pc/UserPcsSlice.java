@@ -0,0 +1,9 @@
+package de.mightypc.backend.model.pc;
+
+import java.util.List;
+
+public record UserPcsSlice(
+        List<UserPc> pcs,
+        int total
+) {
+}
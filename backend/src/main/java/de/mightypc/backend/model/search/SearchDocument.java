@@ -0,0 +1,13 @@
+package de.mightypc.backend.model.search;
+
+import java.math.BigDecimal;
+
+public record SearchDocument(
+        String category,
+        String id,
+        String name,
+        String description,
+        BigDecimal price,
+        float rating
+) {
+}
@@ -0,0 +1,13 @@
+package de.mightypc.backend.model.search;
+
+import java.math.BigDecimal;
+
+public record SearchResult(
+        String category,
+        String id,
+        String name,
+        BigDecimal price,
+        float rating,
+        double score
+) {
+}
@@ -0,0 +1,9 @@
+package de.mightypc.backend.model.search;
+
+public record Suggestion(
+        String category,
+        String id,
+        String name,
+        float rating
+) {
+}
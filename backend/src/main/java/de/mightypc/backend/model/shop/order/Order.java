@@ -4,23 +4,28 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
+@Document("orders")
 public class Order {
     @Id
     String id;
+    String userId;
     List<Item> items;
     BigDecimal completePrice;
     OrderStatus orderStatus;
     List<String> itemsPhotos;
+    Instant createdAt;
 
-    public Order(List<Item> items, BigDecimal completePrice, OrderStatus orderStatus, List<String> itemsPhotos) {
-        this(UUID.randomUUID().toString(), items, completePrice, orderStatus, itemsPhotos);
+    public Order(String userId, List<Item> items, BigDecimal completePrice, OrderStatus orderStatus, List<String> itemsPhotos, Instant createdAt) {
+        this(UUID.randomUUID().toString(), userId, items, completePrice, orderStatus, itemsPhotos, createdAt);
     }
 }
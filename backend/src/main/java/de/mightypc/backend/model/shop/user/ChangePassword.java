@@ -0,0 +1,7 @@
+package de.mightypc.backend.model.shop.user;
+
+public record ChangePassword(
+        String currentPassword,
+        String newPassword
+) {
+}
@@ -1,12 +1,13 @@
 package de.mightypc.backend.model.shop.user;
 
-import de.mightypc.backend.model.pc.PC;
+import de.mightypc.backend.model.pc.UserPc;
 import de.mightypc.backend.model.shop.order.Item;
 import de.mightypc.backend.model.shop.order.Order;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.With;
+import org.springframework.data.annotation.Version;
 
 import java.util.List;
 import java.util.UUID;
@@ -19,15 +20,24 @@ public class User {
     private String id;
     private String email;
     private String password;
+    // only read by EmbeddedOrdersMigration, orders are stored in their own collection
     private List<Order> orders;
     private List<Item> basket;
-    private List<PC> pcs;
+    private List<UserPc> pcs;
     private Boolean isGoogle;
     private String role;
     private String dateOfAccountCreation;
     private String userPhoto;
+    // bumping it revokes every token issued to the user, see TokenVersionRegistry
+    private Long tokenVersion;
+    @Version
+    private Long version;
 
-    public User(String email, String password, List<Order> orders, List<Item> basket, List<PC> pcs, Boolean isGoogle, String role, String dateOfAccountCreation, String userImage) {
+    public User(String id, String email, String password, List<Order> orders, List<Item> basket, List<UserPc> pcs, Boolean isGoogle, String role, String dateOfAccountCreation, String userPhoto) {
+        this(id, email, password, orders, basket, pcs, isGoogle, role, dateOfAccountCreation, userPhoto, null, null);
+    }
+
+    public User(String email, String password, List<Order> orders, List<Item> basket, List<UserPc> pcs, Boolean isGoogle, String role, String dateOfAccountCreation, String userImage) {
         this(UUID.randomUUID().toString(), password, email, orders, basket, pcs, isGoogle, role, dateOfAccountCreation, userImage);
     }
 }
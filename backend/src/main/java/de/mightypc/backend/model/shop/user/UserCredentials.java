@@ -0,0 +1,9 @@
+package de.mightypc.backend.model.shop.user;
+
+public record UserCredentials(
+        String id,
+        String email,
+        String password,
+        String role
+) {
+}
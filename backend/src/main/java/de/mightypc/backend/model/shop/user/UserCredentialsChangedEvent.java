@@ -0,0 +1,6 @@
+package de.mightypc.backend.model.shop.user;
+
+public record UserCredentialsChangedEvent(
+        String email
+) {
+}
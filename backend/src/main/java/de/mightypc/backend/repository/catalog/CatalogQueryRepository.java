@@ -0,0 +1,13 @@
+package de.mightypc.backend.repository.catalog;
+
+import de.mightypc.backend.model.catalog.CatalogFacets;
+import de.mightypc.backend.model.catalog.CatalogFilter;
+import de.mightypc.backend.model.catalog.FacetDefinition;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+public interface CatalogQueryRepository<T> {
+    Page<T> findAllByFilter(CatalogFilter filter, Pageable pageable);
+
+    CatalogFacets<T> findFacetsByFilter(CatalogFilter filter, Pageable pageable, FacetDefinition facetDefinition);
+}
@@ -0,0 +1,185 @@
+package de.mightypc.backend.repository.catalog;
+
+import de.mightypc.backend.model.catalog.CatalogFacets;
+import de.mightypc.backend.model.catalog.CatalogField;
+import de.mightypc.backend.model.catalog.CatalogFilter;
+import de.mightypc.backend.model.catalog.FacetCount;
+import de.mightypc.backend.model.catalog.FacetDefinition;
+import de.mightypc.backend.model.catalog.HistogramBucket;
+import org.bson.Document;
+import org.bson.types.Decimal128;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.FacetOperation;
+import org.springframework.data.mongodb.core.aggregation.MatchOperation;
+import org.springframework.data.mongodb.core.aggregation.TypedAggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+public abstract class CatalogQueryRepositorySupport<T> implements CatalogQueryRepository<T> {
+    private static final int HISTOGRAM_BUCKETS = 10;
+    private static final String RESULTS = "results";
+    private static final String TOTAL = "total";
+
+    protected final MongoTemplate mongoTemplate;
+    protected final Class<T> entityClass;
+
+    protected CatalogQueryRepositorySupport(MongoTemplate mongoTemplate, Class<T> entityClass) {
+        this.mongoTemplate = mongoTemplate;
+        this.entityClass = entityClass;
+    }
+
+    @Override
+    public Page<T> findAllByFilter(CatalogFilter filter, Pageable pageable) {
+        Query query = toQuery(filter);
+        Query countQuery = Query.of(query);
+
+        query.with(filter.getSort())
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize());
+
+        List<T> content = mongoTemplate.find(query, entityClass);
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> mongoTemplate.count(countQuery, entityClass));
+    }
+
+    @Override
+    public CatalogFacets<T> findFacetsByFilter(CatalogFilter filter, Pageable pageable, FacetDefinition facetDefinition) {
+        return findFacets(filter, pageable, facetDefinition, document -> mongoTemplate.getConverter().read(entityClass, document));
+    }
+
+    protected <S> CatalogFacets<S> findFacets(CatalogFilter filter, Pageable pageable, FacetDefinition facetDefinition, Function<Document, S> mapper, AggregationOperation... resultStages) {
+        Sort sort = filter.getSort().isSorted() ? filter.getSort() : Sort.by("id");
+        List<CatalogField> countedFields = facetDefinition.countedFields();
+        // counted fields are filtered inside the facets, so every facet can leave out its own field and still count the other values
+        MatchOperation countedFieldsMatch = Aggregation.match(toCriteria(filter, countedFields::contains));
+
+        List<AggregationOperation> resultsPipeline = new ArrayList<>(List.of(
+                countedFieldsMatch,
+                Aggregation.sort(sort),
+                Aggregation.skip(pageable.getOffset()),
+                Aggregation.limit(pageable.getPageSize())));
+        resultsPipeline.addAll(List.of(resultStages));
+
+        FacetOperation facets = Aggregation.facet(resultsPipeline.toArray(AggregationOperation[]::new))
+                .as(RESULTS)
+                .and(countedFieldsMatch, Aggregation.count().as(TOTAL)).as(TOTAL);
+
+        for (CatalogField field : countedFields) {
+            MatchOperation otherCountedFieldsMatch = Aggregation.match(toCriteria(filter, other -> other != field && countedFields.contains(other)));
+            facets = facets.and(otherCountedFieldsMatch, Aggregation.sortByCount(field.getPath())).as(field.getFacetName());
+        }
+
+        for (CatalogField field : facetDefinition.histogramFields()) {
+            facets = facets.and(countedFieldsMatch, Aggregation.bucketAuto(field.getPath(), HISTOGRAM_BUCKETS)).as(field.getFacetName());
+        }
+
+        MatchOperation sharedMatch = Aggregation.match(toCriteria(filter, field -> !countedFields.contains(field)));
+        TypedAggregation<T> aggregation = Aggregation.newAggregation(entityClass, sharedMatch, facets);
+        Document result = mongoTemplate.aggregate(aggregation, Document.class).getUniqueMappedResult();
+
+        List<S> content = result.getList(RESULTS, Document.class).stream()
+                .map(mapper)
+                .toList();
+        long total = result.getList(TOTAL, Document.class).stream()
+                .findFirst()
+                .map(document -> ((Number) document.get(TOTAL)).longValue())
+                .orElse(0L);
+
+        Map<String, List<FacetCount>> counts = new LinkedHashMap<>();
+        for (CatalogField field : facetDefinition.countedFields()) {
+            counts.put(field.getFacetName(), toFacetCounts(result.getList(field.getFacetName(), Document.class)));
+        }
+
+        Map<String, List<HistogramBucket>> histograms = new LinkedHashMap<>();
+        for (CatalogField field : facetDefinition.histogramFields()) {
+            histograms.put(field.getFacetName(), toHistogramBuckets(result.getList(field.getFacetName(), Document.class)));
+        }
+
+        return new CatalogFacets<>(new PageImpl<>(content, pageable, total), counts, histograms);
+    }
+
+    protected Query toQuery(CatalogFilter filter) {
+        Query query = new Query();
+
+        for (Criteria criteria : toCriteriaList(filter, field -> true)) {
+            query.addCriteria(criteria);
+        }
+
+        return query;
+    }
+
+    private Criteria toCriteria(CatalogFilter filter, Predicate<CatalogField> includedFields) {
+        List<Criteria> criteria = toCriteriaList(filter, includedFields);
+
+        return criteria.isEmpty() ? new Criteria() : new Criteria().andOperator(criteria);
+    }
+
+    private List<Criteria> toCriteriaList(CatalogFilter filter, Predicate<CatalogField> includedFields) {
+        List<Criteria> criteria = new ArrayList<>();
+
+        for (Map.Entry<CatalogField, String> equality : filter.equalities().entrySet()) {
+            if (includedFields.test(equality.getKey())) {
+                criteria.add(Criteria.where(equality.getKey().getPath()).is(equality.getValue()));
+            }
+        }
+
+        for (Map.Entry<CatalogField, CatalogFilter.Range> range : filter.ranges().entrySet()) {
+            if (includedFields.test(range.getKey())) {
+                criteria.add(toRangeCriteria(range.getKey(), range.getValue()));
+            }
+        }
+
+        return criteria;
+    }
+
+    private static List<FacetCount> toFacetCounts(List<Document> documents) {
+        return documents.stream()
+                .filter(document -> document.get("_id") != null)
+                .map(document -> new FacetCount(document.get("_id").toString(), ((Number) document.get("count")).longValue()))
+                .toList();
+    }
+
+    private static List<HistogramBucket> toHistogramBuckets(List<Document> documents) {
+        return documents.stream()
+                .map(document -> {
+                    Document bounds = document.get("_id", Document.class);
+
+                    return new HistogramBucket(toBigDecimal(bounds.get("min")), toBigDecimal(bounds.get("max")), ((Number) document.get("count")).longValue());
+                })
+                .toList();
+    }
+
+    private static BigDecimal toBigDecimal(Object value) {
+        if (value instanceof Decimal128 decimal) {
+            return decimal.bigDecimalValue();
+        }
+
+        return value == null ? null : new BigDecimal(value.toString());
+    }
+
+    private Criteria toRangeCriteria(CatalogField field, CatalogFilter.Range range) {
+        Criteria criteria = Criteria.where(field.getPath());
+
+        if (field.isDecimal()) {
+            // decimal values are compared by their integer part, so the upper bound is exclusive at highest + 1
+            return criteria.gte(new Decimal128(range.lowest())).lt(new Decimal128(range.highest() + 1L));
+        }
+
+        return criteria.gte(range.lowest()).lte(range.highest());
+    }
+}
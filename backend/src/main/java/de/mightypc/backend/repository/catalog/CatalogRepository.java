@@ -0,0 +1,8 @@
+package de.mightypc.backend.repository.catalog;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.repository.NoRepositoryBean;
+
+@NoRepositoryBean
+public interface CatalogRepository<T> extends MongoRepository<T, String>, CatalogQueryRepository<T> {
+}
@@ -1,7 +1,7 @@
 package de.mightypc.backend.repository.hardware;
 
 import de.mightypc.backend.model.hardware.CPU;
-import org.springframework.data.mongodb.repository.MongoRepository;
+import de.mightypc.backend.repository.catalog.CatalogRepository;
 
-public interface CpuRepository extends MongoRepository<CPU, String> {
+public interface CpuRepository extends CatalogRepository<CPU> {
 }
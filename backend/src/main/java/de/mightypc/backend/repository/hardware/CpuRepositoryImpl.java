@@ -0,0 +1,11 @@
+package de.mightypc.backend.repository.hardware;
+
+import de.mightypc.backend.model.hardware.CPU;
+import de.mightypc.backend.repository.catalog.CatalogQueryRepositorySupport;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+public class CpuRepositoryImpl extends CatalogQueryRepositorySupport<CPU> {
+    public CpuRepositoryImpl(MongoTemplate mongoTemplate) {
+        super(mongoTemplate, CPU.class);
+    }
+}
@@ -1,7 +1,7 @@
 package de.mightypc.backend.repository.hardware;
 
 import de.mightypc.backend.model.hardware.GPU;
-import org.springframework.data.mongodb.repository.MongoRepository;
+import de.mightypc.backend.repository.catalog.CatalogRepository;
 
-public interface GpuRepository extends MongoRepository<GPU, String> {
+public interface GpuRepository extends CatalogRepository<GPU> {
 }
@@ -0,0 +1,11 @@
+package de.mightypc.backend.repository.hardware;
+
+import de.mightypc.backend.model.hardware.GPU;
+import de.mightypc.backend.repository.catalog.CatalogQueryRepositorySupport;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+public class GpuRepositoryImpl extends CatalogQueryRepositorySupport<GPU> {
+    public GpuRepositoryImpl(MongoTemplate mongoTemplate) {
+        super(mongoTemplate, GPU.class);
+    }
+}
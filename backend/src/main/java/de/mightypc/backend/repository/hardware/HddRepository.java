@@ -1,7 +1,7 @@
 package de.mightypc.backend.repository.hardware;
 
 import de.mightypc.backend.model.hardware.HDD;
-import org.springframework.data.mongodb.repository.MongoRepository;
+import de.mightypc.backend.repository.catalog.CatalogRepository;
 
-public interface HddRepository extends MongoRepository<HDD, String> {
+public interface HddRepository extends CatalogRepository<HDD> {
 }
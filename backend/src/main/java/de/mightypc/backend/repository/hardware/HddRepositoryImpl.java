@@ -0,0 +1,11 @@
+package de.mightypc.backend.repository.hardware;
+
+import de.mightypc.backend.model.hardware.HDD;
+import de.mightypc.backend.repository.catalog.CatalogQueryRepositorySupport;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+public class HddRepositoryImpl extends CatalogQueryRepositorySupport<HDD> {
+    public HddRepositoryImpl(MongoTemplate mongoTemplate) {
+        super(mongoTemplate, HDD.class);
+    }
+}
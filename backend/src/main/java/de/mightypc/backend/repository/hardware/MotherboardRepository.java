@@ -1,7 +1,7 @@
 package de.mightypc.backend.repository.hardware;
 
 import de.mightypc.backend.model.hardware.Motherboard;
-import org.springframework.data.mongodb.repository.MongoRepository;
+import de.mightypc.backend.repository.catalog.CatalogRepository;
 
-public interface MotherboardRepository extends MongoRepository<Motherboard, String> {
+public interface MotherboardRepository extends CatalogRepository<Motherboard> {
 }
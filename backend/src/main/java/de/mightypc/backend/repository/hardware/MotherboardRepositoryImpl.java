@@ -0,0 +1,11 @@
+package de.mightypc.backend.repository.hardware;
+
+import de.mightypc.backend.model.hardware.Motherboard;
+import de.mightypc.backend.repository.catalog.CatalogQueryRepositorySupport;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+public class MotherboardRepositoryImpl extends CatalogQueryRepositorySupport<Motherboard> {
+    public MotherboardRepositoryImpl(MongoTemplate mongoTemplate) {
+        super(mongoTemplate, Motherboard.class);
+    }
+}
@@ -1,7 +1,7 @@
 package de.mightypc.backend.repository.hardware;
 
 import de.mightypc.backend.model.hardware.PcCase;
-import org.springframework.data.mongodb.repository.MongoRepository;
+import de.mightypc.backend.repository.catalog.CatalogRepository;
 
-public interface PcCaseRepository extends MongoRepository<PcCase, String> {
+public interface PcCaseRepository extends CatalogRepository<PcCase> {
 }
@@ -0,0 +1,11 @@
+package de.mightypc.backend.repository.hardware;
+
+import de.mightypc.backend.model.hardware.PcCase;
+import de.mightypc.backend.repository.catalog.CatalogQueryRepositorySupport;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+public class PcCaseRepositoryImpl extends CatalogQueryRepositorySupport<PcCase> {
+    public PcCaseRepositoryImpl(MongoTemplate mongoTemplate) {
+        super(mongoTemplate, PcCase.class);
+    }
+}
@@ -1,7 +1,7 @@
 package de.mightypc.backend.repository.hardware;
 
 import de.mightypc.backend.model.hardware.PowerSupply;
-import org.springframework.data.mongodb.repository.MongoRepository;
+import de.mightypc.backend.repository.catalog.CatalogRepository;
 
-public interface PowerSupplyRepository extends MongoRepository<PowerSupply, String> {
+public interface PowerSupplyRepository extends CatalogRepository<PowerSupply> {
 }
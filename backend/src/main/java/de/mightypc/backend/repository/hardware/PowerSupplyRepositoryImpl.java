@@ -0,0 +1,11 @@
+package de.mightypc.backend.repository.hardware;
+
+import de.mightypc.backend.model.hardware.PowerSupply;
+import de.mightypc.backend.repository.catalog.CatalogQueryRepositorySupport;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+public class PowerSupplyRepositoryImpl extends CatalogQueryRepositorySupport<PowerSupply> {
+    public PowerSupplyRepositoryImpl(MongoTemplate mongoTemplate) {
+        super(mongoTemplate, PowerSupply.class);
+    }
+}
@@ -1,7 +1,7 @@
 package de.mightypc.backend.repository.hardware;
 
 import de.mightypc.backend.model.hardware.RAM;
-import org.springframework.data.mongodb.repository.MongoRepository;
+import de.mightypc.backend.repository.catalog.CatalogRepository;
 
-public interface RamRepository extends MongoRepository<RAM, String> {
+public interface RamRepository extends CatalogRepository<RAM> {
 }
@@ -0,0 +1,11 @@
+package de.mightypc.backend.repository.hardware;
+
+import de.mightypc.backend.model.hardware.RAM;
+import de.mightypc.backend.repository.catalog.CatalogQueryRepositorySupport;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+public class RamRepositoryImpl extends CatalogQueryRepositorySupport<RAM> {
+    public RamRepositoryImpl(MongoTemplate mongoTemplate) {
+        super(mongoTemplate, RAM.class);
+    }
+}
@@ -1,7 +1,7 @@
 package de.mightypc.backend.repository.hardware;
 
 import de.mightypc.backend.model.hardware.SSD;
-import org.springframework.data.mongodb.repository.MongoRepository;
+import de.mightypc.backend.repository.catalog.CatalogRepository;
 
-public interface SsdRepository extends MongoRepository<SSD, String> {
+public interface SsdRepository extends CatalogRepository<SSD> {
 }
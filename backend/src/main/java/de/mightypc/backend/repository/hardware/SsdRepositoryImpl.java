@@ -0,0 +1,11 @@
+package de.mightypc.backend.repository.hardware;
+
+import de.mightypc.backend.model.hardware.SSD;
+import de.mightypc.backend.repository.catalog.CatalogQueryRepositorySupport;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+public class SsdRepositoryImpl extends CatalogQueryRepositorySupport<SSD> {
+    public SsdRepositoryImpl(MongoTemplate mongoTemplate) {
+        super(mongoTemplate, SSD.class);
+    }
+}
@@ -0,0 +1,8 @@
+package de.mightypc.backend.repository.pc;
+
+import de.mightypc.backend.repository.catalog.CatalogRepository;
+import org.springframework.data.repository.NoRepositoryBean;
+
+@NoRepositoryBean
+public interface PcCatalogRepository<T, S> extends CatalogRepository<T>, SpecsUsageRepository<T>, PcListingRepository<S> {
+}
@@ -0,0 +1,154 @@
+package de.mightypc.backend.repository.pc;
+
+import de.mightypc.backend.model.catalog.CatalogFacets;
+import de.mightypc.backend.model.catalog.CatalogFilter;
+import de.mightypc.backend.model.catalog.FacetDefinition;
+import de.mightypc.backend.model.hardware.HardwareSpec;
+import de.mightypc.backend.model.hardware.SpecsComponent;
+import de.mightypc.backend.model.hardware.SpecsIds;
+import de.mightypc.backend.model.hardware.SpecsNames;
+import de.mightypc.backend.model.pc.SpecsTotals;
+import de.mightypc.backend.repository.catalog.CatalogQueryRepositorySupport;
+import org.bson.Document;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+public abstract class PcCatalogRepositorySupport<T> extends CatalogQueryRepositorySupport<T> implements SpecsUsageRepository<T> {
+    protected PcCatalogRepositorySupport(MongoTemplate mongoTemplate, Class<T> entityClass) {
+        super(mongoTemplate, entityClass);
+    }
+
+    @Override
+    public List<T> findAllByComponent(SpecsComponent component, String componentId) {
+        return mongoTemplate.find(byComponent(component, componentId), entityClass);
+    }
+
+    @Override
+    public List<String> findIdsByComponent(SpecsComponent component, String componentId) {
+        Query query = byComponent(component, componentId);
+        query.fields().include("_id");
+
+        return mongoTemplate.find(query, Document.class, mongoTemplate.getCollectionName(entityClass)).stream()
+                .map(document -> document.get("_id").toString())
+                .toList();
+    }
+
+    @Override
+    public int updateComponent(SpecsComponent component, String componentId, Object value, List<SpecsTotals> totals) {
+        if (totals.isEmpty()) {
+            return 0;
+        }
+
+        BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, entityClass);
+
+        for (SpecsTotals specsTotals : totals) {
+            // matching on the component again skips documents whose specs were changed in the meantime
+            Query query = Query.query(Criteria.where("_id").is(specsTotals.id()).and(component.getIdPath()).is(componentId));
+            Update update = new Update()
+                    .set(component.getPath(), value)
+                    .set("hardwareSpec.price", specsTotals.price())
+                    .set("energyConsumption", specsTotals.energyConsumption());
+
+            bulkOperations.updateOne(query, update);
+        }
+
+        return bulkOperations.execute().getModifiedCount();
+    }
+
+    protected <S> Page<S> findAllProjected(Pageable pageable, Function<Document, S> mapper, String... additionalFields) {
+        Query query = new Query().with(pageable);
+        query.fields().include(getListingFields(additionalFields).toArray(String[]::new));
+
+        List<S> content = mongoTemplate.query(entityClass).as(Document.class).matching(query).all().stream()
+                .map(mapper)
+                .toList();
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> mongoTemplate.count(new Query(), entityClass));
+    }
+
+    protected <S> CatalogFacets<S> findFacetsProjected(CatalogFilter filter, Pageable pageable, FacetDefinition facetDefinition, Function<Document, S> mapper, String... additionalFields) {
+        Document projection = new Document();
+        for (String field : getListingFields(additionalFields)) {
+            projection.append(field, 1);
+        }
+
+        return findFacets(filter, pageable, facetDefinition, mapper, context -> new Document("$project", projection));
+    }
+
+    protected HardwareSpec readHardwareSpec(Document document) {
+        Document hardwareSpec = document.get("hardwareSpec", Document.class);
+
+        return hardwareSpec == null ? null : mongoTemplate.getConverter().read(HardwareSpec.class, hardwareSpec);
+    }
+
+    protected static SpecsIds readSpecsIds(Document document) {
+        return new SpecsIds(
+                readComponentId(document, SpecsComponent.CPU),
+                readComponentId(document, SpecsComponent.GPU),
+                readComponentId(document, SpecsComponent.MOTHERBOARD),
+                readComponentId(document, SpecsComponent.RAM),
+                readComponentId(document, SpecsComponent.SSD),
+                readComponentId(document, SpecsComponent.HDD),
+                readComponentId(document, SpecsComponent.POWER_SUPPLY),
+                readComponentId(document, SpecsComponent.PC_CASE)
+        );
+    }
+
+    protected static SpecsNames readSpecsNames(Document document) {
+        return new SpecsNames(
+                readComponentName(document, SpecsComponent.CPU),
+                readComponentName(document, SpecsComponent.GPU),
+                readComponentName(document, SpecsComponent.MOTHERBOARD),
+                readComponentName(document, SpecsComponent.RAM),
+                readComponentName(document, SpecsComponent.SSD),
+                readComponentName(document, SpecsComponent.HDD),
+                readComponentName(document, SpecsComponent.POWER_SUPPLY),
+                readComponentName(document, SpecsComponent.PC_CASE)
+        );
+    }
+
+    private static String readComponentId(Document document, SpecsComponent component) {
+        Document part = readComponent(document, component);
+
+        return part == null || part.get("_id") == null ? null : part.get("_id").toString();
+    }
+
+    private static String readComponentName(Document document, SpecsComponent component) {
+        Document part = readComponent(document, component);
+        Document hardwareSpec = part == null ? null : part.get("hardwareSpec", Document.class);
+
+        return hardwareSpec == null ? null : hardwareSpec.getString("name");
+    }
+
+    private static Document readComponent(Document document, SpecsComponent component) {
+        Document specs = document.get("specs", Document.class);
+
+        return specs == null ? null : specs.get(component.getField(), Document.class);
+    }
+
+    private static List<String> getListingFields(String... additionalFields) {
+        // embedded parts are reduced to the id and name a listing shows
+        List<String> fields = new ArrayList<>(List.of("hardwareSpec", "energyConsumption", "photos"));
+        fields.addAll(List.of(additionalFields));
+        for (SpecsComponent component : SpecsComponent.values()) {
+            fields.add(component.getIdPath());
+            fields.add(component.getPath() + ".hardwareSpec.name");
+        }
+
+        return fields;
+    }
+
+    private static Query byComponent(SpecsComponent component, String componentId) {
+        return Query.query(Criteria.where(component.getIdPath()).is(componentId));
+    }
+}
@@ -0,0 +1,13 @@
+package de.mightypc.backend.repository.pc;
+
+import de.mightypc.backend.model.catalog.CatalogFacets;
+import de.mightypc.backend.model.catalog.CatalogFilter;
+import de.mightypc.backend.model.catalog.FacetDefinition;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+public interface PcListingRepository<S> {
+    Page<S> findAllListings(Pageable pageable);
+
+    CatalogFacets<S> findListingFacetsByFilter(CatalogFilter filter, Pageable pageable, FacetDefinition facetDefinition);
+}
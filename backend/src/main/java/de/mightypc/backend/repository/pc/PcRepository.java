@@ -1,7 +1,7 @@
 package de.mightypc.backend.repository.pc;
 
 import de.mightypc.backend.model.pc.PC;
-import org.springframework.data.mongodb.repository.MongoRepository;
+import de.mightypc.backend.model.pc.createpc.PcResponse;
 
-public interface PcRepository extends MongoRepository<PC, String> {
+public interface PcRepository extends PcCatalogRepository<PC, PcResponse> {
 }
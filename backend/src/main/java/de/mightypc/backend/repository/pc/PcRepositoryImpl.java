@@ -0,0 +1,38 @@
+package de.mightypc.backend.repository.pc;
+
+import de.mightypc.backend.model.catalog.CatalogFacets;
+import de.mightypc.backend.model.catalog.CatalogFilter;
+import de.mightypc.backend.model.catalog.FacetDefinition;
+import de.mightypc.backend.model.pc.PC;
+import de.mightypc.backend.model.pc.createpc.PcResponse;
+import org.bson.Document;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+public class PcRepositoryImpl extends PcCatalogRepositorySupport<PC> implements PcListingRepository<PcResponse> {
+    public PcRepositoryImpl(MongoTemplate mongoTemplate) {
+        super(mongoTemplate, PC.class);
+    }
+
+    @Override
+    public Page<PcResponse> findAllListings(Pageable pageable) {
+        return findAllProjected(pageable, this::toListing);
+    }
+
+    @Override
+    public CatalogFacets<PcResponse> findListingFacetsByFilter(CatalogFilter filter, Pageable pageable, FacetDefinition facetDefinition) {
+        return findFacetsProjected(filter, pageable, facetDefinition, this::toListing);
+    }
+
+    private PcResponse toListing(Document document) {
+        return new PcResponse(
+                document.get("_id").toString(),
+                readHardwareSpec(document),
+                readSpecsIds(document),
+                readSpecsNames(document),
+                document.getInteger("energyConsumption", 0),
+                document.getList("photos", String.class)
+        );
+    }
+}
@@ -0,0 +1,14 @@
+package de.mightypc.backend.repository.pc;
+
+import de.mightypc.backend.model.hardware.SpecsComponent;
+import de.mightypc.backend.model.pc.SpecsTotals;
+
+import java.util.List;
+
+public interface SpecsUsageRepository<T> {
+    List<T> findAllByComponent(SpecsComponent component, String componentId);
+
+    List<String> findIdsByComponent(SpecsComponent component, String componentId);
+
+    int updateComponent(SpecsComponent component, String componentId, Object value, List<SpecsTotals> totals);
+}
@@ -1,7 +1,7 @@
 package de.mightypc.backend.repository.pc;
 
 import de.mightypc.backend.model.pc.Workstation;
-import org.springframework.data.mongodb.repository.MongoRepository;
+import de.mightypc.backend.model.pc.createpc.WorkstationResponse;
 
-public interface WorkstationRepository extends MongoRepository<Workstation, String> {
+public interface WorkstationRepository extends PcCatalogRepository<Workstation, WorkstationResponse> {
 }
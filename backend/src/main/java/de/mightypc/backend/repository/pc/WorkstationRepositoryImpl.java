@@ -0,0 +1,42 @@
+package de.mightypc.backend.repository.pc;
+
+import de.mightypc.backend.model.catalog.CatalogFacets;
+import de.mightypc.backend.model.catalog.CatalogFilter;
+import de.mightypc.backend.model.catalog.FacetDefinition;
+import de.mightypc.backend.model.pc.Workstation;
+import de.mightypc.backend.model.pc.createpc.WorkstationResponse;
+import org.bson.Document;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+public class WorkstationRepositoryImpl extends PcCatalogRepositorySupport<Workstation> implements PcListingRepository<WorkstationResponse> {
+    private static final String[] LISTING_FIELDS = {"cpuNumber", "gpuNumber"};
+
+    public WorkstationRepositoryImpl(MongoTemplate mongoTemplate) {
+        super(mongoTemplate, Workstation.class);
+    }
+
+    @Override
+    public Page<WorkstationResponse> findAllListings(Pageable pageable) {
+        return findAllProjected(pageable, this::toListing, LISTING_FIELDS);
+    }
+
+    @Override
+    public CatalogFacets<WorkstationResponse> findListingFacetsByFilter(CatalogFilter filter, Pageable pageable, FacetDefinition facetDefinition) {
+        return findFacetsProjected(filter, pageable, facetDefinition, this::toListing, LISTING_FIELDS);
+    }
+
+    private WorkstationResponse toListing(Document document) {
+        return new WorkstationResponse(
+                document.get("_id").toString(),
+                readHardwareSpec(document),
+                readSpecsIds(document),
+                readSpecsNames(document),
+                document.getInteger("cpuNumber", 0),
+                document.getInteger("gpuNumber", 0),
+                document.getInteger("energyConsumption", 0),
+                document.getList("photos", String.class)
+        );
+    }
+}
@@ -0,0 +1,14 @@
+package de.mightypc.backend.repository.shop;
+
+import de.mightypc.backend.model.shop.order.Order;
+import de.mightypc.backend.model.shop.order.OrderStatus;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+public interface OrderQueueRepository {
+    List<Order> findQueue(OrderStatus orderStatus, Instant from, Instant to, Instant afterCreatedAt, String afterId, int limit);
+
+    Map<OrderStatus, Long> countByStatus(Instant from, Instant to);
+}
@@ -0,0 +1,21 @@
+package de.mightypc.backend.repository.shop;
+
+import de.mightypc.backend.model.shop.order.Order;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface OrderRepository extends MongoRepository<Order, String>, OrderStatusRepository, OrderQueueRepository {
+    List<Order> findAllByUserIdOrderByCreatedAtAsc(String userId);
+
+    Page<Order> findAllByUserId(String userId, Pageable pageable);
+
+    Optional<Order> findByIdAndUserId(String id, String userId);
+
+    long deleteByIdAndUserId(String id, String userId);
+
+    long deleteAllByUserId(String userId);
+}
@@ -0,0 +1,92 @@
+package de.mightypc.backend.repository.shop;
+
+import de.mightypc.backend.model.shop.order.Order;
+import de.mightypc.backend.model.shop.order.OrderStatus;
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public class OrderRepositoryImpl implements OrderStatusRepository, OrderQueueRepository {
+    private static final String CREATED_AT = "createdAt";
+    private static final String ORDER_STATUS = "orderStatus";
+
+    private final MongoTemplate mongoTemplate;
+
+    public OrderRepositoryImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public boolean updateOrderStatus(String userId, String orderId, OrderStatus orderStatus) {
+        Query query = Query.query(Criteria.where("_id").is(orderId).and("userId").is(userId));
+
+        return mongoTemplate.updateFirst(query, new Update().set(ORDER_STATUS, orderStatus), Order.class).getMatchedCount() > 0;
+    }
+
+    @Override
+    public List<Order> findQueue(OrderStatus orderStatus, Instant from, Instant to, Instant afterCreatedAt, String afterId, int limit) {
+        Query query = Query.query(Criteria.where(ORDER_STATUS).is(orderStatus));
+
+        createdWithin(from, to).ifPresent(query::addCriteria);
+
+        if (afterCreatedAt != null) {
+            // keyset pagination on (createdAt, _id), so later pages cost the same as the first one
+            query.addCriteria(new Criteria().orOperator(
+                    Criteria.where(CREATED_AT).gt(afterCreatedAt),
+                    Criteria.where(CREATED_AT).is(afterCreatedAt).and("_id").gt(afterId)
+            ));
+        }
+
+        query.with(Sort.by(Sort.Direction.ASC, CREATED_AT, "_id")).limit(limit);
+
+        return mongoTemplate.find(query, Order.class);
+    }
+
+    @Override
+    public Map<OrderStatus, Long> countByStatus(Instant from, Instant to) {
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(createdWithin(from, to).orElseGet(Criteria::new)),
+                Aggregation.group(ORDER_STATUS).count().as("count")
+        );
+
+        Map<OrderStatus, Long> counts = new EnumMap<>(OrderStatus.class);
+
+        for (Document result : mongoTemplate.aggregate(aggregation, Order.class, Document.class)) {
+            String orderStatus = result.getString("_id");
+
+            if (orderStatus != null) {
+                counts.put(OrderStatus.valueOf(orderStatus), ((Number) result.get("count")).longValue());
+            }
+        }
+
+        return counts;
+    }
+
+    private static Optional<Criteria> createdWithin(Instant from, Instant to) {
+        if (from == null && to == null) {
+            return Optional.empty();
+        }
+
+        Criteria criteria = Criteria.where(CREATED_AT);
+
+        if (from != null) {
+            criteria.gte(from);
+        }
+
+        if (to != null) {
+            criteria.lt(to);
+        }
+
+        return Optional.of(criteria);
+    }
+}
@@ -0,0 +1,7 @@
+package de.mightypc.backend.repository.shop;
+
+import de.mightypc.backend.model.shop.order.OrderStatus;
+
+public interface OrderStatusRepository {
+    boolean updateOrderStatus(String userId, String orderId, OrderStatus orderStatus);
+}
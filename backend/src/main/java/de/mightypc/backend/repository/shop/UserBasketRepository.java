@@ -0,0 +1,11 @@
+package de.mightypc.backend.repository.shop;
+
+import de.mightypc.backend.model.shop.order.Item;
+
+public interface UserBasketRepository {
+    boolean pushBasketItem(String userId, Item item);
+
+    boolean pullBasketItem(String userId, String itemId);
+
+    boolean clearBasket(String userId);
+}
@@ -0,0 +1,9 @@
+package de.mightypc.backend.repository.shop;
+
+public interface UserCredentialsRepository {
+    boolean updatePassword(String email, String password);
+
+    boolean changePassword(String email, String password);
+
+    boolean incrementTokenVersion(String email);
+}
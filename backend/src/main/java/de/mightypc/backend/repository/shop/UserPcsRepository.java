@@ -0,0 +1,9 @@
+package de.mightypc.backend.repository.shop;
+
+import de.mightypc.backend.model.pc.UserPcsSlice;
+
+import java.util.Optional;
+
+public interface UserPcsRepository {
+    Optional<UserPcsSlice> findPcsSlice(String userId, int offset, int limit);
+}
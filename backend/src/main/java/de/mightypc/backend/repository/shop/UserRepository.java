@@ -1,14 +1,24 @@
 package de.mightypc.backend.repository.shop;
 
 import de.mightypc.backend.model.shop.user.User;
+import de.mightypc.backend.model.shop.user.UserCredentials;
+import de.mightypc.backend.model.shop.user.UserTokenVersion;
 import org.springframework.data.mongodb.repository.MongoRepository;
 
+import java.util.List;
 import java.util.Optional;
 
-public interface UserRepository extends MongoRepository<User, String> {
+public interface UserRepository extends MongoRepository<User, String>, UserBasketRepository, UserPcsRepository, UserCredentialsRepository {
     Boolean existsByEmail(String email);
 
     User getUserByEmail(String email);
 
     Optional<User> findUserByEmail(String email);
+
+    // only the fields needed to authenticate, not the basket and pcs
+    Optional<UserCredentials> findCredentialsByEmail(String email);
+
+    Optional<UserTokenVersion> findTokenVersionByEmail(String email);
+
+    List<UserTokenVersion> findTokenVersionsBy();
 }
@@ -0,0 +1,119 @@
+package de.mightypc.backend.repository.shop;
+
+import de.mightypc.backend.model.pc.UserPcsSlice;
+import de.mightypc.backend.model.shop.order.Item;
+import de.mightypc.backend.model.shop.user.User;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+// MongoTemplate increments User.version on each of these updates, so a concurrent full-document save fails instead of overwriting them
+public class UserRepositoryImpl implements UserBasketRepository, UserPcsRepository, UserCredentialsRepository {
+    private static final String BASKET = "basket";
+    private static final String BASKET_ITEM_ID = "basket._id";
+    private static final String PCS = "pcs";
+    private static final String TOKEN_VERSION = "tokenVersion";
+
+    private final MongoTemplate mongoTemplate;
+
+    public UserRepositoryImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public boolean pushBasketItem(String userId, Item item) {
+        if (push(userId, item)) {
+            return true;
+        }
+
+        // older accounts may have no basket array yet, $push cannot append to a null field
+        Query withoutBasket = Query.query(Criteria.where("_id").is(userId).and(BASKET).is(null));
+        if (mongoTemplate.updateFirst(withoutBasket, new Update().set(BASKET, new ArrayList<>(List.of(item))), User.class).getMatchedCount() > 0) {
+            return true;
+        }
+
+        return push(userId, item);
+    }
+
+    @Override
+    public boolean pullBasketItem(String userId, String itemId) {
+        Query query = Query.query(Criteria.where("_id").is(userId).and(BASKET_ITEM_ID).is(itemId));
+
+        // the same product can be in the basket several times, so only its first occurrence is cut out
+        Document index = new Document("$indexOfArray", List.of("$" + BASKET_ITEM_ID, toStoredItemId(itemId)));
+        Document remainingItems = new Document("$concatArrays", List.of(
+                new Document("$slice", List.of("$" + BASKET, index)),
+                new Document("$slice", List.of("$" + BASKET, new Document("$add", List.of(index, 1)), new Document("$size", "$" + BASKET)))
+        ));
+        AggregationOperation removeFirstOccurrence = context -> new Document("$set", new Document(BASKET, remainingItems));
+
+        return mongoTemplate.updateFirst(query, AggregationUpdate.from(List.of(removeFirstOccurrence)), User.class).getModifiedCount() > 0;
+    }
+
+    @Override
+    public boolean clearBasket(String userId) {
+        Query query = Query.query(Criteria.where("_id").is(userId));
+
+        return mongoTemplate.updateFirst(query, new Update().set(BASKET, new ArrayList<>()), User.class).getMatchedCount() > 0;
+    }
+
+    @Override
+    public Optional<UserPcsSlice> findPcsSlice(String userId, int offset, int limit) {
+        // only the requested page of pcs leaves the database, the total is counted next to it
+        Document pcs = new Document("$ifNull", List.of("$" + PCS, List.of()));
+        AggregationOperation slice = context -> new Document("$project", new Document()
+                .append("_id", 0)
+                .append(PCS, new Document("$slice", List.of(pcs, offset, limit)))
+                .append("total", new Document("$size", pcs)));
+
+        Aggregation aggregation = Aggregation.newAggregation(Aggregation.match(Criteria.where("_id").is(userId)), slice);
+
+        return Optional.ofNullable(mongoTemplate.aggregate(aggregation, User.class, UserPcsSlice.class).getUniqueMappedResult());
+    }
+
+    @Override
+    public boolean updatePassword(String email, String password) {
+        Query query = Query.query(Criteria.where("email").is(email));
+
+        return mongoTemplate.updateFirst(query, new Update().set("password", password), User.class).getMatchedCount() > 0;
+    }
+
+    @Override
+    public boolean changePassword(String email, String password) {
+        Query query = Query.query(Criteria.where("email").is(email));
+
+        // unlike a rehash, a new password revokes every token issued with the old one
+        return mongoTemplate.updateFirst(query, new Update().set("password", password).inc(TOKEN_VERSION, 1), User.class).getMatchedCount() > 0;
+    }
+
+    @Override
+    public boolean incrementTokenVersion(String email) {
+        Query query = Query.query(Criteria.where("email").is(email));
+
+        return mongoTemplate.updateFirst(query, new Update().inc(TOKEN_VERSION, 1), User.class).getMatchedCount() > 0;
+    }
+
+    private Object toStoredItemId(String itemId) {
+        // pipeline stages are not mapped, so the id has to be converted the same way it was written
+        MongoConverter converter = mongoTemplate.getConverter();
+        Class<?> idType = converter.getMappingContext().getRequiredPersistentEntity(Item.class).getRequiredIdProperty().getFieldType();
+
+        return converter.convertId(itemId, idType);
+    }
+
+    private boolean push(String userId, Item item) {
+        Query withBasket = Query.query(Criteria.where("_id").is(userId).and(BASKET).ne(null));
+
+        return mongoTemplate.updateFirst(withBasket, new Update().push(BASKET, item), User.class).getMatchedCount() > 0;
+    }
+}
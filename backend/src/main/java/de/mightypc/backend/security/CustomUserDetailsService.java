@@ -1,10 +1,11 @@
 package de.mightypc.backend.security;
 
-import de.mightypc.backend.model.shop.user.User;
+import de.mightypc.backend.model.shop.user.UserCredentials;
 import de.mightypc.backend.repository.shop.UserRepository;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
@@ -13,7 +14,7 @@ import java.util.Collection;
 import java.util.Collections;
 
 @Service
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
     private final UserRepository userRepository;
 
     public CustomUserDetailsService(UserRepository userRepository) {
@@ -22,12 +23,20 @@ public class CustomUserDetailsService implements UserDetailsService {
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        User user = userRepository.findUserByEmail(username).orElseThrow(() -> new UsernameNotFoundException("There is no such user with id: " + username + "."));
+        UserCredentials user = userRepository.findCredentialsByEmail(username).orElseThrow(() -> new UsernameNotFoundException("There is no such user with id: " + username + "."));
 
-        return new org.springframework.security.core.userdetails.User(user.getEmail(), user.getPassword(), mapRolesToAuthorities(user));
+        return new org.springframework.security.core.userdetails.User(user.email(), user.password(), mapRolesToAuthorities(user));
     }
 
-    private Collection<? extends GrantedAuthority> mapRolesToAuthorities(User user) {
-        return Collections.singletonList(new SimpleGrantedAuthority(user.getRole()));
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        // called after a successful login whose hash was made with an outdated encoder or cost
+        userRepository.updatePassword(user.getUsername(), newPassword);
+
+        return org.springframework.security.core.userdetails.User.withUserDetails(user).password(newPassword).build();
+    }
+
+    private Collection<? extends GrantedAuthority> mapRolesToAuthorities(UserCredentials user) {
+        return Collections.singletonList(new SimpleGrantedAuthority(user.role()));
     }
 }
@@ -1,50 +1,96 @@
 package de.mightypc.backend.security;
 
+import de.mightypc.backend.model.admin.CacheStats;
+import de.mightypc.backend.service.cache.BoundedCache;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.time.Duration;
 import java.util.Date;
+import java.util.List;
+import java.util.Optional;
 
 @Component
 public class JwtTokenProvider {
-    @Value("${jwt.secret}")
-    private String jwtSecret;
+    public static final String ROLES_CLAIM = "roles";
+    public static final String TOKEN_VERSION_CLAIM = "tokenVersion";
 
-    @Value("${jwt.expiration}")
-    private long jwtExpiration;
+    private final long jwtExpiration;
+    private final SecretKey signingKey;
+    private final JwtParser jwtParser;
+    private final BoundedCache<String, Claims> verifiedTokens;
 
-    public String generateToken(Authentication authentication) {
+    public JwtTokenProvider(@Value("${jwt.secret}") String jwtSecret, @Value("${jwt.expiration}") long jwtExpiration) {
+        this.jwtExpiration = jwtExpiration;
+        this.signingKey = new SecretKeySpec(Decoders.BASE64.decode(jwtSecret), SignatureAlgorithm.HS512.getJcaName());
+        this.jwtParser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+        this.verifiedTokens = new BoundedCache<>("JwtTokenProvider.verifiedTokens", 10_000, Duration.ofMillis(jwtExpiration));
+    }
+
+    public String generateToken(Authentication authentication, long tokenVersion) {
         UserDetails userDetails = (UserDetails) authentication.getPrincipal();
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtExpiration);
+        List<String> roles = userDetails.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList();
 
         return Jwts.builder()
                 .setSubject(userDetails.getUsername())
+                .claim(ROLES_CLAIM, roles)
+                .claim(TOKEN_VERSION_CLAIM, tokenVersion)
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
-                .signWith(SignatureAlgorithm.HS512, jwtSecret)
+                .signWith(signingKey, SignatureAlgorithm.HS512)
                 .compact();
     }
 
     public String getUserIdFromJWT(String token) {
-        Claims claims = Jwts.parser()
-                .setSigningKey(jwtSecret)
-                .parseClaimsJws(token)
-                .getBody();
-        return claims.getSubject();
+        return getVerifiedClaims(token).getSubject();
     }
 
-    public boolean validateToken(String token) {
+    public Optional<Claims> getValidClaims(String token) {
         try {
-            Jwts.parser().setSigningKey(jwtSecret).parseClaimsJws(token);
-            return true;
+            return Optional.of(getVerifiedClaims(token));
         } catch (Exception e) {
-            return false;
+            return Optional.empty();
         }
     }
+
+    public boolean validateToken(String token) {
+        return getValidClaims(token).isPresent();
+    }
+
+    public CacheStats getCacheStats() {
+        return verifiedTokens.getStats();
+    }
+
+    private Claims getVerifiedClaims(String token) {
+        Optional<Claims> cached = verifiedTokens.getIfPresent(token);
+
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        Claims claims = jwtParser.parseClaimsJws(token).getBody();
+
+        // the same token string always carries the same signature, so it only has to be verified once until it expires
+        long remainingMillis = claims.getExpiration() == null
+                ? jwtExpiration
+                : Math.min(jwtExpiration, claims.getExpiration().getTime() - System.currentTimeMillis());
+
+        if (remainingMillis > 0) {
+            verifiedTokens.put(token, claims, Duration.ofMillis(remainingMillis));
+        }
+
+        return claims;
+    }
 }
@@ -0,0 +1,103 @@
+package de.mightypc.backend.security;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.security.authentication.AccountStatusUserDetailsChecker;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsChecker;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+// does what DaoAuthenticationProvider does, but only the hashing occupies the hashing pool:
+// the credentials are loaded on the calling thread and the rehash is stored on the application task executor
+@Component
+public class LoginAuthenticator {
+    private static final String USER_NOT_FOUND_PASSWORD = "userNotFoundPassword";
+
+    private final CustomUserDetailsService userDetailsService;
+    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final Executor applicationTaskExecutor;
+    private final UserDetailsChecker userDetailsChecker = new AccountStatusUserDetailsChecker();
+
+    private volatile String userNotFoundEncodedPassword;
+
+    public LoginAuthenticator(CustomUserDetailsService userDetailsService,
+                              PasswordEncoder passwordEncoder,
+                              PasswordHashingExecutor passwordHashingExecutor,
+                              @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) Executor applicationTaskExecutor) {
+        this.userDetailsService = userDetailsService;
+        this.passwordEncoder = passwordEncoder;
+        this.passwordHashingExecutor = passwordHashingExecutor;
+        this.applicationTaskExecutor = applicationTaskExecutor;
+    }
+
+    public CompletableFuture<Authentication> authenticate(String email, String password) {
+        UserDetails user = loadUser(email);
+
+        return passwordHashingExecutor.submit(() -> check(user, password))
+                .thenApplyAsync(passwordCheck -> {
+                    if (!passwordCheck.matches()) {
+                        throw new BadCredentialsException("Bad credentials");
+                    }
+
+                    UserDetails authenticatedUser = passwordCheck.upgradedPassword() == null
+                            ? user
+                            : userDetailsService.updatePassword(user, passwordCheck.upgradedPassword());
+
+                    return UsernamePasswordAuthenticationToken.authenticated(authenticatedUser, null, authenticatedUser.getAuthorities());
+                }, applicationTaskExecutor);
+    }
+
+    private UserDetails loadUser(String email) {
+        if (email == null || email.isEmpty()) {
+            return null;
+        }
+
+        try {
+            UserDetails user = userDetailsService.loadUserByUsername(email);
+            userDetailsChecker.check(user);
+
+            return user;
+        } catch (UsernameNotFoundException e) {
+            return null;
+        }
+    }
+
+    private PasswordCheck check(UserDetails user, String password) {
+        if (user == null) {
+            // unknown emails are hashed as well, so the response time does not tell which accounts exist
+            if (password != null) {
+                passwordEncoder.matches(password, getUserNotFoundEncodedPassword());
+            }
+            return PasswordCheck.FAILED;
+        }
+
+        if (password == null || !passwordEncoder.matches(password, user.getPassword())) {
+            return PasswordCheck.FAILED;
+        }
+
+        String upgradedPassword = passwordEncoder.upgradeEncoding(user.getPassword()) ? passwordEncoder.encode(password) : null;
+
+        return new PasswordCheck(true, upgradedPassword);
+    }
+
+    private String getUserNotFoundEncodedPassword() {
+        if (userNotFoundEncodedPassword == null) {
+            userNotFoundEncodedPassword = passwordEncoder.encode(USER_NOT_FOUND_PASSWORD);
+        }
+
+        return userNotFoundEncodedPassword;
+    }
+
+    private record PasswordCheck(boolean matches, String upgradedPassword) {
+        private static final PasswordCheck FAILED = new PasswordCheck(false, null);
+    }
+}
@@ -0,0 +1,111 @@
+package de.mightypc.backend.security;
+
+import de.mightypc.backend.exception.security.PasswordHashingRejectedException;
+import de.mightypc.backend.model.admin.PasswordHashingStats;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+// Sign-up and login hash through submit(), so no servlet thread waits for a hash.
+// Only the hash runs on the pool: their database work stays on the servlet thread or the application task executor.
+// Everything else hashes through execute(), which still blocks its caller, but never longer than the wait timeout.
+@Component
+public class PasswordHashingExecutor {
+    private static final ThreadLocal<Boolean> HASHING_THREAD = ThreadLocal.withInitial(() -> false);
+
+    private final ThreadPoolExecutor executor;
+    private final int queueCapacity;
+    private final long waitTimeoutMillis;
+    private final LongAdder rejectedTasks = new LongAdder();
+
+    public PasswordHashingExecutor(@Value("${security.password-hashing.threads:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}") int threads,
+                                   @Value("${security.password-hashing.queue-capacity:64}") int queueCapacity,
+                                   @Value("${security.password-hashing.wait-timeout:2000}") long waitTimeoutMillis) {
+        AtomicInteger threadNumber = new AtomicInteger();
+
+        this.queueCapacity = queueCapacity;
+        this.waitTimeoutMillis = waitTimeoutMillis;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+            Thread thread = new Thread(() -> {
+                HASHING_THREAD.set(true);
+                runnable.run();
+            }, "password-hashing-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, executor);
+        } catch (RejectedExecutionException e) {
+            throw reject();
+        }
+    }
+
+    public <T> T execute(Supplier<T> hashing) {
+        // work submitted to the pool hashes in place, waiting on the own pool could deadlock it
+        if (HASHING_THREAD.get()) {
+            return hashing.get();
+        }
+
+        Future<T> result;
+
+        try {
+            result = executor.submit(hashing::get);
+        } catch (RejectedExecutionException e) {
+            throw reject();
+        }
+
+        try {
+            return result.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            result.cancel(true);
+            throw reject();
+        } catch (InterruptedException e) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing a password", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    public PasswordHashingStats getStats() {
+        return new PasswordHashingStats(
+                executor.getMaximumPoolSize(),
+                executor.getActiveCount(),
+                executor.getQueue().size(),
+                queueCapacity,
+                executor.getCompletedTaskCount(),
+                rejectedTasks.sum()
+        );
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private PasswordHashingRejectedException reject() {
+        // shed the request right away instead of letting it wait behind a full queue
+        rejectedTasks.increment();
+        return new PasswordHashingRejectedException("Too many sign-in requests, please try again in a moment.");
+    }
+}
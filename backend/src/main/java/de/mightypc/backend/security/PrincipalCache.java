@@ -0,0 +1,36 @@
+package de.mightypc.backend.security;
+
+import de.mightypc.backend.model.admin.CacheStats;
+import de.mightypc.backend.model.shop.user.UserCredentialsChangedEvent;
+import de.mightypc.backend.service.cache.BoundedCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+public class PrincipalCache {
+    private final CustomUserDetailsService customUserDetailsService;
+    private final BoundedCache<String, UserDetails> principals;
+
+    public PrincipalCache(CustomUserDetailsService customUserDetailsService, @Value("${jwt.expiration}") long jwtExpiration) {
+        this.customUserDetailsService = customUserDetailsService;
+        // no principal is kept longer than a freshly issued token stays valid
+        this.principals = new BoundedCache<>("PrincipalCache.principals", 10_000, Duration.ofMillis(jwtExpiration));
+    }
+
+    public UserDetails get(String email) {
+        return principals.get(email, customUserDetailsService::loadUserByUsername);
+    }
+
+    @EventListener
+    public void onUserCredentialsChanged(UserCredentialsChangedEvent event) {
+        principals.invalidate(event.email());
+    }
+
+    public CacheStats getCacheStats() {
+        return principals.getStats();
+    }
+}
@@ -1,6 +1,7 @@
 package de.mightypc.backend.security;
 
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -14,6 +15,8 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.session.SessionRegistry;
 import org.springframework.security.core.session.SessionRegistryImpl;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
@@ -24,21 +27,27 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
 
     @Bean
-    public BCryptPasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordHashingExecutor passwordHashingExecutor, @Value("${security.password-hashing.bcrypt-strength:10}") int bcryptStrength) {
+        DelegatingPasswordEncoder delegatingPasswordEncoder = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", new BCryptPasswordEncoder(bcryptStrength)));
+        // hashes stored before the {id} prefix was introduced are all bcrypt
+        delegatingPasswordEncoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder(bcryptStrength));
+
+        return new OffloadedPasswordEncoder(delegatingPasswordEncoder, passwordHashingExecutor);
     }
 
     @Bean
-    public DaoAuthenticationProvider authenticationProvider(CustomUserDetailsService userDetailsService) {
+    public DaoAuthenticationProvider authenticationProvider(CustomUserDetailsService userDetailsService, PasswordEncoder passwordEncoder) {
         DaoAuthenticationProvider auth = new DaoAuthenticationProvider();
         auth.setUserDetailsService(userDetailsService);
-        auth.setPasswordEncoder(passwordEncoder());
+        auth.setUserDetailsPasswordService(userDetailsService);
+        auth.setPasswordEncoder(passwordEncoder);
         return auth;
     }
 
@@ -60,7 +69,7 @@ public class SecurityConfig {
     }
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http, JwtTokenProvider tokenProvider, CustomUserDetailsService userDetailsService) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, JwtTokenProvider tokenProvider, PrincipalCache principalCache, TokenVersionRegistry tokenVersionRegistry) throws Exception {
         http.cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .csrf(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(auth -> auth
@@ -81,6 +90,8 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.PUT, "/api/workstation/**").hasRole("ADMIN")
                         .requestMatchers(HttpMethod.POST, "/api/workstation/**").hasRole("ADMIN")
                         .requestMatchers(HttpMethod.DELETE, "/api/workstation/**").hasRole("ADMIN")
+                        .requestMatchers(HttpMethod.POST, "/api/user/logout-all").authenticated()
+                        .requestMatchers(HttpMethod.PUT, "/api/user/password").authenticated()
                         .requestMatchers("/api/user/**").permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/user/login").permitAll()
                         .requestMatchers("/api/basket/**").authenticated()
@@ -88,11 +99,12 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.POST, "/api/order/**").authenticated()
                         .requestMatchers(HttpMethod.DELETE, "/api/order/**").hasRole("ADMIN")
                         .requestMatchers(HttpMethod.PUT, "/api/order/**").hasRole("ADMIN")
+                        .requestMatchers("/api/admin/**").hasRole("ADMIN")
                         .anyRequest().permitAll() // Allow all other requests
                 )
                 .sessionManagement(session -> session
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS))
-                .addFilterBefore(jwtAuthenticationFilter(tokenProvider, userDetailsService), UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(jwtAuthenticationFilter(tokenProvider, principalCache, tokenVersionRegistry), UsernamePasswordAuthenticationFilter.class)
                 .logout(logout -> logout
                         .logoutUrl("/api/logout")
                         .logoutSuccessHandler((request, response, authentication) -> response.setStatus(HttpServletResponse.SC_OK))
@@ -104,8 +116,8 @@ public class SecurityConfig {
     }
 
     @Bean
-    public JwtAuthenticationFilter jwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, CustomUserDetailsService userDetailsService) {
-        return new JwtAuthenticationFilter(jwtTokenProvider, userDetailsService);
+    public JwtAuthenticationFilter jwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, PrincipalCache principalCache, TokenVersionRegistry tokenVersionRegistry) {
+        return new JwtAuthenticationFilter(jwtTokenProvider, principalCache, tokenVersionRegistry);
     }
 
     @Bean
@@ -0,0 +1,101 @@
+package de.mightypc.backend.security;
+
+import de.mightypc.backend.model.shop.user.UserCredentialsChangedEvent;
+import de.mightypc.backend.model.shop.user.UserTokenVersion;
+import de.mightypc.backend.repository.shop.UserRepository;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class TokenVersionRegistry {
+    // marks emails without an account, so their tokens do not query the database on every request
+    private static final long UNKNOWN_USER = -1;
+
+    private final UserRepository userRepository;
+    private final Object lock = new Object();
+
+    private volatile Map<String, Long> tokenVersions = new ConcurrentHashMap<>();
+    private Set<String> evictedDuringRefresh;
+    private long evictions;
+
+    public TokenVersionRegistry(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.token-versions.refresh-interval:30000}")
+    public void refresh() {
+        synchronized (lock) {
+            evictedDuringRefresh = new HashSet<>();
+        }
+
+        Map<String, Long> loaded = new ConcurrentHashMap<>();
+
+        try {
+            for (UserTokenVersion user : userRepository.findTokenVersionsBy()) {
+                if (user.email() != null) {
+                    loaded.put(user.email(), tokenVersionOf(user));
+                }
+            }
+        } finally {
+            synchronized (lock) {
+                // the scan may have read a version from before a change that was evicted in the meantime
+                evictedDuringRefresh.forEach(loaded::remove);
+                evictedDuringRefresh = null;
+                tokenVersions = loaded;
+            }
+        }
+    }
+
+    public Optional<Long> getTokenVersion(String email) {
+        Long tokenVersion = tokenVersions.get(email);
+
+        if (tokenVersion != null) {
+            return tokenVersion == UNKNOWN_USER ? Optional.empty() : Optional.of(tokenVersion);
+        }
+
+        long loadEvictions;
+        synchronized (lock) {
+            loadEvictions = evictions;
+        }
+
+        // accounts created since the last refresh are looked up once
+        Optional<Long> loaded = userRepository.findTokenVersionByEmail(email).map(TokenVersionRegistry::tokenVersionOf);
+
+        synchronized (lock) {
+            if (evictions == loadEvictions) {
+                tokenVersions.put(email, loaded.orElse(UNKNOWN_USER));
+            }
+        }
+
+        return loaded;
+    }
+
+    public boolean isCurrent(String email, long tokenVersion) {
+        return getTokenVersion(email).filter(current -> current == tokenVersion).isPresent();
+    }
+
+    @EventListener
+    public void onUserCredentialsChanged(UserCredentialsChangedEvent event) {
+        synchronized (lock) {
+            evictions++;
+
+            if (evictedDuringRefresh != null) {
+                evictedDuringRefresh.add(event.email());
+            }
+
+            tokenVersions.remove(event.email());
+        }
+    }
+
+    private static long tokenVersionOf(UserTokenVersion user) {
+        return Objects.requireNonNullElse(user.tokenVersion(), 0L);
+    }
+}
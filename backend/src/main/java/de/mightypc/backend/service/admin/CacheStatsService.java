@@ -0,0 +1,42 @@
+package de.mightypc.backend.service.admin;
+
+import de.mightypc.backend.model.admin.CacheStats;
+import de.mightypc.backend.security.JwtTokenProvider;
+import de.mightypc.backend.security.PrincipalCache;
+import de.mightypc.backend.service.configurator.PcRecommendationService;
+import de.mightypc.backend.service.hardware.BaseService;
+import de.mightypc.backend.service.pc.PcBaseService;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Service
+public class CacheStatsService {
+    private final List<BaseService<?, ?, ?>> catalogServices;
+    private final List<PcBaseService<?, ?, ?>> pcServices;
+    private final PcRecommendationService pcRecommendationService;
+    private final PrincipalCache principalCache;
+    private final JwtTokenProvider jwtTokenProvider;
+
+    public CacheStatsService(List<BaseService<?, ?, ?>> catalogServices, List<PcBaseService<?, ?, ?>> pcServices, PcRecommendationService pcRecommendationService, PrincipalCache principalCache, JwtTokenProvider jwtTokenProvider) {
+        this.catalogServices = catalogServices;
+        this.pcServices = pcServices;
+        this.pcRecommendationService = pcRecommendationService;
+        this.principalCache = principalCache;
+        this.jwtTokenProvider = jwtTokenProvider;
+    }
+
+    public List<CacheStats> getCacheStats() {
+        return Stream.concat(
+                        catalogServices.stream().flatMap(service -> service.getCacheStats().stream()),
+                        Stream.concat(
+                                pcServices.stream().map(PcBaseService::getCacheStats),
+                                Stream.of(pcRecommendationService.getCacheStats(), principalCache.getCacheStats(), jwtTokenProvider.getCacheStats())
+                        )
+                )
+                .sorted(Comparator.comparing(CacheStats::name))
+                .toList();
+    }
+}
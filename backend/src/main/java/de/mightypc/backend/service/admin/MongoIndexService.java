@@ -0,0 +1,155 @@
+package de.mightypc.backend.service.admin;
+
+import de.mightypc.backend.model.admin.IndexReport;
+import de.mightypc.backend.model.hardware.CPU;
+import de.mightypc.backend.model.hardware.GPU;
+import de.mightypc.backend.model.hardware.HDD;
+import de.mightypc.backend.model.hardware.Motherboard;
+import de.mightypc.backend.model.hardware.PcCase;
+import de.mightypc.backend.model.hardware.PowerSupply;
+import de.mightypc.backend.model.hardware.RAM;
+import de.mightypc.backend.model.hardware.SSD;
+import de.mightypc.backend.model.hardware.SpecsComponent;
+import de.mightypc.backend.model.pc.PC;
+import de.mightypc.backend.model.pc.Workstation;
+import de.mightypc.backend.model.shop.order.Order;
+import de.mightypc.backend.model.shop.user.User;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.PartialIndexFilter;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+public class MongoIndexService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(MongoIndexService.class);
+
+    private static final String PRICE = "hardwareSpec.price";
+    private static final String RATING = "hardwareSpec.rating";
+    private static final String ENERGY_CONSUMPTION = "energyConsumption";
+
+    private final MongoTemplate mongoTemplate;
+    private final Map<Class<?>, List<Index>> requiredIndexes = new LinkedHashMap<>();
+
+    public MongoIndexService(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+
+        requiredIndexes.put(User.class, List.of(
+                index("email").unique().partial(PartialIndexFilter.of(Criteria.where("email").exists(true))),
+                index("basket._id")
+        ));
+        requiredIndexes.put(Order.class, List.of(index("userId", "createdAt"), index("orderStatus", "createdAt")));
+        requiredIndexes.put(CPU.class, withCatalogIndexes(index("socket", PRICE), index(ENERGY_CONSUMPTION)));
+        requiredIndexes.put(GPU.class, withCatalogIndexes(index(ENERGY_CONSUMPTION)));
+        requiredIndexes.put(Motherboard.class, withCatalogIndexes(index("socket", PRICE), index(ENERGY_CONSUMPTION)));
+        requiredIndexes.put(RAM.class, withCatalogIndexes(index("type", PRICE), index("memorySize"), index(ENERGY_CONSUMPTION)));
+        requiredIndexes.put(SSD.class, withCatalogIndexes(index("capacity"), index(ENERGY_CONSUMPTION)));
+        requiredIndexes.put(HDD.class, withCatalogIndexes(index("capacity"), index(ENERGY_CONSUMPTION)));
+        requiredIndexes.put(PowerSupply.class, withCatalogIndexes(index("power", PRICE)));
+        requiredIndexes.put(PcCase.class, withCatalogIndexes());
+        requiredIndexes.put(PC.class, withSpecsIndexes(withCatalogIndexes(index(ENERGY_CONSUMPTION))));
+        requiredIndexes.put(Workstation.class, withSpecsIndexes(withCatalogIndexes(index(ENERGY_CONSUMPTION))));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndexes() {
+        requiredIndexes.forEach((type, indexes) -> {
+            for (Index index : indexes) {
+                try {
+                    mongoTemplate.indexOps(type).ensureIndex(index);
+                } catch (DataAccessException e) {
+                    LOGGER.warn("Could not create index {} on {}: {}", getName(index), mongoTemplate.getCollectionName(type), e.getMessage());
+                }
+            }
+        });
+
+        for (IndexReport report : getIndexReport()) {
+            if (!report.missingIndexes().isEmpty()) {
+                LOGGER.warn("Collection {} is missing indexes {}", report.collection(), report.missingIndexes());
+            }
+        }
+    }
+
+    public List<IndexReport> getIndexReport() {
+        List<IndexReport> reports = new ArrayList<>();
+
+        requiredIndexes.forEach((type, indexes) -> {
+            String collection = mongoTemplate.getCollectionName(type);
+
+            Set<String> existingIndexes = mongoTemplate.indexOps(type).getIndexInfo().stream()
+                    .map(IndexInfo::getName)
+                    .collect(Collectors.toSet());
+
+            List<String> missingIndexes = indexes.stream()
+                    .map(this::getName)
+                    .filter(name -> !existingIndexes.contains(name))
+                    .toList();
+
+            reports.add(new IndexReport(collection, missingIndexes, getUnusedIndexes(collection)));
+        });
+
+        return reports;
+    }
+
+    private List<String> getUnusedIndexes(String collection) {
+        List<String> unusedIndexes = new ArrayList<>();
+
+        for (Document stats : mongoTemplate.getCollection(collection).aggregate(List.of(new Document("$indexStats", new Document())))) {
+            String name = stats.getString("name");
+            Document accesses = stats.get("accesses", Document.class);
+            long operations = accesses == null ? 0 : ((Number) accesses.get("ops")).longValue();
+
+            if (!"_id_".equals(name) && operations == 0) {
+                unusedIndexes.add(name);
+            }
+        }
+
+        return unusedIndexes;
+    }
+
+    private static List<Index> withCatalogIndexes(Index... specificIndexes) {
+        List<Index> indexes = new ArrayList<>(List.of(index(PRICE), index(RATING)));
+        indexes.addAll(List.of(specificIndexes));
+
+        return indexes;
+    }
+
+    private static List<Index> withSpecsIndexes(List<Index> indexes) {
+        // reverse lookup from a part to the prebuilt pcs embedding it
+        for (SpecsComponent component : SpecsComponent.values()) {
+            indexes.add(index(component.getIdPath()));
+        }
+
+        return indexes;
+    }
+
+    private static Index index(String... fields) {
+        Index index = new Index();
+
+        for (String field : fields) {
+            index.on(field, Sort.Direction.ASC);
+        }
+
+        // same naming scheme as MongoDB itself, so indexes created by hand are recognized
+        return index.named(String.join("_1_", fields) + "_1");
+    }
+
+    private String getName(Index index) {
+        return index.getIndexOptions().getString("name");
+    }
+}
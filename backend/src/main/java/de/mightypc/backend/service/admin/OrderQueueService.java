@@ -0,0 +1,78 @@
+package de.mightypc.backend.service.admin;
+
+import de.mightypc.backend.model.admin.OrderQueuePage;
+import de.mightypc.backend.model.admin.OrderStatusCount;
+import de.mightypc.backend.model.shop.order.Order;
+import de.mightypc.backend.model.shop.order.OrderStatus;
+import de.mightypc.backend.repository.shop.OrderRepository;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class OrderQueueService {
+    private static final int MAXIMUM_PAGE_SIZE = 100;
+
+    private final OrderRepository orderRepository;
+
+    public OrderQueueService(OrderRepository orderRepository) {
+        this.orderRepository = orderRepository;
+    }
+
+    public OrderQueuePage getQueue(OrderStatus orderStatus, Instant from, Instant to, String cursor, int size) {
+        if (size < 1 || size > MAXIMUM_PAGE_SIZE) {
+            throw new IllegalArgumentException("size must be between 1 and " + MAXIMUM_PAGE_SIZE);
+        }
+
+        Position after = cursor == null || cursor.isBlank() ? null : decode(cursor);
+
+        List<Order> orders = orderRepository.findQueue(
+                orderStatus, from, to,
+                after == null ? null : after.createdAt(),
+                after == null ? null : after.id(),
+                size + 1
+        );
+
+        if (orders.size() <= size) {
+            return new OrderQueuePage(orders, null);
+        }
+
+        List<Order> page = orders.subList(0, size);
+        Order last = page.get(size - 1);
+
+        return new OrderQueuePage(List.copyOf(page), encode(new Position(last.getCreatedAt(), last.getId())));
+    }
+
+    public List<OrderStatusCount> getCountsByStatus(Instant from, Instant to) {
+        Map<OrderStatus, Long> counts = orderRepository.countByStatus(from, to);
+
+        return Arrays.stream(OrderStatus.values())
+                .map(orderStatus -> new OrderStatusCount(orderStatus, counts.getOrDefault(orderStatus, 0L)))
+                .toList();
+    }
+
+    private static String encode(Position position) {
+        String raw = position.createdAt().toEpochMilli() + ":" + position.id();
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Position decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(':');
+
+            return new Position(Instant.ofEpochMilli(Long.parseLong(raw.substring(0, separator))), raw.substring(separator + 1));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+    }
+
+    private record Position(Instant createdAt, String id) {
+    }
+}
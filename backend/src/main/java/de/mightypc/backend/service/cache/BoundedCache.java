@@ -0,0 +1,182 @@
+package de.mightypc.backend.service.cache;
+
+import de.mightypc.backend.model.admin.CacheStats;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+public class BoundedCache<K, V> {
+    private final String name;
+    private final int maximumSize;
+    private final Duration timeToLive;
+    private final Clock clock;
+    private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long generation;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    public BoundedCache(String name, int maximumSize, Duration timeToLive) {
+        this(name, maximumSize, timeToLive, Clock.systemUTC());
+    }
+
+    public BoundedCache(String name, int maximumSize, Duration timeToLive, Clock clock) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("maximumSize must be positive");
+        }
+
+        this.name = name;
+        this.maximumSize = maximumSize;
+        this.timeToLive = timeToLive;
+        this.clock = clock;
+    }
+
+    public synchronized Optional<V> getIfPresent(K key) {
+        Entry<V> entry = entries.get(key);
+
+        if (entry == null) {
+            misses++;
+            return Optional.empty();
+        }
+
+        if (entry.isExpiredAt(clock.millis())) {
+            entries.remove(key);
+            evictions++;
+            misses++;
+            return Optional.empty();
+        }
+
+        hits++;
+        return Optional.of(entry.value());
+    }
+
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        long loadGeneration;
+
+        synchronized (this) {
+            Optional<V> cached = getIfPresent(key);
+
+            if (cached.isPresent()) {
+                return cached.get();
+            }
+
+            loadGeneration = generation;
+        }
+
+        V value = loader.apply(key);
+
+        if (value != null) {
+            synchronized (this) {
+                // an invalidation while loading means the value may already be stale
+                if (generation == loadGeneration) {
+                    store(key, value, timeToLive);
+                }
+            }
+        }
+
+        return value;
+    }
+
+    public Map<K, V> getAll(Collection<? extends K> keys, Function<? super Set<K>, ? extends Map<K, V>> loader) {
+        Map<K, V> result = new HashMap<>();
+        Set<K> missingKeys = new LinkedHashSet<>();
+        long loadGeneration;
+
+        synchronized (this) {
+            for (K key : keys) {
+                getIfPresent(key).ifPresentOrElse(value -> result.put(key, value), () -> missingKeys.add(key));
+            }
+
+            loadGeneration = generation;
+        }
+
+        if (missingKeys.isEmpty()) {
+            return result;
+        }
+
+        Map<K, V> loaded = loader.apply(Collections.unmodifiableSet(missingKeys));
+
+        synchronized (this) {
+            if (generation == loadGeneration) {
+                loaded.forEach((key, value) -> store(key, value, timeToLive));
+            }
+        }
+
+        result.putAll(loaded);
+
+        return result;
+    }
+
+    public synchronized void put(K key, V value) {
+        put(key, value, timeToLive);
+    }
+
+    public synchronized void put(K key, V value, Duration ttl) {
+        generation++;
+        store(key, value, ttl);
+    }
+
+    public synchronized void invalidate(K key) {
+        generation++;
+        entries.remove(key);
+    }
+
+    public synchronized void invalidateAll() {
+        generation++;
+        entries.clear();
+    }
+
+    public synchronized void invalidateIf(BiPredicate<? super K, ? super V> predicate) {
+        generation++;
+        entries.entrySet().removeIf(entry -> predicate.test(entry.getKey(), entry.getValue().value()));
+    }
+
+    public synchronized CacheStats getStats() {
+        return new CacheStats(name, entries.size(), maximumSize, hits, misses, evictions);
+    }
+
+    private void store(K key, V value, Duration ttl) {
+        long now = clock.millis();
+        entries.put(key, new Entry<>(value, now + ttl.toMillis()));
+
+        if (entries.size() > maximumSize) {
+            removeExpired(now);
+        }
+
+        Iterator<K> eldest = entries.keySet().iterator();
+        while (entries.size() > maximumSize && eldest.hasNext()) {
+            eldest.next();
+            eldest.remove();
+            evictions++;
+        }
+    }
+
+    private void removeExpired(long now) {
+        Iterator<Map.Entry<K, Entry<V>>> iterator = entries.entrySet().iterator();
+
+        while (iterator.hasNext()) {
+            if (iterator.next().getValue().isExpiredAt(now)) {
+                iterator.remove();
+                evictions++;
+            }
+        }
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+        boolean isExpiredAt(long now) {
+            return now >= expiresAt;
+        }
+    }
+}
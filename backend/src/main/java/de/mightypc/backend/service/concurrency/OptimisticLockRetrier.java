@@ -0,0 +1,84 @@
+package de.mightypc.backend.service.concurrency;
+
+import de.mightypc.backend.model.admin.ConflictStats;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+@Component
+public class OptimisticLockRetrier {
+    private static final Logger LOGGER = LoggerFactory.getLogger(OptimisticLockRetrier.class);
+    private static final int MAXIMUM_ATTEMPTS = 4;
+    private static final long BASE_BACKOFF_MILLIS = 5;
+
+    private final Map<String, Counters> countersByOperation = new ConcurrentHashMap<>();
+
+    public void execute(String operation, Runnable action) {
+        execute(operation, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    public <T> T execute(String operation, Supplier<T> action) {
+        Counters counters = countersByOperation.computeIfAbsent(operation, name -> new Counters());
+
+        for (int attempt = 1; ; attempt++) {
+            counters.attempts.increment();
+
+            try {
+                return action.get();
+            } catch (OptimisticLockingFailureException e) {
+                counters.conflicts.increment();
+
+                if (attempt == MAXIMUM_ATTEMPTS) {
+                    counters.failures.increment();
+                    LOGGER.warn("Giving up on {} after {} conflicting attempts", operation, attempt);
+                    throw e;
+                }
+
+                counters.retries.increment();
+                backOff(attempt);
+            }
+        }
+    }
+
+    public List<ConflictStats> getStats() {
+        return countersByOperation.entrySet().stream()
+                .map(entry -> entry.getValue().toStats(entry.getKey()))
+                .sorted(Comparator.comparing(ConflictStats::operation))
+                .toList();
+    }
+
+    private static void backOff(int attempt) {
+        // jitter keeps two retrying writers from colliding on the same document again
+        long millis = ThreadLocalRandom.current().nextLong(BASE_BACKOFF_MILLIS << (attempt - 1)) + 1;
+
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while retrying a conflicting update", e);
+        }
+    }
+
+    private static final class Counters {
+        private final LongAdder attempts = new LongAdder();
+        private final LongAdder conflicts = new LongAdder();
+        private final LongAdder retries = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+
+        private ConflictStats toStats(String operation) {
+            return new ConflictStats(operation, attempts.sum(), conflicts.sum(), retries.sum(), failures.sum());
+        }
+    }
+}
@@ -1,7 +1,11 @@
 package de.mightypc.backend.service.configurator;
 
+import de.mightypc.backend.model.catalog.CatalogChangedEvent;
 import de.mightypc.backend.model.configurator.ConfiguratorItems;
+import de.mightypc.backend.model.configurator.ConfiguratorSnapshot;
 import de.mightypc.backend.model.configurator.ItemForConfigurator;
+import de.mightypc.backend.model.configurator.chatgpt.PromptCatalog;
+import de.mightypc.backend.service.hardware.BaseService;
 import de.mightypc.backend.service.hardware.GpuService;
 import de.mightypc.backend.service.hardware.HddService;
 import de.mightypc.backend.service.hardware.PowerSupplyService;
@@ -10,60 +14,115 @@ import de.mightypc.backend.service.hardware.CpuService;
 import de.mightypc.backend.service.hardware.MotherboardService;
 import de.mightypc.backend.service.hardware.PcCaseService;
 import de.mightypc.backend.service.hardware.RamService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
 
 @Service
 public class ConfiguratorService {
-    private final CpuService cpuService;
-    private final GpuService gpuService;
-    private final MotherboardService motherboardService;
-    private final SsdService ssdService;
-    private final HddService hddService;
-    private final RamService ramService;
-    private final PcCaseService pcCaseService;
-    private final PowerSupplyService powerSupplyService;
+    private static final Logger LOGGER = LoggerFactory.getLogger(ConfiguratorService.class);
+    private static final int CHARACTERS_PER_TOKEN = 4;
+
+    private final List<ConfiguratorSection> sections;
+    private final List<List<ItemForConfigurator>> itemsBySection;
+    private final List<String> promptBlocksBySection;
+    private final long createdAt = System.currentTimeMillis();
+    private long version;
+    private volatile ConfiguratorSnapshot snapshot;
+    private volatile PromptCatalog promptCatalog;
 
     public ConfiguratorService(CpuService cpuService, GpuService gpuService, SsdService ssdService, HddService hddService, RamService ramService, PcCaseService pcCaseService, PowerSupplyService powerSupplyService, MotherboardService motherboardService) {
-        this.cpuService = cpuService;
-        this.gpuService = gpuService;
-        this.motherboardService = motherboardService;
-        this.ssdService = ssdService;
-        this.hddService = hddService;
-        this.ramService = ramService;
-        this.pcCaseService = pcCaseService;
-        this.powerSupplyService = powerSupplyService;
+        this.sections = List.of(
+                new ConfiguratorSection(cpuService, cpuService::getAllHardwareInfoForConfiguration),
+                new ConfiguratorSection(gpuService, gpuService::getAllHardwareInfoForConfiguration),
+                new ConfiguratorSection(motherboardService, motherboardService::getAllHardwareInfoForConfiguration),
+                new ConfiguratorSection(ramService, ramService::getAllHardwareInfoForConfiguration),
+                new ConfiguratorSection(ssdService, ssdService::getAllHardwareInfoForConfiguration),
+                new ConfiguratorSection(hddService, hddService::getAllHardwareInfoForConfiguration),
+                new ConfiguratorSection(powerSupplyService, powerSupplyService::getAllHardwareInfoForConfiguration),
+                new ConfiguratorSection(pcCaseService, pcCaseService::getAllHardwareInfoForConfiguration)
+        );
+        this.itemsBySection = new ArrayList<>(Collections.nCopies(sections.size(), null));
+        this.promptBlocksBySection = new ArrayList<>(Collections.nCopies(sections.size(), null));
     }
 
     public String getAllComponentsIdsAndNamesWithPricesForChatGpt() {
-        StringBuilder stringBuilder = new StringBuilder();
-
-        stringBuilder.append(cpuService.getAllNamesWithPrices());
-        stringBuilder.append(gpuService.getAllNamesWithPrices());
-        stringBuilder.append(motherboardService.getAllNamesWithPrices());
-        stringBuilder.append(ramService.getAllNamesWithPrices());
-        stringBuilder.append(ssdService.getAllNamesWithPrices());
-        stringBuilder.append(hddService.getAllNamesWithPrices());
-        stringBuilder.append(powerSupplyService.getAllNamesWithPrices());
-        stringBuilder.append(pcCaseService.getAllNamesWithPrices());
-
-        return new String(stringBuilder).replace(" ", "");
+        return getPromptCatalog().text();
+    }
+
+    public PromptCatalog getPromptCatalog() {
+        PromptCatalog current = promptCatalog;
+
+        return current != null ? current : rebuildPromptCatalog();
     }
 
     public ConfiguratorItems getAllItemsWithInfoForConfigurator() {
-        List<List<ItemForConfigurator>> allItems = new ArrayList<>();
-
-        allItems.add(cpuService.getAllHardwareInfoForConfiguration());
-        allItems.add(gpuService.getAllHardwareInfoForConfiguration());
-        allItems.add(motherboardService.getAllHardwareInfoForConfiguration());
-        allItems.add(ramService.getAllHardwareInfoForConfiguration());
-        allItems.add(ssdService.getAllHardwareInfoForConfiguration());
-        allItems.add(hddService.getAllHardwareInfoForConfiguration());
-        allItems.add(powerSupplyService.getAllHardwareInfoForConfiguration());
-        allItems.add(pcCaseService.getAllHardwareInfoForConfiguration());
-
-        return new ConfiguratorItems(allItems);
+        return getConfiguratorSnapshot().items();
+    }
+
+    public ConfiguratorSnapshot getConfiguratorSnapshot() {
+        ConfiguratorSnapshot current = snapshot;
+
+        return current != null ? current : rebuildSnapshot();
+    }
+
+    @EventListener
+    public synchronized void onCatalogChanged(CatalogChangedEvent event) {
+        for (int i = 0; i < sections.size(); i++) {
+            if (Objects.equals(sections.get(i).service().getCategory(), event.category())) {
+                itemsBySection.set(i, null);
+                promptBlocksBySection.set(i, null);
+                snapshot = null;
+                promptCatalog = null;
+            }
+        }
+    }
+
+    private synchronized ConfiguratorSnapshot rebuildSnapshot() {
+        if (snapshot != null) {
+            return snapshot;
+        }
+
+        for (int i = 0; i < sections.size(); i++) {
+            if (itemsBySection.get(i) == null) {
+                itemsBySection.set(i, List.copyOf(sections.get(i).items().get()));
+            }
+        }
+
+        version++;
+        snapshot = new ConfiguratorSnapshot(
+                "\"" + Long.toHexString(createdAt) + "-" + version + "\"",
+                new ConfiguratorItems(List.copyOf(itemsBySection))
+        );
+
+        return snapshot;
+    }
+
+    private synchronized PromptCatalog rebuildPromptCatalog() {
+        if (promptCatalog != null) {
+            return promptCatalog;
+        }
+
+        for (int i = 0; i < sections.size(); i++) {
+            if (promptBlocksBySection.get(i) == null) {
+                promptBlocksBySection.set(i, sections.get(i).service().getAllNamesWithPrices().replace(" ", ""));
+            }
+        }
+
+        String text = String.join("", promptBlocksBySection);
+        promptCatalog = new PromptCatalog(text, (text.length() + CHARACTERS_PER_TOKEN - 1) / CHARACTERS_PER_TOKEN);
+        LOGGER.info("Rebuilt ChatGPT component catalog: {} characters, ~{} tokens", text.length(), promptCatalog.estimatedTokens());
+
+        return promptCatalog;
+    }
+
+    private record ConfiguratorSection(BaseService<?, ?, ?> service, Supplier<List<ItemForConfigurator>> items) {
     }
 }
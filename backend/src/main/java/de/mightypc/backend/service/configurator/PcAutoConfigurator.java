@@ -0,0 +1,322 @@
+package de.mightypc.backend.service.configurator;
+
+import de.mightypc.backend.model.configurator.ComputerProfile;
+import de.mightypc.backend.model.configurator.SpecsForEnergyConsumption;
+import de.mightypc.backend.model.hardware.CPU;
+import de.mightypc.backend.model.hardware.GPU;
+import de.mightypc.backend.model.hardware.HDD;
+import de.mightypc.backend.model.hardware.HardwareSpec;
+import de.mightypc.backend.model.hardware.Motherboard;
+import de.mightypc.backend.model.hardware.PcCase;
+import de.mightypc.backend.model.hardware.PowerSupply;
+import de.mightypc.backend.model.hardware.RAM;
+import de.mightypc.backend.model.hardware.SSD;
+import de.mightypc.backend.model.hardware.SpecsIds;
+import de.mightypc.backend.service.hardware.CpuService;
+import de.mightypc.backend.service.hardware.GpuService;
+import de.mightypc.backend.service.hardware.HddService;
+import de.mightypc.backend.service.hardware.MotherboardService;
+import de.mightypc.backend.service.hardware.PcCaseService;
+import de.mightypc.backend.service.hardware.PowerSupplyService;
+import de.mightypc.backend.service.hardware.RamService;
+import de.mightypc.backend.service.hardware.SsdService;
+import de.mightypc.backend.service.pc.PcService;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+@Service
+public class PcAutoConfigurator {
+    private static final Pattern BUDGET_PATTERN = Pattern.compile("\\d{1,3}(?:[ ,.]\\d{3})+(?:[.,]\\d{1,2})?|\\d+(?:[.,]\\d{1,2})?");
+    private static final long MAX_VISITED_NODES = 2_000_000;
+
+    private static final int CPU_LEVEL = 0;
+    private static final int MOTHERBOARD_LEVEL = 1;
+    private static final int GPU_LEVEL = 2;
+    private static final int RAM_LEVEL = 3;
+    private static final int SSD_LEVEL = 4;
+    private static final int HDD_LEVEL = 5;
+    private static final int POWER_SUPPLY_LEVEL = 6;
+    private static final int PC_CASE_LEVEL = 7;
+    private static final int LEVELS = 8;
+
+    private final CpuService cpuService;
+    private final GpuService gpuService;
+    private final MotherboardService motherboardService;
+    private final RamService ramService;
+    private final SsdService ssdService;
+    private final HddService hddService;
+    private final PowerSupplyService powerSupplyService;
+    private final PcCaseService pcCaseService;
+    private final PcService pcService;
+
+    public PcAutoConfigurator(CpuService cpuService, GpuService gpuService, MotherboardService motherboardService, RamService ramService, SsdService ssdService, HddService hddService, PowerSupplyService powerSupplyService, PcCaseService pcCaseService, PcService pcService) {
+        this.cpuService = cpuService;
+        this.gpuService = gpuService;
+        this.motherboardService = motherboardService;
+        this.ramService = ramService;
+        this.ssdService = ssdService;
+        this.hddService = hddService;
+        this.powerSupplyService = powerSupplyService;
+        this.pcCaseService = pcCaseService;
+        this.pcService = pcService;
+    }
+
+    public static Optional<BigDecimal> parseBudget(String price) {
+        if (price == null) {
+            return Optional.empty();
+        }
+
+        Matcher matcher = BUDGET_PATTERN.matcher(price);
+
+        if (!matcher.find()) {
+            return Optional.empty();
+        }
+
+        String amount = matcher.group();
+        String fraction = "";
+        Matcher fractionMatcher = Pattern.compile("[.,](\\d{1,2})$").matcher(amount);
+
+        if (fractionMatcher.find()) {
+            fraction = fractionMatcher.group(1);
+            amount = amount.substring(0, fractionMatcher.start());
+        }
+
+        String integerPart = amount.replaceAll("\\D", "");
+
+        return Optional.of(new BigDecimal(fraction.isEmpty() ? integerPart : integerPart + "." + fraction));
+    }
+
+    public Optional<SpecsIds> configure(String computerType, String price) {
+        Optional<BigDecimal> budget = parseBudget(price);
+
+        if (budget.isEmpty()) {
+            return Optional.empty();
+        }
+
+        ComputerProfile profile = ComputerProfile.of(computerType);
+
+        try {
+            List<List<Part>> levels = List.of(
+                    toParts(cpuService.getAll(), CPU::id, CPU::hardwareSpec, CPU::energyConsumption, CPU::socket, cpu -> 0, profile.getCpuWeight()),
+                    toParts(motherboardService.getAll(), Motherboard::id, Motherboard::hardwareSpec, Motherboard::energyConsumption, Motherboard::socket, motherboard -> 0, profile.getMotherboardWeight()),
+                    toParts(gpuService.getAll(), GPU::id, GPU::hardwareSpec, GPU::energyConsumption, gpu -> null, gpu -> 0, profile.getGpuWeight()),
+                    toParts(ramService.getAll(), RAM::id, RAM::hardwareSpec, RAM::energyConsumption, ram -> null, ram -> 0, profile.getRamWeight()),
+                    toParts(ssdService.getAll(), SSD::id, SSD::hardwareSpec, SSD::energyConsumption, ssd -> null, ssd -> 0, profile.getSsdWeight()),
+                    toParts(hddService.getAll(), HDD::id, HDD::hardwareSpec, HDD::energyConsumption, hdd -> null, hdd -> 0, profile.getHddWeight()),
+                    toParts(powerSupplyService.getAll(), PowerSupply::id, PowerSupply::hardwareSpec, powerSupply -> 0, powerSupply -> null, PowerSupply::power, profile.getPowerSupplyWeight()),
+                    toParts(pcCaseService.getAll(), PcCase::id, PcCase::hardwareSpec, pcCase -> 0, pcCase -> null, pcCase -> 0, profile.getPcCaseWeight())
+            );
+
+            return new Search(levels, toCents(budget.get())).run();
+        } catch (NoSuchElementException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static <T> List<Part> toParts(List<T> components, Function<T, String> id, Function<T, HardwareSpec> hardwareSpec, ToIntFunction<T> energyConsumption, Function<T, String> socket, ToIntFunction<T> power, double weight) {
+        List<Part> parts = components.stream()
+                .filter(component -> hardwareSpec.apply(component).price() != null)
+                .map(component -> {
+                    HardwareSpec spec = hardwareSpec.apply(component);
+                    double score = weight * spec.price().doubleValue() * (1 + spec.rating() / 5);
+
+                    return new Part(component, id.apply(component), toCents(spec.price()), score, energyConsumption.applyAsInt(component), socket.apply(component), power.applyAsInt(component));
+                })
+                .sorted(Comparator.comparingDouble(Part::score).reversed().thenComparing(Part::id))
+                .toList();
+
+        return parts.stream()
+                .filter(part -> parts.stream().noneMatch(other -> other.dominates(part)))
+                .toList();
+    }
+
+    private static long toCents(BigDecimal price) {
+        return price.movePointRight(2).longValue();
+    }
+
+    private record Part(Object component, String id, long price, double score, int energyConsumption, String socket, int power) {
+        boolean dominates(Part other) {
+            boolean atLeastAsGood = price <= other.price
+                                    && score >= other.score
+                                    && energyConsumption <= other.energyConsumption
+                                    && power >= other.power
+                                    && Objects.equals(socket, other.socket);
+            boolean strictlyBetter = price < other.price
+                                     || score > other.score
+                                     || energyConsumption < other.energyConsumption
+                                     || power > other.power;
+
+            return atLeastAsGood && (strictlyBetter || id.compareTo(other.id) < 0);
+        }
+    }
+
+    private record PriceIndex(long[] prices, double[] bestScores, int[] bestPositions, List<Part> partsByPrice) {
+        static PriceIndex of(List<Part> parts) {
+            List<Part> byPrice = parts.stream().sorted(Comparator.comparingLong(Part::price)).toList();
+            long[] prices = new long[byPrice.size()];
+            double[] bestScores = new double[byPrice.size()];
+            int[] bestPositions = new int[byPrice.size()];
+
+            for (int i = 0; i < byPrice.size(); i++) {
+                prices[i] = byPrice.get(i).price();
+                boolean improves = i == 0 || byPrice.get(i).score() > bestScores[i - 1];
+                bestScores[i] = improves ? byPrice.get(i).score() : bestScores[i - 1];
+                bestPositions[i] = improves ? i : bestPositions[i - 1];
+            }
+
+            return new PriceIndex(prices, bestScores, bestPositions, byPrice);
+        }
+
+        long minPrice() {
+            return prices.length == 0 ? Long.MAX_VALUE / LEVELS : prices[0];
+        }
+
+        int lastAffordable(long maxPrice) {
+            int position = Arrays.binarySearch(prices, maxPrice);
+
+            if (position < 0) {
+                return -position - 2;
+            }
+
+            while (position + 1 < prices.length && prices[position + 1] == maxPrice) {
+                position++;
+            }
+
+            return position;
+        }
+
+        double bestScore(long maxPrice) {
+            int position = lastAffordable(maxPrice);
+
+            return position < 0 ? Double.NEGATIVE_INFINITY : bestScores[position];
+        }
+
+        Optional<Part> bestPart(long maxPrice) {
+            int position = lastAffordable(maxPrice);
+
+            return position < 0 ? Optional.empty() : Optional.of(partsByPrice.get(bestPositions[position]));
+        }
+    }
+
+    private final class Search {
+        private final List<List<Part>> levels;
+        private final Map<String, List<Part>> motherboardsBySocket;
+        private final PriceIndex[] priceIndexes = new PriceIndex[LEVELS];
+        private final long[] minPriceFrom = new long[LEVELS + 1];
+        private final long budget;
+        private final Part[] chosen = new Part[LEVELS];
+
+        private Part[] best;
+        private double bestScore = Double.NEGATIVE_INFINITY;
+        private long visitedNodes;
+
+        Search(List<List<Part>> levels, long budget) {
+            this.levels = levels;
+            this.budget = budget;
+            this.motherboardsBySocket = levels.get(MOTHERBOARD_LEVEL).stream()
+                    .filter(motherboard -> motherboard.socket() != null)
+                    .collect(Collectors.groupingBy(Part::socket));
+
+            for (int level = LEVELS - 1; level >= 0; level--) {
+                priceIndexes[level] = PriceIndex.of(levels.get(level));
+                minPriceFrom[level] = minPriceFrom[level + 1] + priceIndexes[level].minPrice();
+            }
+        }
+
+        Optional<SpecsIds> run() {
+            visit(CPU_LEVEL, 0, 0);
+
+            if (best == null) {
+                return Optional.empty();
+            }
+
+            return Optional.of(new SpecsIds(
+                    best[CPU_LEVEL].id(),
+                    best[GPU_LEVEL].id(),
+                    best[MOTHERBOARD_LEVEL].id(),
+                    best[RAM_LEVEL].id(),
+                    best[SSD_LEVEL].id(),
+                    best[HDD_LEVEL].id(),
+                    best[POWER_SUPPLY_LEVEL].id(),
+                    best[PC_CASE_LEVEL].id()
+            ));
+        }
+
+        private void visit(int level, long spent, double score) {
+            if (level == POWER_SUPPLY_LEVEL) {
+                completeWithPowerSupplyAndCase(spent, score);
+                return;
+            }
+
+            List<Part> candidates = level == MOTHERBOARD_LEVEL
+                    ? motherboardsBySocket.getOrDefault(chosen[CPU_LEVEL].socket(), List.of())
+                    : levels.get(level);
+
+            for (Part part : candidates) {
+                if (++visitedNodes > MAX_VISITED_NODES) {
+                    return;
+                }
+
+                long newSpent = spent + part.price();
+                double newScore = score + part.score();
+
+                if (newSpent + minPriceFrom[level + 1] > budget || newScore + upperBound(level + 1, budget - newSpent) <= bestScore) {
+                    continue;
+                }
+
+                chosen[level] = part;
+                visit(level + 1, newSpent, newScore);
+            }
+        }
+
+        private void completeWithPowerSupplyAndCase(long spent, double score) {
+            int energyConsumption = pcService.calculateEnergyConsumptionOfPc(new SpecsForEnergyConsumption(
+                    (CPU) chosen[CPU_LEVEL].component(),
+                    (GPU) chosen[GPU_LEVEL].component(),
+                    (Motherboard) chosen[MOTHERBOARD_LEVEL].component(),
+                    (RAM) chosen[RAM_LEVEL].component(),
+                    (SSD) chosen[SSD_LEVEL].component(),
+                    (HDD) chosen[HDD_LEVEL].component()
+            ));
+
+            for (Part powerSupply : levels.get(POWER_SUPPLY_LEVEL)) {
+                if (powerSupply.power() < energyConsumption) {
+                    continue;
+                }
+
+                Optional<Part> pcCase = priceIndexes[PC_CASE_LEVEL].bestPart(budget - spent - powerSupply.price());
+
+                if (pcCase.isPresent() && score + powerSupply.score() + pcCase.get().score() > bestScore) {
+                    bestScore = score + powerSupply.score() + pcCase.get().score();
+                    best = chosen.clone();
+                    best[POWER_SUPPLY_LEVEL] = powerSupply;
+                    best[PC_CASE_LEVEL] = pcCase.get();
+                }
+            }
+        }
+
+        private double upperBound(int fromLevel, long remainingBudget) {
+            double bound = 0;
+
+            for (int level = fromLevel; level < LEVELS; level++) {
+                long reservedForOthers = minPriceFrom[fromLevel] - priceIndexes[level].minPrice();
+                bound += priceIndexes[level].bestScore(remainingBudget - reservedForOthers);
+            }
+
+            return bound;
+        }
+    }
+}
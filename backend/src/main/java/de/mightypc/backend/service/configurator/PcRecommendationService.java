@@ -0,0 +1,121 @@
+package de.mightypc.backend.service.configurator;
+
+import de.mightypc.backend.exception.configurator.RecommendationTimeoutException;
+import de.mightypc.backend.model.admin.CacheStats;
+import de.mightypc.backend.model.catalog.CatalogChangedEvent;
+import de.mightypc.backend.model.hardware.SpecsComponent;
+import de.mightypc.backend.model.hardware.SpecsIds;
+import de.mightypc.backend.service.cache.BoundedCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Service
+public class PcRecommendationService {
+    private static final BigDecimal BUDGET_BUCKET = BigDecimal.valueOf(100);
+
+    private final PcAutoConfigurator pcAutoConfigurator;
+    private final ChatGptService chatGptService;
+    private final SpecsIdsRepairer specsIdsRepairer;
+    private final BoundedCache<RecommendationKey, SpecsIds> recommendations =
+            new BoundedCache<>("PcRecommendationService.recommendations", 500, Duration.ofHours(1));
+    private final Map<RecommendationKey, CompletableFuture<SpecsIds>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong catalogVersion = new AtomicLong();
+    private final long waitTimeoutMillis;
+
+    public PcRecommendationService(PcAutoConfigurator pcAutoConfigurator,
+                                   ChatGptService chatGptService,
+                                   SpecsIdsRepairer specsIdsRepairer,
+                                   @Value("${app.recommendation.wait-timeout:30000}") long waitTimeoutMillis) {
+        this.pcAutoConfigurator = pcAutoConfigurator;
+        this.chatGptService = chatGptService;
+        this.specsIdsRepairer = specsIdsRepairer;
+        this.waitTimeoutMillis = waitTimeoutMillis;
+    }
+
+    public SpecsIds recommend(String computerType, String price) {
+        RecommendationKey key = RecommendationKey.of(catalogVersion.get(), computerType, price);
+        CompletableFuture<SpecsIds> flight = new CompletableFuture<>();
+        CompletableFuture<SpecsIds> running = inFlight.putIfAbsent(key, flight);
+
+        if (running != null) {
+            return await(running);
+        }
+
+        try {
+            SpecsIds recommendation = recommendations.get(key, this::createRecommendation);
+            flight.complete(recommendation);
+            return recommendation;
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    public CacheStats getCacheStats() {
+        return recommendations.getStats();
+    }
+
+    @EventListener
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        if (SpecsComponent.fromCategory(event.category()).isEmpty()) {
+            return;
+        }
+
+        // any part can change the best build for a budget, not only the parts of cached builds;
+        // the version keeps builds that were still being computed from being served after the change
+        catalogVersion.incrementAndGet();
+        recommendations.invalidateAll();
+    }
+
+    private SpecsIds createRecommendation(RecommendationKey key) {
+        return pcAutoConfigurator.configure(key.computerType(), key.price())
+                .orElseGet(() -> specsIdsRepairer.repair(chatGptService.createChatGptRecommendation(key.computerType(), key.price()), key.price()));
+    }
+
+    private SpecsIds await(CompletableFuture<SpecsIds> running) {
+        try {
+            return running.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new RecommendationTimeoutException("Recommendation took longer than " + waitTimeoutMillis + " ms");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RecommendationTimeoutException("Interrupted while waiting for a recommendation");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private record RecommendationKey(long catalogVersion, String computerType, String price) {
+        static RecommendationKey of(long catalogVersion, String computerType, String price) {
+            String normalizedType = computerType == null ? "" : computerType.trim().toLowerCase(Locale.ROOT);
+            // budgets are rounded down to a bucket, so a cached build never exceeds anyone's budget in it
+            String normalizedPrice = PcAutoConfigurator.parseBudget(price)
+                    .map(budget -> budget.compareTo(BUDGET_BUCKET) < 0
+                            ? budget
+                            : budget.divide(BUDGET_BUCKET, 0, RoundingMode.FLOOR).multiply(BUDGET_BUCKET))
+                    .map(BigDecimal::toPlainString)
+                    .orElseGet(() -> price == null ? "" : price.trim().toLowerCase(Locale.ROOT));
+
+            return new RecommendationKey(catalogVersion, normalizedType, normalizedPrice);
+        }
+    }
+}
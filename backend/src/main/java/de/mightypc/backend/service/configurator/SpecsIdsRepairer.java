@@ -0,0 +1,169 @@
+package de.mightypc.backend.service.configurator;
+
+import de.mightypc.backend.model.configurator.SpecsForEnergyConsumption;
+import de.mightypc.backend.model.hardware.CPU;
+import de.mightypc.backend.model.hardware.GPU;
+import de.mightypc.backend.model.hardware.HDD;
+import de.mightypc.backend.model.hardware.HardwareSpec;
+import de.mightypc.backend.model.hardware.Motherboard;
+import de.mightypc.backend.model.hardware.PcCase;
+import de.mightypc.backend.model.hardware.PowerSupply;
+import de.mightypc.backend.model.hardware.RAM;
+import de.mightypc.backend.model.hardware.SSD;
+import de.mightypc.backend.model.hardware.Specs;
+import de.mightypc.backend.model.hardware.SpecsIds;
+import de.mightypc.backend.service.hardware.BaseService;
+import de.mightypc.backend.service.hardware.CpuService;
+import de.mightypc.backend.service.hardware.GpuService;
+import de.mightypc.backend.service.hardware.HddService;
+import de.mightypc.backend.service.hardware.MotherboardService;
+import de.mightypc.backend.service.hardware.PcCaseService;
+import de.mightypc.backend.service.hardware.PowerSupplyService;
+import de.mightypc.backend.service.hardware.RamService;
+import de.mightypc.backend.service.hardware.SsdService;
+import de.mightypc.backend.service.pc.PcService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+@Service
+public class SpecsIdsRepairer {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SpecsIdsRepairer.class);
+
+    private final CpuService cpuService;
+    private final GpuService gpuService;
+    private final MotherboardService motherboardService;
+    private final RamService ramService;
+    private final SsdService ssdService;
+    private final HddService hddService;
+    private final PowerSupplyService powerSupplyService;
+    private final PcCaseService pcCaseService;
+    private final PcService pcService;
+
+    public SpecsIdsRepairer(CpuService cpuService, GpuService gpuService, MotherboardService motherboardService, RamService ramService, SsdService ssdService, HddService hddService, PowerSupplyService powerSupplyService, PcCaseService pcCaseService, PcService pcService) {
+        this.cpuService = cpuService;
+        this.gpuService = gpuService;
+        this.motherboardService = motherboardService;
+        this.ramService = ramService;
+        this.ssdService = ssdService;
+        this.hddService = hddService;
+        this.powerSupplyService = powerSupplyService;
+        this.pcCaseService = pcCaseService;
+        this.pcService = pcService;
+    }
+
+    public SpecsIds repair(SpecsIds proposed, String price) {
+        // all eight ids in one pass, only the slots that come back empty or incompatible are replaced
+        Specs proposedParts = pcService.getAvailableSpecs(proposed);
+        Optional<CPU> proposedCpu = Optional.ofNullable(proposedParts.cpu());
+        Optional<GPU> proposedGpu = Optional.ofNullable(proposedParts.gpu());
+        Optional<Motherboard> proposedMotherboard = Optional.ofNullable(proposedParts.motherboard());
+        Optional<RAM> proposedRam = Optional.ofNullable(proposedParts.ram());
+        Optional<SSD> proposedSsd = Optional.ofNullable(proposedParts.ssd());
+        Optional<HDD> proposedHdd = Optional.ofNullable(proposedParts.hdd());
+        Optional<PowerSupply> proposedPowerSupply = Optional.ofNullable(proposedParts.powerSupply());
+        Optional<PcCase> proposedPcCase = Optional.ofNullable(proposedParts.pcCase());
+
+        List<Optional<HardwareSpec>> proposedSpecs = List.of(
+                proposedCpu.map(CPU::hardwareSpec), proposedGpu.map(GPU::hardwareSpec),
+                proposedMotherboard.map(Motherboard::hardwareSpec), proposedRam.map(RAM::hardwareSpec),
+                proposedSsd.map(SSD::hardwareSpec), proposedHdd.map(HDD::hardwareSpec),
+                proposedPowerSupply.map(PowerSupply::hardwareSpec), proposedPcCase.map(PcCase::hardwareSpec)
+        );
+        Optional<BigDecimal> missingShare = getPriceShareOfMissingComponents(proposedSpecs, price);
+        List<String> repairs = new ArrayList<>();
+
+        Set<String> socketsWithMotherboards = motherboardService.getAll().stream()
+                .map(Motherboard::socket)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        CPU cpu = keepOrReplace("cpu", proposedCpu, candidate -> socketsWithMotherboards.contains(candidate.socket()),
+                cpuService, CPU::hardwareSpec, missingShare, repairs);
+        Motherboard motherboard = keepOrReplace("motherboard", proposedMotherboard, candidate -> candidate.socket() != null && candidate.socket().equals(cpu.socket()),
+                motherboardService, Motherboard::hardwareSpec, missingShare, repairs);
+        GPU gpu = keepOrReplace("gpu", proposedGpu, candidate -> true, gpuService, GPU::hardwareSpec, missingShare, repairs);
+        RAM ram = keepOrReplace("ram", proposedRam, candidate -> true, ramService, RAM::hardwareSpec, missingShare, repairs);
+        SSD ssd = keepOrReplace("ssd", proposedSsd, candidate -> true, ssdService, SSD::hardwareSpec, missingShare, repairs);
+        HDD hdd = keepOrReplace("hdd", proposedHdd, candidate -> true, hddService, HDD::hardwareSpec, missingShare, repairs);
+
+        int energyConsumption = pcService.calculateEnergyConsumptionOfPc(new SpecsForEnergyConsumption(cpu, gpu, motherboard, ram, ssd, hdd));
+        PowerSupply powerSupply = keepOrReplace("power supply", proposedPowerSupply, candidate -> candidate.power() >= energyConsumption,
+                powerSupplyService, PowerSupply::hardwareSpec, missingShare, repairs);
+        PcCase pcCase = keepOrReplace("pc case", proposedPcCase, candidate -> true, pcCaseService, PcCase::hardwareSpec, missingShare, repairs);
+
+        if (!repairs.isEmpty()) {
+            LOGGER.info("Repaired ChatGPT recommendation: {}", repairs);
+        }
+
+        return new SpecsIds(cpu.id(), gpu.id(), motherboard.id(), ram.id(), ssd.id(), hdd.id(), powerSupply.id(), pcCase.id());
+    }
+
+    private static Optional<BigDecimal> getPriceShareOfMissingComponents(List<Optional<HardwareSpec>> proposedSpecs, String price) {
+        long missingComponents = proposedSpecs.stream().filter(Optional::isEmpty).count();
+
+        if (missingComponents == 0) {
+            return Optional.empty();
+        }
+
+        BigDecimal knownTotal = proposedSpecs.stream()
+                .flatMap(Optional::stream)
+                .map(HardwareSpec::price)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        return PcAutoConfigurator.parseBudget(price)
+                .map(budget -> budget.subtract(knownTotal).max(BigDecimal.ZERO))
+                .map(remaining -> remaining.divide(BigDecimal.valueOf(missingComponents), 2, RoundingMode.HALF_UP));
+    }
+
+    private static <T> T keepOrReplace(String slot, Optional<T> proposed, Predicate<T> isCompatible, BaseService<T, ?, ?> service,
+                                       Function<T, HardwareSpec> hardwareSpec, Optional<BigDecimal> missingShare, List<String> repairs) {
+        if (proposed.isPresent() && isCompatible.test(proposed.get())) {
+            return proposed.get();
+        }
+
+        List<T> candidates = service.getAll().stream().filter(isCompatible).toList();
+
+        if (candidates.isEmpty()) {
+            if (proposed.isPresent()) {
+                LOGGER.warn("Keeping incompatible {} {}, there is no compatible replacement", slot, hardwareSpec.apply(proposed.get()).name());
+                return proposed.get();
+            }
+
+            throw new IllegalStateException("There is no compatible " + slot + " to repair the recommendation");
+        }
+
+        BigDecimal targetPrice = proposed.map(hardwareSpec).map(HardwareSpec::price)
+                .or(() -> missingShare)
+                .orElseGet(() -> medianPrice(candidates, hardwareSpec));
+
+        T replacement = candidates.stream()
+                .min(Comparator.comparing((T candidate) -> hardwareSpec.apply(candidate).price().subtract(targetPrice).abs())
+                        .thenComparing(candidate -> hardwareSpec.apply(candidate).price()))
+                .orElseThrow();
+
+        repairs.add(slot + (proposed.isPresent() ? " was incompatible" : " did not exist") + ", replaced with " + hardwareSpec.apply(replacement).name());
+
+        return replacement;
+    }
+
+    private static <T> BigDecimal medianPrice(List<T> candidates, Function<T, HardwareSpec> hardwareSpec) {
+        List<BigDecimal> prices = candidates.stream()
+                .map(candidate -> hardwareSpec.apply(candidate).price())
+                .sorted()
+                .toList();
+
+        return prices.get(prices.size() / 2);
+    }
+}
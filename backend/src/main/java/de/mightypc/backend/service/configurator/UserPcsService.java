@@ -1,14 +1,18 @@
 package de.mightypc.backend.service.configurator;
 
 import de.mightypc.backend.exception.pc.UserPcNotFoundException;
+import de.mightypc.backend.exception.shop.user.UserNotFoundException;
 import de.mightypc.backend.model.configurator.SpecsForEnergyConsumption;
 import de.mightypc.backend.model.hardware.HardwareSpec;
 import de.mightypc.backend.model.hardware.Specs;
 import de.mightypc.backend.model.pc.PC;
+import de.mightypc.backend.model.pc.UserPc;
+import de.mightypc.backend.model.pc.UserPcsSlice;
 import de.mightypc.backend.model.pc.createpc.CreatePC;
 import de.mightypc.backend.model.pc.createpc.PcResponse;
 import de.mightypc.backend.model.shop.user.User;
 import de.mightypc.backend.repository.shop.UserRepository;
+import de.mightypc.backend.service.concurrency.OptimisticLockRetrier;
 import de.mightypc.backend.service.pc.PcService;
 import de.mightypc.backend.service.shop.user.UserService;
 import org.springframework.data.domain.Page;
@@ -27,89 +31,89 @@ public class UserPcsService {
     private final PcService pcService;
 
     private final UserRepository userRepository;
+    private final OptimisticLockRetrier optimisticLockRetrier;
 
-    public UserPcsService(UserService userService, PcService pcService, UserRepository userRepository) {
+    public UserPcsService(UserService userService, PcService pcService, UserRepository userRepository, OptimisticLockRetrier optimisticLockRetrier) {
         this.userService = userService;
         this.pcService = pcService;
         this.userRepository = userRepository;
+        this.optimisticLockRetrier = optimisticLockRetrier;
     }
 
-    @Transactional
     public void savePc(String userId, CreatePC createPC) {
-        User user = userService.getUserById(userId);
+        UserPc pcToSave = new UserPc(pcService.createPc(createPC));
 
-        PC pcToSave = pcService.createPc(createPC);
+        optimisticLockRetrier.execute("userPcs.savePc", () -> {
+            User user = userService.getUserById(userId);
 
-        if (user.getPcs() == null) {
-            user.setPcs(new ArrayList<>(Collections.singletonList(pcToSave)));
-        } else {
-            List<PC> userPcs = user.getPcs();
-            userPcs.add(pcToSave);
-        }
+            if (user.getPcs() == null) {
+                user.setPcs(new ArrayList<>(Collections.singletonList(pcToSave)));
+            } else {
+                List<UserPc> userPcs = user.getPcs();
+                userPcs.add(pcToSave);
+            }
 
-        userRepository.save(user);
+            userRepository.save(user);
+        });
     }
 
     @Transactional
     public void addPrivateUserPcToAllPcs(String userId, String userPcId) {
         User user = userService.getUserById(userId);
 
-        PC pcToSave = getPcOfUserById(user, userPcId);
+        UserPc userPc = getPcOfUserById(user, userPcId);
 
-        pcService.save(pcToSave);
+        pcService.save(pcService.createPc(userPc));
     }
 
-    private PC getPcOfUserById(User user, String pcId) {
-        return user.getPcs().stream()
+    private UserPc getPcOfUserById(User user, String pcId) {
+        return getPcsOf(user).stream()
                 .filter(pc -> pc.id().equals(pcId))
                 .findAny()
                 .orElseThrow(() -> new UserPcNotFoundException("There is no such pc!"));
     }
 
-    @Transactional
     public void deletePc(String userId, String pcId) {
-        User user = userService.getUserById(userId);
+        optimisticLockRetrier.execute("userPcs.deletePc", () -> {
+            User user = userService.getUserById(userId);
 
-        PC pc = getPcOfUserById(user, pcId);
+            UserPc pc = getPcOfUserById(user, pcId);
 
-        user.getPcs().remove(pc);
+            user.getPcs().remove(pc);
 
-        userRepository.save(user);
+            userRepository.save(user);
+        });
     }
 
-    @Transactional
     public void deleteAll(String userId) {
-        User user = userService.getUserById(userId);
+        optimisticLockRetrier.execute("userPcs.deleteAll", () -> {
+            User user = userService.getUserById(userId);
 
-        user.setPcs(new ArrayList<>());
+            user.setPcs(new ArrayList<>());
 
-        userRepository.save(user);
+            userRepository.save(user);
+        });
     }
 
-    @Transactional(readOnly = true)
     public Page<PcResponse> getAllPcsAsListOfPcResponseByUserId(String userId, Pageable pageable) {
-        List<PC> userPCs = userService.getUserById(userId).getPcs();
+        int offset = (int) Math.min(pageable.getOffset(), Integer.MAX_VALUE);
 
-        List<PcResponse> responses = userPCs.stream()
-                .map(pcService::createPcResponse)
-                .toList();
+        UserPcsSlice slice = userRepository.findPcsSlice(userId, offset, pageable.getPageSize())
+                .orElseThrow(() -> new UserNotFoundException("There is no such user with id: " + userId + "."));
 
-        return new PageImpl<>(responses, pageable, userPCs.size());
+        return new PageImpl<>(pcService.createPcResponses(slice.pcs()), pageable, slice.total());
     }
 
     public PcResponse getPcByUserIdAndPcIdAsPcResponse(String userId, String pcId) {
-        PC userPc = userService.getUserById(userId).getPcs().stream()
+        UserPc userPc = getPcsOf(userService.getUserById(userId)).stream()
                 .filter(pc -> pc.id().equals(pcId))
                 .findAny()
                 .orElseThrow(() -> new UserPcNotFoundException("There is no such PC!!!"));
 
-        return pcService.createPcResponse(userPc);
+        return pcService.createPcResponses(List.of(userPc)).getFirst();
     }
 
-    @Transactional
     public void update(String userId, PcResponse pcResponse) {
-        User user = userService.getUserById(userId);
-
         Specs specs = pcService.getSpecs(pcResponse.specsIds());
 
         HardwareSpec hardwareSpec = new HardwareSpec(
@@ -119,7 +123,7 @@ public class UserPcsService {
                 pcResponse.hardwareSpec().rating()
         );
 
-        PC userPcToSave = new PC(pcResponse.id(), hardwareSpec, specs,
+        UserPc userPcToSave = new UserPc(new PC(pcResponse.id(), hardwareSpec, specs,
                 pcService.calculateEnergyConsumptionOfPc(
                         new SpecsForEnergyConsumption(
                                 specs.cpu(),
@@ -129,17 +133,24 @@ public class UserPcsService {
                                 specs.ssd(),
                                 specs.hdd()
                         )
-                ), pcResponse.photos());
+                ), pcResponse.photos()));
 
-        PC pcToDelete = user.getPcs().stream()
-                .filter(pc -> pc.id().equals(pcResponse.id()))
-                .findAny()
-                .orElseThrow(() -> new UserPcNotFoundException("There is no such user's pc for deletion with id:" + pcResponse.id()));
+        optimisticLockRetrier.execute("userPcs.update", () -> {
+            User user = userService.getUserById(userId);
 
-        user.getPcs().remove(pcToDelete);
-        userRepository.save(user);
+            UserPc pcToDelete = getPcsOf(user).stream()
+                    .filter(pc -> pc.id().equals(pcResponse.id()))
+                    .findAny()
+                    .orElseThrow(() -> new UserPcNotFoundException("There is no such user's pc for deletion with id:" + pcResponse.id()));
+
+            user.getPcs().remove(pcToDelete);
+            user.getPcs().add(userPcToSave);
+
+            userRepository.save(user);
+        });
+    }
 
-        user.getPcs().add(userPcToSave);
-        userRepository.save(user);
+    private static List<UserPc> getPcsOf(User user) {
+        return user.getPcs() == null ? Collections.emptyList() : user.getPcs();
     }
 }
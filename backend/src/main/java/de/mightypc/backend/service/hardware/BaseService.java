@@ -1,23 +1,63 @@
 package de.mightypc.backend.service.hardware;
 
+import de.mightypc.backend.model.admin.CacheStats;
+import de.mightypc.backend.model.catalog.CatalogChangedEvent;
+import de.mightypc.backend.model.catalog.CatalogFacets;
+import de.mightypc.backend.model.catalog.CatalogField;
+import de.mightypc.backend.model.catalog.CatalogFilter;
+import de.mightypc.backend.model.catalog.FacetDefinition;
+import de.mightypc.backend.model.hardware.HardwareSpec;
+import de.mightypc.backend.model.search.SearchDocument;
+import de.mightypc.backend.repository.catalog.CatalogRepository;
+import de.mightypc.backend.service.cache.BoundedCache;
+import de.mightypc.backend.service.search.SearchableCatalog;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationEventPublisherAware;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.ClassUtils;
 
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 import java.util.NoSuchElementException;
 
-public abstract class BaseService<T, R extends MongoRepository<T, String>, E extends NoSuchElementException> {
+public abstract class BaseService<T, R extends CatalogRepository<T>, E extends NoSuchElementException> implements ApplicationEventPublisherAware, SearchableCatalog {
+    private static final int CACHE_MAXIMUM_SIZE = 1_000;
+    private static final int PAGE_CACHE_MAXIMUM_SIZE = 200;
+    private static final Duration CACHE_TIME_TO_LIVE = Duration.ofMinutes(10);
+    private static final String ALL_ENTITIES = "all";
+
     protected R repository;
     protected E exception;
 
+    private final BoundedCache<String, T> entityCache;
+    private final BoundedCache<String, List<T>> allEntitiesCache;
+    private final BoundedCache<PageKey, Page<T>> pageCache;
+    private final BoundedCache<FacetKey, CatalogFacets<T>> facetCache;
+    private final AtomicLong catalogVersion = new AtomicLong();
+    private ApplicationEventPublisher eventPublisher;
+
     protected BaseService(R repository) {
         this.repository = repository;
+
+        String cacheName = ClassUtils.getUserClass(getClass()).getSimpleName();
+        this.entityCache = new BoundedCache<>(cacheName + ".byId", CACHE_MAXIMUM_SIZE, CACHE_TIME_TO_LIVE);
+        this.allEntitiesCache = new BoundedCache<>(cacheName + ".all", 1, CACHE_TIME_TO_LIVE);
+        this.pageCache = new BoundedCache<>(cacheName + ".pages", PAGE_CACHE_MAXIMUM_SIZE, CACHE_TIME_TO_LIVE);
+        this.facetCache = new BoundedCache<>(cacheName + ".facets", PAGE_CACHE_MAXIMUM_SIZE, CACHE_TIME_TO_LIVE);
     }
 
     public List<T> getAll() {
-        List<T> entities = repository.findAll();
+        List<T> entities = allEntitiesCache.get(ALL_ENTITIES, key -> List.copyOf(repository.findAll()));
 
         if (entities.isEmpty()) throw getException("No entities were retrieved");
 
@@ -25,7 +65,34 @@ public abstract class BaseService<T, R extends MongoRepository<T, String>, E ext
     }
 
     public T getById(String id) {
-        return repository.findById(id).orElseThrow(() -> getException("There is no such entity with id: " + id));
+        T entity = entityCache.get(id, key -> repository.findById(key).orElse(null));
+
+        if (entity == null) throw getException("There is no such entity with id: " + id);
+
+        return entity;
+    }
+
+    public Map<String, T> getAllByIds(Collection<String> ids) {
+        if (ids.stream().anyMatch(Objects::isNull)) throw getException("There is no such entity with id: null");
+
+        Map<String, T> entities = findAllByIds(ids);
+
+        for (String id : ids) {
+            if (!entities.containsKey(id)) throw getException("There is no such entity with id: " + id);
+        }
+
+        return entities;
+    }
+
+    public Map<String, T> findAllByIds(Collection<String> ids) {
+        Set<String> uniqueIds = ids.stream().filter(Objects::nonNull).collect(Collectors.toSet());
+
+        return entityCache.getAll(uniqueIds, missingIds -> {
+            Map<String, T> loaded = new HashMap<>();
+            repository.findAllById(missingIds).forEach(entity -> loaded.put(getId(entity), entity));
+
+            return loaded;
+        });
     }
 
     @Transactional
@@ -36,12 +103,18 @@ public abstract class BaseService<T, R extends MongoRepository<T, String>, E ext
             throw getException((getNotFoundMessage(entityId)));
         }
 
-        return repository.save(entity);
+        T updated = repository.save(entity);
+        invalidateCaches(entityId);
+
+        return updated;
     }
 
     @Transactional
     public T save(T entity) {
-        return repository.save(entity);
+        T saved = repository.save(entity);
+        invalidateCaches(getId(entity));
+
+        return saved;
     }
 
     @Transactional
@@ -51,21 +124,82 @@ public abstract class BaseService<T, R extends MongoRepository<T, String>, E ext
         }
 
         repository.deleteById(id);
+        invalidateCaches(id);
 
         return !repository.existsById(id);
     }
 
     @Transactional(readOnly = true)
     public Page<T> getAllByPage(Pageable pageable) {
-        return repository.findAll(pageable);
+        return pageCache.get(new PageKey(null, pageable), key -> repository.findAll(pageable));
+    }
+
+    @Transactional(readOnly = true)
+    public Page<T> getAllByFilter(CatalogFilter filter, Pageable pageable) {
+        return pageCache.get(new PageKey(filter, pageable), key -> repository.findAllByFilter(filter, pageable));
+    }
+
+    @Transactional(readOnly = true)
+    public CatalogFacets<T> getFacetsByFilter(CatalogFilter filter, Pageable pageable) {
+        // keyed by catalog version, so facets computed while the catalog changed are never served afterwards
+        FacetKey key = new FacetKey(catalogVersion.get(), filter, pageable);
+
+        return facetCache.get(key, facetKey -> repository.findFacetsByFilter(filter, pageable, getFacetDefinition()));
+    }
+
+    @Override
+    public List<SearchDocument> getSearchDocuments() {
+        return repository.findAll().stream().map(this::toSearchDocument).toList();
+    }
+
+    @Override
+    public Optional<SearchDocument> getSearchDocument(String id) {
+        return repository.findById(id).map(this::toSearchDocument);
+    }
+
+    @Override
+    public void setApplicationEventPublisher(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    public List<CacheStats> getCacheStats() {
+        return List.of(entityCache.getStats(), allEntitiesCache.getStats(), pageCache.getStats(), facetCache.getStats());
+    }
+
+    protected void invalidateCaches(String id) {
+        catalogVersion.incrementAndGet();
+
+        if (id != null) {
+            entityCache.invalidate(id);
+        }
+
+        allEntitiesCache.invalidateAll();
+        pageCache.invalidateAll();
+
+        if (eventPublisher != null) {
+            eventPublisher.publishEvent(new CatalogChangedEvent(getCategory(), id));
+        }
+    }
+
+    private SearchDocument toSearchDocument(T entity) {
+        HardwareSpec hardwareSpec = getHardwareSpec(entity);
+
+        return new SearchDocument(getCategory(), getId(entity), hardwareSpec.name(), hardwareSpec.description(), hardwareSpec.price(), hardwareSpec.rating());
     }
 
     private String getNotFoundMessage(String id) {
         return "Entity: " + getNameOfEntity(getById(id)) + " was not found!!! Id of entity: " + id;
     }
 
+    protected FacetDefinition getFacetDefinition() {
+        return FacetDefinition.histogramsOf(CatalogField.PRICE);
+    }
+
     protected abstract E getException(String message);
 
+    @Override
+    public abstract String getCategory();
+
     public abstract String getAllNamesWithPrices();
 
     public abstract T attachPhoto(String id, String photoUrl);
@@ -73,4 +207,12 @@ public abstract class BaseService<T, R extends MongoRepository<T, String>, E ext
     protected abstract String getId(T entity);
 
     protected abstract String getNameOfEntity(T entity);
+
+    protected abstract HardwareSpec getHardwareSpec(T entity);
+
+    private record PageKey(CatalogFilter filter, Pageable pageable) {
+    }
+
+    private record FacetKey(long catalogVersion, CatalogFilter filter, Pageable pageable) {
+    }
 }
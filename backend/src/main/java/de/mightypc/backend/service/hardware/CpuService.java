@@ -1,11 +1,15 @@
 package de.mightypc.backend.service.hardware;
 
 import de.mightypc.backend.exception.hardware.CpuNotFoundException;
+import de.mightypc.backend.model.catalog.CatalogFacets;
+import de.mightypc.backend.model.catalog.CatalogField;
+import de.mightypc.backend.model.catalog.CatalogFilter;
+import de.mightypc.backend.model.catalog.FacetDefinition;
 import de.mightypc.backend.model.configurator.ItemForConfigurator;
 import de.mightypc.backend.model.hardware.CPU;
+import de.mightypc.backend.model.hardware.HardwareSpec;
 import de.mightypc.backend.repository.hardware.CpuRepository;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -25,6 +29,11 @@ public class CpuService extends BaseService<CPU, CpuRepository, CpuNotFoundExcep
         return new CpuNotFoundException(message);
     }
 
+    @Override
+    public String getCategory() {
+        return "cpu";
+    }
+
     @Override
     protected String getId(CPU entity) {
         return entity.id();
@@ -35,6 +44,11 @@ public class CpuService extends BaseService<CPU, CpuRepository, CpuNotFoundExcep
         return entity.hardwareSpec().name();
     }
 
+    @Override
+    protected HardwareSpec getHardwareSpec(CPU entity) {
+        return entity.hardwareSpec();
+    }
+
     @Override
     @Transactional
     public CPU attachPhoto(String id, String photoUrl) {
@@ -44,7 +58,7 @@ public class CpuService extends BaseService<CPU, CpuRepository, CpuNotFoundExcep
         photos.addFirst(photoUrl);
         CPU updatedCpu = currCpu.withPhotos(photos);
 
-        return repository.save(updatedCpu);
+        return save(updatedCpu);
     }
 
     @Transactional(readOnly = true)
@@ -83,7 +97,7 @@ public class CpuService extends BaseService<CPU, CpuRepository, CpuNotFoundExcep
                     cpu.hardwareSpec().name(),
                     cpu.hardwareSpec().price(),
                     cpuPhoto,
-                    "cpu"
+                    getCategory()
             ));
         }
 
@@ -95,53 +109,25 @@ public class CpuService extends BaseService<CPU, CpuRepository, CpuNotFoundExcep
         return getById(cpuId).socket();
     }
 
+    @Override
+    protected FacetDefinition getFacetDefinition() {
+        return FacetDefinition.histogramsOf(CatalogField.PRICE, CatalogField.ENERGY_CONSUMPTION).withCounts(CatalogField.SOCKET);
+    }
+
     @Transactional(readOnly = true)
     public Page<CPU> getCpus(Pageable pageable, String sortType, String socket, Integer lowestPrice, Integer highestPrice) {
-        List<CPU> cpus = getAll();
-
-        if (socket != null && !socket.isEmpty()) {
-            cpus = cpus.stream()
-                    .filter(cpu -> cpu.socket().equals(socket))
-                    .toList();
-        }
-
-        if (lowestPrice != null && highestPrice != null) {
-            cpus = cpus.stream()
-                    .filter(cpu -> cpu.hardwareSpec().price().intValue() >= lowestPrice &&
-                                   cpu.hardwareSpec().price().intValue() <= highestPrice)
-                    .toList();
-        }
+        return getAllByFilter(getCpuFilter(sortType, socket, lowestPrice, highestPrice), pageable);
+    }
 
-        if (sortType != null) {
-            switch (sortType) {
-                case "price-asc":
-                    cpus = cpus.stream()
-                            .sorted(Comparator.comparing(cpu -> cpu.hardwareSpec().price()))
-                            .toList();
-                    break;
-                case "price-desc":
-                    cpus = cpus.stream()
-                            .sorted(Comparator.comparing((CPU cpu) -> cpu.hardwareSpec().price()).reversed())
-                            .toList();
-                    break;
-                case "rating-asc":
-                    cpus = cpus.stream()
-                            .sorted(Comparator.comparing(cpu -> cpu.hardwareSpec().rating()))
-                            .toList();
-                    break;
-                case "rating-desc":
-                    cpus = cpus.stream()
-                            .sorted(Comparator.comparing((CPU cpu) -> cpu.hardwareSpec().rating()).reversed())
-                            .toList();
-                    break;
-                default:
-                    break;
-            }
-        }
+    @Transactional(readOnly = true)
+    public CatalogFacets<CPU> getCpuFacets(Pageable pageable, String sortType, String socket, Integer lowestPrice, Integer highestPrice) {
+        return getFacetsByFilter(getCpuFilter(sortType, socket, lowestPrice, highestPrice), pageable);
+    }
 
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), cpus.size());
-        return new PageImpl<>(cpus.subList(start, end), pageable, cpus.size());
+    private static CatalogFilter getCpuFilter(String sortType, String socket, Integer lowestPrice, Integer highestPrice) {
+        return CatalogFilter.sortedBy(sortType)
+                .withEqualTo(CatalogField.SOCKET, socket)
+                .withRange(CatalogField.PRICE, lowestPrice, highestPrice);
     }
 
     private List<CPU> getAllWithSortingOfPriceDesc() {
@@ -1,11 +1,15 @@
 package de.mightypc.backend.service.hardware;
 
 import de.mightypc.backend.exception.hardware.GpuNotFoundException;
+import de.mightypc.backend.model.catalog.CatalogFacets;
+import de.mightypc.backend.model.catalog.CatalogField;
+import de.mightypc.backend.model.catalog.CatalogFilter;
+import de.mightypc.backend.model.catalog.FacetDefinition;
 import de.mightypc.backend.model.configurator.ItemForConfigurator;
 import de.mightypc.backend.model.hardware.GPU;
+import de.mightypc.backend.model.hardware.HardwareSpec;
 import de.mightypc.backend.repository.hardware.GpuRepository;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -25,6 +29,11 @@ public class GpuService extends BaseService<GPU, GpuRepository, GpuNotFoundExcep
         return new GpuNotFoundException(message);
     }
 
+    @Override
+    public String getCategory() {
+        return "gpu";
+    }
+
     @Override
     protected String getId(GPU entity) {
         return entity.id();
@@ -35,13 +44,18 @@ public class GpuService extends BaseService<GPU, GpuRepository, GpuNotFoundExcep
         return entity.hardwareSpec().name();
     }
 
+    @Override
+    protected HardwareSpec getHardwareSpec(GPU entity) {
+        return entity.hardwareSpec();
+    }
+
     @Transactional
     public GPU attachPhoto(String id, String photoUrl) {
         GPU currGpu = getById(id);
         ArrayList<String> photos = new ArrayList<>(currGpu.gpuPhotos());
         photos.addFirst(photoUrl);
         GPU updatedGpu = currGpu.withPhotos(photos);
-        return repository.save(updatedGpu);
+        return save(updatedGpu);
     }
 
     @Transactional(readOnly = true)
@@ -74,60 +88,31 @@ public class GpuService extends BaseService<GPU, GpuRepository, GpuNotFoundExcep
                     gpu.hardwareSpec().name(),
                     gpu.hardwareSpec().price(),
                     gpuPhoto,
-                    "gpu"
+                    getCategory()
             ));
         }
         return items;
     }
 
+    @Override
+    protected FacetDefinition getFacetDefinition() {
+        return FacetDefinition.histogramsOf(CatalogField.PRICE, CatalogField.ENERGY_CONSUMPTION);
+    }
+
     @Transactional(readOnly = true)
     public Page<GPU> getGpus(Pageable pageable, String sortType, Integer lowestPrice, Integer highestPrice, Integer lowestEnergyConsumption, Integer highestEnergyConsumption) {
-        List<GPU> gpus = getAll();
-
-        if (lowestPrice != null && highestPrice != null) {
-            gpus = gpus.stream()
-                    .filter(gpu -> gpu.hardwareSpec().price().intValue() >= lowestPrice &&
-                                   gpu.hardwareSpec().price().intValue() <= highestPrice)
-                    .toList();
-        }
-
-        if (lowestEnergyConsumption != null && highestEnergyConsumption != null) {
-            gpus = gpus.stream()
-                    .filter(gpu -> gpu.energyConsumption() >= lowestEnergyConsumption &&
-                                   gpu.energyConsumption() <= highestEnergyConsumption)
-                    .toList();
-        }
+        return getAllByFilter(getGpuFilter(sortType, lowestPrice, highestPrice, lowestEnergyConsumption, highestEnergyConsumption), pageable);
+    }
 
-        if (sortType != null) {
-            switch (sortType) {
-                case "price-asc":
-                    gpus = gpus.stream()
-                            .sorted(Comparator.comparing(gpu -> gpu.hardwareSpec().price()))
-                            .toList();
-                    break;
-                case "price-desc":
-                    gpus = gpus.stream()
-                            .sorted(Comparator.comparing((GPU gpu) -> gpu.hardwareSpec().price()).reversed())
-                            .toList();
-                    break;
-                case "rating-asc":
-                    gpus = gpus.stream()
-                            .sorted(Comparator.comparing(gpu -> gpu.hardwareSpec().rating()))
-                            .toList();
-                    break;
-                case "rating-desc":
-                    gpus = gpus.stream()
-                            .sorted(Comparator.comparing((GPU gpu) -> gpu.hardwareSpec().rating()).reversed())
-                            .toList();
-                    break;
-                default:
-                    break;
-            }
-        }
+    @Transactional(readOnly = true)
+    public CatalogFacets<GPU> getGpuFacets(Pageable pageable, String sortType, Integer lowestPrice, Integer highestPrice, Integer lowestEnergyConsumption, Integer highestEnergyConsumption) {
+        return getFacetsByFilter(getGpuFilter(sortType, lowestPrice, highestPrice, lowestEnergyConsumption, highestEnergyConsumption), pageable);
+    }
 
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), gpus.size());
-        return new PageImpl<>(gpus.subList(start, end), pageable, gpus.size());
+    private static CatalogFilter getGpuFilter(String sortType, Integer lowestPrice, Integer highestPrice, Integer lowestEnergyConsumption, Integer highestEnergyConsumption) {
+        return CatalogFilter.sortedBy(sortType)
+                .withRange(CatalogField.PRICE, lowestPrice, highestPrice)
+                .withRange(CatalogField.ENERGY_CONSUMPTION, lowestEnergyConsumption, highestEnergyConsumption);
     }
 
 
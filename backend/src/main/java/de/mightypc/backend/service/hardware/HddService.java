@@ -1,12 +1,16 @@
 package de.mightypc.backend.service.hardware;
 
 import de.mightypc.backend.exception.hardware.HddNotFoundException;
+import de.mightypc.backend.model.catalog.CatalogFacets;
+import de.mightypc.backend.model.catalog.CatalogField;
+import de.mightypc.backend.model.catalog.CatalogFilter;
+import de.mightypc.backend.model.catalog.FacetDefinition;
 import de.mightypc.backend.model.configurator.ItemForConfigurator;
 import de.mightypc.backend.model.hardware.HDD;
+import de.mightypc.backend.model.hardware.HardwareSpec;
 import de.mightypc.backend.repository.hardware.HddRepository;
 
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -26,6 +30,11 @@ public class HddService extends BaseService<HDD, HddRepository, HddNotFoundExcep
         return new HddNotFoundException(message);
     }
 
+    @Override
+    public String getCategory() {
+        return "hdd";
+    }
+
     @Override
     protected String getId(HDD entity) {
         return entity.id();
@@ -36,13 +45,18 @@ public class HddService extends BaseService<HDD, HddRepository, HddNotFoundExcep
         return entity.hardwareSpec().name();
     }
 
+    @Override
+    protected HardwareSpec getHardwareSpec(HDD entity) {
+        return entity.hardwareSpec();
+    }
+
     @Transactional
     public HDD attachPhoto(String id, String photoUrl) {
         HDD currHdd = getById(id);
         ArrayList<String> photos = new ArrayList<>(currHdd.hddPhotos());
         photos.addFirst(photoUrl);
         HDD updatedHdd = currHdd.withPhotos(photos);
-        return repository.save(updatedHdd);
+        return save(updatedHdd);
     }
 
     @Transactional(readOnly = true)
@@ -75,66 +89,32 @@ public class HddService extends BaseService<HDD, HddRepository, HddNotFoundExcep
                     hdd.hardwareSpec().name(),
                     hdd.hardwareSpec().price(),
                     hddPhoto,
-                    "hdd"
+                    getCategory()
             ));
         }
         return items;
     }
 
+    @Override
+    protected FacetDefinition getFacetDefinition() {
+        return FacetDefinition.histogramsOf(CatalogField.PRICE, CatalogField.ENERGY_CONSUMPTION).withCounts(CatalogField.CAPACITY);
+    }
+
     @Transactional(readOnly = true)
     public Page<HDD> getHdds(Pageable pageable, String sortType, Integer lowestPrice, Integer highestPrice, Integer minimalCapacity, Integer maximalCapacity, Integer lowestEnergyConsumption, Integer highestEnergyConsumption) {
-        List<HDD> hdds = getAll();
-
-        if (lowestPrice != null && highestPrice != null) {
-            hdds = hdds.stream()
-                    .filter(hdd -> hdd.hardwareSpec().price().intValue() >= lowestPrice &&
-                                   hdd.hardwareSpec().price().intValue() <= highestPrice)
-                    .toList();
-        }
-
-        if (minimalCapacity != null && maximalCapacity != null) {
-            hdds = hdds.stream()
-                    .filter(hdd -> hdd.capacity() >= minimalCapacity && hdd.capacity() <= maximalCapacity)
-                    .toList();
-        }
-
-        if (lowestEnergyConsumption != null && highestEnergyConsumption != null) {
-            hdds = hdds.stream()
-                    .filter(hdd -> hdd.energyConsumption() >= lowestEnergyConsumption &&
-                                   hdd.energyConsumption() <= highestEnergyConsumption)
-                    .toList();
-        }
+        return getAllByFilter(getHddFilter(sortType, lowestPrice, highestPrice, minimalCapacity, maximalCapacity, lowestEnergyConsumption, highestEnergyConsumption), pageable);
+    }
 
-        if (sortType != null) {
-            switch (sortType) {
-                case "price-asc":
-                    hdds = hdds.stream()
-                            .sorted(Comparator.comparing(hdd -> hdd.hardwareSpec().price()))
-                            .toList();
-                    break;
-                case "price-desc":
-                    hdds = hdds.stream()
-                            .sorted(Comparator.comparing((HDD hdd) -> hdd.hardwareSpec().price()).reversed())
-                            .toList();
-                    break;
-                case "rating-asc":
-                    hdds = hdds.stream()
-                            .sorted(Comparator.comparing(hdd -> hdd.hardwareSpec().rating()))
-                            .toList();
-                    break;
-                case "rating-desc":
-                    hdds = hdds.stream()
-                            .sorted(Comparator.comparing((HDD hdd) -> hdd.hardwareSpec().rating()).reversed())
-                            .toList();
-                    break;
-                default:
-                    break;
-            }
-        }
+    @Transactional(readOnly = true)
+    public CatalogFacets<HDD> getHddFacets(Pageable pageable, String sortType, Integer lowestPrice, Integer highestPrice, Integer minimalCapacity, Integer maximalCapacity, Integer lowestEnergyConsumption, Integer highestEnergyConsumption) {
+        return getFacetsByFilter(getHddFilter(sortType, lowestPrice, highestPrice, minimalCapacity, maximalCapacity, lowestEnergyConsumption, highestEnergyConsumption), pageable);
+    }
 
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), hdds.size());
-        return new PageImpl<>(hdds.subList(start, end), pageable, hdds.size());
+    private static CatalogFilter getHddFilter(String sortType, Integer lowestPrice, Integer highestPrice, Integer minimalCapacity, Integer maximalCapacity, Integer lowestEnergyConsumption, Integer highestEnergyConsumption) {
+        return CatalogFilter.sortedBy(sortType)
+                .withRange(CatalogField.PRICE, lowestPrice, highestPrice)
+                .withRange(CatalogField.CAPACITY, minimalCapacity, maximalCapacity)
+                .withRange(CatalogField.ENERGY_CONSUMPTION, lowestEnergyConsumption, highestEnergyConsumption);
     }
 
 
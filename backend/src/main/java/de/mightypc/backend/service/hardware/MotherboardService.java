@@ -1,11 +1,15 @@
 package de.mightypc.backend.service.hardware;
 
 import de.mightypc.backend.exception.hardware.MotherboardNotFoundException;
+import de.mightypc.backend.model.catalog.CatalogFacets;
+import de.mightypc.backend.model.catalog.CatalogField;
+import de.mightypc.backend.model.catalog.CatalogFilter;
+import de.mightypc.backend.model.catalog.FacetDefinition;
 import de.mightypc.backend.model.configurator.ItemForConfigurator;
+import de.mightypc.backend.model.hardware.HardwareSpec;
 import de.mightypc.backend.model.hardware.Motherboard;
 import de.mightypc.backend.repository.hardware.MotherboardRepository;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -27,6 +31,11 @@ public class MotherboardService extends BaseService<Motherboard, MotherboardRepo
         return new MotherboardNotFoundException(message);
     }
 
+    @Override
+    public String getCategory() {
+        return "motherboard";
+    }
+
     @Override
     protected String getId(Motherboard entity) {
         return entity.id();
@@ -37,13 +46,18 @@ public class MotherboardService extends BaseService<Motherboard, MotherboardRepo
         return entity.hardwareSpec().name();
     }
 
+    @Override
+    protected HardwareSpec getHardwareSpec(Motherboard entity) {
+        return entity.hardwareSpec();
+    }
+
     @Transactional
     public Motherboard attachPhoto(String id, String photoUrl) {
         Motherboard currMotherboard = getById(id);
         ArrayList<String> photos = new ArrayList<>(currMotherboard.motherboardPhotos());
         photos.addFirst(photoUrl);
         Motherboard updatedMotherboard = currMotherboard.withPhotos(photos);
-        return repository.save(updatedMotherboard);
+        return save(updatedMotherboard);
     }
 
     @Transactional(readOnly = true)
@@ -89,66 +103,32 @@ public class MotherboardService extends BaseService<Motherboard, MotherboardRepo
                     motherboard.hardwareSpec().name(),
                     motherboard.hardwareSpec().price(),
                     motherboardPhoto,
-                    "motherboard"
+                    getCategory()
             ));
         }
         return items;
     }
 
+    @Override
+    protected FacetDefinition getFacetDefinition() {
+        return FacetDefinition.histogramsOf(CatalogField.PRICE, CatalogField.ENERGY_CONSUMPTION).withCounts(CatalogField.SOCKET);
+    }
+
     @Transactional(readOnly = true)
     public Page<Motherboard> getMotherboards(Pageable pageable, String sortType, Integer lowestPrice, Integer highestPrice, String socket, Integer lowestEnergyConsumption, Integer highestEnergyConsumption) {
-        List<Motherboard> motherboards = getAll();
-
-        if (lowestPrice != null && highestPrice != null) {
-            motherboards = motherboards.stream()
-                    .filter(motherboard -> motherboard.hardwareSpec().price().intValue() >= lowestPrice &&
-                                           motherboard.hardwareSpec().price().intValue() <= highestPrice)
-                    .toList();
-        }
-
-        if (socket != null && !socket.isEmpty()) {
-            motherboards = motherboards.stream()
-                    .filter(motherboard -> motherboard.socket().equals(socket))
-                    .toList();
-        }
-
-        if (lowestEnergyConsumption != null && highestEnergyConsumption != null) {
-            motherboards = motherboards.stream()
-                    .filter(motherboard -> motherboard.energyConsumption() >= lowestEnergyConsumption &&
-                                           motherboard.energyConsumption() <= highestEnergyConsumption)
-                    .toList();
-        }
+        return getAllByFilter(getMotherboardFilter(sortType, lowestPrice, highestPrice, socket, lowestEnergyConsumption, highestEnergyConsumption), pageable);
+    }
 
-        if (sortType != null) {
-            switch (sortType) {
-                case "price-asc":
-                    motherboards = motherboards.stream()
-                            .sorted(Comparator.comparing(motherboard -> motherboard.hardwareSpec().price()))
-                            .toList();
-                    break;
-                case "price-desc":
-                    motherboards = motherboards.stream()
-                            .sorted(Comparator.comparing((Motherboard motherboard) -> motherboard.hardwareSpec().price()).reversed())
-                            .toList();
-                    break;
-                case "rating-asc":
-                    motherboards = motherboards.stream()
-                            .sorted(Comparator.comparing(motherboard -> motherboard.hardwareSpec().rating()))
-                            .toList();
-                    break;
-                case "rating-desc":
-                    motherboards = motherboards.stream()
-                            .sorted(Comparator.comparing((Motherboard motherboard) -> motherboard.hardwareSpec().rating()).reversed())
-                            .toList();
-                    break;
-                default:
-                    break;
-            }
-        }
+    @Transactional(readOnly = true)
+    public CatalogFacets<Motherboard> getMotherboardFacets(Pageable pageable, String sortType, Integer lowestPrice, Integer highestPrice, String socket, Integer lowestEnergyConsumption, Integer highestEnergyConsumption) {
+        return getFacetsByFilter(getMotherboardFilter(sortType, lowestPrice, highestPrice, socket, lowestEnergyConsumption, highestEnergyConsumption), pageable);
+    }
 
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), motherboards.size());
-        return new PageImpl<>(motherboards.subList(start, end), pageable, motherboards.size());
+    private static CatalogFilter getMotherboardFilter(String sortType, Integer lowestPrice, Integer highestPrice, String socket, Integer lowestEnergyConsumption, Integer highestEnergyConsumption) {
+        return CatalogFilter.sortedBy(sortType)
+                .withRange(CatalogField.PRICE, lowestPrice, highestPrice)
+                .withEqualTo(CatalogField.SOCKET, socket)
+                .withRange(CatalogField.ENERGY_CONSUMPTION, lowestEnergyConsumption, highestEnergyConsumption);
     }
 
 
@@ -1,11 +1,14 @@
 package de.mightypc.backend.service.hardware;
 
 import de.mightypc.backend.exception.hardware.PcCaseNotFoundException;
+import de.mightypc.backend.model.catalog.CatalogFacets;
+import de.mightypc.backend.model.catalog.CatalogField;
+import de.mightypc.backend.model.catalog.CatalogFilter;
 import de.mightypc.backend.model.configurator.ItemForConfigurator;
+import de.mightypc.backend.model.hardware.HardwareSpec;
 import de.mightypc.backend.model.hardware.PcCase;
 import de.mightypc.backend.repository.hardware.PcCaseRepository;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -25,6 +28,11 @@ public class PcCaseService extends BaseService<PcCase, PcCaseRepository, PcCaseN
         return new PcCaseNotFoundException(message);
     }
 
+    @Override
+    public String getCategory() {
+        return "pc-case";
+    }
+
     @Override
     protected String getId(PcCase entity) {
         return entity.id();
@@ -35,13 +43,18 @@ public class PcCaseService extends BaseService<PcCase, PcCaseRepository, PcCaseN
         return entity.hardwareSpec().name();
     }
 
+    @Override
+    protected HardwareSpec getHardwareSpec(PcCase entity) {
+        return entity.hardwareSpec();
+    }
+
     @Transactional
     public PcCase attachPhoto(String id, String photoUrl) {
         PcCase currPcCase = getById(id);
         ArrayList<String> photos = new ArrayList<>(currPcCase.pcCasePhotos());
         photos.addFirst(photoUrl);
         PcCase updatedPcCase = currPcCase.withPhotos(photos);
-        return repository.save(updatedPcCase);
+        return save(updatedPcCase);
     }
 
     @Transactional(readOnly = true)
@@ -74,7 +87,7 @@ public class PcCaseService extends BaseService<PcCase, PcCaseRepository, PcCaseN
                     pcCase.hardwareSpec().name(),
                     pcCase.hardwareSpec().price(),
                     pcCasePhoto,
-                    "pc-case"
+                    getCategory()
             ));
         }
         return items;
@@ -82,45 +95,17 @@ public class PcCaseService extends BaseService<PcCase, PcCaseRepository, PcCaseN
 
     @Transactional(readOnly = true)
     public Page<PcCase> getPcCases(Pageable pageable, String sortType, Integer lowestPrice, Integer highestPrice) {
-        List<PcCase> pcCases = getAll();
-
-        if (lowestPrice != null && highestPrice != null) {
-            pcCases = pcCases.stream()
-                    .filter(pcCase -> pcCase.hardwareSpec().price().intValue() >= lowestPrice &&
-                                      pcCase.hardwareSpec().price().intValue() <= highestPrice)
-                    .toList();
-        }
+        return getAllByFilter(getPcCaseFilter(sortType, lowestPrice, highestPrice), pageable);
+    }
 
-        if (sortType != null) {
-            switch (sortType) {
-                case "price-asc":
-                    pcCases = pcCases.stream()
-                            .sorted(Comparator.comparing(pcCase -> pcCase.hardwareSpec().price()))
-                            .toList();
-                    break;
-                case "price-desc":
-                    pcCases = pcCases.stream()
-                            .sorted(Comparator.comparing((PcCase pcCase) -> pcCase.hardwareSpec().price()).reversed())
-                            .toList();
-                    break;
-                case "rating-asc":
-                    pcCases = pcCases.stream()
-                            .sorted(Comparator.comparing(pcCase -> pcCase.hardwareSpec().rating()))
-                            .toList();
-                    break;
-                case "rating-desc":
-                    pcCases = pcCases.stream()
-                            .sorted(Comparator.comparing((PcCase pcCase) -> pcCase.hardwareSpec().rating()).reversed())
-                            .toList();
-                    break;
-                default:
-                    break;
-            }
-        }
+    @Transactional(readOnly = true)
+    public CatalogFacets<PcCase> getPcCaseFacets(Pageable pageable, String sortType, Integer lowestPrice, Integer highestPrice) {
+        return getFacetsByFilter(getPcCaseFilter(sortType, lowestPrice, highestPrice), pageable);
+    }
 
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), pcCases.size());
-        return new PageImpl<>(pcCases.subList(start, end), pageable, pcCases.size());
+    private static CatalogFilter getPcCaseFilter(String sortType, Integer lowestPrice, Integer highestPrice) {
+        return CatalogFilter.sortedBy(sortType)
+                .withRange(CatalogField.PRICE, lowestPrice, highestPrice);
     }
 
 
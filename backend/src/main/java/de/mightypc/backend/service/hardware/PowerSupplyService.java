@@ -1,11 +1,15 @@
 package de.mightypc.backend.service.hardware;
 
 import de.mightypc.backend.exception.hardware.PowerSupplyNotFoundException;
+import de.mightypc.backend.model.catalog.CatalogFacets;
+import de.mightypc.backend.model.catalog.CatalogField;
+import de.mightypc.backend.model.catalog.CatalogFilter;
+import de.mightypc.backend.model.catalog.FacetDefinition;
 import de.mightypc.backend.model.configurator.ItemForConfigurator;
+import de.mightypc.backend.model.hardware.HardwareSpec;
 import de.mightypc.backend.model.hardware.PowerSupply;
 import de.mightypc.backend.repository.hardware.PowerSupplyRepository;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -27,6 +31,11 @@ public class PowerSupplyService extends BaseService<PowerSupply, PowerSupplyRepo
         return new PowerSupplyNotFoundException(message);
     }
 
+    @Override
+    public String getCategory() {
+        return "psu";
+    }
+
     @Override
     protected String getId(PowerSupply entity) {
         return entity.id();
@@ -37,13 +46,18 @@ public class PowerSupplyService extends BaseService<PowerSupply, PowerSupplyRepo
         return entity.hardwareSpec().name();
     }
 
+    @Override
+    protected HardwareSpec getHardwareSpec(PowerSupply entity) {
+        return entity.hardwareSpec();
+    }
+
     @Transactional
     public PowerSupply attachPhoto(String id, String photoUrl) {
         PowerSupply currPowerSupply = getById(id);
         ArrayList<String> photos = new ArrayList<>(currPowerSupply.powerSupplyPhotos());
         photos.addFirst(photoUrl);
         PowerSupply updatedPowerSupply = currPowerSupply.withPhotos(photos);
-        return repository.save(updatedPowerSupply);
+        return save(updatedPowerSupply);
     }
 
     @Transactional(readOnly = true)
@@ -93,60 +107,31 @@ public class PowerSupplyService extends BaseService<PowerSupply, PowerSupplyRepo
                     powerSupply.hardwareSpec().name(),
                     powerSupply.hardwareSpec().price(),
                     powerSupplyPhoto,
-                    "psu"
+                    getCategory()
             ));
         }
         return items;
     }
 
+    @Override
+    protected FacetDefinition getFacetDefinition() {
+        return FacetDefinition.histogramsOf(CatalogField.PRICE).withCounts(CatalogField.POWER);
+    }
+
     @Transactional(readOnly = true)
     public Page<PowerSupply> getPowerSupplies(Pageable pageable, String sortType, Integer lowestPrice, Integer highestPrice, Integer minimalPower, Integer maximalPower) {
-        List<PowerSupply> powerSupplies = getAll();
-
-        if (lowestPrice != null && highestPrice != null) {
-            powerSupplies = powerSupplies.stream()
-                    .filter(powerSupply -> powerSupply.hardwareSpec().price().intValue() >= lowestPrice &&
-                                           powerSupply.hardwareSpec().price().intValue() <= highestPrice)
-                    .toList();
-        }
-
-        if (minimalPower != null && maximalPower != null) {
-            powerSupplies = powerSupplies.stream()
-                    .filter(powerSupply -> powerSupply.power() >= minimalPower &&
-                                           powerSupply.power() <= maximalPower)
-                    .toList();
-        }
+        return getAllByFilter(getPowerSupplyFilter(sortType, lowestPrice, highestPrice, minimalPower, maximalPower), pageable);
+    }
 
-        if (sortType != null) {
-            switch (sortType) {
-                case "price-asc":
-                    powerSupplies = powerSupplies.stream()
-                            .sorted(Comparator.comparing(powerSupply -> powerSupply.hardwareSpec().price()))
-                            .toList();
-                    break;
-                case "price-desc":
-                    powerSupplies = powerSupplies.stream()
-                            .sorted(Comparator.comparing((PowerSupply powerSupply) -> powerSupply.hardwareSpec().price()).reversed())
-                            .toList();
-                    break;
-                case "rating-asc":
-                    powerSupplies = powerSupplies.stream()
-                            .sorted(Comparator.comparing(powerSupply -> powerSupply.hardwareSpec().rating()))
-                            .toList();
-                    break;
-                case "rating-desc":
-                    powerSupplies = powerSupplies.stream()
-                            .sorted(Comparator.comparing((PowerSupply powerSupply) -> powerSupply.hardwareSpec().rating()).reversed())
-                            .toList();
-                    break;
-                default:
-                    break;
-            }
-        }
+    @Transactional(readOnly = true)
+    public CatalogFacets<PowerSupply> getPowerSupplyFacets(Pageable pageable, String sortType, Integer lowestPrice, Integer highestPrice, Integer minimalPower, Integer maximalPower) {
+        return getFacetsByFilter(getPowerSupplyFilter(sortType, lowestPrice, highestPrice, minimalPower, maximalPower), pageable);
+    }
 
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), powerSupplies.size());
-        return new PageImpl<>(powerSupplies.subList(start, end), pageable, powerSupplies.size());
+    private static CatalogFilter getPowerSupplyFilter(String sortType, Integer lowestPrice, Integer highestPrice, Integer minimalPower, Integer maximalPower) {
+        return CatalogFilter.sortedBy(sortType)
+                .withRange(CatalogField.PRICE, lowestPrice, highestPrice)
+                .withRange(CatalogField.POWER, minimalPower, maximalPower);
     }
 
 
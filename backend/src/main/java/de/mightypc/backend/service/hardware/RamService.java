@@ -1,11 +1,15 @@
 package de.mightypc.backend.service.hardware;
 
 import de.mightypc.backend.exception.hardware.RamNotFoundException;
+import de.mightypc.backend.model.catalog.CatalogFacets;
+import de.mightypc.backend.model.catalog.CatalogField;
+import de.mightypc.backend.model.catalog.CatalogFilter;
+import de.mightypc.backend.model.catalog.FacetDefinition;
 import de.mightypc.backend.model.configurator.ItemForConfigurator;
+import de.mightypc.backend.model.hardware.HardwareSpec;
 import de.mightypc.backend.model.hardware.RAM;
 import de.mightypc.backend.repository.hardware.RamRepository;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -25,6 +29,11 @@ public class RamService extends BaseService<RAM, RamRepository, RamNotFoundExcep
         return new RamNotFoundException(message);
     }
 
+    @Override
+    public String getCategory() {
+        return "ram";
+    }
+
     @Override
     protected String getId(RAM entity) {
         return entity.id();
@@ -35,13 +44,18 @@ public class RamService extends BaseService<RAM, RamRepository, RamNotFoundExcep
         return entity.hardwareSpec().name();
     }
 
+    @Override
+    protected HardwareSpec getHardwareSpec(RAM entity) {
+        return entity.hardwareSpec();
+    }
+
     @Transactional
     public RAM attachPhoto(String id, String photoUrl) {
         RAM currRAM = getById(id);
         ArrayList<String> photos = new ArrayList<>(currRAM.ramPhotos());
         photos.addFirst(photoUrl);
         RAM updatedRAM = currRAM.withPhotos(photos);
-        return repository.save(updatedRAM);
+        return save(updatedRAM);
     }
 
     @Transactional(readOnly = true)
@@ -74,67 +88,32 @@ public class RamService extends BaseService<RAM, RamRepository, RamNotFoundExcep
                     ram.hardwareSpec().name(),
                     ram.hardwareSpec().price(),
                     ramPhoto,
-                    "ram"
+                    getCategory()
             ));
         }
         return items;
     }
 
+    @Override
+    protected FacetDefinition getFacetDefinition() {
+        return FacetDefinition.histogramsOf(CatalogField.PRICE, CatalogField.ENERGY_CONSUMPTION).withCounts(CatalogField.TYPE, CatalogField.MEMORY_SIZE);
+    }
+
     @Transactional(readOnly = true)
     public Page<RAM> getRams(Pageable pageable, String sortType, Integer lowestPrice, Integer highestPrice, Integer minimalMemorySize, Integer maximalMemorySize, String type) {
-        List<RAM> rams = getAll();
-
-        if (lowestPrice != null && highestPrice != null) {
-            rams = rams.stream()
-                    .filter(ram -> ram.hardwareSpec().price().intValue() >= lowestPrice &&
-                                   ram.hardwareSpec().price().intValue() <= highestPrice)
-                    .toList();
-        }
-
-        if (minimalMemorySize != null && maximalMemorySize != null) {
-            rams = rams.stream()
-                    .filter(ram -> ram.memorySize() >= minimalMemorySize &&
-                                   ram.memorySize() <= maximalMemorySize)
-                    .toList();
-        }
-
-        if (type != null) {
-            rams = rams.stream()
-                    .filter(ram -> ram.type().equals(type))
-                    .toList();
-        }
-
-        if (sortType != null) {
-            switch (sortType) {
-                case "price-asc":
-                    rams = rams.stream()
-                            .sorted(Comparator.comparing(ram -> ram.hardwareSpec().price()))
-                            .toList();
-                    break;
-                case "price-desc":
-                    rams = rams.stream()
-                            .sorted(Comparator.comparing((RAM ram) -> ram.hardwareSpec().price()).reversed())
-                            .toList();
-                    break;
-                case "rating-asc":
-                    rams = rams.stream()
-                            .sorted(Comparator.comparing(ram -> ram.hardwareSpec().rating()))
-                            .toList();
-                    break;
-                case "rating-desc":
-                    rams = rams.stream()
-                            .sorted(Comparator.comparing((RAM ram) -> ram.hardwareSpec().rating()).reversed())
-                            .toList();
-                    break;
-                default:
-                    break;
-            }
-        }
+        return getAllByFilter(getRamFilter(sortType, lowestPrice, highestPrice, minimalMemorySize, maximalMemorySize, type), pageable);
+    }
 
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), rams.size());
+    @Transactional(readOnly = true)
+    public CatalogFacets<RAM> getRamFacets(Pageable pageable, String sortType, Integer lowestPrice, Integer highestPrice, Integer minimalMemorySize, Integer maximalMemorySize, String type) {
+        return getFacetsByFilter(getRamFilter(sortType, lowestPrice, highestPrice, minimalMemorySize, maximalMemorySize, type), pageable);
+    }
 
-        return new PageImpl<>(rams.subList(start, end), pageable, rams.size());
+    private static CatalogFilter getRamFilter(String sortType, Integer lowestPrice, Integer highestPrice, Integer minimalMemorySize, Integer maximalMemorySize, String type) {
+        return CatalogFilter.sortedBy(sortType)
+                .withRange(CatalogField.PRICE, lowestPrice, highestPrice)
+                .withRange(CatalogField.MEMORY_SIZE, minimalMemorySize, maximalMemorySize)
+                .withEqualTo(CatalogField.TYPE, type);
     }
 
 
@@ -1,11 +1,15 @@
 package de.mightypc.backend.service.hardware;
 
 import de.mightypc.backend.exception.hardware.SsdNotFoundException;
+import de.mightypc.backend.model.catalog.CatalogFacets;
+import de.mightypc.backend.model.catalog.CatalogField;
+import de.mightypc.backend.model.catalog.CatalogFilter;
+import de.mightypc.backend.model.catalog.FacetDefinition;
 import de.mightypc.backend.model.configurator.ItemForConfigurator;
+import de.mightypc.backend.model.hardware.HardwareSpec;
 import de.mightypc.backend.model.hardware.SSD;
 import de.mightypc.backend.repository.hardware.SsdRepository;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -25,6 +29,11 @@ public class SsdService extends BaseService<SSD, SsdRepository, SsdNotFoundExcep
         return new SsdNotFoundException(message);
     }
 
+    @Override
+    public String getCategory() {
+        return "ssd";
+    }
+
     @Override
     protected String getId(SSD entity) {
         return entity.id();
@@ -35,13 +44,18 @@ public class SsdService extends BaseService<SSD, SsdRepository, SsdNotFoundExcep
         return entity.hardwareSpec().name();
     }
 
+    @Override
+    protected HardwareSpec getHardwareSpec(SSD entity) {
+        return entity.hardwareSpec();
+    }
+
     @Transactional
     public SSD attachPhoto(String id, String photoUrl) {
         SSD currSSD = getById(id);
         ArrayList<String> photos = new ArrayList<>(currSSD.ssdPhotos());
         photos.addFirst(photoUrl);
         SSD updatedSSD = currSSD.withPhotos(photos);
-        return repository.save(updatedSSD);
+        return save(updatedSSD);
     }
 
     @Transactional(readOnly = true)
@@ -74,60 +88,31 @@ public class SsdService extends BaseService<SSD, SsdRepository, SsdNotFoundExcep
                     ssd.hardwareSpec().name(),
                     ssd.hardwareSpec().price(),
                     ssdPhoto,
-                    "ssd"
+                    getCategory()
             ));
         }
         return items;
     }
 
+    @Override
+    protected FacetDefinition getFacetDefinition() {
+        return FacetDefinition.histogramsOf(CatalogField.PRICE, CatalogField.ENERGY_CONSUMPTION).withCounts(CatalogField.CAPACITY);
+    }
+
     @Transactional(readOnly = true)
     public Page<SSD> getSsds(Pageable pageable, String sortType, Integer lowestPrice, Integer highestPrice, Integer minimalCapacity, Integer maximalCapacity) {
-        List<SSD> ssds = getAll();
-
-        if (lowestPrice != null && highestPrice != null) {
-            ssds = ssds.stream()
-                    .filter(ssd -> ssd.hardwareSpec().price().intValue() >= lowestPrice &&
-                                   ssd.hardwareSpec().price().intValue() <= highestPrice)
-                    .toList();
-        }
-
-        if (minimalCapacity != null && maximalCapacity != null) {
-            ssds = ssds.stream()
-                    .filter(ssd -> ssd.capacity() >= minimalCapacity &&
-                                   ssd.capacity() <= maximalCapacity)
-                    .toList();
-        }
+        return getAllByFilter(getSsdFilter(sortType, lowestPrice, highestPrice, minimalCapacity, maximalCapacity), pageable);
+    }
 
-        if (sortType != null) {
-            switch (sortType) {
-                case "price-asc":
-                    ssds = ssds.stream()
-                            .sorted(Comparator.comparing(ssd -> ssd.hardwareSpec().price()))
-                            .toList();
-                    break;
-                case "price-desc":
-                    ssds = ssds.stream()
-                            .sorted(Comparator.comparing((SSD ssd) -> ssd.hardwareSpec().price()).reversed())
-                            .toList();
-                    break;
-                case "rating-asc":
-                    ssds = ssds.stream()
-                            .sorted(Comparator.comparing(ssd -> ssd.hardwareSpec().rating()))
-                            .toList();
-                    break;
-                case "rating-desc":
-                    ssds = ssds.stream()
-                            .sorted(Comparator.comparing((SSD ssd) -> ssd.hardwareSpec().rating()).reversed())
-                            .toList();
-                    break;
-                default:
-                    break;
-            }
-        }
+    @Transactional(readOnly = true)
+    public CatalogFacets<SSD> getSsdFacets(Pageable pageable, String sortType, Integer lowestPrice, Integer highestPrice, Integer minimalCapacity, Integer maximalCapacity) {
+        return getFacetsByFilter(getSsdFilter(sortType, lowestPrice, highestPrice, minimalCapacity, maximalCapacity), pageable);
+    }
 
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), ssds.size());
-        return new PageImpl<>(ssds.subList(start, end), pageable, ssds.size());
+    private static CatalogFilter getSsdFilter(String sortType, Integer lowestPrice, Integer highestPrice, Integer minimalCapacity, Integer maximalCapacity) {
+        return CatalogFilter.sortedBy(sortType)
+                .withRange(CatalogField.PRICE, lowestPrice, highestPrice)
+                .withRange(CatalogField.CAPACITY, minimalCapacity, maximalCapacity);
     }
 
 
@@ -0,0 +1,104 @@
+package de.mightypc.backend.service.pc;
+
+import de.mightypc.backend.model.admin.PropagationFailure;
+import de.mightypc.backend.model.admin.PropagationStats;
+import de.mightypc.backend.model.catalog.CatalogChangedEvent;
+import de.mightypc.backend.model.hardware.SpecsComponent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// copies changed parts into the prebuilt pcs off the admin's request, repeated updates of a part are coalesced
+@Service
+public class ComponentChangePropagator {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ComponentChangePropagator.class);
+    private static final int MAXIMUM_ATTEMPTS = 3;
+    private static final int RECENT_FAILURES = 20;
+
+    private final List<PcBaseService<?, ?, ?>> pcServices;
+    private final Map<ComponentChange, Integer> pendingChanges = new LinkedHashMap<>();
+    private final Deque<PropagationFailure> recentFailures = new ArrayDeque<>();
+
+    private long propagatedChanges;
+    private long updatedDocuments;
+    private long failedChanges;
+
+    public ComponentChangePropagator(List<PcBaseService<?, ?, ?>> pcServices) {
+        this.pcServices = pcServices;
+    }
+
+    @EventListener
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        if (event.id() == null) {
+            return;
+        }
+
+        SpecsComponent.fromCategory(event.category()).ifPresent(component -> {
+            synchronized (this) {
+                pendingChanges.put(new ComponentChange(component, event.id()), 0);
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${catalog.propagation.interval:1000}")
+    public void propagatePendingChanges() {
+        Map<ComponentChange, Integer> batch;
+
+        synchronized (this) {
+            batch = new LinkedHashMap<>(pendingChanges);
+            pendingChanges.clear();
+        }
+
+        batch.forEach(this::propagate);
+    }
+
+    public synchronized PropagationStats getStats() {
+        return new PropagationStats(pendingChanges.size(), propagatedChanges, updatedDocuments, failedChanges, List.copyOf(recentFailures));
+    }
+
+    private void propagate(ComponentChange change, int previousAttempts) {
+        try {
+            int updated = 0;
+
+            for (PcBaseService<?, ?, ?> pcService : pcServices) {
+                updated += pcService.propagateComponentChange(change.component(), change.id());
+            }
+
+            synchronized (this) {
+                propagatedChanges++;
+                updatedDocuments += updated;
+            }
+        } catch (RuntimeException e) {
+            onFailure(change, previousAttempts + 1, e);
+        }
+    }
+
+    private synchronized void onFailure(ComponentChange change, int attempts, RuntimeException e) {
+        if (attempts < MAXIMUM_ATTEMPTS) {
+            LOGGER.warn("Could not propagate change of {} {}, retrying: {}", change.component().getCategory(), change.id(), e.getMessage());
+            // a newer change of the same part may have been queued meanwhile, it starts with fresh attempts
+            pendingChanges.putIfAbsent(change, attempts);
+            return;
+        }
+
+        LOGGER.error("Gave up propagating change of {} {} after {} attempts", change.component().getCategory(), change.id(), attempts, e);
+        failedChanges++;
+        recentFailures.addFirst(new PropagationFailure(change.component().getCategory(), change.id(), e.getMessage(), Instant.now()));
+
+        if (recentFailures.size() > RECENT_FAILURES) {
+            recentFailures.removeLast();
+        }
+    }
+
+    private record ComponentChange(SpecsComponent component, String id) {
+    }
+}
@@ -1,10 +1,23 @@
 package de.mightypc.backend.service.pc;
 
 import de.mightypc.backend.exception.pc.PcNotFoundException;
+import de.mightypc.backend.model.admin.CacheStats;
+import de.mightypc.backend.model.catalog.CatalogChangedEvent;
+import de.mightypc.backend.model.catalog.CatalogFacets;
+import de.mightypc.backend.model.catalog.CatalogField;
+import de.mightypc.backend.model.catalog.CatalogFilter;
+import de.mightypc.backend.model.catalog.FacetDefinition;
 import de.mightypc.backend.model.configurator.SpecsForEnergyConsumption;
 import de.mightypc.backend.model.configurator.SpecsIdsForEnergyConsumption;
+import de.mightypc.backend.model.hardware.HardwareSpec;
 import de.mightypc.backend.model.hardware.Specs;
+import de.mightypc.backend.model.hardware.SpecsComponent;
 import de.mightypc.backend.model.hardware.SpecsIds;
+import de.mightypc.backend.model.hardware.SpecsNames;
+import de.mightypc.backend.model.pc.SpecsTotals;
+import de.mightypc.backend.model.search.SearchDocument;
+import de.mightypc.backend.repository.pc.PcCatalogRepository;
+import de.mightypc.backend.service.cache.BoundedCache;
 import de.mightypc.backend.service.hardware.CpuService;
 import de.mightypc.backend.service.hardware.GpuService;
 import de.mightypc.backend.service.hardware.HddService;
@@ -13,35 +26,38 @@ import de.mightypc.backend.service.hardware.PcCaseService;
 import de.mightypc.backend.service.hardware.PowerSupplyService;
 import de.mightypc.backend.service.hardware.RamService;
 import de.mightypc.backend.service.hardware.SsdService;
-import org.springframework.data.mongodb.repository.MongoRepository;
+import de.mightypc.backend.service.search.SearchableCatalog;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationEventPublisherAware;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.ClassUtils;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 
+import java.time.Duration;
+import java.util.Collections;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 
-public abstract class PcBaseService<T, R extends MongoRepository<T, String>> {
-    private final CpuService cpuService;
-    private final GpuService gpuService;
-    private final SsdService ssdService;
-    private final HddService hddService;
-    private final RamService ramService;
-    private final PcCaseService pcCaseService;
-    private final PowerSupplyService powerSupplyService;
-    private final MotherboardService motherboardService;
+public abstract class PcBaseService<T, S, R extends PcCatalogRepository<T, S>> implements ApplicationEventPublisherAware, SearchableCatalog {
+    private static final int FACET_CACHE_MAXIMUM_SIZE = 200;
+    private static final Duration FACET_CACHE_TIME_TO_LIVE = Duration.ofMinutes(10);
+    private static final int PER_DOCUMENT_EVENT_LIMIT = 10;
+
+    private final SpecsBatchResolver specsResolver;
+    private final BoundedCache<FacetKey, CatalogFacets<S>> facetCache;
+    private final AtomicLong catalogVersion = new AtomicLong();
+    private ApplicationEventPublisher eventPublisher;
     protected R repository;
 
     protected PcBaseService(R repository, CpuService cpuService, GpuService gpuService, SsdService ssdService, HddService hddService, RamService ramService, PcCaseService pcCaseService, PowerSupplyService powerSupplyService, MotherboardService motherboardService) {
         this.repository = repository;
-        this.cpuService = cpuService;
-        this.gpuService = gpuService;
-        this.ssdService = ssdService;
-        this.hddService = hddService;
-        this.ramService = ramService;
-        this.pcCaseService = pcCaseService;
-        this.powerSupplyService = powerSupplyService;
-        this.motherboardService = motherboardService;
+        this.specsResolver = new SpecsBatchResolver(cpuService, gpuService, ssdService, hddService, ramService, pcCaseService, powerSupplyService, motherboardService);
+        this.facetCache = new BoundedCache<>(ClassUtils.getUserClass(getClass()).getSimpleName() + ".facets", FACET_CACHE_MAXIMUM_SIZE, FACET_CACHE_TIME_TO_LIVE);
     }
 
     protected static String getNotFoundMessage(String id) {
@@ -53,16 +69,24 @@ public abstract class PcBaseService<T, R extends MongoRepository<T, String>> {
             throw new IllegalArgumentException("specsIds cannot be null");
         }
 
-        return new Specs(
-                cpuService.getById(specsIds.cpuId()),
-                gpuService.getById(specsIds.gpuId()),
-                motherboardService.getById(specsIds.motherboardId()),
-                ramService.getById(specsIds.ramId()),
-                ssdService.getById(specsIds.ssdId()),
-                hddService.getById(specsIds.hddId()),
-                powerSupplyService.getById(specsIds.powerSupplyId()),
-                pcCaseService.getById(specsIds.pcCaseId())
-        );
+        return specsResolver.resolveAll(List.of(specsIds)).getFirst();
+    }
+
+    public List<Specs> getAllSpecs(List<SpecsIds> specsIdsList) {
+        return specsResolver.resolveAll(specsIdsList);
+    }
+
+    // a part removed from the catalog must not hide the pcs that reference it, so unknown ids stay null
+    public Specs getAvailableSpecs(SpecsIds specsIds) {
+        if (specsIds == null) {
+            throw new IllegalArgumentException("specsIds cannot be null");
+        }
+
+        return specsResolver.resolveAvailable(List.of(specsIds)).getFirst();
+    }
+
+    public List<SpecsNames> getAllSpecsNames(List<SpecsIds> specsIdsList) {
+        return specsResolver.resolveNames(specsIdsList);
     }
 
     public SpecsForEnergyConsumption getSpecsForConfigurator(SpecsIdsForEnergyConsumption specsIdsForEnergyConsumption) {
@@ -70,14 +94,7 @@ public abstract class PcBaseService<T, R extends MongoRepository<T, String>> {
             throw new IllegalArgumentException("specsIdsForEnergyConsumption cannot be null");
         }
 
-        return new SpecsForEnergyConsumption(
-                cpuService.getById(specsIdsForEnergyConsumption.cpuId()),
-                gpuService.getById(specsIdsForEnergyConsumption.gpuId()),
-                motherboardService.getById(specsIdsForEnergyConsumption.motherboardId()),
-                ramService.getById(specsIdsForEnergyConsumption.ramId()),
-                ssdService.getById(specsIdsForEnergyConsumption.ssdId()),
-                hddService.getById(specsIdsForEnergyConsumption.hddId())
-        );
+        return specsResolver.resolveForEnergyConsumption(specsIdsForEnergyConsumption);
     }
 
     @Transactional
@@ -86,6 +103,7 @@ public abstract class PcBaseService<T, R extends MongoRepository<T, String>> {
         T entity = repository.findById(id).orElseThrow(() -> new NoSuchElementException(getNotFoundMessage(id)));
 
         repository.delete(entity);
+        markChanged(id);
     }
 
     public List<T> getAll() {
@@ -97,4 +115,108 @@ public abstract class PcBaseService<T, R extends MongoRepository<T, String>> {
 
         return entities;
     }
+
+    @Transactional(readOnly = true)
+    public Page<T> getAllByFilter(CatalogFilter filter, Pageable pageable) {
+        return repository.findAllByFilter(filter, pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public CatalogFacets<S> getFacetsByFilter(CatalogFilter filter, Pageable pageable) {
+        // keyed by catalog version, so facets computed while the catalog changed are never served afterwards
+        FacetKey key = new FacetKey(catalogVersion.get(), filter, pageable);
+
+        // the results page carries the listing projection, not every embedded part
+        return facetCache.get(key, facetKey -> repository.findListingFacetsByFilter(filter, pageable, getFacetDefinition()));
+    }
+
+    public CacheStats getCacheStats() {
+        return facetCache.getStats();
+    }
+
+    public List<String> getIdsUsingComponent(SpecsComponent component, String componentId) {
+        return repository.findIdsByComponent(component, componentId);
+    }
+
+    public int propagateComponentChange(SpecsComponent component, String componentId) {
+        List<T> affected = repository.findAllByComponent(component, componentId);
+
+        if (affected.isEmpty()) {
+            return 0;
+        }
+
+        Object value = specsResolver.resolveComponent(component, componentId);
+
+        // a deleted part keeps its last copy, getIdsUsingComponent shows where it is still referenced
+        if (value == null) {
+            return 0;
+        }
+
+        List<SpecsTotals> totals = affected.stream()
+                .map(entity -> calculateTotals(entity, SpecsBatchResolver.withComponent(getSpecsOf(entity), component, value)))
+                .toList();
+
+        int updated = repository.updateComponent(component, componentId, value, totals);
+        markChanged(totals.stream().map(SpecsTotals::id).toList());
+
+        return updated;
+    }
+
+    @Override
+    public List<SearchDocument> getSearchDocuments() {
+        return repository.findAll().stream().map(this::toSearchDocument).toList();
+    }
+
+    @Override
+    public Optional<SearchDocument> getSearchDocument(String id) {
+        return repository.findById(id).map(this::toSearchDocument);
+    }
+
+    @Override
+    public void setApplicationEventPublisher(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    protected void markChanged(String id) {
+        markChanged(Collections.singletonList(id));
+    }
+
+    private void markChanged(List<String> ids) {
+        catalogVersion.incrementAndGet();
+
+        if (eventPublisher == null) {
+            return;
+        }
+
+        // each per-document event loads its document again, so past a few documents one reload of the category is cheaper
+        if (ids.size() > PER_DOCUMENT_EVENT_LIMIT) {
+            eventPublisher.publishEvent(new CatalogChangedEvent(getCategory(), null));
+            return;
+        }
+
+        for (String id : ids) {
+            eventPublisher.publishEvent(new CatalogChangedEvent(getCategory(), id));
+        }
+    }
+
+    private SearchDocument toSearchDocument(T entity) {
+        HardwareSpec hardwareSpec = getHardwareSpecOf(entity);
+
+        return new SearchDocument(getCategory(), getId(entity), hardwareSpec.name(), hardwareSpec.description(), hardwareSpec.price(), hardwareSpec.rating());
+    }
+
+    protected FacetDefinition getFacetDefinition() {
+        return FacetDefinition.histogramsOf(CatalogField.PRICE);
+    }
+
+    protected abstract String getId(T entity);
+
+    protected abstract HardwareSpec getHardwareSpecOf(T entity);
+
+    protected abstract Specs getSpecsOf(T entity);
+
+    protected abstract SpecsTotals calculateTotals(T entity, Specs specs);
+
+    private record FacetKey(long catalogVersion, CatalogFilter filter, Pageable pageable) {
+    }
 }
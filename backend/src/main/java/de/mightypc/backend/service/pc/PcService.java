@@ -1,6 +1,10 @@
 package de.mightypc.backend.service.pc;
 
 import de.mightypc.backend.exception.pc.PcNotFoundException;
+import de.mightypc.backend.model.catalog.CatalogFacets;
+import de.mightypc.backend.model.catalog.CatalogField;
+import de.mightypc.backend.model.catalog.CatalogFilter;
+import de.mightypc.backend.model.catalog.FacetDefinition;
 import de.mightypc.backend.model.configurator.SpecsForEnergyConsumption;
 import de.mightypc.backend.model.configurator.SpecsIdsForEnergyConsumption;
 import de.mightypc.backend.model.hardware.HardwareSpec;
@@ -8,6 +12,8 @@ import de.mightypc.backend.model.hardware.Specs;
 import de.mightypc.backend.model.hardware.SpecsIds;
 import de.mightypc.backend.model.hardware.SpecsNames;
 import de.mightypc.backend.model.pc.PC;
+import de.mightypc.backend.model.pc.SpecsTotals;
+import de.mightypc.backend.model.pc.UserPc;
 import de.mightypc.backend.model.pc.createpc.*;
 
 import de.mightypc.backend.repository.pc.PcRepository;
@@ -21,7 +27,6 @@ import de.mightypc.backend.service.hardware.RamService;
 import de.mightypc.backend.service.hardware.SsdService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -29,11 +34,10 @@ import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
 
 @Service
-public class PcService extends PcBaseService<PC, PcRepository> {
+public class PcService extends PcBaseService<PC, PcResponse, PcRepository> {
     private final PcRepository pcRepository;
 
     @Autowired
@@ -42,23 +46,53 @@ public class PcService extends PcBaseService<PC, PcRepository> {
         this.pcRepository = pcRepository;
     }
 
+    @Override
     protected String getId(PC entity) {
         return entity.id();
     }
 
+    @Override
+    public String getCategory() {
+        return "pc";
+    }
+
+    @Override
+    protected HardwareSpec getHardwareSpecOf(PC pc) {
+        return pc.hardwareSpec();
+    }
+
     @Transactional
     public PC saveNewPc(CreatePC createPC) {
-        return pcRepository.save(createPc(createPC));
+        PC saved = pcRepository.save(createPc(createPC));
+        markChanged(saved.id());
+
+        return saved;
     }
 
     @Transactional
     public void save(PC pcToSave) {
         repository.save(pcToSave);
+        markChanged(pcToSave.id());
     }
 
     public PC createPc(CreatePC createPC) {
-        Specs specs = getSpecs(createPC.specsIds());
+        return createPc(createPC, getSpecs(createPC.specsIds()));
+    }
+
+    @Transactional
+    public void saveAll(List<CreatePC> createPCS) {
+        List<Specs> specsOfPcs = getAllSpecs(createPCS.stream().map(CreatePC::specsIds).toList());
+        List<PC> pcsToSave = new ArrayList<>();
+
+        for (int i = 0; i < createPCS.size(); i++) {
+            pcsToSave.add(createPc(createPCS.get(i), specsOfPcs.get(i)));
+        }
+
+        pcRepository.saveAll(pcsToSave);
+        markChanged(null);
+    }
 
+    private PC createPc(CreatePC createPC, Specs specs) {
         HardwareSpec hardwareSpec = new HardwareSpec(createPC.hardwareSpec().name(), createPC.hardwareSpec().description(), getTotalPrice(specs), createPC.hardwareSpec().rating());
 
         return new PC(hardwareSpec, specs,
@@ -75,32 +109,6 @@ public class PcService extends PcBaseService<PC, PcRepository> {
         );
     }
 
-    @Transactional
-    public void saveAll(List<CreatePC> createPCS) {
-        List<PC> pcsToSave = new ArrayList<>();
-
-        for (CreatePC createPC : createPCS) {
-            Specs specs = getSpecs(createPC.specsIds());
-
-            HardwareSpec hardwareSpec = new HardwareSpec(createPC.hardwareSpec().name(), createPC.hardwareSpec().description(), getTotalPrice(specs), createPC.hardwareSpec().rating());
-
-            PC pc = new PC(hardwareSpec, specs,
-                    calculateEnergyConsumptionOfPc(
-                            new SpecsForEnergyConsumption(
-                                    specs.cpu(),
-                                    specs.gpu(),
-                                    specs.motherboard(),
-                                    specs.ram(),
-                                    specs.ssd(),
-                                    specs.hdd()
-                            )
-                    ));
-            pcsToSave.add(pc);
-        }
-
-        pcRepository.saveAll(pcsToSave);
-    }
-
     public PcResponse createPcResponse(PC pc) {
         return new PcResponse(
                 pc.id(),
@@ -128,6 +136,43 @@ public class PcService extends PcBaseService<PC, PcRepository> {
                 pc.photos());
     }
 
+    public List<PcResponse> createPcResponses(List<UserPc> userPcs) {
+        List<SpecsNames> specsNames = getAllSpecsNames(userPcs.stream().map(UserPc::specsIds).toList());
+        List<PcResponse> responses = new ArrayList<>();
+
+        for (int i = 0; i < userPcs.size(); i++) {
+            UserPc userPc = userPcs.get(i);
+            responses.add(new PcResponse(userPc.id(), userPc.hardwareSpec(), userPc.specsIds(), specsNames.get(i), userPc.energyConsumption(), userPc.photos()));
+        }
+
+        return responses;
+    }
+
+    public PC createPc(UserPc userPc) {
+        return new PC(userPc.id(), userPc.hardwareSpec(), getSpecs(userPc.specsIds()), userPc.energyConsumption(), userPc.photos());
+    }
+
+    @Override
+    protected Specs getSpecsOf(PC pc) {
+        return pc.specs();
+    }
+
+    @Override
+    protected SpecsTotals calculateTotals(PC pc, Specs specs) {
+        return new SpecsTotals(pc.id(), getTotalPrice(specs),
+                calculateEnergyConsumptionOfPc(
+                        new SpecsForEnergyConsumption(
+                                specs.cpu(),
+                                specs.gpu(),
+                                specs.motherboard(),
+                                specs.ram(),
+                                specs.ssd(),
+                                specs.hdd()
+                        )
+                )
+        );
+    }
+
     public BigDecimal getTotalPrice(Specs specs) {
         BigDecimal totalPrice = BigDecimal.ZERO;
 
@@ -178,6 +223,7 @@ public class PcService extends PcBaseService<PC, PcRepository> {
                 ), pcResponse.photos());
 
         pcRepository.save(pc);
+        markChanged(pc.id());
     }
 
     @Transactional
@@ -191,7 +237,10 @@ public class PcService extends PcBaseService<PC, PcRepository> {
 
         photos.addFirst(photoUrl);
 
-        return pcRepository.save(pc.withPhotos(photos));
+        PC saved = pcRepository.save(pc.withPhotos(photos));
+        markChanged(saved.id());
+
+        return saved;
     }
 
     private PC getById(String id) {
@@ -200,13 +249,11 @@ public class PcService extends PcBaseService<PC, PcRepository> {
 
     @Transactional(readOnly = true)
     public Page<PcResponse> getAllByPage(Pageable pageable) {
-        Page<PC> page = pcRepository.findAll(pageable);
+        Page<PcResponse> page = pcRepository.findAllListings(pageable);
 
         if (page.isEmpty()) throw new PcNotFoundException("No Pcs found.");
 
-        List<PcResponse> responses = page.getContent().stream().map(this::createPcResponse).toList();
-
-        return new PageImpl<>(responses, pageable, page.getTotalElements());
+        return page;
     }
 
     public int calculateEnergyConsumptionWithConvertingSpecsIdsIntoSpecs(SpecsIdsForEnergyConsumption specsIdsForEnergyConsumption) {
@@ -231,53 +278,24 @@ public class PcService extends PcBaseService<PC, PcRepository> {
         return totalConsumption + 50 - remainder;
     }
 
+    @Override
+    protected FacetDefinition getFacetDefinition() {
+        return FacetDefinition.histogramsOf(CatalogField.PRICE, CatalogField.ENERGY_CONSUMPTION);
+    }
+
     @Transactional(readOnly = true)
     public Page<PC> getPcs(Pageable pageable, String sortType, Integer lowestPrice, Integer highestPrice, Integer lowestEnergyConsumption, Integer highestEnergyConsumption) {
-        List<PC> pcs = getAll();
-
-        if (lowestPrice != null && highestPrice != null) {
-            pcs = pcs.stream()
-                    .filter(pc -> pc.hardwareSpec().price().intValue() >= lowestPrice &&
-                                  pc.hardwareSpec().price().intValue() <= highestPrice)
-                    .toList();
-        }
-
-        if (lowestEnergyConsumption != null && highestEnergyConsumption != null) {
-            pcs = pcs.stream()
-                    .filter(pc -> pc.energyConsumption() >= lowestEnergyConsumption &&
-                                  pc.energyConsumption() <= highestEnergyConsumption)
-                    .toList();
-        }
+        return getAllByFilter(getPcFilter(sortType, lowestPrice, highestPrice, lowestEnergyConsumption, highestEnergyConsumption), pageable);
+    }
 
-        if (sortType != null) {
-            switch (sortType) {
-                case "price-asc":
-                    pcs = pcs.stream()
-                            .sorted(Comparator.comparing(pc -> pc.hardwareSpec().price()))
-                            .toList();
-                    break;
-                case "price-desc":
-                    pcs = pcs.stream()
-                            .sorted(Comparator.comparing((PC pc) -> pc.hardwareSpec().price()).reversed())
-                            .toList();
-                    break;
-                case "rating-asc":
-                    pcs = pcs.stream()
-                            .sorted(Comparator.comparing(pc -> pc.hardwareSpec().rating()))
-                            .toList();
-                    break;
-                case "rating-desc":
-                    pcs = pcs.stream()
-                            .sorted(Comparator.comparing((PC pc) -> pc.hardwareSpec().rating()).reversed())
-                            .toList();
-                    break;
-                default:
-                    break;
-            }
-        }
+    @Transactional(readOnly = true)
+    public CatalogFacets<PcResponse> getPcFacets(Pageable pageable, String sortType, Integer lowestPrice, Integer highestPrice, Integer lowestEnergyConsumption, Integer highestEnergyConsumption) {
+        return getFacetsByFilter(getPcFilter(sortType, lowestPrice, highestPrice, lowestEnergyConsumption, highestEnergyConsumption), pageable);
+    }
 
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), pcs.size());
-        return new PageImpl<>(pcs.subList(start, end), pageable, pcs.size());
+    private static CatalogFilter getPcFilter(String sortType, Integer lowestPrice, Integer highestPrice, Integer lowestEnergyConsumption, Integer highestEnergyConsumption) {
+        return CatalogFilter.sortedBy(sortType)
+                .withRange(CatalogField.PRICE, lowestPrice, highestPrice)
+                .withRange(CatalogField.ENERGY_CONSUMPTION, lowestEnergyConsumption, highestEnergyConsumption);
     }
 }
@@ -0,0 +1,210 @@
+package de.mightypc.backend.service.pc;
+
+import de.mightypc.backend.model.configurator.SpecsForEnergyConsumption;
+import de.mightypc.backend.model.configurator.SpecsIdsForEnergyConsumption;
+import de.mightypc.backend.model.hardware.CPU;
+import de.mightypc.backend.model.hardware.GPU;
+import de.mightypc.backend.model.hardware.HDD;
+import de.mightypc.backend.model.hardware.HardwareSpec;
+import de.mightypc.backend.model.hardware.Motherboard;
+import de.mightypc.backend.model.hardware.PcCase;
+import de.mightypc.backend.model.hardware.PowerSupply;
+import de.mightypc.backend.model.hardware.RAM;
+import de.mightypc.backend.model.hardware.SSD;
+import de.mightypc.backend.model.hardware.Specs;
+import de.mightypc.backend.model.hardware.SpecsComponent;
+import de.mightypc.backend.model.hardware.SpecsIds;
+import de.mightypc.backend.model.hardware.SpecsNames;
+import de.mightypc.backend.service.hardware.BaseService;
+import de.mightypc.backend.service.hardware.CpuService;
+import de.mightypc.backend.service.hardware.GpuService;
+import de.mightypc.backend.service.hardware.HddService;
+import de.mightypc.backend.service.hardware.MotherboardService;
+import de.mightypc.backend.service.hardware.PcCaseService;
+import de.mightypc.backend.service.hardware.PowerSupplyService;
+import de.mightypc.backend.service.hardware.RamService;
+import de.mightypc.backend.service.hardware.SsdService;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+class SpecsBatchResolver {
+    private final CpuService cpuService;
+    private final GpuService gpuService;
+    private final SsdService ssdService;
+    private final HddService hddService;
+    private final RamService ramService;
+    private final PcCaseService pcCaseService;
+    private final PowerSupplyService powerSupplyService;
+    private final MotherboardService motherboardService;
+
+    SpecsBatchResolver(CpuService cpuService, GpuService gpuService, SsdService ssdService, HddService hddService, RamService ramService, PcCaseService pcCaseService, PowerSupplyService powerSupplyService, MotherboardService motherboardService) {
+        this.cpuService = cpuService;
+        this.gpuService = gpuService;
+        this.ssdService = ssdService;
+        this.hddService = hddService;
+        this.ramService = ramService;
+        this.pcCaseService = pcCaseService;
+        this.powerSupplyService = powerSupplyService;
+        this.motherboardService = motherboardService;
+    }
+
+    List<Specs> resolveAll(List<SpecsIds> specsIdsList) {
+        if (specsIdsList.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("specsIds cannot be null");
+        }
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<Map<String, CPU>> cpus = fetch(executor, cpuService, specsIdsList, SpecsIds::cpuId);
+            Future<Map<String, GPU>> gpus = fetch(executor, gpuService, specsIdsList, SpecsIds::gpuId);
+            Future<Map<String, Motherboard>> motherboards = fetch(executor, motherboardService, specsIdsList, SpecsIds::motherboardId);
+            Future<Map<String, RAM>> rams = fetch(executor, ramService, specsIdsList, SpecsIds::ramId);
+            Future<Map<String, SSD>> ssds = fetch(executor, ssdService, specsIdsList, SpecsIds::ssdId);
+            Future<Map<String, HDD>> hdds = fetch(executor, hddService, specsIdsList, SpecsIds::hddId);
+            Future<Map<String, PowerSupply>> powerSupplies = fetch(executor, powerSupplyService, specsIdsList, SpecsIds::powerSupplyId);
+            Future<Map<String, PcCase>> pcCases = fetch(executor, pcCaseService, specsIdsList, SpecsIds::pcCaseId);
+
+            return specsIdsList.stream()
+                    .map(specsIds -> new Specs(
+                            join(cpus).get(specsIds.cpuId()),
+                            join(gpus).get(specsIds.gpuId()),
+                            join(motherboards).get(specsIds.motherboardId()),
+                            join(rams).get(specsIds.ramId()),
+                            join(ssds).get(specsIds.ssdId()),
+                            join(hdds).get(specsIds.hddId()),
+                            join(powerSupplies).get(specsIds.powerSupplyId()),
+                            join(pcCases).get(specsIds.pcCaseId())
+                    ))
+                    .toList();
+        }
+    }
+
+    List<SpecsNames> resolveNames(List<SpecsIds> specsIdsList) {
+        return resolveAvailable(specsIdsList).stream()
+                .map(specs -> new SpecsNames(
+                        nameOf(specs.cpu(), CPU::hardwareSpec),
+                        nameOf(specs.gpu(), GPU::hardwareSpec),
+                        nameOf(specs.motherboard(), Motherboard::hardwareSpec),
+                        nameOf(specs.ram(), RAM::hardwareSpec),
+                        nameOf(specs.ssd(), SSD::hardwareSpec),
+                        nameOf(specs.hdd(), HDD::hardwareSpec),
+                        nameOf(specs.powerSupply(), PowerSupply::hardwareSpec),
+                        nameOf(specs.pcCase(), PcCase::hardwareSpec)
+                ))
+                .toList();
+    }
+
+    List<Specs> resolveAvailable(List<SpecsIds> specsIdsList) {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            // lenient lookups, unknown ids resolve to null instead of failing the whole batch
+            Future<Map<String, CPU>> cpus = fetchAvailable(executor, cpuService, specsIdsList, SpecsIds::cpuId);
+            Future<Map<String, GPU>> gpus = fetchAvailable(executor, gpuService, specsIdsList, SpecsIds::gpuId);
+            Future<Map<String, Motherboard>> motherboards = fetchAvailable(executor, motherboardService, specsIdsList, SpecsIds::motherboardId);
+            Future<Map<String, RAM>> rams = fetchAvailable(executor, ramService, specsIdsList, SpecsIds::ramId);
+            Future<Map<String, SSD>> ssds = fetchAvailable(executor, ssdService, specsIdsList, SpecsIds::ssdId);
+            Future<Map<String, HDD>> hdds = fetchAvailable(executor, hddService, specsIdsList, SpecsIds::hddId);
+            Future<Map<String, PowerSupply>> powerSupplies = fetchAvailable(executor, powerSupplyService, specsIdsList, SpecsIds::powerSupplyId);
+            Future<Map<String, PcCase>> pcCases = fetchAvailable(executor, pcCaseService, specsIdsList, SpecsIds::pcCaseId);
+
+            return specsIdsList.stream()
+                    .map(specsIds -> new Specs(
+                            join(cpus).get(specsIds.cpuId()),
+                            join(gpus).get(specsIds.gpuId()),
+                            join(motherboards).get(specsIds.motherboardId()),
+                            join(rams).get(specsIds.ramId()),
+                            join(ssds).get(specsIds.ssdId()),
+                            join(hdds).get(specsIds.hddId()),
+                            join(powerSupplies).get(specsIds.powerSupplyId()),
+                            join(pcCases).get(specsIds.pcCaseId())
+                    ))
+                    .toList();
+        }
+    }
+
+    SpecsForEnergyConsumption resolveForEnergyConsumption(SpecsIdsForEnergyConsumption specsIds) {
+        List<SpecsIdsForEnergyConsumption> specsIdsList = List.of(specsIds);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<Map<String, CPU>> cpus = fetch(executor, cpuService, specsIdsList, SpecsIdsForEnergyConsumption::cpuId);
+            Future<Map<String, GPU>> gpus = fetch(executor, gpuService, specsIdsList, SpecsIdsForEnergyConsumption::gpuId);
+            Future<Map<String, Motherboard>> motherboards = fetch(executor, motherboardService, specsIdsList, SpecsIdsForEnergyConsumption::motherboardId);
+            Future<Map<String, RAM>> rams = fetch(executor, ramService, specsIdsList, SpecsIdsForEnergyConsumption::ramId);
+            Future<Map<String, SSD>> ssds = fetch(executor, ssdService, specsIdsList, SpecsIdsForEnergyConsumption::ssdId);
+            Future<Map<String, HDD>> hdds = fetch(executor, hddService, specsIdsList, SpecsIdsForEnergyConsumption::hddId);
+
+            return new SpecsForEnergyConsumption(
+                    join(cpus).get(specsIds.cpuId()),
+                    join(gpus).get(specsIds.gpuId()),
+                    join(motherboards).get(specsIds.motherboardId()),
+                    join(rams).get(specsIds.ramId()),
+                    join(ssds).get(specsIds.ssdId()),
+                    join(hdds).get(specsIds.hddId())
+            );
+        }
+    }
+
+    Object resolveComponent(SpecsComponent component, String id) {
+        List<String> ids = List.of(id);
+
+        return switch (component) {
+            case CPU -> cpuService.findAllByIds(ids).get(id);
+            case GPU -> gpuService.findAllByIds(ids).get(id);
+            case MOTHERBOARD -> motherboardService.findAllByIds(ids).get(id);
+            case RAM -> ramService.findAllByIds(ids).get(id);
+            case SSD -> ssdService.findAllByIds(ids).get(id);
+            case HDD -> hddService.findAllByIds(ids).get(id);
+            case POWER_SUPPLY -> powerSupplyService.findAllByIds(ids).get(id);
+            case PC_CASE -> pcCaseService.findAllByIds(ids).get(id);
+        };
+    }
+
+    static Specs withComponent(Specs specs, SpecsComponent component, Object value) {
+        return switch (component) {
+            case CPU -> specs.withCpu((CPU) value);
+            case GPU -> specs.withGpu((GPU) value);
+            case MOTHERBOARD -> specs.withMotherboard((Motherboard) value);
+            case RAM -> specs.withRam((RAM) value);
+            case SSD -> specs.withSsd((SSD) value);
+            case HDD -> specs.withHdd((HDD) value);
+            case POWER_SUPPLY -> specs.withPowerSupply((PowerSupply) value);
+            case PC_CASE -> specs.withPcCase((PcCase) value);
+        };
+    }
+
+    private static <I, T> Future<Map<String, T>> fetch(ExecutorService executor, BaseService<T, ?, ?> service, List<I> specsIdsList, Function<I, String> idExtractor) {
+        List<String> ids = specsIdsList.stream().map(idExtractor).toList();
+
+        return executor.submit(() -> service.getAllByIds(ids));
+    }
+
+    private static <T> Future<Map<String, T>> fetchAvailable(ExecutorService executor, BaseService<T, ?, ?> service, List<SpecsIds> specsIdsList, Function<SpecsIds, String> idExtractor) {
+        List<String> ids = specsIdsList.stream().map(idExtractor).toList();
+
+        return executor.submit(() -> service.findAllByIds(ids));
+    }
+
+    private static <T> String nameOf(T component, Function<T, HardwareSpec> hardwareSpec) {
+        return component == null ? null : hardwareSpec.apply(component).name();
+    }
+
+    private static <T> T join(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while resolving specs", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
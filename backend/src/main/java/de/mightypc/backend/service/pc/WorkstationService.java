@@ -1,10 +1,15 @@
 package de.mightypc.backend.service.pc;
 
 import de.mightypc.backend.exception.pc.WorkstationNotFoundException;
+import de.mightypc.backend.model.catalog.CatalogFacets;
+import de.mightypc.backend.model.catalog.CatalogField;
+import de.mightypc.backend.model.catalog.CatalogFilter;
+import de.mightypc.backend.model.catalog.FacetDefinition;
 import de.mightypc.backend.model.hardware.HardwareSpec;
 import de.mightypc.backend.model.hardware.Specs;
 import de.mightypc.backend.model.hardware.SpecsIds;
 import de.mightypc.backend.model.hardware.SpecsNames;
+import de.mightypc.backend.model.pc.SpecsTotals;
 import de.mightypc.backend.model.pc.Workstation;
 import de.mightypc.backend.model.pc.createpc.CreateWorkstation;
 import de.mightypc.backend.model.pc.createpc.WorkstationResponse;
@@ -19,7 +24,6 @@ import de.mightypc.backend.service.hardware.RamService;
 import de.mightypc.backend.service.hardware.SsdService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -27,11 +31,10 @@ import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
 
 @Service
-public class WorkstationService extends PcBaseService<Workstation, WorkstationRepository> {
+public class WorkstationService extends PcBaseService<Workstation, WorkstationResponse, WorkstationRepository> {
     private final WorkstationRepository workstationRepository;
 
     @Autowired
@@ -41,56 +44,57 @@ public class WorkstationService extends PcBaseService<Workstation, WorkstationRe
     }
 
 
+    @Override
     protected String getId(Workstation entity) {
         return entity.id();
     }
 
+    @Override
+    public String getCategory() {
+        return "workstation";
+    }
+
+    @Override
+    protected HardwareSpec getHardwareSpecOf(Workstation workstation) {
+        return workstation.hardwareSpec();
+    }
+
     @Transactional
     public Workstation save(CreateWorkstation createWorkstation) {
-        Specs specs = getSpecs(createWorkstation.specsIds());
-
-        HardwareSpec hardwareSpec = new HardwareSpec(
-                createWorkstation.hardwareSpec().name(),
-                createWorkstation.hardwareSpec().description(),
-                getTotalPrice(specs, createWorkstation.cpuNumber(), createWorkstation.gpuNumber()),
-                createWorkstation.hardwareSpec().rating()
-        );
+        Workstation saved = workstationRepository.save(createWorkstation(createWorkstation, getSpecs(createWorkstation.specsIds())));
+        markChanged(saved.id());
 
-        return workstationRepository.save(
-                new Workstation(
-                        hardwareSpec,
-                        specs,
-                        createWorkstation.cpuNumber(),
-                        createWorkstation.gpuNumber(),
-                        calculateEnergyConsumptionOfWorkstation(createWorkstation.cpuNumber(), createWorkstation.gpuNumber(), specs)
-                ));
+        return saved;
     }
 
     @Transactional
     public void saveAll(List<CreateWorkstation> createWorkstations) {
+        List<Specs> specsOfWorkstations = getAllSpecs(createWorkstations.stream().map(CreateWorkstation::specsIds).toList());
         List<Workstation> workStationsToSave = new ArrayList<>();
 
-        for (CreateWorkstation createWorkstation : createWorkstations) {
-            Specs specs = getSpecs(createWorkstation.specsIds());
-
-            HardwareSpec hardwareSpec = new HardwareSpec(
-                    createWorkstation.hardwareSpec().name(),
-                    createWorkstation.hardwareSpec().description(),
-                    getTotalPrice(specs, createWorkstation.cpuNumber(), createWorkstation.gpuNumber()),
-                    createWorkstation.hardwareSpec().rating()
-            );
-
-            Workstation workstation = new Workstation(
-                    hardwareSpec,
-                    specs,
-                    createWorkstation.cpuNumber(),
-                    createWorkstation.gpuNumber(),
-                    calculateEnergyConsumptionOfWorkstation(createWorkstation.cpuNumber(), createWorkstation.gpuNumber(), specs)
-            );
-            workStationsToSave.add(workstation);
+        for (int i = 0; i < createWorkstations.size(); i++) {
+            workStationsToSave.add(createWorkstation(createWorkstations.get(i), specsOfWorkstations.get(i)));
         }
 
         workstationRepository.saveAll(workStationsToSave);
+        markChanged(null);
+    }
+
+    private Workstation createWorkstation(CreateWorkstation createWorkstation, Specs specs) {
+        HardwareSpec hardwareSpec = new HardwareSpec(
+                createWorkstation.hardwareSpec().name(),
+                createWorkstation.hardwareSpec().description(),
+                getTotalPrice(specs, createWorkstation.cpuNumber(), createWorkstation.gpuNumber()),
+                createWorkstation.hardwareSpec().rating()
+        );
+
+        return new Workstation(
+                hardwareSpec,
+                specs,
+                createWorkstation.cpuNumber(),
+                createWorkstation.gpuNumber(),
+                calculateEnergyConsumptionOfWorkstation(createWorkstation.cpuNumber(), createWorkstation.gpuNumber(), specs)
+        );
     }
 
     private WorkstationResponse createWorkstationResponse(Workstation workstation) {
@@ -124,6 +128,20 @@ public class WorkstationService extends PcBaseService<Workstation, WorkstationRe
         );
     }
 
+    @Override
+    protected Specs getSpecsOf(Workstation workstation) {
+        return workstation.specs();
+    }
+
+    @Override
+    protected SpecsTotals calculateTotals(Workstation workstation, Specs specs) {
+        return new SpecsTotals(
+                workstation.id(),
+                getTotalPrice(specs, workstation.cpuNumber(), workstation.gpuNumber()),
+                calculateEnergyConsumptionOfWorkstation(workstation.cpuNumber(), workstation.gpuNumber(), specs)
+        );
+    }
+
     private BigDecimal getTotalPrice(Specs specs, int cpuNumber, int gpuNumber) {
         BigDecimal totalPrice = BigDecimal.ZERO;
 
@@ -153,7 +171,10 @@ public class WorkstationService extends PcBaseService<Workstation, WorkstationRe
 
         photos.addFirst(photoUrl);
 
-        return workstationRepository.save(workstation.withPhotos(photos));
+        Workstation saved = workstationRepository.save(workstation.withPhotos(photos));
+        markChanged(saved.id());
+
+        return saved;
     }
 
     private Workstation getById(String id) {
@@ -189,6 +210,7 @@ public class WorkstationService extends PcBaseService<Workstation, WorkstationRe
         );
 
         workstationRepository.save(workstation);
+        markChanged(workstation.id());
     }
 
     private int calculateEnergyConsumptionOfWorkstation(int cpuNumber, int gpuNumber, Specs specs) {
@@ -210,66 +232,32 @@ public class WorkstationService extends PcBaseService<Workstation, WorkstationRe
 
     @Transactional(readOnly = true)
     public Page<WorkstationResponse> getAllByPage(Pageable pageable) {
-        Page<Workstation> page = workstationRepository.findAll(pageable);
+        Page<WorkstationResponse> page = workstationRepository.findAllListings(pageable);
 
         if (page.isEmpty()) throw new WorkstationNotFoundException("No Workstations found.");
 
-        List<WorkstationResponse> responses = page.getContent().stream()
-                .map(this::createWorkstationResponse)
-                .toList();
-
-        return new PageImpl<>(responses, pageable, page.getTotalElements());
+        return page;
     }
 
 
+    @Override
+    protected FacetDefinition getFacetDefinition() {
+        return FacetDefinition.histogramsOf(CatalogField.PRICE, CatalogField.ENERGY_CONSUMPTION);
+    }
+
     @Transactional(readOnly = true)
     public Page<Workstation> getWorkstations(Pageable pageable, String sortType, Integer lowestPrice, Integer highestPrice, Integer lowestEnergyConsumption, Integer highestEnergyConsumption) {
-        List<Workstation> workstations = getAll();
-
-        if (lowestPrice != null && highestPrice != null) {
-            workstations = workstations.stream()
-                    .filter(workstation -> workstation.hardwareSpec().price().intValue() >= lowestPrice &&
-                                           workstation.hardwareSpec().price().intValue() <= highestPrice)
-                    .toList();
-        }
-
-        if (lowestEnergyConsumption != null && highestEnergyConsumption != null) {
-            workstations = workstations.stream()
-                    .filter(workstation -> workstation.energyConsumption() >= lowestEnergyConsumption &&
-                                           workstation.energyConsumption() <= highestEnergyConsumption)
-                    .toList();
-        }
+        return getAllByFilter(getWorkstationFilter(sortType, lowestPrice, highestPrice, lowestEnergyConsumption, highestEnergyConsumption), pageable);
+    }
 
-        if (sortType != null) {
-
-            switch (sortType) {
-                case "price-asc":
-                    workstations = workstations.stream()
-                            .sorted(Comparator.comparing(workstation -> workstation.hardwareSpec().price()))
-                            .toList();
-                    break;
-                case "price-desc":
-                    workstations = workstations.stream()
-                            .sorted(Comparator.comparing((Workstation workstation) -> workstation.hardwareSpec().price()).reversed())
-                            .toList();
-                    break;
-                case "rating-asc":
-                    workstations = workstations.stream()
-                            .sorted(Comparator.comparing(workstation -> workstation.hardwareSpec().rating()))
-                            .toList();
-                    break;
-                case "rating-desc":
-                    workstations = workstations.stream()
-                            .sorted(Comparator.comparing((Workstation workstation) -> workstation.hardwareSpec().rating()).reversed())
-                            .toList();
-                    break;
-                default:
-                    break;
-            }
-        }
+    @Transactional(readOnly = true)
+    public CatalogFacets<WorkstationResponse> getWorkstationFacets(Pageable pageable, String sortType, Integer lowestPrice, Integer highestPrice, Integer lowestEnergyConsumption, Integer highestEnergyConsumption) {
+        return getFacetsByFilter(getWorkstationFilter(sortType, lowestPrice, highestPrice, lowestEnergyConsumption, highestEnergyConsumption), pageable);
+    }
 
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), workstations.size());
-        return new PageImpl<>(workstations.subList(start, end), pageable, workstations.size());
+    private static CatalogFilter getWorkstationFilter(String sortType, Integer lowestPrice, Integer highestPrice, Integer lowestEnergyConsumption, Integer highestEnergyConsumption) {
+        return CatalogFilter.sortedBy(sortType)
+                .withRange(CatalogField.PRICE, lowestPrice, highestPrice)
+                .withRange(CatalogField.ENERGY_CONSUMPTION, lowestEnergyConsumption, highestEnergyConsumption);
     }
 }
@@ -0,0 +1,84 @@
+package de.mightypc.backend.service.search;
+
+import de.mightypc.backend.model.catalog.CatalogChangedEvent;
+import de.mightypc.backend.model.search.SearchDocument;
+import de.mightypc.backend.model.search.SearchResult;
+import de.mightypc.backend.model.search.Suggestion;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class CatalogSearchService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(CatalogSearchService.class);
+    private static final int MAXIMUM_LIMIT = 100;
+
+    private final Map<String, SearchableCatalog> catalogs = new LinkedHashMap<>();
+    private final SearchIndex searchIndex = new SearchIndex();
+    private final SuggestIndex suggestIndex = new SuggestIndex();
+
+    public CatalogSearchService(List<SearchableCatalog> catalogs) {
+        for (SearchableCatalog catalog : catalogs) {
+            this.catalogs.put(catalog.getCategory(), catalog);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        catalogs.values().forEach(this::reindex);
+
+        LOGGER.info("Search index built with {} documents", searchIndex.size());
+    }
+
+    @EventListener
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        SearchableCatalog catalog = catalogs.get(event.category());
+
+        if (catalog == null) {
+            return;
+        }
+
+        if (event.id() == null) {
+            reindex(catalog);
+            return;
+        }
+
+        try {
+            catalog.getSearchDocument(event.id()).ifPresentOrElse(document -> {
+                searchIndex.put(document);
+                suggestIndex.put(document);
+            }, () -> {
+                searchIndex.remove(event.category(), event.id());
+                suggestIndex.remove(event.category(), event.id());
+            });
+        } catch (DataAccessException e) {
+            LOGGER.warn("Could not update search index for {} {}: {}", event.category(), event.id(), e.getMessage());
+        }
+    }
+
+    public List<SearchResult> search(String query, int limit) {
+        return searchIndex.search(query, Math.min(limit, MAXIMUM_LIMIT));
+    }
+
+    public List<Suggestion> suggest(String prefix, int limit) {
+        return suggestIndex.suggest(prefix, limit);
+    }
+
+    private void reindex(SearchableCatalog catalog) {
+        try {
+            List<SearchDocument> documents = catalog.getSearchDocuments();
+
+            searchIndex.replaceCategory(catalog.getCategory(), documents);
+            suggestIndex.replaceCategory(catalog.getCategory(), documents);
+        } catch (DataAccessException e) {
+            LOGGER.warn("Could not index {}: {}", catalog.getCategory(), e.getMessage());
+        }
+    }
+}
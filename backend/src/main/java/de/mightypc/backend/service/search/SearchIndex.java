@@ -0,0 +1,195 @@
+package de.mightypc.backend.service.search;
+
+import de.mightypc.backend.model.search.SearchDocument;
+import de.mightypc.backend.model.search.SearchResult;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+public class SearchIndex {
+    private static final Pattern SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int NAME_WEIGHT = 3;
+    private static final double PREFIX_MATCH_FACTOR = 0.7;
+
+    private final Map<DocumentKey, IndexedDocument> documents = new HashMap<>();
+    private final TreeMap<String, Map<DocumentKey, Integer>> postings = new TreeMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private long totalLength;
+
+    public void put(SearchDocument document) {
+        Map<String, Integer> termFrequencies = new HashMap<>();
+        tokenize(document.name()).forEach(term -> termFrequencies.merge(term, NAME_WEIGHT, Integer::sum));
+        tokenize(document.description()).forEach(term -> termFrequencies.merge(term, 1, Integer::sum));
+        int length = termFrequencies.values().stream().mapToInt(Integer::intValue).sum();
+
+        DocumentKey key = new DocumentKey(document.category(), document.id());
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(key);
+
+            documents.put(key, new IndexedDocument(document, termFrequencies, length));
+            termFrequencies.forEach((term, frequency) -> postings.computeIfAbsent(term, t -> new HashMap<>()).put(key, frequency));
+            totalLength += length;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String category, String id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(new DocumentKey(category, id));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void replaceCategory(String category, Collection<SearchDocument> categoryDocuments) {
+        lock.writeLock().lock();
+        try {
+            documents.keySet().stream()
+                    .filter(key -> key.category().equals(category))
+                    .toList()
+                    .forEach(this::removeLocked);
+
+            categoryDocuments.forEach(this::put);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<SearchResult> search(String query, int limit) {
+        List<String> queryTerms = tokenize(query);
+
+        if (queryTerms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            if (documents.isEmpty()) {
+                return List.of();
+            }
+
+            double averageLength = (double) totalLength / documents.size();
+            Map<DocumentKey, Double> scores = null;
+
+            // every query term has to match, the last one may still be typed so all terms match as prefixes
+            for (String queryTerm : queryTerms) {
+                Map<DocumentKey, Double> termScores = scoreTerm(queryTerm, averageLength);
+
+                if (scores == null) {
+                    scores = termScores;
+                } else {
+                    scores.keySet().retainAll(termScores.keySet());
+                    scores.replaceAll((key, score) -> score + termScores.get(key));
+                }
+
+                if (scores.isEmpty()) {
+                    return List.of();
+                }
+            }
+
+            return scores.entrySet().stream()
+                    .sorted(Map.Entry.<DocumentKey, Double>comparingByValue().reversed()
+                            .thenComparing(entry -> entry.getKey().category())
+                            .thenComparing(entry -> entry.getKey().id()))
+                    .limit(limit)
+                    .map(entry -> toResult(documents.get(entry.getKey()).document(), entry.getValue()))
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Map<DocumentKey, Double> scoreTerm(String queryTerm, double averageLength) {
+        Map<DocumentKey, Double> scores = new HashMap<>();
+        NavigableMap<String, Map<DocumentKey, Integer>> matchingTerms = postings.subMap(queryTerm, true, queryTerm + Character.MAX_VALUE, false);
+
+        for (Map.Entry<String, Map<DocumentKey, Integer>> term : matchingTerms.entrySet()) {
+            double idf = inverseDocumentFrequency(term.getValue().size());
+            double factor = term.getKey().equals(queryTerm) ? 1 : PREFIX_MATCH_FACTOR;
+
+            for (Map.Entry<DocumentKey, Integer> posting : term.getValue().entrySet()) {
+                int frequency = posting.getValue();
+                int length = documents.get(posting.getKey()).length();
+                double score = factor * idf * frequency * (K1 + 1) / (frequency + K1 * (1 - B + B * length / averageLength));
+
+                // a document matching several expansions of a prefix counts its best one
+                scores.merge(posting.getKey(), score, Math::max);
+            }
+        }
+
+        return scores;
+    }
+
+    private double inverseDocumentFrequency(int documentFrequency) {
+        return Math.log(1 + (documents.size() - documentFrequency + 0.5) / (documentFrequency + 0.5));
+    }
+
+    private void removeLocked(DocumentKey key) {
+        IndexedDocument removed = documents.remove(key);
+
+        if (removed == null) {
+            return;
+        }
+
+        for (String term : removed.termFrequencies().keySet()) {
+            Map<DocumentKey, Integer> termPostings = postings.get(term);
+            termPostings.remove(key);
+
+            if (termPostings.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+
+        totalLength -= removed.length();
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+
+        List<String> tokens = new ArrayList<>();
+
+        for (String token : SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+
+        return tokens;
+    }
+
+    private static SearchResult toResult(SearchDocument document, double score) {
+        return new SearchResult(document.category(), document.id(), document.name(), document.price(), document.rating(), score);
+    }
+
+    private record DocumentKey(String category, String id) {
+    }
+
+    private record IndexedDocument(SearchDocument document, Map<String, Integer> termFrequencies, int length) {
+    }
+}
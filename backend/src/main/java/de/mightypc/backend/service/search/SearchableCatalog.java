@@ -0,0 +1,14 @@
+package de.mightypc.backend.service.search;
+
+import de.mightypc.backend.model.search.SearchDocument;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface SearchableCatalog {
+    String getCategory();
+
+    List<SearchDocument> getSearchDocuments();
+
+    Optional<SearchDocument> getSearchDocument(String id);
+}
@@ -0,0 +1,190 @@
+package de.mightypc.backend.service.search;
+
+import de.mightypc.backend.model.search.SearchDocument;
+import de.mightypc.backend.model.search.Suggestion;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+public class SuggestIndex {
+    static final int MAXIMUM_SUGGESTIONS = 10;
+
+    private static final Comparator<Suggestion> BY_RATING = Comparator.comparingDouble(Suggestion::rating).reversed()
+            .thenComparing(Suggestion::name)
+            .thenComparing(Suggestion::category)
+            .thenComparing(Suggestion::id);
+
+    private final Node root = new Node();
+    private final Map<SuggestionKey, Suggestion> suggestions = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void put(SearchDocument document) {
+        Suggestion suggestion = new Suggestion(document.category(), document.id(), document.name(), document.rating());
+
+        lock.writeLock().lock();
+        try {
+            putLocked(suggestion);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String category, String id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(new SuggestionKey(category, id));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void replaceCategory(String category, Collection<SearchDocument> categoryDocuments) {
+        lock.writeLock().lock();
+        try {
+            suggestions.keySet().stream()
+                    .filter(key -> key.category().equals(category))
+                    .toList()
+                    .forEach(this::removeLocked);
+
+            for (SearchDocument document : categoryDocuments) {
+                putLocked(new Suggestion(document.category(), document.id(), document.name(), document.rating()));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return suggestions.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<Suggestion> suggest(String prefix, int limit) {
+        List<String> terms = SearchIndex.tokenize(prefix);
+
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        String key = String.join(" ", terms);
+
+        lock.readLock().lock();
+        try {
+            Node node = root;
+
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.children.get(key.charAt(i));
+            }
+
+            if (node == null) {
+                return List.of();
+            }
+
+            return List.copyOf(node.top.subList(0, Math.min(limit, node.top.size())));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void putLocked(Suggestion suggestion) {
+        SuggestionKey key = new SuggestionKey(suggestion.category(), suggestion.id());
+        removeLocked(key);
+
+        suggestions.put(key, suggestion);
+
+        for (String word : keysOf(suggestion.name())) {
+            Node node = root;
+            offer(node, suggestion);
+
+            for (int i = 0; i < word.length(); i++) {
+                node = node.children.computeIfAbsent(word.charAt(i), c -> new Node());
+                offer(node, suggestion);
+            }
+
+            node.terminals.add(suggestion);
+        }
+    }
+
+    private void removeLocked(SuggestionKey key) {
+        Suggestion removed = suggestions.remove(key);
+
+        if (removed == null) {
+            return;
+        }
+
+        for (String word : keysOf(removed.name())) {
+            List<Node> path = new ArrayList<>(List.of(root));
+
+            for (int i = 0; i < word.length(); i++) {
+                path.add(path.getLast().children.get(word.charAt(i)));
+            }
+
+            path.getLast().terminals.remove(removed);
+
+            // bottom up, so every node is rebuilt from children that are already up to date
+            for (int i = path.size() - 1; i >= 0; i--) {
+                Node node = path.get(i);
+
+                if (i > 0 && node.terminals.isEmpty() && node.children.isEmpty()) {
+                    path.get(i - 1).children.remove(word.charAt(i - 1));
+                } else if (node.top.contains(removed)) {
+                    node.top = Stream.concat(node.terminals.stream(), node.children.values().stream().flatMap(child -> child.top.stream()))
+                            .distinct()
+                            .sorted(BY_RATING)
+                            .limit(MAXIMUM_SUGGESTIONS)
+                            .toList();
+                }
+            }
+        }
+    }
+
+    private static void offer(Node node, Suggestion suggestion) {
+        if (node.top.contains(suggestion)) {
+            return;
+        }
+
+        if (node.top.size() == MAXIMUM_SUGGESTIONS && BY_RATING.compare(suggestion, node.top.getLast()) >= 0) {
+            return;
+        }
+
+        List<Suggestion> top = new ArrayList<>(node.top);
+        top.add(suggestion);
+        top.sort(BY_RATING);
+
+        node.top = List.copyOf(top.subList(0, Math.min(top.size(), MAXIMUM_SUGGESTIONS)));
+    }
+
+    private static Set<String> keysOf(String name) {
+        List<String> terms = SearchIndex.tokenize(name);
+        Set<String> keys = new HashSet<>();
+
+        // every word of a name starts a key, so "4090" suggests "GeForce RTX 4090" as well
+        for (int i = 0; i < terms.size(); i++) {
+            keys.add(String.join(" ", terms.subList(i, terms.size())));
+        }
+
+        return keys;
+    }
+
+    private record SuggestionKey(String category, String id) {
+    }
+
+    private static class Node {
+        private final Map<Character, Node> children = new HashMap<>(4);
+        private final Set<Suggestion> terminals = new HashSet<>(2);
+        private List<Suggestion> top = List.of();
+    }
+}
@@ -1,15 +1,14 @@
 package de.mightypc.backend.service.shop;
 
 import de.mightypc.backend.exception.shop.ItemNotFoundException;
+import de.mightypc.backend.exception.shop.user.UserNotFoundException;
 import de.mightypc.backend.model.shop.order.Item;
 import de.mightypc.backend.model.shop.user.User;
 import de.mightypc.backend.repository.shop.UserRepository;
 import de.mightypc.backend.service.shop.user.UserService;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.util.ArrayList;
 import java.util.List;
 
 @Service
@@ -28,18 +27,10 @@ public class BasketService {
         return user.getBasket();
     }
 
-    @Transactional
     public void saveItem(String userId, Item item) {
-        User user = userService.getUserById(userId);
-
-        if (user.getBasket() == null || user.getBasket().isEmpty()) {
-            user.setBasket(new ArrayList<>(List.of(item)));
-        } else {
-            List<Item> basket = user.getBasket();
-            basket.add(item);
+        if (!userRepository.pushBasketItem(userId, item)) {
+            throw userNotFound(userId);
         }
-
-        userRepository.save(user);
     }
 
     public Item getItemById(String userId, String itemId) {
@@ -55,27 +46,22 @@ public class BasketService {
                 .orElseThrow(() -> new ItemNotFoundException("There is no such item!"));
     }
 
-    private void deleteItem(User user, String itemId) {
-        Item item = getItemById(user, itemId);
-
-        user.getBasket().remove(item);
-
-        userRepository.save(user);
-    }
-
     public void deleteItemByUserIdAndItemId(String userId, String itemId) {
-        User user = userService.getUserById(userId);
+        if (userRepository.pullBasketItem(userId, itemId)) {
+            return;
+        }
 
-        deleteItem(user, itemId);
+        if (!userRepository.existsById(userId)) {
+            throw userNotFound(userId);
+        }
+
+        throw new ItemNotFoundException("There is no such item!");
     }
 
-    @Transactional
     public void deleteAll(String userId) {
-        User user = userService.getUserById(userId);
-
-        user.setBasket(new ArrayList<>());
-
-        userRepository.save(user);
+        if (!userRepository.clearBasket(userId)) {
+            throw userNotFound(userId);
+        }
     }
 
     public BigDecimal getEntirePriceOfBasketByUser(User user) {
@@ -97,4 +83,8 @@ public class BasketService {
 
         return getEntirePriceOfBasketByUser(user);
     }
+
+    private static UserNotFoundException userNotFound(String userId) {
+        return new UserNotFoundException("There is no such user with id: " + userId + ".");
+    }
 }
@@ -1,16 +1,22 @@
 package de.mightypc.backend.service.shop;
 
 import de.mightypc.backend.exception.shop.OrderNotFoundException;
+import de.mightypc.backend.exception.shop.user.UserNotFoundException;
 import de.mightypc.backend.model.shop.order.Item;
 import de.mightypc.backend.model.shop.order.Order;
 import de.mightypc.backend.model.shop.order.OrderStatus;
 import de.mightypc.backend.model.shop.user.User;
 import de.mightypc.backend.model.shop.order.OrderStatusRequest;
+import de.mightypc.backend.repository.shop.OrderRepository;
 import de.mightypc.backend.repository.shop.UserRepository;
 import de.mightypc.backend.service.shop.user.UserService;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -19,87 +25,83 @@ public class OrderService {
     private final UserService userService;
     private final BasketService basketService;
     private final UserRepository userRepository;
+    private final OrderRepository orderRepository;
 
-    public OrderService(UserService userService, BasketService basketService, UserRepository userRepository) {
+    public OrderService(UserService userService, BasketService basketService, UserRepository userRepository, OrderRepository orderRepository) {
         this.userService = userService;
         this.basketService = basketService;
         this.userRepository = userRepository;
+        this.orderRepository = orderRepository;
     }
 
-    @Transactional
     public void placeOrder(String userId, List<Item> items) {
         User user = userService.getUserById(userId);
 
-        List<Order> currOrders = user.getOrders();
         List<String> photos = new ArrayList<>();
 
         for (Item item : items) {
             photos.add(item.photo());
         }
 
-        Order order = new Order(items, basketService.getEntirePriceOfBasketByUser(user), OrderStatus.PENDING, photos);
-
-        if (currOrders == null || currOrders.isEmpty()) {
-            user.setOrders(new ArrayList<>(List.of(order)));
-        } else {
-            user.getOrders().add(order);
-        }
-
-        userRepository.save(user);
+        orderRepository.save(new Order(userId, items, basketService.getEntirePriceOfBasketByUser(user), OrderStatus.PENDING, photos, Instant.now()));
     }
 
-    @Transactional
     public void removeOrder(String userId, String orderId) {
-        User user = userService.getUserById(userId);
-
-        Order orderToRemove = getOrderByUserAndOrderId(user, orderId);
-
-        user.getOrders().remove(orderToRemove);
-
-        userRepository.save(user);
-    }
-
-    private Order getOrderByUserAndOrderId(User user, String orderId) {
-        return user.getOrders().stream()
-                .filter(order -> order.getId().equals(orderId))
-                .findAny()
-                .orElseThrow(() -> new OrderNotFoundException("There is no such order!"));
+        if (orderRepository.deleteByIdAndUserId(orderId, userId) == 0) {
+            throw orderNotFound(userId);
+        }
     }
 
-    @Transactional
     public Order getOrderByUserIdAndOrderId(String userId, String orderId) {
-        User user = userService.getUserById(userId);
-
-        return getOrderByUserAndOrderId(user, orderId);
+        return orderRepository.findByIdAndUserId(orderId, userId)
+                .orElseThrow(() -> orderNotFound(userId));
     }
 
     public List<Order> getAllOrdersByUserId(String userId) {
-        User user = userService.getUserById(userId);
+        List<Order> orders = orderRepository.findAllByUserIdOrderByCreatedAtAsc(userId);
 
-        return user.getOrders();
-    }
+        if (orders.isEmpty()) {
+            requireUser(userId);
+        }
 
-    @Transactional
-    public void updateStatus(String userId, String orderId, OrderStatusRequest statusRequest) {
-        User user = userService.getUserById(userId);
+        return orders;
+    }
 
-        Order order = getOrderByUserAndOrderId(user, orderId);
+    public Page<Order> getOrdersByUserId(String userId, Pageable pageable) {
+        Pageable newestFirst = pageable.getSort().isSorted()
+                ? pageable
+                : PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by(Sort.Direction.DESC, "createdAt"));
 
-        user.getOrders().remove(order);
+        Page<Order> orders = orderRepository.findAllByUserId(userId, newestFirst);
 
-        order.setOrderStatus(statusRequest.orderStatus());
+        if (orders.isEmpty()) {
+            requireUser(userId);
+        }
 
-        user.getOrders().add(order);
+        return orders;
+    }
 
-        userRepository.save(user);
+    public void updateStatus(String userId, String orderId, OrderStatusRequest statusRequest) {
+        if (!orderRepository.updateOrderStatus(userId, orderId, statusRequest.orderStatus())) {
+            throw orderNotFound(userId);
+        }
     }
 
-    @Transactional
     public void deleteAll(String userId) {
-        User user = userService.getUserById(userId);
+        if (orderRepository.deleteAllByUserId(userId) == 0) {
+            requireUser(userId);
+        }
+    }
 
-        user.setOrders(new ArrayList<>());
+    private RuntimeException orderNotFound(String userId) {
+        requireUser(userId);
 
-        userRepository.save(user);
+        return new OrderNotFoundException("There is no such order!");
+    }
+
+    private void requireUser(String userId) {
+        if (!userRepository.existsById(userId)) {
+            throw new UserNotFoundException("There is no such user with id: " + userId + ".");
+        }
     }
 }
@@ -1,12 +1,18 @@
 package de.mightypc.backend.service.shop.user;
 
 import de.mightypc.backend.exception.shop.user.UserNotFoundException;
+import de.mightypc.backend.model.shop.user.ChangePassword;
 import de.mightypc.backend.model.shop.user.CreateUser;
 import de.mightypc.backend.model.shop.user.User;
+import de.mightypc.backend.model.shop.user.UserCredentials;
+import de.mightypc.backend.model.shop.user.UserCredentialsChangedEvent;
 import de.mightypc.backend.model.shop.user.UserResponse;
 import de.mightypc.backend.repository.shop.UserRepository;
+import de.mightypc.backend.service.concurrency.OptimisticLockRetrier;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationEventPublisherAware;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -20,13 +26,16 @@ import java.util.ArrayList;
 import java.util.UUID;
 
 @Service
-public class UserService {
+public class UserService implements ApplicationEventPublisherAware {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final OptimisticLockRetrier optimisticLockRetrier;
+    private ApplicationEventPublisher eventPublisher;
 
-    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder, OptimisticLockRetrier optimisticLockRetrier) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.optimisticLockRetrier = optimisticLockRetrier;
     }
 
     public UserResponse getLoggedInUser(Authentication authentication) {
@@ -58,16 +67,24 @@ public class UserService {
     }
 
     public void registerUserWithEmailAndPassword(CreateUser createuser) {
+        checkRegistration(createuser);
+        registerUserWithPasswordHash(createuser, passwordEncoder.encode(createuser.password()));
+    }
+
+    public void checkRegistration(CreateUser createuser) {
         if (createuser == null) throw new IllegalStateException("User data can't be null!");
 
         boolean existsByEmail = userRepository.existsByEmail(createuser.email());
         if (existsByEmail)
             throw new IllegalStateException("User is already registered");
+    }
 
+    // the hash is made by the caller, so sign-up can hash on the hashing pool and store from another thread
+    public void registerUserWithPasswordHash(CreateUser createuser, String passwordHash) {
         userRepository.save(new User(
                 UUID.randomUUID().toString(),
                 createuser.email(),
-                passwordEncoder.encode(createuser.password()),
+                passwordHash,
                 new ArrayList<>(),
                 new ArrayList<>(),
                 new ArrayList<>(),
@@ -76,6 +93,34 @@ public class UserService {
                 ZonedDateTime.now().format(DateTimeFormatter.ofLocalizedDateTime(FormatStyle.FULL, FormatStyle.FULL)
                 ), "")
         );
+
+        // tokens of an earlier account with this email may have been remembered as unknown
+        publishCredentialsChanged(createuser.email());
+    }
+
+    public void changePassword(String email, ChangePassword changePassword) {
+        if (changePassword == null || changePassword.newPassword() == null || changePassword.newPassword().isBlank()) {
+            throw new IllegalArgumentException("New password can't be empty!");
+        }
+
+        UserCredentials credentials = userRepository.findCredentialsByEmail(email)
+                .orElseThrow(() -> new UserNotFoundException("There is no such user with email: " + email + "."));
+
+        if (credentials.password() == null || changePassword.currentPassword() == null
+                || !passwordEncoder.matches(changePassword.currentPassword(), credentials.password())) {
+            throw new IllegalArgumentException("Current password is incorrect");
+        }
+
+        userRepository.changePassword(email, passwordEncoder.encode(changePassword.newPassword()));
+        publishCredentialsChanged(email);
+    }
+
+    public void logoutEverywhere(String email) {
+        if (!userRepository.incrementTokenVersion(email)) {
+            throw new UserNotFoundException("There is no such user with email: " + email + ".");
+        }
+
+        publishCredentialsChanged(email);
     }
 
     public void logoutUser(HttpServletRequest request, HttpServletResponse response) {
@@ -90,19 +135,40 @@ public class UserService {
     }
 
     public User attachPhoto(String userId, String photoUrl) {
-        User user = getUserById(userId);
-        user.setUserPhoto(photoUrl);
-        return userRepository.save(user);
+        return optimisticLockRetrier.execute("user.attachPhoto", () -> {
+            User user = getUserById(userId);
+            user.setUserPhoto(photoUrl);
+            return userRepository.save(user);
+        });
     }
 
     public void deleteImage(String userId) {
-        User user = getUserById(userId);
-        user.setUserPhoto("");
-        userRepository.save(user);
+        optimisticLockRetrier.execute("user.deleteImage", () -> {
+            User user = getUserById(userId);
+            user.setUserPhoto("");
+            userRepository.save(user);
+        });
     }
 
     public void deleteAccount(String userId) {
-        User user = getUserById(userId);
-        userRepository.delete(user);
+        String email = optimisticLockRetrier.execute("user.deleteAccount", () -> {
+            User user = getUserById(userId);
+            userRepository.delete(user);
+
+            return user.getEmail();
+        });
+
+        publishCredentialsChanged(email);
+    }
+
+    private void publishCredentialsChanged(String email) {
+        if (eventPublisher != null && email != null) {
+            eventPublisher.publishEvent(new UserCredentialsChangedEvent(email));
+        }
+    }
+
+    @Override
+    public void setApplicationEventPublisher(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
     }
 }
@@ -0,0 +1,41 @@
+package de.mightypc.backend.config;
+
+import de.mightypc.backend.model.shop.user.User;
+import de.mightypc.backend.repository.shop.UserRepository;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+class UserVersionMigrationTest {
+    @Autowired
+    private UserVersionMigration userVersionMigration;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @DirtiesContext
+    @Test
+    void migrate_shouldMakeLegacyUserSaveable() {
+        // Arrange
+        mongoTemplate.insert(new Document("_id", "legacyId").append("email", "legacy@example.com"), mongoTemplate.getCollectionName(User.class));
+
+        // Act
+        userVersionMigration.migrate();
+
+        // Assert
+        User legacy = userRepository.findById("legacyId").orElseThrow();
+        assertEquals(0L, legacy.getVersion());
+        assertDoesNotThrow(() -> userRepository.save(legacy.withRole("ADMIN")));
+        assertEquals("ADMIN", userRepository.findById("legacyId").orElseThrow().getRole());
+    }
+}
@@ -0,0 +1,37 @@
+package de.mightypc.backend.controller.admin;
+
+import de.mightypc.backend.security.SecurityConfig;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(SecurityConfig.class)
+class CacheStatsControllerTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void getCacheStats_shouldListCatalogCaches() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/admin/caches"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$[*].name", Matchers.hasItem("CpuService.byId")))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[*].name", Matchers.hasItem("GpuService.pages")));
+    }
+
+    @Test
+    @WithMockUser
+    void getCacheStats_shouldBeForbidden_forNonAdmins() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/admin/caches"))
+                .andExpect(MockMvcResultMatchers.status().isForbidden());
+    }
+}
@@ -0,0 +1,122 @@
+package de.mightypc.backend.controller.admin;
+
+import de.mightypc.backend.model.hardware.*;
+import de.mightypc.backend.model.pc.PC;
+import de.mightypc.backend.repository.hardware.CpuRepository;
+import de.mightypc.backend.repository.pc.PcRepository;
+import de.mightypc.backend.security.SecurityConfig;
+import de.mightypc.backend.service.hardware.CpuService;
+import de.mightypc.backend.service.pc.ComponentChangePropagator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(SecurityConfig.class)
+class ComponentUsageControllerTest {
+    private final CPU cpu = new CPU("cpuId", new HardwareSpec("testCpu", "test", new BigDecimal(50), 2.5f), 10, "AM4");
+    private final GPU gpu = new GPU("gpuId", new HardwareSpec("testGpu", "test", new BigDecimal(50), 2.5f), 10);
+    private final Motherboard motherboard = new Motherboard("motherboardId", new HardwareSpec("testMotherboard", "test", new BigDecimal(50), 2.5f), 10, "AM4");
+    private final RAM ram = new RAM("ramId", new HardwareSpec("testRam", "test", new BigDecimal(50), 2.5f), "DDR", 10, 2);
+    private final SSD ssd = new SSD("ssdId", new HardwareSpec("testSsd", "test", new BigDecimal(50), 2.5f), 5, 10);
+    private final HDD hdd = new HDD("hddId", new HardwareSpec("testHdd", "test", new BigDecimal(50), 2.5f), 5, 10);
+    private final PcCase pcCase = new PcCase("pcCaseId", new HardwareSpec("testPcCase", "test", new BigDecimal(50), 2.5f), "3x3x3");
+    private final PowerSupply powerSupply = new PowerSupply("powerSupplyId", new HardwareSpec("testPowerSupply", "test", new BigDecimal(50), 2.5f), 600);
+    private final Specs specs = new Specs(cpu, gpu, motherboard, ram, ssd, hdd, powerSupply, pcCase);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PcRepository pcRepository;
+
+    @Autowired
+    private CpuRepository cpuRepository;
+
+    @Autowired
+    private CpuService cpuService;
+
+    @Autowired
+    private ComponentChangePropagator componentChangePropagator;
+
+    @BeforeEach
+    void setUp() {
+        cpuRepository.save(cpu);
+        pcRepository.save(new PC("usingPcId", new HardwareSpec("testPc", "test", new BigDecimal(699), 4.5f), specs, 100, Collections.emptyList()));
+        pcRepository.save(new PC("otherPcId", new HardwareSpec("otherPc", "test", new BigDecimal(699), 4.5f), specs.withCpu(cpu.withId("otherCpuId")), 100, Collections.emptyList()));
+    }
+
+    @DirtiesContext
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void getComponentUsage_shouldListPcsEmbeddingComponent() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/admin/components/cpu/cpuId/usage"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.pcIds", hasSize(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.pcIds[0]").value("usingPcId"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.workstationIds", hasSize(0)));
+    }
+
+    @DirtiesContext
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void getComponentUsage_shouldReturnBadRequest_whenCategoryIsUnknown() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/admin/components/keyboard/cpuId/usage"))
+                .andExpect(MockMvcResultMatchers.status().isBadRequest());
+    }
+
+    @DirtiesContext
+    @Test
+    void updateOfComponent_shouldRecalculatePriceOfPcsEmbeddingIt() {
+        cpuService.update(cpu.withHardwareSpec(new HardwareSpec("testCpu", "test", new BigDecimal(450), 2.5f)));
+        componentChangePropagator.propagatePendingChanges();
+
+        PC updated = pcRepository.findById("usingPcId").orElseThrow();
+        PC untouched = pcRepository.findById("otherPcId").orElseThrow();
+
+        assertEquals(0, new BigDecimal(450).compareTo(updated.specs().cpu().hardwareSpec().price()));
+        assertEquals(0, new BigDecimal(1099).compareTo(updated.hardwareSpec().price()));
+        assertEquals(0, new BigDecimal(699).compareTo(untouched.hardwareSpec().price()));
+    }
+
+    @DirtiesContext
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void getPropagationStats_shouldCountPropagatedChanges() throws Exception {
+        cpuService.update(cpu.withHardwareSpec(new HardwareSpec("testCpu", "test", new BigDecimal(450), 2.5f)));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/admin/components/propagation"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.pendingChanges").value(1));
+
+        componentChangePropagator.propagatePendingChanges();
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/admin/components/propagation"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.pendingChanges").value(0))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.propagatedChanges").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.updatedDocuments").value(1));
+    }
+
+    @Test
+    @WithMockUser
+    void getComponentUsage_shouldBeForbidden_forNonAdmins() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/admin/components/cpu/cpuId/usage"))
+                .andExpect(MockMvcResultMatchers.status().isForbidden());
+    }
+}
@@ -0,0 +1,45 @@
+package de.mightypc.backend.controller.admin;
+
+import de.mightypc.backend.security.SecurityConfig;
+import de.mightypc.backend.service.concurrency.OptimisticLockRetrier;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(SecurityConfig.class)
+class ConflictStatsControllerTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private OptimisticLockRetrier optimisticLockRetrier;
+
+    @DirtiesContext
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void getConflictStats_shouldListCountersPerOperation() throws Exception {
+        optimisticLockRetrier.execute("user.attachPhoto", () -> "saved");
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/admin/conflicts"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].operation").value("user.attachPhoto"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].attempts").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].conflicts").value(0));
+    }
+
+    @Test
+    @WithMockUser
+    void getConflictStats_shouldBeForbidden_forNonAdmins() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/admin/conflicts"))
+                .andExpect(MockMvcResultMatchers.status().isForbidden());
+    }
+}
@@ -0,0 +1,37 @@
+package de.mightypc.backend.controller.admin;
+
+import de.mightypc.backend.security.SecurityConfig;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(SecurityConfig.class)
+class MongoIndexControllerTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void getIndexReport_shouldReportNoMissingIndexes_afterStartup() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/admin/indexes"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$[?(@.collection == 'user')].missingIndexes[*]", Matchers.empty()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[?(@.collection == 'cPU')].missingIndexes[*]", Matchers.empty()));
+    }
+
+    @Test
+    @WithMockUser
+    void getIndexReport_shouldBeForbidden_forNonAdmins() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/admin/indexes"))
+                .andExpect(MockMvcResultMatchers.status().isForbidden());
+    }
+}
@@ -0,0 +1,114 @@
+package de.mightypc.backend.controller.admin;
+
+import com.jayway.jsonpath.JsonPath;
+import de.mightypc.backend.model.shop.order.Order;
+import de.mightypc.backend.model.shop.order.OrderStatus;
+import de.mightypc.backend.repository.shop.OrderRepository;
+import de.mightypc.backend.security.SecurityConfig;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(SecurityConfig.class)
+class OrderQueueControllerTest {
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository.saveAll(List.of(
+                order("order1", "user1", OrderStatus.PENDING, "2024-01-01T10:00:00Z"),
+                order("order2", "user2", OrderStatus.PENDING, "2024-01-02T10:00:00Z"),
+                order("order3", "user1", OrderStatus.PENDING, "2024-01-03T10:00:00Z"),
+                order("order4", "user2", OrderStatus.PAYED, "2024-01-04T10:00:00Z")
+        ));
+    }
+
+    @DirtiesContext
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void getQueue_shouldPageThroughOrdersOfAllUsersWithCursor() throws Exception {
+        // Act
+        String firstPage = mockMvc.perform(MockMvcRequestBuilders.get("/api/admin/orders")
+                        .param("status", "PENDING")
+                        .param("size", "2"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.orders[*].id", Matchers.contains("order1", "order2")))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.nextCursor").isString())
+                .andReturn().getResponse().getContentAsString();
+
+        String cursor = JsonPath.read(firstPage, "$.nextCursor");
+
+        // Assert
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/admin/orders")
+                        .param("status", "PENDING")
+                        .param("size", "2")
+                        .param("cursor", cursor))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.orders[*].id", Matchers.contains("order3")))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.nextCursor").value(Matchers.nullValue()));
+    }
+
+    @DirtiesContext
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void getQueue_shouldFilterByTimeRange() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/admin/orders")
+                        .param("status", "PENDING")
+                        .param("from", "2024-01-02T00:00:00Z")
+                        .param("to", "2024-01-03T00:00:00Z"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.orders[*].id", Matchers.contains("order2")));
+    }
+
+    @DirtiesContext
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void getQueue_shouldReturnBadRequest_whenCursorIsInvalid() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/admin/orders")
+                        .param("status", "PENDING")
+                        .param("cursor", "not-a-cursor"))
+                .andExpect(MockMvcResultMatchers.status().isBadRequest());
+    }
+
+    @DirtiesContext
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void getCountsByStatus_shouldCountOrdersPerStatus() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/admin/orders/counts"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$[?(@.orderStatus == 'PENDING')].count", Matchers.contains(3)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[?(@.orderStatus == 'PAYED')].count", Matchers.contains(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[?(@.orderStatus == 'SHIPPED')].count", Matchers.contains(0)));
+    }
+
+    @DirtiesContext
+    @Test
+    @WithMockUser
+    void getQueue_shouldBeForbidden_forNonAdmins() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/admin/orders").param("status", "PENDING"))
+                .andExpect(MockMvcResultMatchers.status().isForbidden());
+    }
+
+    private static Order order(String id, String userId, OrderStatus orderStatus, String createdAt) {
+        return new Order(id, userId, List.of(), new BigDecimal("100"), orderStatus, Collections.emptyList(), Instant.parse(createdAt));
+    }
+}
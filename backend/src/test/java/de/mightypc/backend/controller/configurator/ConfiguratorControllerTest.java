@@ -23,10 +23,13 @@ import java.io.IOException;
 import java.math.BigDecimal;
 
 import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.not;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 
 @SpringBootTest
 @AutoConfigureMockMvc
@@ -101,6 +104,38 @@ class ConfiguratorControllerTest {
                 .andExpect(jsonPath("$.itemsForConfigurator[0]").isArray());
     }
 
+    @DirtiesContext
+    @Test
+    void getAllConfiguratorComponents_shouldReturnNotModified_whenETagMatches() throws Exception {
+        String etag = mockMvc.perform(get("/api/configurator/items"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+
+        mockMvc.perform(get("/api/configurator/items").header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+    }
+
+    @DirtiesContext
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void getAllConfiguratorComponents_shouldChangeETag_afterHardwareWasDeleted() throws Exception {
+        String etag = mockMvc.perform(get("/api/configurator/items"))
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+
+        cpuRepository.save(new CPU("secondCpuId", new HardwareSpec("secondCpu", "test", new BigDecimal(20), 3.5f), 10, "AM4"));
+        mockMvc.perform(delete("/api/hardware/cpu/{id}", "secondCpuId"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/configurator/items").header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(etag)));
+    }
+
     @DirtiesContext
     @Test
     void getAllMotherboardIdsAndNamesWithPrices_shouldReturnMotherboards() throws Exception {
@@ -1,7 +1,9 @@
 package de.mightypc.backend.controller.configurator;
 
+import de.mightypc.backend.config.UserPcReferencesMigration;
 import de.mightypc.backend.model.hardware.*;
 import de.mightypc.backend.model.pc.PC;
+import de.mightypc.backend.model.pc.UserPc;
 import de.mightypc.backend.model.shop.user.User;
 import de.mightypc.backend.repository.hardware.CpuRepository;
 import de.mightypc.backend.repository.hardware.GpuRepository;
@@ -14,12 +16,14 @@ import de.mightypc.backend.repository.hardware.SsdRepository;
 import de.mightypc.backend.repository.pc.PcRepository;
 import de.mightypc.backend.repository.shop.UserRepository;
 import de.mightypc.backend.security.SecurityConfig;
+import org.bson.Document;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.web.servlet.MockMvc;
@@ -71,6 +75,12 @@ class UserPcsControllerTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private UserPcReferencesMigration userPcReferencesMigration;
+
     private final CPU cpu = new CPU("cpuId", new HardwareSpec("testCpu", "test", new BigDecimal(50), 2.5f), 10, "AM4");
     private final GPU gpu = new GPU("gpuId", new HardwareSpec("testGpu", "test", new BigDecimal(50), 2.5f), 10);
     private final Motherboard motherboard = new Motherboard("motherboardId", new HardwareSpec("testMotherboard", "test", new BigDecimal(50), 2.5f), 10, "AM4");
@@ -114,7 +124,7 @@ class UserPcsControllerTest {
             "testPassword",
             new ArrayList<>(),
             new ArrayList<>(),
-            new ArrayList<>(List.of(testPc, testPc2)),
+            new ArrayList<>(List.of(new UserPc(testPc), new UserPc(testPc2))),
             true,
             "user",
             "23.32",
@@ -154,7 +164,51 @@ class UserPcsControllerTest {
                 .andExpect(MockMvcResultMatchers.status().isOk())
                 .andExpect(MockMvcResultMatchers.jsonPath("$.content", hasSize(2)))
                 .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].id").value("pcId1"))
-                .andExpect(MockMvcResultMatchers.jsonPath("$.content[1].id").value("pcId2"));
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[1].id").value("pcId2"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[1].specsNames.cpuName").value("testCpu2"));
+    }
+
+    @DirtiesContext
+    @Test
+    void getAllByPage_shouldHydrateOnlyRequestedPage() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/user-pcs/{userId}/page", "user1")
+                        .param("page", "1")
+                        .param("size", "1"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content", hasSize(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].id").value("pcId2"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.totalElements").value(2));
+    }
+
+    @DirtiesContext
+    @Test
+    void getAllByPage_shouldReturnEmptyContent_whenPageIsBehindLastPc() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/user-pcs/{userId}/page", "user1")
+                        .param("page", "3")
+                        .param("size", "2"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content", hasSize(0)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.totalElements").value(2));
+    }
+
+    @DirtiesContext
+    @Test
+    void getPcById_shouldReturnPcsMigratedFromEmbeddedSpecs() throws Exception {
+        // Arrange
+        Document legacyUser = new Document("_id", "user2")
+                .append("email", "otherEmail")
+                .append("pcs", List.of(mongoTemplate.getConverter().convertToMongoType(testPc)));
+        mongoTemplate.insert(legacyUser, mongoTemplate.getCollectionName(User.class));
+
+        // Act
+        userPcReferencesMigration.migrate();
+
+        // Assert
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/user-pcs/{userId}/{pcId}", "user2", "pcId1"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.specsIds.cpuId").value("cpuId"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.specsNames.pcCaseName").value("testPcCase"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.energyConsumption").value(95));
     }
 
     @DirtiesContext
@@ -94,6 +94,21 @@ class CpuControllerTest extends BaseControllerTest {
                 .andExpect(MockMvcResultMatchers.status().isCreated());
     }
 
+    @DirtiesContext
+    @Test
+    void getCpus_shouldFilterBySocketAndPriceRange() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/hardware/cpu/filtered")
+                        .param("page", "0")
+                        .param("size", "10")
+                        .param("sortType", "rating-asc")
+                        .param("socket", "AM4")
+                        .param("lowestPrice", "100")
+                        .param("highestPrice", "300"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content", Matchers.hasSize(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].id").value("testCpu2"));
+    }
+
     @Override
     String getPathOfEntity() {
         return "cpu";
@@ -135,6 +150,69 @@ class CpuControllerTest extends BaseControllerTest {
                 .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].socket").value("LGA1151"));
     }
 
+    @DirtiesContext
+    @Test
+    @WithMockUser
+    void getCpus_shouldFilterByPriceRangeAndSortByPriceDesc() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/hardware/cpu/filtered")
+                        .param("page", "0")
+                        .param("size", "1")
+                        .param("sortType", "price-desc")
+                        .param("lowestPrice", "100")
+                        .param("highestPrice", "400"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content", Matchers.hasSize(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].id").value("testCpu1"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.totalElements").value(2));
+    }
+
+    @DirtiesContext
+    @Test
+    @WithMockUser
+    void getCpuFacets_shouldReturnResultsWithSocketCountsAndPriceHistogram() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/hardware/cpu/facets")
+                        .param("page", "0")
+                        .param("size", "1")
+                        .param("sortType", "price-asc")
+                        .param("lowestPrice", "100")
+                        .param("highestPrice", "400"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.results.content", Matchers.hasSize(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.results.content[0].id").value("testCpu2"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.results.totalElements").value(2))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.counts.socket", Matchers.hasSize(2)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.counts.socket[*].count", Matchers.contains(1, 1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.histograms.price[0].lowest").value(200))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.histograms.energyConsumption", Matchers.not(Matchers.empty())));
+    }
+
+    @DirtiesContext
+    @Test
+    @WithMockUser
+    void getCpuFacets_shouldKeepCountsOfOtherSockets_whenFilteringBySocket() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/hardware/cpu/facets")
+                        .param("socket", "AM4"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.results.totalElements").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.results.content[0].id").value("testCpu2"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.counts.socket", Matchers.hasSize(2)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.counts.socket[*].value", Matchers.containsInAnyOrder("AM4", "LGA1151")))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.counts.socket[*].count", Matchers.contains(1, 1)));
+    }
+
+    @DirtiesContext
+    @Test
+    @WithMockUser
+    void getCpuFacets_shouldCountOnlyCpusMatchingOtherFilters() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/hardware/cpu/facets")
+                        .param("socket", "AM4")
+                        .param("lowestPrice", "0")
+                        .param("highestPrice", "0"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.results.totalElements").value(0))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.counts.socket", Matchers.empty()));
+    }
+
     @DirtiesContext
     @Test
     void getSocketOfCpu_shouldReturnSocket() throws Exception {
@@ -88,6 +88,52 @@ class GpuControllerTest extends BaseControllerTest{
                 .andExpect(MockMvcResultMatchers.status().isCreated());
     }
 
+    @DirtiesContext
+    @Test
+    void getGpus_shouldFilterByEnergyConsumptionAndSortByRatingDesc() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/hardware/gpu/filtered")
+                        .param("page", "0")
+                        .param("size", "10")
+                        .param("sortType", "rating-desc")
+                        .param("lowestEnergyConsumption", "60")
+                        .param("highestEnergyConsumption", "70"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content", Matchers.hasSize(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].id").value("testGpu2"));
+    }
+
+    @DirtiesContext
+    @Test
+    void getGpus_shouldFilterByPriceAndEnergyConsumption() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/hardware/gpu/filtered")
+                        .param("page", "0")
+                        .param("size", "10")
+                        .param("sortType", "rating-asc")
+                        .param("lowestPrice", "300")
+                        .param("highestPrice", "400")
+                        .param("lowestEnergyConsumption", "90")
+                        .param("highestEnergyConsumption", "100"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content", Matchers.hasSize(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].id").value("testGpu1"));
+    }
+
+    @DirtiesContext
+    @Test
+    void getGpus_shouldOrderGpusWithEqualPriceById() throws Exception {
+        gpuRepository.save(new GPU("testGpu0", new HardwareSpec("testGpu0", "testDescription", BigDecimal.valueOf(200), 4.0f), 65));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/hardware/gpu/filtered")
+                        .param("page", "0")
+                        .param("size", "10")
+                        .param("sortType", "price-asc"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content", Matchers.hasSize(3)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].id").value("testGpu0"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[1].id").value("testGpu2"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[2].id").value("testGpu1"));
+    }
+
     @Override
     String getPathOfEntity() {
         return "gpu";
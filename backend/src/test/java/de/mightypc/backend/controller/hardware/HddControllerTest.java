@@ -89,6 +89,34 @@ class HddControllerTest extends BaseControllerTest {
     }
 
 
+    @DirtiesContext
+    @Test
+    void getHdds_shouldFilterByCapacity() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/hardware/hdd/filtered")
+                        .param("page", "0")
+                        .param("size", "10")
+                        .param("sortType", "price-asc")
+                        .param("minimalCapacity", "1000")
+                        .param("maximalCapacity", "1500"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content", Matchers.hasSize(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].id").value("testHdd2"));
+    }
+
+    @DirtiesContext
+    @Test
+    void getHdds_shouldFilterByEnergyConsumptionAndSortByRatingDesc() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/hardware/hdd/filtered")
+                        .param("page", "0")
+                        .param("size", "10")
+                        .param("sortType", "rating-desc")
+                        .param("lowestEnergyConsumption", "90")
+                        .param("highestEnergyConsumption", "100"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content", Matchers.hasSize(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].id").value("testHdd1"));
+    }
+
     @Override
     String getPathOfEntity() {
         return "hdd";
@@ -90,6 +90,33 @@ class MotherboardControllerTest extends BaseControllerTest {
                 .andExpect(MockMvcResultMatchers.status().isCreated());
     }
 
+    @DirtiesContext
+    @Test
+    void getMotherboards_shouldFilterBySocket() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/hardware/motherboard/filtered")
+                        .param("page", "0")
+                        .param("size", "10")
+                        .param("sortType", "price-desc")
+                        .param("socket", "AM4"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content", Matchers.hasSize(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].id").value("testMotherboard2"));
+    }
+
+    @DirtiesContext
+    @Test
+    void getMotherboards_shouldFilterByEnergyConsumption() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/hardware/motherboard/filtered")
+                        .param("page", "0")
+                        .param("size", "10")
+                        .param("sortType", "rating-asc")
+                        .param("lowestEnergyConsumption", "90")
+                        .param("highestEnergyConsumption", "100"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content", Matchers.hasSize(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].id").value("testMotherboard1"));
+    }
+
     @Override
     String getPathOfEntity() {
         return "motherboard";
@@ -3,6 +3,7 @@ package de.mightypc.backend.controller.hardware;
 import de.mightypc.backend.model.hardware.PowerSupply;
 import de.mightypc.backend.model.hardware.HardwareSpec;
 import de.mightypc.backend.repository.hardware.PowerSupplyRepository;
+import org.hamcrest.Matchers;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -87,6 +88,20 @@ class PowerSupplyControllerTest extends BaseControllerTest{
                 .andExpect(MockMvcResultMatchers.status().isCreated());
     }
 
+    @DirtiesContext
+    @Test
+    void getPowerSupplies_shouldFilterByPower() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/hardware/psu/filtered")
+                        .param("page", "0")
+                        .param("size", "10")
+                        .param("sortType", "price-asc")
+                        .param("minimalPower", "90")
+                        .param("maximalPower", "100"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content", Matchers.hasSize(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].id").value("testPsu1"));
+    }
+
     @Override
     String getPathOfEntity() {
         return "psu";
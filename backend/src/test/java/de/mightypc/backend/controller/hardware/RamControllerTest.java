@@ -3,6 +3,7 @@ package de.mightypc.backend.controller.hardware;
 import de.mightypc.backend.model.hardware.RAM;
 import de.mightypc.backend.model.hardware.HardwareSpec;
 import de.mightypc.backend.repository.hardware.RamRepository;
+import org.hamcrest.Matchers;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -93,6 +94,33 @@ class RamControllerTest extends BaseControllerTest {
                 .andExpect(MockMvcResultMatchers.status().isCreated());
     }
 
+    @DirtiesContext
+    @Test
+    void getRams_shouldFilterByMemorySize() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/hardware/ram/filtered")
+                        .param("page", "0")
+                        .param("size", "10")
+                        .param("sortType", "price-asc")
+                        .param("minimalMemorySize", "1000")
+                        .param("maximalMemorySize", "1500"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content", Matchers.hasSize(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].id").value("testRam2"));
+    }
+
+    @DirtiesContext
+    @Test
+    void getRams_shouldFilterByType() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/hardware/ram/filtered")
+                        .param("page", "0")
+                        .param("size", "10")
+                        .param("sortType", "rating-desc")
+                        .param("type", "ddr4"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content", Matchers.hasSize(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].id").value("testRam1"));
+    }
+
     @Override
     String getPathOfEntity() {
         return "ram";
@@ -3,6 +3,7 @@ package de.mightypc.backend.controller.hardware;
 import de.mightypc.backend.model.hardware.SSD;
 import de.mightypc.backend.model.hardware.HardwareSpec;
 import de.mightypc.backend.repository.hardware.SsdRepository;
+import org.hamcrest.Matchers;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -85,6 +86,20 @@ class SsdControllerTest extends BaseControllerTest {
                 .andExpect(MockMvcResultMatchers.status().isCreated());
     }
 
+    @DirtiesContext
+    @Test
+    void getSsds_shouldFilterByCapacity() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/hardware/ssd/filtered")
+                        .param("page", "0")
+                        .param("size", "10")
+                        .param("sortType", "price-desc")
+                        .param("minimalCapacity", "50")
+                        .param("maximalCapacity", "150"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content", Matchers.hasSize(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].id").value("testSsd1"));
+    }
+
     @Override
     String getPathOfEntity() {
         return "ssd";
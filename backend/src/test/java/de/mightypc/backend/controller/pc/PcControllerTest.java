@@ -203,6 +203,69 @@ class PcControllerTest {
                 .andExpect(MockMvcResultMatchers.jsonPath("$.content[1].id").value(testPc2.id()));
     }
 
+    @DirtiesContext
+    @Test
+    void getPcs_shouldReturnPcsFilteredByEnergyConsumption() throws Exception {
+        pcRepository.save(testPc);
+        pcRepository.save(testPc2);
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/pc/filtered")
+                        .param("page", "0")
+                        .param("size", "10")
+                        .param("sortType", "price-desc")
+                        .param("lowestEnergyConsumption", "60")
+                        .param("highestEnergyConsumption", "70"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content", Matchers.hasSize(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].id").value("testPcId2"));
+    }
+
+    @DirtiesContext
+    @Test
+    void getPcFacets_shouldReturnPriceAndEnergyHistograms() throws Exception {
+        pcRepository.save(testPc);
+        pcRepository.save(testPc2);
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/pc/facets")
+                        .param("lowestEnergyConsumption", "60")
+                        .param("highestEnergyConsumption", "100"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.results.totalElements").value(2))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.histograms.price[0].lowest").value(200))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.histograms.energyConsumption[0].lowest").value(65));
+    }
+
+    @DirtiesContext
+    @Test
+    void getPcFacets_shouldReturnListingsInsteadOfFullPcs() throws Exception {
+        pcRepository.save(testPc);
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/pc/facets"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.results.content[0].id").value("testPcId1"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.results.content[0].hardwareSpec.price").value(350))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.results.content[0].specsIds.cpuId").value("cpuId"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.results.content[0].specsNames.powerSupplyName").value("testPowerSupply"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.results.content[0].specs").doesNotExist());
+    }
+
+    @DirtiesContext
+    @Test
+    void getAllByPage_shouldReturnIdsAndNamesOfComponents() throws Exception {
+        pcRepository.save(testPc);
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/pc/page")
+                        .param("page", "0")
+                        .param("size", "1"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].hardwareSpec.price").value(350))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].specsIds.cpuId").value("cpuId"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].specsIds.pcCaseId").value("pcCaseId"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].specsNames.powerSupplyName").value("testPowerSupply"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].energyConsumption").value(95))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.totalElements").value(1));
+    }
+
     @DirtiesContext
     @Test
     void getWorkstations_shouldReturnWorkstationsFilteredByPriceRange() throws Exception {
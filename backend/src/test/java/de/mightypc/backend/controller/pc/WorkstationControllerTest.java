@@ -228,6 +228,23 @@ class WorkstationControllerTest {
                 .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].hardwareSpec.price").value(200));
     }
 
+    @DirtiesContext
+    @Test
+    void getWorkstations_shouldReturnWorkstationsFilteredByEnergyConsumption() throws Exception {
+        workstationRepository.save(testWorkstation);
+        workstationRepository.save(testWorkstation2);
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/workstation/filtered")
+                        .param("page", "0")
+                        .param("size", "10")
+                        .param("sortType", "rating-desc")
+                        .param("lowestEnergyConsumption", "90")
+                        .param("highestEnergyConsumption", "100"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content", Matchers.hasSize(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].id").value("testWorkstationId1"));
+    }
+
     @DirtiesContext
     @Test
     void getWorkstations_shouldReturnWorkstationsSortedByRatingDesc() throws Exception {
@@ -0,0 +1,69 @@
+package de.mightypc.backend.controller.search;
+
+import de.mightypc.backend.model.hardware.GPU;
+import de.mightypc.backend.model.hardware.HardwareSpec;
+import de.mightypc.backend.security.SecurityConfig;
+import de.mightypc.backend.service.hardware.GpuService;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import java.math.BigDecimal;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(SecurityConfig.class)
+class SearchControllerTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private GpuService gpuService;
+
+    @DirtiesContext
+    @Test
+    void search_shouldFindEntitySavedThroughService() throws Exception {
+        gpuService.save(new GPU("gpuId", new HardwareSpec("GeForce RTX 4090", "Flagship graphics card", new BigDecimal(1999), 4.8f), 450));
+        gpuService.save(new GPU("otherGpuId", new HardwareSpec("Radeon RX 7900", "Graphics card", new BigDecimal(999), 4.5f), 350));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/search")
+                        .param("q", "rtx 40"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$", Matchers.hasSize(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].category").value("gpu"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].id").value("gpuId"));
+    }
+
+    @DirtiesContext
+    @Test
+    void search_shouldNotReturnDeletedEntity() throws Exception {
+        gpuService.save(new GPU("gpuId", new HardwareSpec("GeForce RTX 4090", "Flagship graphics card", new BigDecimal(1999), 4.8f), 450));
+        gpuService.deleteById("gpuId");
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/search")
+                        .param("q", "rtx"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$", Matchers.hasSize(0)));
+    }
+
+    @DirtiesContext
+    @Test
+    void suggest_shouldReturnBestRatedNamesForPrefix() throws Exception {
+        gpuService.save(new GPU("gpuId", new HardwareSpec("GeForce RTX 4090", "Flagship graphics card", new BigDecimal(1999), 4.8f), 450));
+        gpuService.save(new GPU("otherGpuId", new HardwareSpec("GeForce RTX 4060", "Graphics card", new BigDecimal(299), 4.2f), 115));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/search/suggest")
+                        .param("q", "gefo"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$", Matchers.hasSize(2)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].name").value("GeForce RTX 4090"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[1].id").value("otherGpuId"));
+    }
+}
@@ -125,4 +125,71 @@ class BasketControllerTest {
                 .andExpect(MockMvcResultMatchers.status().isOk())
                 .andExpect(MockMvcResultMatchers.jsonPath("$.name").value("pc"));
     }
+
+    @DirtiesContext
+    @Test
+    void addItemToBasket_shouldAppendItem_whenBasketIsNull() throws Exception {
+        // Arrange
+        userRepository.save(user.withId("user2").withEmail("otherEmail").withBasket(null));
+        String jsonRequestBody = """
+                {
+                    "id": "itemId3",
+                    "name": "Laptop",
+                    "description": "High-end gaming laptop",
+                    "price": 1200
+                }
+                """;
+
+        // Act
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/basket/{userId}", "user2")
+                        .contentType("application/json")
+                        .content(jsonRequestBody))
+                .andExpect(MockMvcResultMatchers.status().isCreated());
+
+        // Assert
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/basket/{userId}", "user2"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$", hasSize(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].id").value("itemId3"));
+    }
+
+    @DirtiesContext
+    @Test
+    void deleteItemById_shouldRemoveOnlyOneOccurrenceOfItem() throws Exception {
+        // Arrange
+        userRepository.save(user.withBasket(new ArrayList<>(List.of(item1, item2, item1))));
+
+        // Act
+        mockMvc.perform(MockMvcRequestBuilders.delete("/api/basket/{userId}/{itemId}", "user1", "itemId1"))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+
+        // Assert
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/basket/{userId}", "user1"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$", hasSize(2)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].id").value("itemId2"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[1].id").value("itemId1"));
+    }
+
+    @DirtiesContext
+    @Test
+    void deleteItemById_shouldRemoveItemWithObjectIdLikeId() throws Exception {
+        // Arrange
+        Item catalogItem = new Item("65b9f0c2a1b2c3d4e5f60718", "cpu", "testDescription", new BigDecimal("300"), "", "");
+        userRepository.save(user.withBasket(new ArrayList<>(List.of(item1, catalogItem))));
+
+        // Act
+        mockMvc.perform(MockMvcRequestBuilders.delete("/api/basket/{userId}/{itemId}", "user1", "65b9f0c2a1b2c3d4e5f60718"))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+
+        // Assert
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/basket/{userId}", "user1"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$", hasSize(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].id").value("itemId1"));
+    }
+
+    @DirtiesContext
+    @Test
+    void deleteItemById_shouldReturnNotFound_whenItemIsNotInBasket() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.delete("/api/basket/{userId}/{itemId}", "user1", "unknownItem"))
+                .andExpect(MockMvcResultMatchers.status().isNotFound());
+    }
 }
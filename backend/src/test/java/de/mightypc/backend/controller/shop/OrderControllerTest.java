@@ -1,9 +1,11 @@
 package de.mightypc.backend.controller.shop;
 
+import de.mightypc.backend.config.EmbeddedOrdersMigration;
 import de.mightypc.backend.model.shop.order.Item;
 import de.mightypc.backend.model.shop.order.Order;
 import de.mightypc.backend.model.shop.order.OrderStatus;
 import de.mightypc.backend.model.shop.user.User;
+import de.mightypc.backend.repository.shop.OrderRepository;
 import de.mightypc.backend.repository.shop.UserRepository;
 import de.mightypc.backend.security.SecurityConfig;
 import org.junit.jupiter.api.BeforeEach;
@@ -19,11 +21,13 @@ import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
 import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 @SpringBootTest
 @AutoConfigureMockMvc
@@ -48,25 +52,29 @@ class OrderControllerTest {
 
     private final Order order1 = new Order(
             "orderId1",
+            "user1",
             List.of(item1),
             new BigDecimal("120"),
             OrderStatus.PENDING,
-            Collections.emptyList()
+            Collections.emptyList(),
+            Instant.parse("2024-01-01T10:00:00Z")
     );
 
     private final Order order2 = new Order(
             "orderId2",
+            "user1",
             List.of(item1, item2),
             new BigDecimal("1320"),
             OrderStatus.PENDING,
-            Collections.emptyList()
+            Collections.emptyList(),
+            Instant.parse("2024-01-02T10:00:00Z")
     );
 
     private final User user = new User(
             "user1",
             "testEmail",
             "testPassword",
-            new ArrayList<>(List.of(order1, order2)),
+            new ArrayList<>(),
             new ArrayList<>(List.of(item1, item2)),
             new ArrayList<>(),
             true,
@@ -79,10 +87,15 @@ class OrderControllerTest {
     private MockMvc mockMvc;
     @Autowired
     private UserRepository userRepository;
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private EmbeddedOrdersMigration embeddedOrdersMigration;
 
     @BeforeEach
     void setUp() {
         userRepository.save(user);
+        orderRepository.saveAll(List.of(order1, order2));
     }
 
     @DirtiesContext
@@ -134,6 +147,39 @@ class OrderControllerTest {
                 .andExpect(MockMvcResultMatchers.jsonPath("$[1].id").value("orderId2"));
     }
 
+    @DirtiesContext
+    @WithMockUser
+    @Test
+    void getOrdersByPage_shouldReturnNewestOrdersFirst() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/order/{userId}/page", "user1")
+                        .param("page", "0")
+                        .param("size", "1"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content", hasSize(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].id").value("orderId2"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.totalElements").value(2));
+    }
+
+    @DirtiesContext
+    @WithMockUser
+    @Test
+    void getAllOrders_shouldReturnOrdersMovedFromUserDocument() throws Exception {
+        // Arrange
+        Order embeddedOrder = new Order("embeddedOrderId", null, List.of(item2), new BigDecimal("1200"), OrderStatus.PAYED, Collections.emptyList(), null);
+        userRepository.save(user.withId("user2").withEmail("otherEmail").withOrders(new ArrayList<>(List.of(embeddedOrder))));
+
+        // Act
+        embeddedOrdersMigration.migrate();
+
+        // Assert
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/order/{userId}", "user2"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$", hasSize(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].id").value("embeddedOrderId"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].userId").value("user2"));
+        assertNull(userRepository.findById("user2").orElseThrow().getOrders());
+    }
+
     @DirtiesContext
     @WithMockUser(roles = "ADMIN")
     @Test
@@ -147,6 +193,9 @@ class OrderControllerTest {
                         .contentType("application/json")
                         .content(jsonRequestBody))
                 .andExpect(MockMvcResultMatchers.status().isOk());
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/order/{userId}/{orderId}", "user1", "orderId1"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.orderStatus").value("PAYED"));
     }
 
     @DirtiesContext
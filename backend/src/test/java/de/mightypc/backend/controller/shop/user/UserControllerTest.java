@@ -8,14 +8,25 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.web.servlet.MockMvc;
-
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 
 @SpringBootTest
@@ -37,7 +48,7 @@ class UserControllerTest {
                 }
                 """;
 
-        mockMvc.perform(post("/api/user/register")
+        performAsync(post("/api/user/register")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(requestBody))
                 .andExpect(status().isCreated());
@@ -62,7 +73,7 @@ class UserControllerTest {
                 }
                 """;
 
-        mockMvc.perform(post("/api/user/register")
+        performAsync(post("/api/user/register")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(requestBody))
                 .andExpect(status().isCreated());
@@ -89,10 +100,31 @@ class UserControllerTest {
                 }
                 """;
 
-        mockMvc.perform(post("/api/user/login")
+        performAsync(post("/api/user/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestBody))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Authorization", startsWith("Bearer ")));
+    }
+
+    @DirtiesContext
+    @Test
+    void loginUser_shouldRehashPasswordStoredWithoutEncoderPrefix() throws Exception {
+        User user = userRepository.findUserByEmail("test@example.com").orElseThrow();
+        userRepository.save(user.withPassword(new BCryptPasswordEncoder().encode("password123")));
+        String requestBody = """
+                {
+                    "email": "test@example.com",
+                    "password": "password123"
+                }
+                """;
+
+        performAsync(post("/api/user/login")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(requestBody))
                 .andExpect(status().isOk());
+
+        assertTrue(userRepository.findUserByEmail("test@example.com").orElseThrow().getPassword().startsWith("{bcrypt}"));
     }
 
     @DirtiesContext
@@ -105,7 +137,7 @@ class UserControllerTest {
                 }
                 """;
 
-        mockMvc.perform(post("/api/user/login")
+        performAsync(post("/api/user/login")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(requestBody))
                 .andExpect(status().isUnauthorized());
@@ -119,4 +151,67 @@ class UserControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.email").exists());
     }
+
+    @DirtiesContext
+    @WithMockUser(username = "test@example.com")
+    @Test
+    void changePassword_shouldStoreNewPasswordAndRevokeTokens() throws Exception {
+        String requestBody = """
+                {
+                    "currentPassword": "password123",
+                    "newPassword": "newPassword456"
+                }
+                """;
+
+        mockMvc.perform(put("/api/user/password")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestBody))
+                .andExpect(status().isOk());
+
+        assertEquals(1L, userRepository.findUserByEmail("test@example.com").orElseThrow().getTokenVersion());
+        performAsync(post("/api/user/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                    "email": "test@example.com",
+                                    "password": "newPassword456"
+                                }
+                                """))
+                .andExpect(status().isOk());
+    }
+
+    @DirtiesContext
+    @WithMockUser(username = "test@example.com")
+    @Test
+    void changePassword_shouldRejectWrongCurrentPassword() throws Exception {
+        String requestBody = """
+                {
+                    "currentPassword": "wrongPassword",
+                    "newPassword": "newPassword456"
+                }
+                """;
+
+        mockMvc.perform(put("/api/user/password")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestBody))
+                .andExpect(status().isBadRequest());
+    }
+
+    @DirtiesContext
+    @WithMockUser(username = "test@example.com")
+    @Test
+    void logoutEverywhere_shouldRevokeTokens() throws Exception {
+        mockMvc.perform(post("/api/user/logout-all"))
+                .andExpect(status().isOk());
+
+        assertEquals(1L, userRepository.findUserByEmail("test@example.com").orElseThrow().getTokenVersion());
+    }
+
+    private ResultActions performAsync(MockHttpServletRequestBuilder requestBuilder) throws Exception {
+        MvcResult result = mockMvc.perform(requestBuilder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        return mockMvc.perform(asyncDispatch(result));
+    }
 }
@@ -0,0 +1,66 @@
+package de.mightypc.backend.repository.shop;
+
+import de.mightypc.backend.model.shop.order.Item;
+import de.mightypc.backend.model.shop.user.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+class UserRepositoryImplTest {
+    private final Item item = new Item("itemId", "testItem", "testDescription", new BigDecimal(100), "", "");
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.save(new User().withId("userId").withEmail("test@example.com").withPassword("password").withBasket(new ArrayList<>()));
+    }
+
+    @DirtiesContext
+    @Test
+    void save_shouldFailForStaleUser_whenBasketItemWasPushed() {
+        // Arrange
+        User stale = userRepository.findById("userId").orElseThrow();
+        userRepository.pushBasketItem("userId", item);
+
+        // Act & Assert
+        assertThrows(OptimisticLockingFailureException.class, () -> userRepository.save(stale.withRole("ADMIN")));
+        assertEquals(1, userRepository.findById("userId").orElseThrow().getBasket().size());
+    }
+
+    @DirtiesContext
+    @Test
+    void save_shouldFailForStaleUser_whenBasketItemWasPulled() {
+        // Arrange
+        userRepository.pushBasketItem("userId", item);
+        User stale = userRepository.findById("userId").orElseThrow();
+        userRepository.pullBasketItem("userId", "itemId");
+
+        // Act & Assert
+        assertThrows(OptimisticLockingFailureException.class, () -> userRepository.save(stale.withRole("ADMIN")));
+        assertEquals(0, userRepository.findById("userId").orElseThrow().getBasket().size());
+    }
+
+    @DirtiesContext
+    @Test
+    void save_shouldFailForStaleUser_whenPasswordWasChanged() {
+        // Arrange
+        User stale = userRepository.findById("userId").orElseThrow();
+        userRepository.changePassword("test@example.com", "newPassword");
+
+        // Act & Assert
+        assertThrows(OptimisticLockingFailureException.class, () -> userRepository.save(stale.withRole("ADMIN")));
+        assertEquals("newPassword", userRepository.findById("userId").orElseThrow().getPassword());
+    }
+}
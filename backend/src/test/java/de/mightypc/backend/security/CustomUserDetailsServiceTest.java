@@ -1,6 +1,6 @@
 package de.mightypc.backend.security;
 
-import de.mightypc.backend.model.shop.user.User;
+import de.mightypc.backend.model.shop.user.UserCredentials;
 import de.mightypc.backend.repository.shop.UserRepository;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,6 +13,7 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
 import java.util.Optional;
 
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class CustomUserDetailsServiceTest {
@@ -23,9 +24,6 @@ class CustomUserDetailsServiceTest {
     @Mock
     private UserRepository userRepository;
 
-    @Mock
-    private User user;
-
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
@@ -33,10 +31,7 @@ class CustomUserDetailsServiceTest {
 
     @Test
     void loadUserByUsername_UserExists() {
-        when(userRepository.findUserByEmail("user@example.com")).thenReturn(Optional.of(user));
-        when(user.getEmail()).thenReturn("user@example.com");
-        when(user.getPassword()).thenReturn("password");
-        when(user.getRole()).thenReturn("ROLE_USER");
+        when(userRepository.findCredentialsByEmail("user@example.com")).thenReturn(Optional.of(new UserCredentials("userId", "user@example.com", "password", "ROLE_USER")));
 
         UserDetails userDetails = customUserDetailsService.loadUserByUsername("user@example.com");
 
@@ -47,10 +42,24 @@ class CustomUserDetailsServiceTest {
 
     @Test
     void loadUserByUsername_UserDoesNotExist() {
-        when(userRepository.findUserByEmail("user@example.com")).thenReturn(Optional.empty());
+        when(userRepository.findCredentialsByEmail("user@example.com")).thenReturn(Optional.empty());
 
         Assertions.assertThrows(UsernameNotFoundException.class, () -> {
             customUserDetailsService.loadUserByUsername("user@example.com");
         });
     }
+
+    @Test
+    void updatePassword_shouldStoreRehashedPassword() {
+        UserDetails user = org.springframework.security.core.userdetails.User.withUsername("user@example.com")
+                .password("oldHash")
+                .authorities("CUSTOMER")
+                .build();
+
+        UserDetails updated = customUserDetailsService.updatePassword(user, "{bcrypt}newHash");
+
+        verify(userRepository).updatePassword("user@example.com", "{bcrypt}newHash");
+        Assertions.assertEquals("{bcrypt}newHash", updated.getPassword());
+        Assertions.assertEquals("user@example.com", updated.getUsername());
+    }
 }
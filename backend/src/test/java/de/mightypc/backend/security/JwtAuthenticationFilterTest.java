@@ -1,22 +1,28 @@
-// JwtAuthenticationFilterTest.java
 package de.mightypc.backend.security;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -32,7 +38,10 @@ class JwtAuthenticationFilterTest {
     private JwtTokenProvider jwtTokenProvider;
 
     @Mock
-    private CustomUserDetailsService customUserDetailsService;
+    private PrincipalCache principalCache;
+
+    @Mock
+    private TokenVersionRegistry tokenVersionRegistry;
 
     @Mock
     private HttpServletRequest request;
@@ -51,12 +60,49 @@ class JwtAuthenticationFilterTest {
         MockitoAnnotations.openMocks(this);
     }
 
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testDoFilterInternal_ValidTokenWithRoleClaims() throws ServletException, IOException {
+        Claims claims = Jwts.claims().setSubject("user@example.com");
+        claims.put(JwtTokenProvider.ROLES_CLAIM, List.of("ROLE_ADMIN"));
+        claims.put(JwtTokenProvider.TOKEN_VERSION_CLAIM, 2);
+        when(request.getHeader("Authorization")).thenReturn("Bearer valid_token");
+        when(jwtTokenProvider.getValidClaims("valid_token")).thenReturn(Optional.of(claims));
+        when(tokenVersionRegistry.isCurrent("user@example.com", 2L)).thenReturn(true);
+
+        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertEquals("user@example.com", authentication.getName());
+        assertEquals(List.of(new SimpleGrantedAuthority("ROLE_ADMIN")), new ArrayList<>(authentication.getAuthorities()));
+        verify(principalCache, never()).get(any());
+        verify(filterChain).doFilter(request, response);
+    }
+
+    @Test
+    void testDoFilterInternal_RevokedToken() throws ServletException, IOException {
+        Claims claims = Jwts.claims().setSubject("user@example.com");
+        claims.put(JwtTokenProvider.ROLES_CLAIM, List.of("ROLE_ADMIN"));
+        claims.put(JwtTokenProvider.TOKEN_VERSION_CLAIM, 1);
+        when(request.getHeader("Authorization")).thenReturn("Bearer revoked_token");
+        when(jwtTokenProvider.getValidClaims("revoked_token")).thenReturn(Optional.of(claims));
+        when(tokenVersionRegistry.isCurrent("user@example.com", 1L)).thenReturn(false);
+
+        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        verify(filterChain).doFilter(request, response);
+    }
+
     @Test
-    void testDoFilterInternal_ValidToken() throws ServletException, IOException {
+    void testDoFilterInternal_ValidTokenWithoutRoleClaims() throws ServletException, IOException {
         when(request.getHeader("Authorization")).thenReturn("Bearer valid_token");
-        when(jwtTokenProvider.validateToken("valid_token")).thenReturn(true);
-        when(jwtTokenProvider.getUserIdFromJWT("valid_token")).thenReturn("user_id");
-        when(customUserDetailsService.loadUserByUsername("user_id")).thenReturn(userDetails);
+        when(jwtTokenProvider.getValidClaims("valid_token")).thenReturn(Optional.of(Jwts.claims().setSubject("user_id")));
+        when(principalCache.get("user_id")).thenReturn(userDetails);
         when(userDetails.getAuthorities()).thenReturn(new ArrayList<>());
 
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -72,12 +118,11 @@ class JwtAuthenticationFilterTest {
     @Test
     void testDoFilterInternal_InvalidToken() throws ServletException, IOException {
         when(request.getHeader("Authorization")).thenReturn("Bearer invalid_token");
-        when(jwtTokenProvider.validateToken("invalid_token")).thenReturn(false);
+        when(jwtTokenProvider.getValidClaims("invalid_token")).thenReturn(Optional.empty());
 
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
-        verify(jwtTokenProvider, never()).getUserIdFromJWT(any());
-        verify(customUserDetailsService, never()).loadUserByUsername(any());
+        verify(principalCache, never()).get(any());
         assertNull(SecurityContextHolder.getContext().getAuthentication());
         verify(filterChain).doFilter(request, response);
     }
@@ -9,11 +9,14 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
 
 import java.util.Date;
+import java.util.List;
 
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.when;
 
 @SpringJUnitConfig
@@ -32,20 +35,26 @@ class JwtTokenProviderTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        jwtTokenProvider = new JwtTokenProvider();
-        setField(jwtTokenProvider, "jwtSecret", secret);
-        setField(jwtTokenProvider, "jwtExpiration", 3000);
+        jwtTokenProvider = new JwtTokenProvider(secret, 3000);
     }
 
     @Test
     void testGenerateToken() {
         when(authentication.getPrincipal()).thenReturn(userDetails);
         when(userDetails.getUsername()).thenReturn("user");
+        doReturn(List.of(new SimpleGrantedAuthority("ROLE_ADMIN"))).when(userDetails).getAuthorities();
 
-        String token = jwtTokenProvider.generateToken(authentication);
+        String token = jwtTokenProvider.generateToken(authentication, 3);
 
         Claims claims = Jwts.parser().setSigningKey(secret).parseClaimsJws(token).getBody();
         Assertions.assertEquals("user", claims.getSubject());
+        Assertions.assertEquals(List.of("ROLE_ADMIN"), claims.get(JwtTokenProvider.ROLES_CLAIM, List.class));
+        Assertions.assertEquals(3L, claims.get(JwtTokenProvider.TOKEN_VERSION_CLAIM, Long.class));
+    }
+
+    @Test
+    void testGetValidClaims_Invalid() {
+        Assertions.assertTrue(jwtTokenProvider.getValidClaims("invalidToken").isEmpty());
     }
 
     @Test
@@ -82,13 +91,49 @@ class JwtTokenProviderTest {
         Assertions.assertFalse(isValid);
     }
 
-    private void setField(Object target, String fieldName, Object value) {
-        try {
-            java.lang.reflect.Field field = target.getClass().getDeclaredField(fieldName);
-            field.setAccessible(true);
-            field.set(target, value);
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
+    @Test
+    void testGetValidClaims_VerifiesRepeatedTokenOnce() {
+        String token = Jwts.builder()
+                .setSubject("user")
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + 3000))
+                .signWith(SignatureAlgorithm.HS512, secret)
+                .compact();
+
+        Claims first = jwtTokenProvider.getValidClaims(token).orElseThrow();
+        Claims second = jwtTokenProvider.getValidClaims(token).orElseThrow();
+
+        Assertions.assertSame(first, second);
+        Assertions.assertEquals(1, jwtTokenProvider.getCacheStats().hits());
+    }
+
+    @Test
+    void testGetValidClaims_TamperedToken() {
+        String token = Jwts.builder()
+                .setSubject("user")
+                .setExpiration(new Date(System.currentTimeMillis() + 3000))
+                .signWith(SignatureAlgorithm.HS512, secret)
+                .compact();
+        String otherToken = Jwts.builder()
+                .setSubject("admin")
+                .setExpiration(new Date(System.currentTimeMillis() + 3000))
+                .signWith(SignatureAlgorithm.HS512, secret)
+                .compact();
+        String signature = token.substring(token.lastIndexOf('.'));
+        String tampered = otherToken.substring(0, otherToken.lastIndexOf('.')) + signature;
+
+        Assertions.assertTrue(jwtTokenProvider.getValidClaims(token).isPresent());
+        Assertions.assertTrue(jwtTokenProvider.getValidClaims(tampered).isEmpty());
+    }
+
+    @Test
+    void testGetValidClaims_ExpiredToken() {
+        String token = Jwts.builder()
+                .setSubject("user")
+                .setExpiration(new Date(System.currentTimeMillis() - 1000))
+                .signWith(SignatureAlgorithm.HS512, secret)
+                .compact();
+
+        Assertions.assertTrue(jwtTokenProvider.getValidClaims(token).isEmpty());
     }
 }
@@ -0,0 +1,113 @@
+package de.mightypc.backend.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.NoOpPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LoginAuthenticatorTest {
+    @SuppressWarnings("deprecation")
+    private final PasswordEncoder passwordEncoder = new DelegatingPasswordEncoder("bcrypt", Map.of(
+            "bcrypt", new BCryptPasswordEncoder(4),
+            "noop", NoOpPasswordEncoder.getInstance()));
+    private final PasswordHashingExecutor passwordHashingExecutor = new PasswordHashingExecutor(1, 1, 5000);
+    private final ExecutorService applicationTaskExecutor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "application-task"));
+    private final CustomUserDetailsService userDetailsService = mock(CustomUserDetailsService.class);
+    private final LoginAuthenticator loginAuthenticator = new LoginAuthenticator(userDetailsService, passwordEncoder, passwordHashingExecutor, applicationTaskExecutor);
+
+    @AfterEach
+    void tearDown() {
+        passwordHashingExecutor.shutdown();
+        applicationTaskExecutor.shutdownNow();
+    }
+
+    @Test
+    void authenticate_shouldReturnAuthentication_whenPasswordMatches() {
+        // Arrange
+        when(userDetailsService.loadUserByUsername("user@example.com")).thenReturn(user(passwordEncoder.encode("password")));
+
+        // Act
+        Authentication authentication = loginAuthenticator.authenticate("user@example.com", "password").join();
+
+        // Assert
+        assertTrue(authentication.isAuthenticated());
+        assertEquals("user@example.com", authentication.getName());
+        verify(userDetailsService, never()).updatePassword(any(), anyString());
+    }
+
+    @Test
+    void authenticate_shouldFailWithBadCredentials_whenPasswordIsWrong() {
+        // Arrange
+        when(userDetailsService.loadUserByUsername("user@example.com")).thenReturn(user(passwordEncoder.encode("password")));
+
+        // Act
+        CompletionException exception = assertThrows(CompletionException.class,
+                () -> loginAuthenticator.authenticate("user@example.com", "wrongPassword").join());
+
+        // Assert
+        assertInstanceOf(BadCredentialsException.class, exception.getCause());
+    }
+
+    @Test
+    void authenticate_shouldFailWithBadCredentials_whenUserDoesNotExist() {
+        // Arrange
+        when(userDetailsService.loadUserByUsername("unknown@example.com")).thenThrow(new UsernameNotFoundException("unknown@example.com"));
+
+        // Act
+        CompletionException exception = assertThrows(CompletionException.class,
+                () -> loginAuthenticator.authenticate("unknown@example.com", "password").join());
+
+        // Assert
+        assertInstanceOf(BadCredentialsException.class, exception.getCause());
+    }
+
+    @Test
+    void authenticate_shouldStoreUpgradedHashOutsideHashingPool_whenHashIsOutdated() {
+        // Arrange
+        UserDetails user = user("{noop}password");
+        AtomicReference<String> updatingThread = new AtomicReference<>();
+        when(userDetailsService.loadUserByUsername("user@example.com")).thenReturn(user);
+        when(userDetailsService.updatePassword(any(), anyString())).thenAnswer(invocation -> {
+            updatingThread.set(Thread.currentThread().getName());
+            return user(invocation.getArgument(1));
+        });
+
+        // Act
+        Authentication authentication = loginAuthenticator.authenticate("user@example.com", "password").join();
+
+        // Assert
+        assertEquals("application-task", updatingThread.get());
+        assertTrue(((UserDetails) authentication.getPrincipal()).getPassword().startsWith("{bcrypt}"));
+    }
+
+    private static UserDetails user(String password) {
+        return User.withUsername("user@example.com")
+                .password(password)
+                .authorities("CUSTOMER")
+                .build();
+    }
+}
@@ -0,0 +1,102 @@
+package de.mightypc.backend.security;
+
+import de.mightypc.backend.exception.security.PasswordHashingRejectedException;
+import de.mightypc.backend.model.admin.PasswordHashingStats;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PasswordHashingExecutorTest {
+    private final PasswordHashingExecutor passwordHashingExecutor = new PasswordHashingExecutor(1, 1, 5000);
+
+    @AfterEach
+    void tearDown() {
+        passwordHashingExecutor.shutdown();
+    }
+
+    @Test
+    void execute_shouldReturnResultOfHashing() {
+        // Act
+        String actual = passwordHashingExecutor.execute(() -> "hash");
+
+        // Assert
+        assertEquals("hash", actual);
+    }
+
+    @Test
+    void execute_shouldRejectHashing_whenQueueIsFull() throws Exception {
+        // Arrange
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService callers = Executors.newFixedThreadPool(2)) {
+            Future<String> busy = callers.submit(() -> passwordHashingExecutor.execute(() -> {
+                running.countDown();
+                await(release);
+                return "first";
+            }));
+            running.await(5, TimeUnit.SECONDS);
+            Future<String> queued = callers.submit(() -> passwordHashingExecutor.execute(() -> "second"));
+            while (passwordHashingExecutor.getStats().queueDepth() == 0) {
+                Thread.sleep(5);
+            }
+
+            // Act & Assert
+            assertThrows(PasswordHashingRejectedException.class, () -> passwordHashingExecutor.execute(() -> "third"));
+
+            PasswordHashingStats stats = passwordHashingExecutor.getStats();
+            assertEquals(1, stats.activeThreads());
+            assertEquals(1, stats.queueDepth());
+            assertEquals(1, stats.rejectedTasks());
+
+            release.countDown();
+            assertEquals("first", busy.get(5, TimeUnit.SECONDS));
+            assertEquals("second", queued.get(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    void submit_shouldHashNestedWorkInPlace() throws Exception {
+        // Act
+        CompletableFuture<String> actual = passwordHashingExecutor.submit(() -> passwordHashingExecutor.execute(() -> "hash"));
+
+        // Assert
+        assertEquals("hash", actual.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void execute_shouldRejectHashing_whenWaitTimesOut() {
+        // Arrange
+        PasswordHashingExecutor impatientExecutor = new PasswordHashingExecutor(1, 1, 50);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try {
+            // Act & Assert
+            assertThrows(PasswordHashingRejectedException.class, () -> impatientExecutor.execute(() -> {
+                await(release);
+                return "hash";
+            }));
+            assertEquals(1, impatientExecutor.getStats().rejectedTasks());
+        } finally {
+            release.countDown();
+            impatientExecutor.shutdown();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package de.mightypc.backend.security;
+
+import de.mightypc.backend.model.shop.user.UserCredentialsChangedEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PrincipalCacheTest {
+    private final CustomUserDetailsService customUserDetailsService = mock(CustomUserDetailsService.class);
+    private final PrincipalCache principalCache = new PrincipalCache(customUserDetailsService, 60_000);
+
+    private final UserDetails userDetails = new User("user@example.com", "password", Collections.emptyList());
+
+    @Test
+    void get_shouldLoadPrincipalOnlyOnce() {
+        // Arrange
+        when(customUserDetailsService.loadUserByUsername("user@example.com")).thenReturn(userDetails);
+
+        // Act
+        principalCache.get("user@example.com");
+        UserDetails actual = principalCache.get("user@example.com");
+
+        // Assert
+        assertEquals(userDetails, actual);
+        verify(customUserDetailsService, times(1)).loadUserByUsername("user@example.com");
+    }
+
+    @Test
+    void onUserCredentialsChanged_shouldReloadPrincipal() {
+        // Arrange
+        when(customUserDetailsService.loadUserByUsername("user@example.com")).thenReturn(userDetails);
+        principalCache.get("user@example.com");
+
+        // Act
+        principalCache.onUserCredentialsChanged(new UserCredentialsChangedEvent("user@example.com"));
+        principalCache.get("user@example.com");
+
+        // Assert
+        verify(customUserDetailsService, times(2)).loadUserByUsername("user@example.com");
+    }
+
+    @Test
+    void get_shouldNotCacheUnknownUsers() {
+        // Arrange
+        when(customUserDetailsService.loadUserByUsername("unknown@example.com")).thenThrow(new UsernameNotFoundException("unknown"));
+
+        // Act & Assert
+        assertThrows(UsernameNotFoundException.class, () -> principalCache.get("unknown@example.com"));
+        assertThrows(UsernameNotFoundException.class, () -> principalCache.get("unknown@example.com"));
+        verify(customUserDetailsService, times(2)).loadUserByUsername("unknown@example.com");
+    }
+}
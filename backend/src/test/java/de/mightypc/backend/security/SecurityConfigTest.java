@@ -11,9 +11,11 @@ import org.springframework.security.config.annotation.authentication.configurati
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -55,13 +57,21 @@ class SecurityConfigTest {
 
     @Test
     void passwordEncoder() {
-        BCryptPasswordEncoder passwordEncoder = securityConfig.passwordEncoder();
-        assertNotNull(passwordEncoder);
+        PasswordHashingExecutor passwordHashingExecutor = new PasswordHashingExecutor(1, 1, 5000);
+        PasswordEncoder passwordEncoder = securityConfig.passwordEncoder(passwordHashingExecutor, 4);
+
+        String encoded = passwordEncoder.encode("password");
+
+        assertTrue(encoded.startsWith("{bcrypt}"));
+        assertTrue(passwordEncoder.matches("password", encoded));
+        assertTrue(passwordEncoder.matches("password", new BCryptPasswordEncoder(4).encode("password")));
+        assertTrue(passwordEncoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("password")));
+        passwordHashingExecutor.shutdown();
     }
 
     @Test
     void authenticationProvider() {
-        DaoAuthenticationProvider authenticationProvider = securityConfig.authenticationProvider(customUserDetailsService);
+        DaoAuthenticationProvider authenticationProvider = securityConfig.authenticationProvider(customUserDetailsService, mock(PasswordEncoder.class));
         assertNotNull(authenticationProvider);
     }
 
@@ -0,0 +1,97 @@
+package de.mightypc.backend.security;
+
+import de.mightypc.backend.model.shop.user.UserCredentialsChangedEvent;
+import de.mightypc.backend.model.shop.user.UserTokenVersion;
+import de.mightypc.backend.repository.shop.UserRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TokenVersionRegistryTest {
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final TokenVersionRegistry tokenVersionRegistry = new TokenVersionRegistry(userRepository);
+
+    @Test
+    void isCurrent_shouldCompareWithRefreshedVersionsWithoutFurtherLookups() {
+        // Arrange
+        when(userRepository.findTokenVersionsBy()).thenReturn(List.of(
+                new UserTokenVersion("user@example.com", 2L),
+                new UserTokenVersion("legacy@example.com", null)
+        ));
+        tokenVersionRegistry.refresh();
+
+        // Act & Assert
+        assertTrue(tokenVersionRegistry.isCurrent("user@example.com", 2));
+        assertFalse(tokenVersionRegistry.isCurrent("user@example.com", 1));
+        assertTrue(tokenVersionRegistry.isCurrent("legacy@example.com", 0));
+        verify(userRepository, never()).findTokenVersionByEmail("user@example.com");
+    }
+
+    @Test
+    void isCurrent_shouldLookUpUsersRegisteredSinceLastRefreshOnce() {
+        // Arrange
+        when(userRepository.findTokenVersionByEmail("new@example.com")).thenReturn(Optional.of(new UserTokenVersion("new@example.com", 0L)));
+
+        // Act
+        tokenVersionRegistry.isCurrent("new@example.com", 0);
+        boolean actual = tokenVersionRegistry.isCurrent("new@example.com", 0);
+
+        // Assert
+        assertTrue(actual);
+        verify(userRepository, times(1)).findTokenVersionByEmail("new@example.com");
+    }
+
+    @Test
+    void isCurrent_shouldRejectTokensOfDeletedAccounts() {
+        // Arrange
+        when(userRepository.findTokenVersionsBy()).thenReturn(List.of(new UserTokenVersion("user@example.com", 0L)));
+        when(userRepository.findTokenVersionByEmail("user@example.com")).thenReturn(Optional.empty());
+        tokenVersionRegistry.refresh();
+
+        // Act
+        tokenVersionRegistry.onUserCredentialsChanged(new UserCredentialsChangedEvent("user@example.com"));
+
+        // Assert
+        assertFalse(tokenVersionRegistry.isCurrent("user@example.com", 0));
+    }
+
+    @Test
+    void isCurrent_shouldRememberUnknownEmailsUntilNextRefresh() {
+        // Arrange
+        when(userRepository.findTokenVersionByEmail("deleted@example.com")).thenReturn(Optional.empty());
+
+        // Act
+        tokenVersionRegistry.isCurrent("deleted@example.com", 0);
+        boolean actual = tokenVersionRegistry.isCurrent("deleted@example.com", 0);
+
+        // Assert
+        assertFalse(actual);
+        verify(userRepository, times(1)).findTokenVersionByEmail("deleted@example.com");
+    }
+
+    @Test
+    void refresh_shouldDropVersionsEvictedWhileScanning() {
+        // Arrange
+        when(userRepository.findTokenVersionsBy()).thenAnswer(invocation -> {
+            tokenVersionRegistry.onUserCredentialsChanged(new UserCredentialsChangedEvent("user@example.com"));
+            return List.of(new UserTokenVersion("user@example.com", 0L));
+        });
+        when(userRepository.findTokenVersionByEmail("user@example.com")).thenReturn(Optional.of(new UserTokenVersion("user@example.com", 1L)));
+
+        // Act
+        tokenVersionRegistry.refresh();
+
+        // Assert
+        assertFalse(tokenVersionRegistry.isCurrent("user@example.com", 0));
+        assertTrue(tokenVersionRegistry.isCurrent("user@example.com", 1));
+    }
+}
@@ -0,0 +1,134 @@
+package de.mightypc.backend.service.cache;
+
+import de.mightypc.backend.model.admin.CacheStats;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BoundedCacheTest {
+    private final MutableClock clock = new MutableClock();
+
+    @Test
+    void get_shouldLoadOnceAndCountHitsAndMisses() {
+        // Arrange
+        BoundedCache<String, String> cache = new BoundedCache<>("test", 10, Duration.ofMinutes(1), clock);
+        AtomicInteger loads = new AtomicInteger();
+
+        // Act
+        cache.get("key", key -> "value" + loads.incrementAndGet());
+        String actual = cache.get("key", key -> "value" + loads.incrementAndGet());
+
+        // Assert
+        assertEquals("value1", actual);
+        assertEquals(1, loads.get());
+        assertEquals(new CacheStats("test", 1, 10, 1, 1, 0), cache.getStats());
+    }
+
+    @Test
+    void get_shouldNotCacheNullValues() {
+        // Arrange
+        BoundedCache<String, String> cache = new BoundedCache<>("test", 10, Duration.ofMinutes(1), clock);
+
+        // Act
+        String actual = cache.get("key", key -> null);
+
+        // Assert
+        assertNull(actual);
+        assertEquals(Optional.empty(), cache.getIfPresent("key"));
+    }
+
+    @Test
+    void getIfPresent_shouldExpireEntries_afterTimeToLive() {
+        // Arrange
+        BoundedCache<String, String> cache = new BoundedCache<>("test", 10, Duration.ofMinutes(1), clock);
+        cache.put("key", "value");
+
+        // Act
+        clock.advance(Duration.ofMinutes(2));
+
+        // Assert
+        assertTrue(cache.getIfPresent("key").isEmpty());
+        assertEquals(1, cache.getStats().evictions());
+    }
+
+    @Test
+    void put_shouldEvictLeastRecentlyUsedEntry_whenMaximumSizeIsExceeded() {
+        // Arrange
+        BoundedCache<String, String> cache = new BoundedCache<>("test", 2, Duration.ofMinutes(1), clock);
+        cache.put("first", "1");
+        cache.put("second", "2");
+        cache.getIfPresent("first");
+
+        // Act
+        cache.put("third", "3");
+
+        // Assert
+        assertEquals(Optional.of("1"), cache.getIfPresent("first"));
+        assertTrue(cache.getIfPresent("second").isEmpty());
+        assertEquals(Optional.of("3"), cache.getIfPresent("third"));
+        assertEquals(2, cache.getStats().size());
+    }
+
+    @Test
+    void get_shouldNotStoreLoadedValue_whenInvalidatedWhileLoading() {
+        // Arrange
+        BoundedCache<String, String> cache = new BoundedCache<>("test", 10, Duration.ofMinutes(1), clock);
+
+        // Act
+        cache.get("key", key -> {
+            cache.invalidate(key);
+            return "stale";
+        });
+
+        // Assert
+        assertTrue(cache.getIfPresent("key").isEmpty());
+    }
+
+    @Test
+    void invalidateIf_shouldRemoveOnlyMatchingEntries() {
+        // Arrange
+        BoundedCache<String, String> cache = new BoundedCache<>("test", 10, Duration.ofMinutes(1), clock);
+        cache.put("first", "keep");
+        cache.put("second", "drop");
+
+        // Act
+        cache.invalidateIf((key, value) -> value.equals("drop"));
+
+        // Assert
+        assertEquals(Optional.of("keep"), cache.getIfPresent("first"));
+        assertTrue(cache.getIfPresent("second").isEmpty());
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant now = Instant.parse("2024-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package de.mightypc.backend.service.concurrency;
+
+import de.mightypc.backend.model.admin.ConflictStats;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class OptimisticLockRetrierTest {
+    private final OptimisticLockRetrier optimisticLockRetrier = new OptimisticLockRetrier();
+
+    @Test
+    void execute_shouldRetryUntilActionSucceeds() {
+        // Arrange
+        AtomicInteger calls = new AtomicInteger();
+
+        // Act
+        String result = optimisticLockRetrier.execute("user.save", () -> {
+            if (calls.incrementAndGet() < 3) {
+                throw new OptimisticLockingFailureException("conflict");
+            }
+            return "saved";
+        });
+
+        // Assert
+        assertEquals("saved", result);
+        assertEquals(List.of(new ConflictStats("user.save", 3, 2, 2, 0)), optimisticLockRetrier.getStats());
+    }
+
+    @Test
+    void execute_shouldGiveUp_afterFourConflictingAttempts() {
+        // Arrange
+        AtomicInteger calls = new AtomicInteger();
+        Runnable alwaysConflicting = () -> {
+            calls.incrementAndGet();
+            throw new OptimisticLockingFailureException("conflict");
+        };
+
+        // Act & Assert
+        assertThrows(OptimisticLockingFailureException.class, () -> optimisticLockRetrier.execute("user.save", alwaysConflicting));
+        assertEquals(4, calls.get());
+        assertEquals(List.of(new ConflictStats("user.save", 4, 4, 3, 1)), optimisticLockRetrier.getStats());
+    }
+
+    @Test
+    void execute_shouldNotRetryOtherExceptions() {
+        // Arrange
+        AtomicInteger calls = new AtomicInteger();
+        Runnable failing = () -> {
+            calls.incrementAndGet();
+            throw new IllegalStateException("broken");
+        };
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> optimisticLockRetrier.execute("user.save", failing));
+        assertEquals(1, calls.get());
+        assertEquals(List.of(new ConflictStats("user.save", 1, 0, 0, 0)), optimisticLockRetrier.getStats());
+    }
+}
@@ -1,13 +1,18 @@
 package de.mightypc.backend.service.configurator;
 
+import de.mightypc.backend.model.catalog.CatalogChangedEvent;
 import de.mightypc.backend.model.configurator.ConfiguratorItems;
+import de.mightypc.backend.model.configurator.ConfiguratorSnapshot;
 import de.mightypc.backend.model.configurator.ItemForConfigurator;
+import de.mightypc.backend.model.configurator.chatgpt.PromptCatalog;
 import de.mightypc.backend.service.hardware.*;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.Mockito.*;
 
 class ConfiguratorServiceTest {
@@ -68,4 +73,56 @@ class ConfiguratorServiceTest {
 
         assertEquals(expected, actual);
     }
+
+    @Test
+    void getConfiguratorSnapshot_shouldBuildItemsOnlyOnce() {
+        when(cpuService.getAllHardwareInfoForConfiguration()).thenReturn(List.of());
+
+        ConfiguratorSnapshot first = configuratorService.getConfiguratorSnapshot();
+        ConfiguratorSnapshot second = configuratorService.getConfiguratorSnapshot();
+
+        assertSame(first, second);
+        verify(cpuService, times(1)).getAllHardwareInfoForConfiguration();
+        verify(pcCaseService, times(1)).getAllHardwareInfoForConfiguration();
+    }
+
+    @Test
+    void onCatalogChanged_shouldRebuildOnlyAffectedCategoryAndChangeETag() {
+        List<ItemForConfigurator> gpuItems = List.of(mock(ItemForConfigurator.class));
+        when(gpuService.getCategory()).thenReturn("gpu");
+        when(gpuService.getAllHardwareInfoForConfiguration()).thenReturn(List.of()).thenReturn(gpuItems);
+
+        ConfiguratorSnapshot before = configuratorService.getConfiguratorSnapshot();
+        configuratorService.onCatalogChanged(new CatalogChangedEvent("gpu", "gpuId"));
+        ConfiguratorSnapshot after = configuratorService.getConfiguratorSnapshot();
+
+        assertNotEquals(before.etag(), after.etag());
+        assertEquals(gpuItems, after.items().itemsForConfigurator().get(1));
+        verify(gpuService, times(2)).getAllHardwareInfoForConfiguration();
+        verify(cpuService, times(1)).getAllHardwareInfoForConfiguration();
+    }
+
+    @Test
+    void getPromptCatalog_shouldCacheTextAndRebuildOnlyChangedCategory() {
+        when(cpuService.getCategory()).thenReturn("cpu");
+        when(cpuService.getAllNamesWithPrices()).thenReturn("cpu1 100 ").thenReturn("cpu1 150 ");
+        when(gpuService.getAllNamesWithPrices()).thenReturn("gpu1 300 ");
+        when(motherboardService.getAllNamesWithPrices()).thenReturn("mb1 500 ");
+        when(ssdService.getAllNamesWithPrices()).thenReturn("ssd1 700 ");
+        when(hddService.getAllNamesWithPrices()).thenReturn("hdd1 900 ");
+        when(ramService.getAllNamesWithPrices()).thenReturn("ram1 1100 ");
+        when(pcCaseService.getAllNamesWithPrices()).thenReturn("case1 1300 ");
+        when(powerSupplyService.getAllNamesWithPrices()).thenReturn("ps1 1500 ");
+
+        PromptCatalog first = configuratorService.getPromptCatalog();
+        PromptCatalog cached = configuratorService.getPromptCatalog();
+        configuratorService.onCatalogChanged(new CatalogChangedEvent("cpu", "cpu1"));
+        PromptCatalog rebuilt = configuratorService.getPromptCatalog();
+
+        assertSame(first, cached);
+        assertEquals("cpu1150gpu1300mb1500ram11100ssd1700hdd1900ps11500case11300", rebuilt.text());
+        assertEquals((rebuilt.text().length() + 3) / 4, rebuilt.estimatedTokens());
+        verify(cpuService, times(2)).getAllNamesWithPrices();
+        verify(gpuService, times(1)).getAllNamesWithPrices();
+    }
 }
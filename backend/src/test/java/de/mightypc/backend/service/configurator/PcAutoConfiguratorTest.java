@@ -0,0 +1,116 @@
+package de.mightypc.backend.service.configurator;
+
+import de.mightypc.backend.model.hardware.CPU;
+import de.mightypc.backend.model.hardware.GPU;
+import de.mightypc.backend.model.hardware.HDD;
+import de.mightypc.backend.model.hardware.HardwareSpec;
+import de.mightypc.backend.model.hardware.Motherboard;
+import de.mightypc.backend.model.hardware.PcCase;
+import de.mightypc.backend.model.hardware.PowerSupply;
+import de.mightypc.backend.model.hardware.RAM;
+import de.mightypc.backend.model.hardware.SSD;
+import de.mightypc.backend.model.hardware.SpecsIds;
+import de.mightypc.backend.repository.pc.PcRepository;
+import de.mightypc.backend.service.hardware.CpuService;
+import de.mightypc.backend.service.hardware.GpuService;
+import de.mightypc.backend.service.hardware.HddService;
+import de.mightypc.backend.service.hardware.MotherboardService;
+import de.mightypc.backend.service.hardware.PcCaseService;
+import de.mightypc.backend.service.hardware.PowerSupplyService;
+import de.mightypc.backend.service.hardware.RamService;
+import de.mightypc.backend.service.hardware.SsdService;
+import de.mightypc.backend.service.pc.PcService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PcAutoConfiguratorTest {
+    private final CpuService cpuService = mock(CpuService.class);
+    private final GpuService gpuService = mock(GpuService.class);
+    private final MotherboardService motherboardService = mock(MotherboardService.class);
+    private final RamService ramService = mock(RamService.class);
+    private final SsdService ssdService = mock(SsdService.class);
+    private final HddService hddService = mock(HddService.class);
+    private final PowerSupplyService powerSupplyService = mock(PowerSupplyService.class);
+    private final PcCaseService pcCaseService = mock(PcCaseService.class);
+    private final PcService pcService = new PcService(mock(PcRepository.class), cpuService, gpuService, ssdService, hddService, ramService, pcCaseService, powerSupplyService, motherboardService);
+
+    private final PcAutoConfigurator pcAutoConfigurator = new PcAutoConfigurator(
+            cpuService, gpuService, motherboardService, ramService, ssdService, hddService, powerSupplyService, pcCaseService, pcService
+    );
+
+    @BeforeEach
+    void setUp() {
+        when(cpuService.getAll()).thenReturn(List.of(
+                new CPU("amdCpu", spec(300), 100, "AM4"),
+                new CPU("intelCpu", spec(350), 120, "LGA1700")
+        ));
+        when(motherboardService.getAll()).thenReturn(List.of(
+                new Motherboard("amdBoard", spec(150), 50, "AM4"),
+                new Motherboard("intelBoard", spec(400), 50, "LGA1700")
+        ));
+        when(gpuService.getAll()).thenReturn(List.of(
+                new GPU("cheapGpu", spec(200), 150),
+                new GPU("fastGpu", spec(700), 350)
+        ));
+        when(ramService.getAll()).thenReturn(List.of(new RAM("ram", spec(100), "DDR5", 10, 32)));
+        when(ssdService.getAll()).thenReturn(List.of(new SSD("ssd", spec(80), 1000, 10)));
+        when(hddService.getAll()).thenReturn(List.of(new HDD("hdd", spec(50), 2000, 10)));
+        when(powerSupplyService.getAll()).thenReturn(List.of(
+                new PowerSupply("smallPsu", spec(60), 400),
+                new PowerSupply("bigPsu", spec(120), 750)
+        ));
+        when(pcCaseService.getAll()).thenReturn(List.of(new PcCase("case", spec(70), "ATX")));
+    }
+
+    @Test
+    void configure_shouldReturnCompatibleConfigurationWithinBudget() {
+        // Act
+        Optional<SpecsIds> actual = pcAutoConfigurator.configure("gaming", "1700");
+
+        // Assert
+        assertEquals(Optional.of(new SpecsIds("amdCpu", "fastGpu", "amdBoard", "ram", "ssd", "hdd", "bigPsu", "case")), actual);
+    }
+
+    @Test
+    void configure_shouldPickCheaperParts_whenBudgetIsTight() {
+        // Act
+        Optional<SpecsIds> actual = pcAutoConfigurator.configure("office", "1050");
+
+        // Assert
+        assertEquals(Optional.of(new SpecsIds("amdCpu", "cheapGpu", "amdBoard", "ram", "ssd", "hdd", "smallPsu", "case")), actual);
+    }
+
+    @Test
+    void configure_shouldReturnEmpty_whenNothingFitsIntoBudget() {
+        // Act & Assert
+        assertTrue(pcAutoConfigurator.configure("gaming", "500").isEmpty());
+    }
+
+    @Test
+    void configure_shouldReturnEmpty_whenBudgetCannotBeParsed() {
+        // Act & Assert
+        assertTrue(pcAutoConfigurator.configure("gaming", "as cheap as possible").isEmpty());
+    }
+
+    @Test
+    void parseBudget_shouldUnderstandCommonFormats() {
+        // Act & Assert
+        assertEquals(Optional.of(new BigDecimal("1500")), PcAutoConfigurator.parseBudget("1500"));
+        assertEquals(Optional.of(new BigDecimal("1500")), PcAutoConfigurator.parseBudget("$1,500"));
+        assertEquals(Optional.of(new BigDecimal("2000")), PcAutoConfigurator.parseBudget("about 2.000 euro"));
+        assertEquals(Optional.of(new BigDecimal("999.99")), PcAutoConfigurator.parseBudget("999.99"));
+    }
+
+    private static HardwareSpec spec(int price) {
+        return new HardwareSpec("name", "description", BigDecimal.valueOf(price), 4f);
+    }
+}
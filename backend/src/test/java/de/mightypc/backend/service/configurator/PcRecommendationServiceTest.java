@@ -0,0 +1,169 @@
+package de.mightypc.backend.service.configurator;
+
+import de.mightypc.backend.exception.configurator.RecommendationTimeoutException;
+import de.mightypc.backend.model.admin.CacheStats;
+import de.mightypc.backend.model.catalog.CatalogChangedEvent;
+import de.mightypc.backend.model.hardware.SpecsIds;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PcRecommendationServiceTest {
+    private final PcAutoConfigurator pcAutoConfigurator = mock(PcAutoConfigurator.class);
+    private final ChatGptService chatGptService = mock(ChatGptService.class);
+    private final SpecsIdsRepairer specsIdsRepairer = mock(SpecsIdsRepairer.class);
+    private final PcRecommendationService pcRecommendationService = new PcRecommendationService(pcAutoConfigurator, chatGptService, specsIdsRepairer, 5000);
+
+    private final SpecsIds specsIds = new SpecsIds("cpuId", "gpuId", "motherboardId", "ramId", "ssdId", "hddId", "powerSupplyId", "pcCaseId");
+
+    @Test
+    void recommend_shouldServeSameTypeAndBudgetBucketFromCache() {
+        // Arrange
+        when(pcAutoConfigurator.configure("gaming", "1500")).thenReturn(Optional.of(specsIds));
+
+        // Act
+        SpecsIds first = pcRecommendationService.recommend("Gaming ", "1550");
+        SpecsIds second = pcRecommendationService.recommend("gaming", "1500");
+
+        // Assert
+        assertEquals(specsIds, first);
+        assertEquals(specsIds, second);
+        verify(pcAutoConfigurator, times(1)).configure("gaming", "1500");
+    }
+
+    @Test
+    void recommend_shouldRepairChatGptRecommendation_whenLocalConfiguratorFindsNothing() {
+        // Arrange
+        SpecsIds proposed = new SpecsIds("madeUpCpu", "gpuId", "motherboardId", "ramId", "ssdId", "hddId", "powerSupplyId", "pcCaseId");
+        when(pcAutoConfigurator.configure("office", "800")).thenReturn(Optional.empty());
+        when(chatGptService.createChatGptRecommendation("office", "800")).thenReturn(proposed);
+        when(specsIdsRepairer.repair(proposed, "800")).thenReturn(specsIds);
+
+        // Act
+        SpecsIds actual = pcRecommendationService.recommend("office", "899");
+
+        // Assert
+        assertEquals(specsIds, actual);
+    }
+
+    @Test
+    void onCatalogChanged_shouldRecomputeAfterAnyComponentChange() {
+        // Arrange
+        when(pcAutoConfigurator.configure("gaming", "1500")).thenReturn(Optional.of(specsIds));
+        pcRecommendationService.recommend("gaming", "1500");
+
+        // Act
+        pcRecommendationService.onCatalogChanged(new CatalogChangedEvent("cpu", "newCpuId"));
+        pcRecommendationService.recommend("gaming", "1500");
+        pcRecommendationService.onCatalogChanged(new CatalogChangedEvent("cpu", "cpuId"));
+        pcRecommendationService.recommend("gaming", "1500");
+
+        // Assert
+        verify(pcAutoConfigurator, times(3)).configure("gaming", "1500");
+    }
+
+    @Test
+    void onCatalogChanged_shouldDropRecommendationsOfOldCatalogVersion() {
+        // Arrange
+        when(pcAutoConfigurator.configure("gaming", "1500")).thenReturn(Optional.of(specsIds));
+        pcRecommendationService.recommend("gaming", "1500");
+
+        // Act
+        pcRecommendationService.onCatalogChanged(new CatalogChangedEvent("gpu", "newGpuId"));
+
+        // Assert
+        assertEquals(0, pcRecommendationService.getCacheStats().size());
+    }
+
+    @Test
+    void onCatalogChanged_shouldKeepRecommendations_whenPrebuiltPcChanges() {
+        // Arrange
+        when(pcAutoConfigurator.configure("gaming", "1500")).thenReturn(Optional.of(specsIds));
+        pcRecommendationService.recommend("gaming", "1500");
+
+        // Act
+        pcRecommendationService.onCatalogChanged(new CatalogChangedEvent("pc", "pcId"));
+        pcRecommendationService.recommend("gaming", "1500");
+
+        // Assert
+        verify(pcAutoConfigurator, times(1)).configure("gaming", "1500");
+    }
+
+    @Test
+    void getCacheStats_shouldCountEachLookupOnce() {
+        // Arrange
+        when(pcAutoConfigurator.configure("gaming", "1500")).thenReturn(Optional.of(specsIds));
+
+        // Act
+        pcRecommendationService.recommend("gaming", "1500");
+        pcRecommendationService.recommend("gaming", "1500");
+
+        // Assert
+        CacheStats actual = pcRecommendationService.getCacheStats();
+        assertEquals(1, actual.hits());
+        assertEquals(1, actual.misses());
+    }
+
+    @Test
+    void recommend_shouldComputeConcurrentIdenticalRequestsOnce() throws Exception {
+        // Arrange
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(pcAutoConfigurator.configure("gaming", "1500")).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.of(specsIds);
+        });
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            // Act
+            Future<SpecsIds> first = executor.submit(() -> pcRecommendationService.recommend("gaming", "1500"));
+            started.await(5, TimeUnit.SECONDS);
+            Future<SpecsIds> second = executor.submit(() -> pcRecommendationService.recommend("gaming", "1500"));
+            Thread.sleep(100);
+            release.countDown();
+
+            // Assert
+            assertEquals(specsIds, first.get(5, TimeUnit.SECONDS));
+            assertEquals(specsIds, second.get(5, TimeUnit.SECONDS));
+        }
+
+        verify(pcAutoConfigurator, times(1)).configure("gaming", "1500");
+    }
+
+    @Test
+    void recommend_shouldStopWaitingForConcurrentIdenticalRequestAfterTimeout() throws Exception {
+        // Arrange
+        PcRecommendationService impatientService = new PcRecommendationService(pcAutoConfigurator, chatGptService, specsIdsRepairer, 50);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(pcAutoConfigurator.configure("gaming", "1500")).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.of(specsIds);
+        });
+
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            Future<SpecsIds> first = executor.submit(() -> impatientService.recommend("gaming", "1500"));
+            started.await(5, TimeUnit.SECONDS);
+
+            // Act & Assert
+            assertThrows(RecommendationTimeoutException.class, () -> impatientService.recommend("gaming", "1500"));
+
+            release.countDown();
+            assertEquals(specsIds, first.get(5, TimeUnit.SECONDS));
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package de.mightypc.backend.service.configurator;
+
+import de.mightypc.backend.model.hardware.CPU;
+import de.mightypc.backend.model.hardware.GPU;
+import de.mightypc.backend.model.hardware.HDD;
+import de.mightypc.backend.model.hardware.HardwareSpec;
+import de.mightypc.backend.model.hardware.Motherboard;
+import de.mightypc.backend.model.hardware.PcCase;
+import de.mightypc.backend.model.hardware.PowerSupply;
+import de.mightypc.backend.model.hardware.RAM;
+import de.mightypc.backend.model.hardware.SSD;
+import de.mightypc.backend.model.hardware.SpecsIds;
+import de.mightypc.backend.repository.pc.PcRepository;
+import de.mightypc.backend.service.hardware.BaseService;
+import de.mightypc.backend.service.hardware.CpuService;
+import de.mightypc.backend.service.hardware.GpuService;
+import de.mightypc.backend.service.hardware.HddService;
+import de.mightypc.backend.service.hardware.MotherboardService;
+import de.mightypc.backend.service.hardware.PcCaseService;
+import de.mightypc.backend.service.hardware.PowerSupplyService;
+import de.mightypc.backend.service.hardware.RamService;
+import de.mightypc.backend.service.hardware.SsdService;
+import de.mightypc.backend.service.pc.PcService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SpecsIdsRepairerTest {
+    private final CpuService cpuService = mock(CpuService.class);
+    private final GpuService gpuService = mock(GpuService.class);
+    private final MotherboardService motherboardService = mock(MotherboardService.class);
+    private final RamService ramService = mock(RamService.class);
+    private final SsdService ssdService = mock(SsdService.class);
+    private final HddService hddService = mock(HddService.class);
+    private final PowerSupplyService powerSupplyService = mock(PowerSupplyService.class);
+    private final PcCaseService pcCaseService = mock(PcCaseService.class);
+    private final PcService pcService = new PcService(mock(PcRepository.class), cpuService, gpuService, ssdService, hddService, ramService, pcCaseService, powerSupplyService, motherboardService);
+
+    private final SpecsIdsRepairer specsIdsRepairer = new SpecsIdsRepairer(
+            cpuService, gpuService, motherboardService, ramService, ssdService, hddService, powerSupplyService, pcCaseService, pcService
+    );
+
+    @BeforeEach
+    void setUp() {
+        stub(cpuService, CPU::id, List.of(
+                new CPU("amdCpu", spec(300), 100, "AM4"),
+                new CPU("intelCpu", spec(350), 120, "LGA1700"),
+                new CPU("orphanCpu", spec(320), 100, "AM3")
+        ));
+        stub(motherboardService, Motherboard::id, List.of(
+                new Motherboard("amdBoard", spec(150), 50, "AM4"),
+                new Motherboard("cheapIntelBoard", spec(120), 50, "LGA1700"),
+                new Motherboard("intelBoard", spec(400), 50, "LGA1700")
+        ));
+        stub(gpuService, GPU::id, List.of(
+                new GPU("cheapGpu", spec(200), 150),
+                new GPU("fastGpu", spec(700), 350)
+        ));
+        stub(ramService, RAM::id, List.of(new RAM("ram", spec(100), "DDR5", 10, 32)));
+        stub(ssdService, SSD::id, List.of(new SSD("ssd", spec(80), 1000, 10)));
+        stub(hddService, HDD::id, List.of(new HDD("hdd", spec(50), 2000, 10)));
+        stub(powerSupplyService, PowerSupply::id, List.of(
+                new PowerSupply("smallPsu", spec(60), 400),
+                new PowerSupply("bigPsu", spec(120), 750)
+        ));
+        stub(pcCaseService, PcCase::id, List.of(new PcCase("case", spec(70), "ATX")));
+    }
+
+    @Test
+    void repair_shouldKeepValidRecommendation() {
+        // Arrange
+        SpecsIds proposed = new SpecsIds("amdCpu", "cheapGpu", "amdBoard", "ram", "ssd", "hdd", "smallPsu", "case");
+
+        // Act
+        SpecsIds actual = specsIdsRepairer.repair(proposed, "1500");
+
+        // Assert
+        assertEquals(proposed, actual);
+    }
+
+    @Test
+    void repair_shouldReplaceMotherboardWithNearestPricedOneMatchingCpuSocket() {
+        // Arrange
+        SpecsIds proposed = new SpecsIds("intelCpu", "cheapGpu", "amdBoard", "ram", "ssd", "hdd", "smallPsu", "case");
+
+        // Act
+        SpecsIds actual = specsIdsRepairer.repair(proposed, "1500");
+
+        // Assert
+        assertEquals(new SpecsIds("intelCpu", "cheapGpu", "cheapIntelBoard", "ram", "ssd", "hdd", "smallPsu", "case"), actual);
+    }
+
+    @Test
+    void repair_shouldSkipMotherboardsWithoutSocket() {
+        // Arrange
+        stub(motherboardService, Motherboard::id, List.of(
+                new Motherboard("amdBoard", spec(150), 50, "AM4"),
+                new Motherboard("unknownSocketBoard", spec(130), 50, null),
+                new Motherboard("intelBoard", spec(400), 50, "LGA1700")
+        ));
+        SpecsIds proposed = new SpecsIds("intelCpu", "cheapGpu", "amdBoard", "ram", "ssd", "hdd", "smallPsu", "case");
+
+        // Act
+        SpecsIds actual = specsIdsRepairer.repair(proposed, "1500");
+
+        // Assert
+        assertEquals(new SpecsIds("intelCpu", "cheapGpu", "intelBoard", "ram", "ssd", "hdd", "smallPsu", "case"), actual);
+    }
+
+    @Test
+    void repair_shouldReplaceCpuWithoutAnyMatchingMotherboard() {
+        // Arrange
+        SpecsIds proposed = new SpecsIds("orphanCpu", "cheapGpu", "amdBoard", "ram", "ssd", "hdd", "smallPsu", "case");
+
+        // Act
+        SpecsIds actual = specsIdsRepairer.repair(proposed, "1500");
+
+        // Assert
+        assertEquals(new SpecsIds("amdCpu", "cheapGpu", "amdBoard", "ram", "ssd", "hdd", "smallPsu", "case"), actual);
+    }
+
+    @Test
+    void repair_shouldReplacePowerSupplyThatCannotPowerThePc() {
+        // Arrange
+        SpecsIds proposed = new SpecsIds("amdCpu", "fastGpu", "amdBoard", "ram", "ssd", "hdd", "smallPsu", "case");
+
+        // Act
+        SpecsIds actual = specsIdsRepairer.repair(proposed, "2000");
+
+        // Assert
+        assertEquals(new SpecsIds("amdCpu", "fastGpu", "amdBoard", "ram", "ssd", "hdd", "bigPsu", "case"), actual);
+    }
+
+    @Test
+    void repair_shouldReplaceUnknownIdWithComponentNearestToRemainingBudget() {
+        // Arrange
+        SpecsIds proposed = new SpecsIds("amdCpu", "madeUpGpu", "amdBoard", "ram", "ssd", "hdd", "bigPsu", "case");
+
+        // Act
+        SpecsIds actual = specsIdsRepairer.repair(proposed, "1600");
+
+        // Assert
+        assertEquals(new SpecsIds("amdCpu", "fastGpu", "amdBoard", "ram", "ssd", "hdd", "bigPsu", "case"), actual);
+    }
+
+    @Test
+    void repair_shouldFallBackToMedianPrice_whenBudgetCannotBeParsed() {
+        // Arrange
+        SpecsIds proposed = new SpecsIds("amdCpu", "cheapGpu", "amdBoard", "ram", "ssd", "hdd", "unknownPsu", "case");
+
+        // Act
+        SpecsIds actual = specsIdsRepairer.repair(proposed, "not too expensive");
+
+        // Assert
+        assertEquals(new SpecsIds("amdCpu", "cheapGpu", "amdBoard", "ram", "ssd", "hdd", "bigPsu", "case"), actual);
+    }
+
+    @Test
+    void repair_shouldLookUpEachComponentTypeOnce() {
+        // Arrange
+        SpecsIds proposed = new SpecsIds("amdCpu", "madeUpGpu", "amdBoard", "ram", "ssd", "hdd", "bigPsu", "case");
+
+        // Act
+        specsIdsRepairer.repair(proposed, "1600");
+
+        // Assert
+        verify(cpuService, times(1)).findAllByIds(anyCollection());
+        verify(gpuService, times(1)).findAllByIds(anyCollection());
+        verify(pcCaseService, times(1)).findAllByIds(anyCollection());
+        verify(gpuService, times(1)).getAll();
+        verify(ramService, never()).getAll();
+    }
+
+    private static <T> void stub(BaseService<T, ?, ?> service, Function<T, String> id, List<T> entities) {
+        when(service.getAll()).thenReturn(entities);
+        when(service.findAllByIds(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> ids = invocation.getArgument(0);
+            Map<String, T> found = new HashMap<>();
+            entities.stream().filter(entity -> ids.contains(id.apply(entity))).forEach(entity -> found.put(id.apply(entity), entity));
+            return found;
+        });
+    }
+
+    private static HardwareSpec spec(int price) {
+        return new HardwareSpec("name", "description", BigDecimal.valueOf(price), 4f);
+    }
+}
@@ -1,8 +1,11 @@
 package de.mightypc.backend.service.configurator;
 
 import de.mightypc.backend.exception.pc.UserPcNotFoundException;
+import de.mightypc.backend.exception.shop.user.UserNotFoundException;
 import de.mightypc.backend.model.hardware.*;
 import de.mightypc.backend.model.pc.PC;
+import de.mightypc.backend.model.pc.UserPc;
+import de.mightypc.backend.model.pc.UserPcsSlice;
 import de.mightypc.backend.model.pc.createpc.CreatePC;
 import de.mightypc.backend.model.pc.createpc.PcResponse;
 import de.mightypc.backend.model.shop.user.User;
@@ -16,6 +19,7 @@ import de.mightypc.backend.repository.hardware.RamRepository;
 import de.mightypc.backend.repository.hardware.SsdRepository;
 import de.mightypc.backend.repository.pc.PcRepository;
 import de.mightypc.backend.repository.shop.UserRepository;
+import de.mightypc.backend.service.concurrency.OptimisticLockRetrier;
 import de.mightypc.backend.service.hardware.CpuService;
 import de.mightypc.backend.service.hardware.GpuService;
 import de.mightypc.backend.service.hardware.HddService;
@@ -38,11 +42,14 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.when;
@@ -60,7 +67,7 @@ class UserPcsServiceTest {
     private final MotherboardRepository motherboardRepository = mock(MotherboardRepository.class);
 
     private final PasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
-    private final UserService userService = new UserService(userRepository, passwordEncoder);
+    private final UserService userService = new UserService(userRepository, passwordEncoder, new OptimisticLockRetrier());
     private final CpuService cpuService = new CpuService(cpuRepository);
     private final GpuService gpuService = new GpuService(gpuRepository);
     private final SsdService ssdService = new SsdService(ssdRepository);
@@ -85,7 +92,8 @@ class UserPcsServiceTest {
     private final UserPcsService userPcsService = new UserPcsService(
             userService,
             pcService,
-            userRepository
+            userRepository,
+            new OptimisticLockRetrier()
     );
 
     private final CPU cpu = new CPU("cpuId", new HardwareSpec("testCpu", "test", new BigDecimal(10), 2.5f), 5, "AM4");
@@ -134,7 +142,7 @@ class UserPcsServiceTest {
                 "testEmail",
                 new ArrayList<>(),
                 new ArrayList<>(),
-                new ArrayList<>(List.of(testPc, testPc2)),
+                new ArrayList<>(List.of(new UserPc(testPc), new UserPc(testPc2))),
                 true,
                 "user",
                 "23.32",
@@ -159,14 +167,14 @@ class UserPcsServiceTest {
                 )
         );
 
-        when(cpuRepository.findById("cpuId")).thenReturn(Optional.of(cpu));
-        when(gpuRepository.findById("gpuId")).thenReturn(Optional.of(gpu));
-        when(motherboardRepository.findById("motherboardId")).thenReturn(Optional.of(motherboard));
-        when(ramRepository.findById("ramId")).thenReturn(Optional.of(ram));
-        when(ssdRepository.findById("ssdId")).thenReturn(Optional.of(ssd));
-        when(hddRepository.findById("hddId")).thenReturn(Optional.of(hdd));
-        when(pcCaseRepository.findById("pcCaseId")).thenReturn(Optional.of(pcCase));
-        when(powerSupplyRepository.findById("powerSupplyId")).thenReturn(Optional.of(powerSupply));
+        when(cpuRepository.findAllById(Set.of("cpuId"))).thenReturn(List.of(cpu));
+        when(gpuRepository.findAllById(Set.of("gpuId"))).thenReturn(List.of(gpu));
+        when(motherboardRepository.findAllById(Set.of("motherboardId"))).thenReturn(List.of(motherboard));
+        when(ramRepository.findAllById(Set.of("ramId"))).thenReturn(List.of(ram));
+        when(ssdRepository.findAllById(Set.of("ssdId"))).thenReturn(List.of(ssd));
+        when(hddRepository.findAllById(Set.of("hddId"))).thenReturn(List.of(hdd));
+        when(pcCaseRepository.findAllById(Set.of("pcCaseId"))).thenReturn(List.of(pcCase));
+        when(powerSupplyRepository.findAllById(Set.of("powerSupplyId"))).thenReturn(List.of(powerSupply));
 
         when(userRepository.findById("testId")).thenReturn(Optional.of(user));
 
@@ -192,6 +200,14 @@ class UserPcsServiceTest {
     @Test
     void addPrivateUserPcToAllPcs() {
         // Arrange
+        when(cpuRepository.findAllById(Set.of("cpuId"))).thenReturn(List.of(cpu));
+        when(gpuRepository.findAllById(Set.of("gpuId"))).thenReturn(List.of(gpu));
+        when(motherboardRepository.findAllById(Set.of("motherboardId"))).thenReturn(List.of(motherboard));
+        when(ramRepository.findAllById(Set.of("ramId"))).thenReturn(List.of(ram));
+        when(ssdRepository.findAllById(Set.of("ssdId"))).thenReturn(List.of(ssd));
+        when(hddRepository.findAllById(Set.of("hddId"))).thenReturn(List.of(hdd));
+        when(powerSupplyRepository.findAllById(Set.of("powerSupplyId"))).thenReturn(List.of(powerSupply));
+        when(pcCaseRepository.findAllById(Set.of("pcCaseId"))).thenReturn(List.of(pcCase));
         when(userRepository.findById("testId")).thenReturn(Optional.of(user));
 
         // Act
@@ -234,14 +250,81 @@ class UserPcsServiceTest {
     void getAllPcsAsListOfPcResponseByUserId() {
         // Arrange
         PageRequest pageable = PageRequest.of(0, 8);
+        when(cpuRepository.findAllById(Set.of("cpuId"))).thenReturn(List.of(cpu));
+        when(gpuRepository.findAllById(Set.of("gpuId"))).thenReturn(List.of(gpu));
+        when(motherboardRepository.findAllById(Set.of("motherboardId"))).thenReturn(List.of(motherboard));
+        when(ramRepository.findAllById(Set.of("ramId"))).thenReturn(List.of(ram));
+        when(ssdRepository.findAllById(Set.of("ssdId"))).thenReturn(List.of(ssd));
+        when(hddRepository.findAllById(Set.of("hddId"))).thenReturn(List.of(hdd));
+        when(powerSupplyRepository.findAllById(Set.of("powerSupplyId"))).thenReturn(List.of(powerSupply));
+        when(pcCaseRepository.findAllById(Set.of("pcCaseId"))).thenReturn(List.of(pcCase));
 
-        when(userRepository.findById("testId")).thenReturn(Optional.of(user));
+        when(userRepository.findPcsSlice("testId", 0, 8)).thenReturn(Optional.of(new UserPcsSlice(user.getPcs(), 2)));
 
         // Act
         Page<PcResponse> actual = userPcsService.getAllPcsAsListOfPcResponseByUserId("testId", pageable);
 
         // Assert
         assertEquals(2, actual.getContent().size());
+        assertEquals("testCpu", actual.getContent().getFirst().specsNames().cpuName());
+    }
+
+    @Test
+    void getAllPcsAsListOfPcResponseByUserId_shouldOnlyLoadRequestedPage() {
+        // Arrange
+        PageRequest pageable = PageRequest.of(1, 1);
+        when(cpuRepository.findAllById(Set.of("cpuId"))).thenReturn(List.of(cpu));
+        when(gpuRepository.findAllById(Set.of("gpuId"))).thenReturn(List.of(gpu));
+        when(motherboardRepository.findAllById(Set.of("motherboardId"))).thenReturn(List.of(motherboard));
+        when(ramRepository.findAllById(Set.of("ramId"))).thenReturn(List.of(ram));
+        when(ssdRepository.findAllById(Set.of("ssdId"))).thenReturn(List.of(ssd));
+        when(hddRepository.findAllById(Set.of("hddId"))).thenReturn(List.of(hdd));
+        when(powerSupplyRepository.findAllById(Set.of("powerSupplyId"))).thenReturn(List.of(powerSupply));
+        when(pcCaseRepository.findAllById(Set.of("pcCaseId"))).thenReturn(List.of(pcCase));
+
+        when(userRepository.findPcsSlice("testId", 1, 1)).thenReturn(Optional.of(new UserPcsSlice(List.of(new UserPc(testPc2)), 2)));
+
+        // Act
+        Page<PcResponse> actual = userPcsService.getAllPcsAsListOfPcResponseByUserId("testId", pageable);
+
+        // Assert
+        assertEquals(2, actual.getTotalElements());
+        assertEquals(1, actual.getContent().size());
+        assertEquals("testPc2", actual.getContent().getFirst().id());
+        verify(userRepository, never()).findById("testId");
+    }
+
+    @Test
+    void getAllPcsAsListOfPcResponseByUserId_whenThereIsNoSuchUser_thenThrowUserNotFoundException() {
+        // Arrange
+        PageRequest pageable = PageRequest.of(0, 8);
+        when(userRepository.findPcsSlice("unknownId", 0, 8)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(UserNotFoundException.class, () -> userPcsService.getAllPcsAsListOfPcResponseByUserId("unknownId", pageable));
+    }
+
+    @Test
+    void getPcById_shouldLeaveNameEmpty_whenComponentWasRemovedFromCatalog() {
+        // Arrange
+        when(cpuRepository.findAllById(Set.of("cpuId"))).thenReturn(List.of());
+        when(gpuRepository.findAllById(Set.of("gpuId"))).thenReturn(List.of(gpu));
+        when(motherboardRepository.findAllById(Set.of("motherboardId"))).thenReturn(List.of(motherboard));
+        when(ramRepository.findAllById(Set.of("ramId"))).thenReturn(List.of(ram));
+        when(ssdRepository.findAllById(Set.of("ssdId"))).thenReturn(List.of(ssd));
+        when(hddRepository.findAllById(Set.of("hddId"))).thenReturn(List.of(hdd));
+        when(powerSupplyRepository.findAllById(Set.of("powerSupplyId"))).thenReturn(List.of(powerSupply));
+        when(pcCaseRepository.findAllById(Set.of("pcCaseId"))).thenReturn(List.of(pcCase));
+
+        when(userRepository.findById("testId")).thenReturn(Optional.of(user));
+
+        // Act
+        PcResponse actual = userPcsService.getPcByUserIdAndPcIdAsPcResponse("testId", "testPc1");
+
+        // Assert
+        assertNull(actual.specsNames().cpuName());
+        assertEquals("testGpu", actual.specsNames().gpuName());
+        assertEquals(new BigDecimal(666), actual.hardwareSpec().price());
     }
 
     @Test
@@ -265,6 +348,15 @@ class UserPcsServiceTest {
                 Collections.emptyList()
         );
 
+        when(cpuRepository.findAllById(Set.of("cpuId"))).thenReturn(List.of(cpu));
+        when(gpuRepository.findAllById(Set.of("gpuId"))).thenReturn(List.of(gpu));
+        when(motherboardRepository.findAllById(Set.of("motherboardId"))).thenReturn(List.of(motherboard));
+        when(ramRepository.findAllById(Set.of("ramId"))).thenReturn(List.of(ram));
+        when(ssdRepository.findAllById(Set.of("ssdId"))).thenReturn(List.of(ssd));
+        when(hddRepository.findAllById(Set.of("hddId"))).thenReturn(List.of(hdd));
+        when(powerSupplyRepository.findAllById(Set.of("powerSupplyId"))).thenReturn(List.of(powerSupply));
+        when(pcCaseRepository.findAllById(Set.of("pcCaseId"))).thenReturn(List.of(pcCase));
+
         when(userRepository.findById("testId")).thenReturn(Optional.of(user));
 
         // Act
@@ -303,14 +395,14 @@ class UserPcsServiceTest {
                 Collections.emptyList()
         );
 
-        when(cpuRepository.findById("cpuId")).thenReturn(Optional.of(cpu));
-        when(gpuRepository.findById("gpuId")).thenReturn(Optional.of(gpu));
-        when(motherboardRepository.findById("motherboardId")).thenReturn(Optional.of(motherboard));
-        when(ramRepository.findById("ramId")).thenReturn(Optional.of(ram));
-        when(ssdRepository.findById("ssdId")).thenReturn(Optional.of(ssd));
-        when(hddRepository.findById("hddId")).thenReturn(Optional.of(hdd));
-        when(powerSupplyRepository.findById("powerSupplyId")).thenReturn(Optional.of(powerSupply));
-        when(pcCaseRepository.findById("pcCaseId")).thenReturn(Optional.of(pcCase));
+        when(cpuRepository.findAllById(Set.of("cpuId"))).thenReturn(List.of(cpu));
+        when(gpuRepository.findAllById(Set.of("gpuId"))).thenReturn(List.of(gpu));
+        when(motherboardRepository.findAllById(Set.of("motherboardId"))).thenReturn(List.of(motherboard));
+        when(ramRepository.findAllById(Set.of("ramId"))).thenReturn(List.of(ram));
+        when(ssdRepository.findAllById(Set.of("ssdId"))).thenReturn(List.of(ssd));
+        when(hddRepository.findAllById(Set.of("hddId"))).thenReturn(List.of(hdd));
+        when(powerSupplyRepository.findAllById(Set.of("powerSupplyId"))).thenReturn(List.of(powerSupply));
+        when(pcCaseRepository.findAllById(Set.of("pcCaseId"))).thenReturn(List.of(pcCase));
 
         when(userRepository.findById("testId")).thenReturn(Optional.of(user));
 
@@ -318,16 +410,16 @@ class UserPcsServiceTest {
         userPcsService.update("testId", pcResponse);
 
         // Assert
-        verify(cpuRepository).findById("cpuId");
-        verify(gpuRepository).findById("gpuId");
-        verify(motherboardRepository).findById("motherboardId");
-        verify(ramRepository).findById("ramId");
-        verify(ssdRepository).findById("ssdId");
-        verify(hddRepository).findById("hddId");
-        verify(powerSupplyRepository).findById("powerSupplyId");
-        verify(pcCaseRepository).findById("pcCaseId");
+        verify(cpuRepository).findAllById(Set.of("cpuId"));
+        verify(gpuRepository).findAllById(Set.of("gpuId"));
+        verify(motherboardRepository).findAllById(Set.of("motherboardId"));
+        verify(ramRepository).findAllById(Set.of("ramId"));
+        verify(ssdRepository).findAllById(Set.of("ssdId"));
+        verify(hddRepository).findAllById(Set.of("hddId"));
+        verify(powerSupplyRepository).findAllById(Set.of("powerSupplyId"));
+        verify(pcCaseRepository).findAllById(Set.of("pcCaseId"));
         verify(userRepository).findById("testId");
-        verify(userRepository, times(2)).save(user);
+        verify(userRepository).save(user);
 
         assertEquals(1200, updatedPC.energyConsumption());
         assertEquals(new BigDecimal(888), updatedPC.hardwareSpec().price());
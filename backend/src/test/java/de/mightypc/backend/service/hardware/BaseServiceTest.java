@@ -1,15 +1,17 @@
 package de.mightypc.backend.service.hardware;
 
-import de.mightypc.backend.service.hardware.BaseService;
+import de.mightypc.backend.model.catalog.CatalogFacets;
+import de.mightypc.backend.model.catalog.CatalogFilter;
+import de.mightypc.backend.repository.catalog.CatalogRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.mongodb.repository.MongoRepository;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 
@@ -17,11 +19,13 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.times;
 
-public abstract class BaseServiceTest<T, S extends BaseService<T, R, E>, R extends MongoRepository<T, String>, E extends NoSuchElementException> {
+public abstract class BaseServiceTest<T, S extends BaseService<T, R, E>, R extends CatalogRepository<T>, E extends NoSuchElementException> {
     protected R repository;
     protected S service;
 
@@ -79,6 +83,54 @@ public abstract class BaseServiceTest<T, S extends BaseService<T, R, E>, R exten
         verify(repository).findById("testId");
     }
 
+    @Test
+    void getById_shouldServeRepeatedReadsFromCache() {
+        // Arrange
+        T entity = getEntity();
+        when(repository.findById("testId")).thenReturn(Optional.of(entity));
+
+        // Act
+        service.getById("testId");
+        T actual = service.getById("testId");
+
+        // Assert
+        verify(repository).findById("testId");
+        assertEquals(entity, actual);
+    }
+
+    @Test
+    void save_shouldInvalidateCachedEntity() {
+        // Arrange
+        T entity = getEntity();
+        String id = service.getId(entity);
+        when(repository.findById(id)).thenReturn(Optional.of(entity));
+        when(repository.save(entity)).thenReturn(entity);
+
+        // Act
+        service.getById(id);
+        service.save(entity);
+        service.getById(id);
+
+        // Assert
+        verify(repository, times(2)).findById(id);
+    }
+
+    @Test
+    void getAll_shouldBeReloaded_afterEntityWasDeleted() {
+        // Arrange
+        when(repository.findAll()).thenReturn(List.of(getEntity()));
+        when(repository.existsById("testId")).thenReturn(true).thenReturn(false);
+
+        // Act
+        service.getAll();
+        service.getAll();
+        service.deleteById("testId");
+        service.getAll();
+
+        // Assert
+        verify(repository, times(2)).findAll();
+    }
+
     @Test
     void save_shouldSaveEntityAndReturnThisEntity() {
         // Arrange
@@ -134,6 +186,28 @@ public abstract class BaseServiceTest<T, S extends BaseService<T, R, E>, R exten
         assertEquals(expectedPage, actualPage);
     }
 
+    @Test
+    void getFacetsByFilter_shouldServeSameCatalogVersionFromCache() {
+        // Arrange
+        PageRequest pageable = PageRequest.of(0, 1);
+        CatalogFilter filter = CatalogFilter.sortedBy("price-asc");
+        T entity = getEntity();
+        CatalogFacets<T> expected = new CatalogFacets<>(new PageImpl<>(List.of(entity), pageable, 1), Map.of(), Map.of());
+        when(repository.findFacetsByFilter(eq(filter), eq(pageable), any())).thenReturn(expected);
+        when(repository.save(entity)).thenReturn(entity);
+
+        // Act
+        CatalogFacets<T> first = service.getFacetsByFilter(filter, pageable);
+        CatalogFacets<T> second = service.getFacetsByFilter(filter, pageable);
+        service.save(entity);
+        service.getFacetsByFilter(filter, pageable);
+
+        // Assert
+        assertEquals(expected, first);
+        assertEquals(expected, second);
+        verify(repository, times(2)).findFacetsByFilter(eq(filter), eq(pageable), any());
+    }
+
     protected abstract E getException();
 
     protected abstract R getMockRepository();
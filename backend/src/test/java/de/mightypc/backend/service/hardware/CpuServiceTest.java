@@ -1,6 +1,8 @@
 package de.mightypc.backend.service.hardware;
 
 import de.mightypc.backend.exception.hardware.CpuNotFoundException;
+import de.mightypc.backend.model.catalog.CatalogField;
+import de.mightypc.backend.model.catalog.CatalogFilter;
 import de.mightypc.backend.model.configurator.ItemForConfigurator;
 import de.mightypc.backend.model.hardware.CPU;
 import de.mightypc.backend.model.hardware.HardwareSpec;
@@ -19,6 +21,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.never;
 
 class CpuServiceTest extends BaseServiceTest<CPU, CpuService, CpuRepository, CpuNotFoundException> {
     private final CpuRepository mockCpuRepository = mock(CpuRepository.class);
@@ -182,77 +185,23 @@ class CpuServiceTest extends BaseServiceTest<CPU, CpuService, CpuRepository, Cpu
     }
 
     @Test
-    void getCpus_shouldReturnFilteredAndSortedCpusByRatingDesc() {
+    void getCpus_shouldQueryRepositoryWithCatalogFilter() {
         // Arrange
-        List<CPU> expected = List.of(testCpu2, testCpu);
-        when(mockCpuRepository.findAll()).thenReturn(cpus);
-
-        // Act
-        Page<CPU> actual = cpuService.getCpus(pageable, "rating-desc", null, null, null);
-
-        // Assert
-        assertEquals(new PageImpl<>(expected, pageable, 2), actual);
-        verify(mockCpuRepository).findAll();
-    }
-
-    @Test
-    void getCpus_shouldReturnFilteredAndSortedCpusByRatingAsc() {
-        // Arrange
-        List<CPU> expected = List.of(testCpu, testCpu2);
-        when(mockCpuRepository.findAll()).thenReturn(cpus);
-
-        // Act
-        Page<CPU> actual = cpuService.getCpus(pageable, "rating-asc", null, null, null);
-
-        // Assert
-        assertEquals(new PageImpl<>(expected, pageable, 2), actual);
-        verify(mockCpuRepository).findAll();
-    }
-
-    @Test
-    void getCpus_shouldReturnFilteredAndSortedCpusByPriceAsc() {
-        // Arrange
-        List<CPU> expected = List.of(testCpu2, testCpu);
-        when(mockCpuRepository.findAll()).thenReturn(cpus);
-
-        // Act
-        Page<CPU> actual = cpuService.getCpus(pageable, "price-asc", null, null, null);
-
-        // Assert
-        assertEquals(new PageImpl<>(expected, pageable, 2), actual);
-        verify(mockCpuRepository).findAll();
-    }
-
-
-    @Test
-    void getCpus_shouldReturnFilteredAndSortedCpus() {
-        // Arrange
-        List<CPU> expected = List.of(testCpu);
-        when(mockCpuRepository.findAll()).thenReturn(cpus);
+        CatalogFilter expectedFilter = CatalogFilter.sortedBy("price-asc")
+                .withEqualTo(CatalogField.SOCKET, "testSocket")
+                .withRange(CatalogField.PRICE, 500, 700);
+        Page<CPU> expected = new PageImpl<>(List.of(testCpu), pageable, 1);
+        when(mockCpuRepository.findAllByFilter(expectedFilter, pageable)).thenReturn(expected);
 
         // Act
         Page<CPU> actual = cpuService.getCpus(pageable, "price-asc", "testSocket", 500, 700);
 
         // Assert
-        assertEquals(new PageImpl<>(expected, pageable, 1), actual);
-        verify(mockCpuRepository).findAll();
-    }
-
-    @Test
-    void getCpus_shouldReturnFilteredAndSortedCpusByPriceDesc() {
-        // Arrange
-        List<CPU> expected = List.of(testCpu, testCpu2);
-        when(mockCpuRepository.findAll()).thenReturn(cpus);
-
-        // Act
-        Page<CPU> actual = cpuService.getCpus(pageable, "price-desc", null, null, null);
-
-        // Assert
-        assertEquals(new PageImpl<>(expected, pageable, 2), actual);
-        verify(mockCpuRepository).findAll();
+        assertEquals(expected, actual);
+        verify(mockCpuRepository).findAllByFilter(expectedFilter, pageable);
+        verify(mockCpuRepository, never()).findAll();
     }
 
-
     @Override
     protected CpuNotFoundException getException() {
         return new CpuNotFoundException("There is no such Cpu with id: ");
@@ -1,6 +1,8 @@
 package de.mightypc.backend.service.hardware;
 
 import de.mightypc.backend.exception.hardware.GpuNotFoundException;
+import de.mightypc.backend.model.catalog.CatalogField;
+import de.mightypc.backend.model.catalog.CatalogFilter;
 import de.mightypc.backend.model.configurator.ItemForConfigurator;
 import de.mightypc.backend.model.hardware.GPU;
 import de.mightypc.backend.model.hardware.HardwareSpec;
@@ -21,6 +23,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.never;
 
 class GpuServiceTest extends BaseServiceTest<GPU, GpuService, GpuRepository, GpuNotFoundException> {
     private final GpuRepository mockGpuRepository = mock(GpuRepository.class);
@@ -42,7 +45,6 @@ class GpuServiceTest extends BaseServiceTest<GPU, GpuService, GpuRepository, Gpu
 
     private final List<GPU> gpus = new ArrayList<>(List.of(testGpu, testGpu2));
 
-
     @Override
     @Test
     void update_shouldUpdateEntityAndReturnIt() {
@@ -101,7 +103,6 @@ class GpuServiceTest extends BaseServiceTest<GPU, GpuService, GpuRepository, Gpu
         verify(mockGpuRepository).findById("testId");
     }
 
-
     @Test
     void getNameOfEntity_shouldReturnCorrectNameOfEntity() {
         // Arrange & Act
@@ -160,59 +161,21 @@ class GpuServiceTest extends BaseServiceTest<GPU, GpuService, GpuRepository, Gpu
     }
 
     @Test
-    void getGpus_shouldReturnFilteredAndSortedGpus() {
+    void getGpus_shouldQueryRepositoryWithCatalogFilter() {
         // Arrange
-        List<GPU> expected = List.of(testGpu);
-        when(mockGpuRepository.findAll()).thenReturn(gpus);
-
-        // Act
-        Page<GPU> actual = gpuService.getGpus(pageable, "price-asc", 500, 700, null, null);
-
-        // Assert
-        assertEquals(new PageImpl<>(expected, pageable, 1), actual);
-        verify(mockGpuRepository).findAll();
-    }
-
-    @Test
-    void getGpus_shouldReturnFilteredAndSortedGpusByEnergyConsumption() {
-        // Arrange
-        List<GPU> expected = List.of(testGpu2);
-        when(mockGpuRepository.findAll()).thenReturn(gpus);
-
-        // Act
-        Page<GPU> actual = gpuService.getGpus(pageable, "rating-desc", null, null, 200, 300);
-
-        // Assert
-        assertEquals(new PageImpl<>(expected, pageable, 1), actual);
-        verify(mockGpuRepository).findAll();
-    }
-
-    @Test
-    void getGpus_shouldSortGpusByPriceDesc() {
-        // Arrange
-        List<GPU> expected = List.of(testGpu, testGpu2);
-        when(mockGpuRepository.findAll()).thenReturn(gpus);
-
-        // Act
-        Page<GPU> actual = gpuService.getGpus(pageable, "price-desc", null, null, null, null);
-
-        // Assert
-        assertEquals(new PageImpl<>(expected, pageable, 2), actual);
-        verify(mockGpuRepository).findAll();
-    }
-
-    @Test
-    void getGpus_shouldSortGpusByRatingAsc() {
-        // Arrange
-        List<GPU> expected = List.of(testGpu, testGpu2);
-        when(mockGpuRepository.findAll()).thenReturn(gpus);
+        CatalogFilter expectedFilter = CatalogFilter.sortedBy("rating-desc")
+                .withRange(CatalogField.PRICE, 100, 900)
+                .withRange(CatalogField.ENERGY_CONSUMPTION, 50, 300);
+        Page<GPU> expected = new PageImpl<>(List.of(testGpu), pageable, 1);
+        when(mockGpuRepository.findAllByFilter(expectedFilter, pageable)).thenReturn(expected);
 
         // Act
-        Page<GPU> actual = gpuService.getGpus(pageable, "rating-asc", null, null, null, null);
+        Page<GPU> actual = gpuService.getGpus(pageable, "rating-desc", 100, 900, 50, 300);
 
         // Assert
-        assertEquals(new PageImpl<>(expected, pageable, 2), actual);
-        verify(mockGpuRepository).findAll();
+        assertEquals(expected, actual);
+        verify(mockGpuRepository).findAllByFilter(expectedFilter, pageable);
+        verify(mockGpuRepository, never()).findAll();
     }
 
     @Test
@@ -235,49 +198,6 @@ class GpuServiceTest extends BaseServiceTest<GPU, GpuService, GpuRepository, Gpu
         verify(mockGpuRepository).findAll();
     }
 
-    @Test
-    void getGpus_shouldSortGpusByRatingDesc() {
-        // Arrange
-        List<GPU> expected = List.of(testGpu2, testGpu);
-        when(mockGpuRepository.findAll()).thenReturn(gpus);
-
-        // Act
-        Page<GPU> actual = gpuService.getGpus(pageable, "rating-desc", null, null, null, null);
-
-        // Assert
-        assertEquals(new PageImpl<>(expected, pageable, 2), actual);
-        verify(mockGpuRepository).findAll();
-    }
-
-    @Test
-    void getGpus_shouldFilterGpusByLowestAndHighestPrice() {
-        // Arrange
-        List<GPU> expected = List.of(testGpu2);
-        when(mockGpuRepository.findAll()).thenReturn(gpus);
-
-        // Act
-        Page<GPU> actual = gpuService.getGpus(pageable, "price-asc", 300, 400, null, null);
-
-        // Assert
-        assertEquals(new PageImpl<>(expected, pageable, 1), actual);
-        verify(mockGpuRepository).findAll();
-    }
-
-    @Test
-    void getGpus_shouldFilterAndSortGpusByEnergyConsumptionAndRatingAsc() {
-        // Arrange
-        List<GPU> expected = List.of(testGpu);
-        when(mockGpuRepository.findAll()).thenReturn(gpus);
-
-        // Act
-        Page<GPU> actual = gpuService.getGpus(pageable, "rating-asc", null, null, 20, 30);
-
-        // Assert
-        assertEquals(new PageImpl<>(expected, pageable, 1), actual);
-        verify(mockGpuRepository).findAll();
-    }
-
-
     @Override
     protected GpuNotFoundException getException() {
         return new GpuNotFoundException("There is no such Gpu!");
@@ -1,6 +1,8 @@
 package de.mightypc.backend.service.hardware;
 
 import de.mightypc.backend.exception.hardware.HddNotFoundException;
+import de.mightypc.backend.model.catalog.CatalogField;
+import de.mightypc.backend.model.catalog.CatalogFilter;
 import de.mightypc.backend.model.configurator.ItemForConfigurator;
 import de.mightypc.backend.model.hardware.HDD;
 import de.mightypc.backend.model.hardware.HardwareSpec;
@@ -21,6 +23,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.never;
 
 class HddServiceTest extends BaseServiceTest<HDD, HddService, HddRepository, HddNotFoundException> {
     private final HddRepository mockHddRepository = mock(HddRepository.class);
@@ -159,73 +162,22 @@ class HddServiceTest extends BaseServiceTest<HDD, HddService, HddRepository, Hdd
     }
 
     @Test
-    void getHdds_shouldReturnFilteredAndSortedHdds() {
+    void getHdds_shouldQueryRepositoryWithCatalogFilter() {
         // Arrange
-        List<HDD> expected = List.of(testHdd);
-        when(mockHddRepository.findAll()).thenReturn(hdds);
-
-        // Act
-        Page<HDD> actual = hddService.getHdds(pageable, "price-asc", 500, 700, null, null, null, null);
-
-        // Assert
-        assertEquals(new PageImpl<>(expected, pageable, 1), actual);
-        verify(mockHddRepository).findAll();
-    }
-
-    @Test
-    void getHdds_shouldReturnFilteredAndSortedHddsByCapacity() {
-        // Arrange
-        List<HDD> expected = List.of(testHdd2);
-        when(mockHddRepository.findAll()).thenReturn(hdds);
+        CatalogFilter expectedFilter = CatalogFilter.sortedBy("price-desc")
+                .withRange(CatalogField.PRICE, 10, 500)
+                .withRange(CatalogField.CAPACITY, 500, 4000)
+                .withRange(CatalogField.ENERGY_CONSUMPTION, 1, 20);
+        Page<HDD> expected = new PageImpl<>(List.of(testHdd), pageable, 1);
+        when(mockHddRepository.findAllByFilter(expectedFilter, pageable)).thenReturn(expected);
 
         // Act
-        Page<HDD> actual = hddService.getHdds(pageable, "price-asc", null, null, 200, 300, null, null);
+        Page<HDD> actual = hddService.getHdds(pageable, "price-desc", 10, 500, 500, 4000, 1, 20);
 
         // Assert
-        assertEquals(new PageImpl<>(expected, pageable, 1), actual);
-        verify(mockHddRepository).findAll();
-    }
-
-    @Test
-    void getHdds_shouldReturnFilteredAndSortedHddsByEnergyConsumption() {
-        // Arrange
-        List<HDD> expected = List.of(testHdd2);
-        when(mockHddRepository.findAll()).thenReturn(hdds);
-
-        // Act
-        Page<HDD> actual = hddService.getHdds(pageable, "rating-desc", null, null, null, null, 200, 300);
-
-        // Assert
-        assertEquals(new PageImpl<>(expected, pageable, 1), actual);
-        verify(mockHddRepository).findAll();
-    }
-
-    @Test
-    void getHdds_shouldSortHddsByPriceDesc() {
-        // Arrange
-        List<HDD> expected = List.of(testHdd, testHdd2);
-        when(mockHddRepository.findAll()).thenReturn(hdds);
-
-        // Act
-        Page<HDD> actual = hddService.getHdds(pageable, "price-desc", null, null, null, null, null, null);
-
-        // Assert
-        assertEquals(new PageImpl<>(expected, pageable, 2), actual);
-        verify(mockHddRepository).findAll();
-    }
-
-    @Test
-    void getHdds_shouldSortHddsByRatingAsc() {
-        // Arrange
-        List<HDD> expected = List.of(testHdd, testHdd2);
-        when(mockHddRepository.findAll()).thenReturn(hdds);
-
-        // Act
-        Page<HDD> actual = hddService.getHdds(pageable, "rating-asc", null, null, null, null, null, null);
-
-        // Assert
-        assertEquals(new PageImpl<>(expected, pageable, 2), actual);
-        verify(mockHddRepository).findAll();
+        assertEquals(expected, actual);
+        verify(mockHddRepository).findAllByFilter(expectedFilter, pageable);
+        verify(mockHddRepository, never()).findAll();
     }
 
     @Override
@@ -1,6 +1,8 @@
 package de.mightypc.backend.service.hardware;
 
 import de.mightypc.backend.exception.hardware.MotherboardNotFoundException;
+import de.mightypc.backend.model.catalog.CatalogField;
+import de.mightypc.backend.model.catalog.CatalogFilter;
 import de.mightypc.backend.model.configurator.ItemForConfigurator;
 import de.mightypc.backend.model.hardware.Motherboard;
 import de.mightypc.backend.model.hardware.HardwareSpec;
@@ -23,6 +25,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.never;
 
 class MotherboardServiceTest extends BaseServiceTest<Motherboard, MotherboardService, MotherboardRepository, MotherboardNotFoundException> {
     private final MotherboardRepository mockMotherboardRepository = mock(MotherboardRepository.class);
@@ -129,7 +132,6 @@ class MotherboardServiceTest extends BaseServiceTest<Motherboard, MotherboardSer
         assertEquals(new HashMap<>(), actual);
     }
 
-
     @Test
     void getNameOfEntity_shouldReturnCorrectNameOfEntity() {
         // Arrange & Act
@@ -188,74 +190,22 @@ class MotherboardServiceTest extends BaseServiceTest<Motherboard, MotherboardSer
     }
 
     @Test
-    void getMotherboards_shouldSortMotherboardsByPriceDesc() {
-        // Arrange
-        List<Motherboard> expected = List.of(testMotherboard, testMotherboard2);
-        when(mockMotherboardRepository.findAll()).thenReturn(motherboards);
-
-        // Act
-        Page<Motherboard> actual = motherboardService.getMotherboards(pageable, "price-desc", null, null, null, null, null);
-
-        // Assert
-        assertEquals(new PageImpl<>(expected, pageable, 2), actual);
-        verify(mockMotherboardRepository).findAll();
-    }
-
-    @Test
-    void getMotherboards_shouldSortMotherboardsByRatingAsc() {
+    void getMotherboards_shouldQueryRepositoryWithCatalogFilter() {
         // Arrange
-        List<Motherboard> expected = List.of(testMotherboard, testMotherboard2);
-        when(mockMotherboardRepository.findAll()).thenReturn(motherboards);
+        CatalogFilter expectedFilter = CatalogFilter.sortedBy("rating-asc")
+                .withRange(CatalogField.PRICE, 100, 900)
+                .withEqualTo(CatalogField.SOCKET, "testSocket")
+                .withRange(CatalogField.ENERGY_CONSUMPTION, 10, 100);
+        Page<Motherboard> expected = new PageImpl<>(List.of(testMotherboard), pageable, 1);
+        when(mockMotherboardRepository.findAllByFilter(expectedFilter, pageable)).thenReturn(expected);
 
         // Act
-        Page<Motherboard> actual = motherboardService.getMotherboards(pageable, "rating-asc", null, null, null, null, null);
+        Page<Motherboard> actual = motherboardService.getMotherboards(pageable, "rating-asc", 100, 900, "testSocket", 10, 100);
 
         // Assert
-        assertEquals(new PageImpl<>(expected, pageable, 2), actual);
-        verify(mockMotherboardRepository).findAll();
-    }
-
-    @Test
-    void getMotherboards_shouldSortMotherboardsByRatingDesc() {
-        // Arrange
-        List<Motherboard> expected = List.of(testMotherboard2, testMotherboard);
-        when(mockMotherboardRepository.findAll()).thenReturn(motherboards);
-
-        // Act
-        Page<Motherboard> actual = motherboardService.getMotherboards(pageable, "rating-desc", null, null, null, null, null);
-
-        // Assert
-        assertEquals(new PageImpl<>(expected, pageable, 2), actual);
-        verify(mockMotherboardRepository).findAll();
-    }
-
-    @Test
-    void getMotherboards_shouldReturnFilteredAndSortedMotherboardsByEnergyConsumption() {
-        // Arrange
-        List<Motherboard> expected = List.of(testMotherboard2);
-        when(mockMotherboardRepository.findAll()).thenReturn(motherboards);
-
-        // Act
-        Page<Motherboard> actual = motherboardService.getMotherboards(pageable, "rating-desc", null, null, null, 200, 300);
-
-        // Assert
-        assertEquals(new PageImpl<>(expected, pageable, 1), actual);
-        verify(mockMotherboardRepository).findAll();
-    }
-
-
-    @Test
-    void getMotherboards_shouldReturnFilteredAndSortedMotherboards() {
-        // Arrange
-        List<Motherboard> expected = List.of(testMotherboard);
-        when(mockMotherboardRepository.findAll()).thenReturn(motherboards);
-
-        // Act
-        Page<Motherboard> actual = motherboardService.getMotherboards(pageable, "price-asc", 500, 700, "afd4", null, null);
-
-        // Assert
-        assertEquals(new PageImpl<>(expected, pageable, 1), actual);
-        verify(mockMotherboardRepository).findAll();
+        assertEquals(expected, actual);
+        verify(mockMotherboardRepository).findAllByFilter(expectedFilter, pageable);
+        verify(mockMotherboardRepository, never()).findAll();
     }
 
     @Override
@@ -1,6 +1,8 @@
 package de.mightypc.backend.service.hardware;
 
 import de.mightypc.backend.exception.hardware.PcCaseNotFoundException;
+import de.mightypc.backend.model.catalog.CatalogField;
+import de.mightypc.backend.model.catalog.CatalogFilter;
 import de.mightypc.backend.model.configurator.ItemForConfigurator;
 import de.mightypc.backend.model.hardware.PcCase;
 import de.mightypc.backend.model.hardware.HardwareSpec;
@@ -21,6 +23,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.never;
 
 class PcCaseServiceTest extends BaseServiceTest<PcCase, PcCaseService, PcCaseRepository, PcCaseNotFoundException> {
     private final PcCaseRepository mockPcCaseRepository = mock(PcCaseRepository.class);
@@ -72,7 +75,6 @@ class PcCaseServiceTest extends BaseServiceTest<PcCase, PcCaseService, PcCaseRep
         verify(mockPcCaseRepository).existsById("testId");
     }
 
-
     @Override
     @Test
     void attachPhoto_shouldAttachPhotoCorrectly() {
@@ -91,7 +93,6 @@ class PcCaseServiceTest extends BaseServiceTest<PcCase, PcCaseService, PcCaseRep
         verify(mockPcCaseRepository).save(testPcCase.withPcCasePhotos(new ArrayList<>(List.of("Test"))));
     }
 
-
     @Test
     void getNameOfEntity_shouldReturnCorrectNameOfEntity() {
         // Arrange & Act
@@ -150,62 +151,22 @@ class PcCaseServiceTest extends BaseServiceTest<PcCase, PcCaseService, PcCaseRep
     }
 
     @Test
-    void getPcCases_shouldReturnFilteredAndSortedPcCases() {
-        // Arrange
-        List<PcCase> expected = List.of(testPcCase);
-        when(mockPcCaseRepository.findAll()).thenReturn(pcCases);
-
-        // Act
-        Page<PcCase> actual = pcCaseService.getPcCases(pageable, "price-asc", 500, 700);
-
-        // Assert
-        assertEquals(new PageImpl<>(expected, pageable, 1), actual);
-        verify(mockPcCaseRepository).findAll();
-    }
-
-    @Test
-    void getPcCases_shouldSortPcCasesByPriceDesc() {
-        // Arrange
-        List<PcCase> expected = List.of(testPcCase, testPcCase2);
-        when(mockPcCaseRepository.findAll()).thenReturn(pcCases);
-
-        // Act
-        Page<PcCase> actual = pcCaseService.getPcCases(pageable, "price-desc", null, null);
-
-        // Assert
-        assertEquals(new PageImpl<>(expected, pageable, 2), actual);
-        verify(mockPcCaseRepository).findAll();
-    }
-
-    @Test
-    void getPcCases_shouldSortPcCasesByRatingAsc() {
-        // Arrange
-        List<PcCase> expected = List.of(testPcCase, testPcCase2);
-        when(mockPcCaseRepository.findAll()).thenReturn(pcCases);
-
-        // Act
-        Page<PcCase> actual = pcCaseService.getPcCases(pageable, "rating-asc", null, null);
-
-        // Assert
-        assertEquals(new PageImpl<>(expected, pageable, 2), actual);
-        verify(mockPcCaseRepository).findAll();
-    }
-
-    @Test
-    void getPcCases_shouldSortPcCasesByRatingDesc() {
+    void getPcCases_shouldQueryRepositoryWithCatalogFilter() {
         // Arrange
-        List<PcCase> expected = List.of(testPcCase2, testPcCase);
-        when(mockPcCaseRepository.findAll()).thenReturn(pcCases);
+        CatalogFilter expectedFilter = CatalogFilter.sortedBy("price-asc")
+                .withRange(CatalogField.PRICE, 50, 300);
+        Page<PcCase> expected = new PageImpl<>(List.of(testPcCase), pageable, 1);
+        when(mockPcCaseRepository.findAllByFilter(expectedFilter, pageable)).thenReturn(expected);
 
         // Act
-        Page<PcCase> actual = pcCaseService.getPcCases(pageable, "rating-desc", null, null);
+        Page<PcCase> actual = pcCaseService.getPcCases(pageable, "price-asc", 50, 300);
 
         // Assert
-        assertEquals(new PageImpl<>(expected, pageable, 2), actual);
-        verify(mockPcCaseRepository).findAll();
+        assertEquals(expected, actual);
+        verify(mockPcCaseRepository).findAllByFilter(expectedFilter, pageable);
+        verify(mockPcCaseRepository, never()).findAll();
     }
 
-
     @Override
     @Test
     void attachPhoto_shouldThrowHardwareNotFoundException_whenEntityDoesNotExistInRepository() {
@@ -1,6 +1,8 @@
 package de.mightypc.backend.service.hardware;
 
 import de.mightypc.backend.exception.hardware.PowerSupplyNotFoundException;
+import de.mightypc.backend.model.catalog.CatalogField;
+import de.mightypc.backend.model.catalog.CatalogFilter;
 import de.mightypc.backend.model.configurator.ItemForConfigurator;
 import de.mightypc.backend.model.hardware.PowerSupply;
 import de.mightypc.backend.model.hardware.HardwareSpec;
@@ -24,6 +26,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.never;
 
 class PowerSupplyServiceTest extends BaseServiceTest<PowerSupply, PowerSupplyService, PowerSupplyRepository, PowerSupplyNotFoundException> {
     private final PowerSupplyRepository mockPowerSupplyRepository = mock(PowerSupplyRepository.class);
@@ -145,48 +148,23 @@ class PowerSupplyServiceTest extends BaseServiceTest<PowerSupply, PowerSupplySer
     }
 
     @Test
-    void getPowerSupplies_shouldSortPowerSuppliesByPriceDesc() {
+    void getPowerSupplies_shouldQueryRepositoryWithCatalogFilter() {
         // Arrange
-        List<PowerSupply> expected = List.of(testPowerSupply, testPowerSupply2);
-        when(mockPowerSupplyRepository.findAll()).thenReturn(powerSupplies);
-
-        // Act
-        Page<PowerSupply> actual = powerSupplyService.getPowerSupplies(pageable, "price-desc", null, null, null, null);
-
-        // Assert
-        assertEquals(new PageImpl<>(expected, pageable, 2), actual);
-        verify(mockPowerSupplyRepository).findAll();
-    }
-
-    @Test
-    void getPowerSupplies_shouldSortPowerSuppliesByRatingAsc() {
-        // Arrange
-        List<PowerSupply> expected = List.of(testPowerSupply, testPowerSupply2);
-        when(mockPowerSupplyRepository.findAll()).thenReturn(powerSupplies);
+        CatalogFilter expectedFilter = CatalogFilter.sortedBy("price-desc")
+                .withRange(CatalogField.PRICE, 50, 300)
+                .withRange(CatalogField.POWER, 500, 1000);
+        Page<PowerSupply> expected = new PageImpl<>(List.of(testPowerSupply), pageable, 1);
+        when(mockPowerSupplyRepository.findAllByFilter(expectedFilter, pageable)).thenReturn(expected);
 
         // Act
-        Page<PowerSupply> actual = powerSupplyService.getPowerSupplies(pageable, "rating-asc", null, null, null, null);
+        Page<PowerSupply> actual = powerSupplyService.getPowerSupplies(pageable, "price-desc", 50, 300, 500, 1000);
 
         // Assert
-        assertEquals(new PageImpl<>(expected, pageable, 2), actual);
-        verify(mockPowerSupplyRepository).findAll();
-    }
-
-    @Test
-    void getPowerSupplies_shouldSortPowerSuppliesByRatingDesc() {
-        // Arrange
-        List<PowerSupply> expected = List.of(testPowerSupply2, testPowerSupply);
-        when(mockPowerSupplyRepository.findAll()).thenReturn(powerSupplies);
-
-        // Act
-        Page<PowerSupply> actual = powerSupplyService.getPowerSupplies(pageable, "rating-desc", null, null, null, null);
-
-        // Assert
-        assertEquals(new PageImpl<>(expected, pageable, 2), actual);
-        verify(mockPowerSupplyRepository).findAll();
+        assertEquals(expected, actual);
+        verify(mockPowerSupplyRepository).findAllByFilter(expectedFilter, pageable);
+        verify(mockPowerSupplyRepository, never()).findAll();
     }
 
-
     @Test
     void getNameOfEntity_shouldReturnCorrectNameOfEntity() {
         // Arrange & Act
@@ -244,21 +222,6 @@ class PowerSupplyServiceTest extends BaseServiceTest<PowerSupply, PowerSupplySer
         verify(mockPowerSupplyRepository).findAll();
     }
 
-    @Test
-    void getPowerSupplies_shouldReturnFilteredAndSortedPowerSupplies() {
-        // Arrange
-        List<PowerSupply> expected = List.of(testPowerSupply);
-        when(mockPowerSupplyRepository.findAll()).thenReturn(powerSupplies);
-
-        // Act
-        Page<PowerSupply> actual = powerSupplyService.getPowerSupplies(pageable, "price-asc", 500, 700, 100, 300);
-
-        // Assert
-        assertEquals(new PageImpl<>(expected, pageable, 1), actual);
-        verify(mockPowerSupplyRepository).findAll();
-    }
-
-
     @Override
     protected PowerSupplyNotFoundException getException() {
         return new PowerSupplyNotFoundException("there is no such psu!");
@@ -1,6 +1,8 @@
 package de.mightypc.backend.service.hardware;
 
 import de.mightypc.backend.exception.hardware.RamNotFoundException;
+import de.mightypc.backend.model.catalog.CatalogField;
+import de.mightypc.backend.model.catalog.CatalogFilter;
 import de.mightypc.backend.model.configurator.ItemForConfigurator;
 import de.mightypc.backend.model.hardware.RAM;
 import de.mightypc.backend.model.hardware.HardwareSpec;
@@ -21,6 +23,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.never;
 
 class RamServiceTest extends BaseServiceTest<RAM, RamService, RamRepository, RamNotFoundException> {
     private final RamRepository mockRamRepository = mock(RamRepository.class);
@@ -163,59 +166,22 @@ class RamServiceTest extends BaseServiceTest<RAM, RamService, RamRepository, Ram
     }
 
     @Test
-    void getRams_shouldReturnFilteredAndSortedRams() {
+    void getRams_shouldQueryRepositoryWithCatalogFilter() {
         // Arrange
-        List<RAM> expected = List.of(testRam);
-        when(mockRamRepository.findAll()).thenReturn(rams);
+        CatalogFilter expectedFilter = CatalogFilter.sortedBy("price-asc")
+                .withRange(CatalogField.PRICE, 50, 300)
+                .withRange(CatalogField.MEMORY_SIZE, 8, 32)
+                .withEqualTo(CatalogField.TYPE, "DDR4");
+        Page<RAM> expected = new PageImpl<>(List.of(testRam), pageable, 1);
+        when(mockRamRepository.findAllByFilter(expectedFilter, pageable)).thenReturn(expected);
 
         // Act
-        Page<RAM> actual = ramService.getRams(pageable, "price-asc", 500, 700, 1, 50, "DDR4");
+        Page<RAM> actual = ramService.getRams(pageable, "price-asc", 50, 300, 8, 32, "DDR4");
 
         // Assert
-        assertEquals(new PageImpl<>(expected, pageable, 1), actual);
-        verify(mockRamRepository).findAll();
-    }
-
-    @Test
-    void getRams_shouldSortRamsByPriceDesc() {
-        // Arrange
-        List<RAM> expected = List.of(testRam, testRam2);
-        when(mockRamRepository.findAll()).thenReturn(rams);
-
-        // Act
-        Page<RAM> actual = ramService.getRams(pageable, "price-desc", null, null, null, null, null);
-
-        // Assert
-        assertEquals(new PageImpl<>(expected, pageable, 2), actual);
-        verify(mockRamRepository).findAll();
-    }
-
-    @Test
-    void getRams_shouldSortRamsByRatingAsc() {
-        // Arrange
-        List<RAM> expected = List.of(testRam, testRam2);
-        when(mockRamRepository.findAll()).thenReturn(rams);
-
-        // Act
-        Page<RAM> actual = ramService.getRams(pageable, "rating-asc", null, null, null, null, null);
-
-        // Assert
-        assertEquals(new PageImpl<>(expected, pageable, 2), actual);
-        verify(mockRamRepository).findAll();
-    }
-
-    @Test
-    void getRams_shouldSortRamsByRatingDesc() {
-        // Arrange
-        List<RAM> expected = List.of(testRam2, testRam);
-        when(mockRamRepository.findAll()).thenReturn(rams);
-
-        // Act
-        Page<RAM> actual = ramService.getRams(pageable, "rating-desc", null, null, null, null, null);
-
-        // Assert
-        assertEquals(new PageImpl<>(expected, pageable, 2), actual);
-        verify(mockRamRepository).findAll();
+        assertEquals(expected, actual);
+        verify(mockRamRepository).findAllByFilter(expectedFilter, pageable);
+        verify(mockRamRepository, never()).findAll();
     }
 
     @Override
@@ -1,6 +1,8 @@
 package de.mightypc.backend.service.hardware;
 
 import de.mightypc.backend.exception.hardware.SsdNotFoundException;
+import de.mightypc.backend.model.catalog.CatalogField;
+import de.mightypc.backend.model.catalog.CatalogFilter;
 import de.mightypc.backend.model.configurator.ItemForConfigurator;
 import de.mightypc.backend.model.hardware.SSD;
 import de.mightypc.backend.model.hardware.HardwareSpec;
@@ -21,6 +23,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.never;
 
 class SsdServiceTest extends BaseServiceTest<SSD, SsdService, SsdRepository, SsdNotFoundException> {
     private final SsdRepository mockSsdRepository = mock(SsdRepository.class);
@@ -161,59 +164,21 @@ class SsdServiceTest extends BaseServiceTest<SSD, SsdService, SsdRepository, Ssd
     }
 
     @Test
-    void getSsds_shouldSortSsdsByPriceDesc() {
+    void getSsds_shouldQueryRepositoryWithCatalogFilter() {
         // Arrange
-        List<SSD> expected = List.of(testSsd, testSsd2);
-        when(mockSsdRepository.findAll()).thenReturn(ssds);
+        CatalogFilter expectedFilter = CatalogFilter.sortedBy("rating-desc")
+                .withRange(CatalogField.PRICE, 50, 300)
+                .withRange(CatalogField.CAPACITY, 256, 2000);
+        Page<SSD> expected = new PageImpl<>(List.of(testSsd), pageable, 1);
+        when(mockSsdRepository.findAllByFilter(expectedFilter, pageable)).thenReturn(expected);
 
         // Act
-        Page<SSD> actual = ssdService.getSsds(pageable, "price-desc", null, null, null, null);
+        Page<SSD> actual = ssdService.getSsds(pageable, "rating-desc", 50, 300, 256, 2000);
 
         // Assert
-        assertEquals(new PageImpl<>(expected, pageable, 2), actual);
-        verify(mockSsdRepository).findAll();
-    }
-
-    @Test
-    void getSsds_shouldSortSsdsByRatingAsc() {
-        // Arrange
-        List<SSD> expected = List.of(testSsd, testSsd2);
-        when(mockSsdRepository.findAll()).thenReturn(ssds);
-
-        // Act
-        Page<SSD> actual = ssdService.getSsds(pageable, "rating-asc", null, null, null, null);
-
-        // Assert
-        assertEquals(new PageImpl<>(expected, pageable, 2), actual);
-        verify(mockSsdRepository).findAll();
-    }
-
-    @Test
-    void getSsds_shouldSortSsdsByRatingDesc() {
-        // Arrange
-        List<SSD> expected = List.of(testSsd2, testSsd);
-        when(mockSsdRepository.findAll()).thenReturn(ssds);
-
-        // Act
-        Page<SSD> actual = ssdService.getSsds(pageable, "rating-desc", null, null, null, null);
-
-        // Assert
-        assertEquals(new PageImpl<>(expected, pageable, 2), actual);
-        verify(mockSsdRepository).findAll();
-    }
-
-    @Test
-    void getSsds_shouldReturnFilteredAndSortedSsds() {
-        // Arrange
-        List<SSD> expected = List.of(testSsd);
-        when(mockSsdRepository.findAll()).thenReturn(ssds);
-
-        // Act
-        Page<SSD> actual = ssdService.getSsds(pageable, "price-asc", 500, 700, 1, 50);
-
-        // Assert
-        assertEquals(new PageImpl<>(expected, pageable, 1), actual);
-        verify(mockSsdRepository).findAll();
+        assertEquals(expected, actual);
+        verify(mockSsdRepository).findAllByFilter(expectedFilter, pageable);
+        verify(mockSsdRepository, never()).findAll();
     }
 
     @Override
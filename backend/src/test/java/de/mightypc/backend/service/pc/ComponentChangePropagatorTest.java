@@ -0,0 +1,77 @@
+package de.mightypc.backend.service.pc;
+
+import de.mightypc.backend.model.admin.PropagationStats;
+import de.mightypc.backend.model.catalog.CatalogChangedEvent;
+import de.mightypc.backend.model.hardware.SpecsComponent;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ComponentChangePropagatorTest {
+    private final PcService pcService = mock(PcService.class);
+    private final WorkstationService workstationService = mock(WorkstationService.class);
+    private final ComponentChangePropagator componentChangePropagator = new ComponentChangePropagator(List.of(pcService, workstationService));
+
+    @Test
+    void onCatalogChanged_shouldOnlyQueueChangesOfPcComponents() {
+        // Act
+        componentChangePropagator.onCatalogChanged(new CatalogChangedEvent("psu", "powerSupplyId"));
+        componentChangePropagator.onCatalogChanged(new CatalogChangedEvent("pc", "testId"));
+        componentChangePropagator.onCatalogChanged(new CatalogChangedEvent("cpu", null));
+
+        // Assert
+        assertEquals(1, componentChangePropagator.getStats().pendingChanges());
+        verify(pcService, never()).propagateComponentChange(any(), anyString());
+    }
+
+    @Test
+    void propagatePendingChanges_shouldPropagateRepeatedChangesOnce() {
+        // Arrange
+        when(pcService.propagateComponentChange(SpecsComponent.CPU, "cpuId")).thenReturn(2);
+        when(workstationService.propagateComponentChange(SpecsComponent.CPU, "cpuId")).thenReturn(1);
+        componentChangePropagator.onCatalogChanged(new CatalogChangedEvent("cpu", "cpuId"));
+        componentChangePropagator.onCatalogChanged(new CatalogChangedEvent("cpu", "cpuId"));
+
+        // Act
+        componentChangePropagator.propagatePendingChanges();
+
+        // Assert
+        PropagationStats stats = componentChangePropagator.getStats();
+        assertEquals(0, stats.pendingChanges());
+        assertEquals(1, stats.propagatedChanges());
+        assertEquals(3, stats.updatedDocuments());
+        verify(pcService, times(1)).propagateComponentChange(SpecsComponent.CPU, "cpuId");
+    }
+
+    @Test
+    void propagatePendingChanges_shouldRetryAndThenExposeFailure() {
+        // Arrange
+        when(pcService.propagateComponentChange(SpecsComponent.GPU, "gpuId")).thenThrow(new DataAccessResourceFailureException("down"));
+        componentChangePropagator.onCatalogChanged(new CatalogChangedEvent("gpu", "gpuId"));
+
+        // Act
+        componentChangePropagator.propagatePendingChanges();
+        int pendingAfterFirstAttempt = componentChangePropagator.getStats().pendingChanges();
+        componentChangePropagator.propagatePendingChanges();
+        componentChangePropagator.propagatePendingChanges();
+
+        // Assert
+        PropagationStats stats = componentChangePropagator.getStats();
+        assertEquals(1, pendingAfterFirstAttempt);
+        assertEquals(0, stats.pendingChanges());
+        assertEquals(1, stats.failedChanges());
+        assertEquals("gpuId", stats.recentFailures().getFirst().id());
+        assertEquals("down", stats.recentFailures().getFirst().message());
+        verify(pcService, times(3)).propagateComponentChange(SpecsComponent.GPU, "gpuId");
+    }
+}
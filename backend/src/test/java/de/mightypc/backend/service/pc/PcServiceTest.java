@@ -1,10 +1,15 @@
 package de.mightypc.backend.service.pc;
 
+import de.mightypc.backend.exception.hardware.CpuNotFoundException;
 import de.mightypc.backend.exception.pc.PcNotFoundException;
+import de.mightypc.backend.model.catalog.CatalogChangedEvent;
+import de.mightypc.backend.model.catalog.CatalogField;
+import de.mightypc.backend.model.catalog.CatalogFilter;
 import de.mightypc.backend.model.configurator.SpecsForEnergyConsumption;
 import de.mightypc.backend.model.configurator.SpecsIdsForEnergyConsumption;
 import de.mightypc.backend.model.hardware.*;
 import de.mightypc.backend.model.pc.PC;
+import de.mightypc.backend.model.pc.SpecsTotals;
 import de.mightypc.backend.model.pc.createpc.CreatePC;
 import de.mightypc.backend.model.pc.createpc.PcResponse;
 import de.mightypc.backend.repository.hardware.CpuRepository;
@@ -25,6 +30,7 @@ import de.mightypc.backend.service.hardware.PowerSupplyService;
 import de.mightypc.backend.service.hardware.RamService;
 import de.mightypc.backend.service.hardware.SsdService;
 import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -35,6 +41,8 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -42,10 +50,14 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyList;
+import static org.mockito.Mockito.argThat;
+import static org.mockito.Mockito.anyString;
 
 class PcServiceTest {
     private final PcRepository pcRepository = mock(PcRepository.class);
@@ -140,12 +152,12 @@ class PcServiceTest {
         // Arrange
         SpecsForEnergyConsumption expected = new SpecsForEnergyConsumption(cpu, gpu, motherboard, ram, ssd, hdd);
 
-        when(cpuRepository.findById("cpuId")).thenReturn(Optional.of(cpu));
-        when(gpuRepository.findById("gpuId")).thenReturn(Optional.of(gpu));
-        when(motherboardRepository.findById("motherboardId")).thenReturn(Optional.of(motherboard));
-        when(ramRepository.findById("ramId")).thenReturn(Optional.of(ram));
-        when(ssdRepository.findById("ssdId")).thenReturn(Optional.of(ssd));
-        when(hddRepository.findById("hddId")).thenReturn(Optional.of(hdd));
+        when(cpuRepository.findAllById(Set.of("cpuId"))).thenReturn(List.of(cpu));
+        when(gpuRepository.findAllById(Set.of("gpuId"))).thenReturn(List.of(gpu));
+        when(motherboardRepository.findAllById(Set.of("motherboardId"))).thenReturn(List.of(motherboard));
+        when(ramRepository.findAllById(Set.of("ramId"))).thenReturn(List.of(ram));
+        when(ssdRepository.findAllById(Set.of("ssdId"))).thenReturn(List.of(ssd));
+        when(hddRepository.findAllById(Set.of("hddId"))).thenReturn(List.of(hdd));
 
         // Act
         SpecsForEnergyConsumption actual = service.getSpecsForConfigurator(new SpecsIdsForEnergyConsumption(
@@ -158,12 +170,12 @@ class PcServiceTest {
         ));
 
         // Assert
-        verify(cpuRepository).findById("cpuId");
-        verify(gpuRepository).findById("gpuId");
-        verify(motherboardRepository).findById("motherboardId");
-        verify(ramRepository).findById("ramId");
-        verify(ssdRepository).findById("ssdId");
-        verify(hddRepository).findById("hddId");
+        verify(cpuRepository).findAllById(Set.of("cpuId"));
+        verify(gpuRepository).findAllById(Set.of("gpuId"));
+        verify(motherboardRepository).findAllById(Set.of("motherboardId"));
+        verify(ramRepository).findAllById(Set.of("ramId"));
+        verify(ssdRepository).findAllById(Set.of("ssdId"));
+        verify(hddRepository).findAllById(Set.of("hddId"));
 
         assertEquals(expected, actual);
     }
@@ -260,96 +272,23 @@ class PcServiceTest {
     }
 
     @Test
-    void getPcs_shouldReturnFilteredAndSortedPcsByPriceRange() {
+    void getPcs_shouldQueryRepositoryWithCatalogFilter() {
         // Arrange
-        when(pcRepository.findAll()).thenReturn(pcs);
+        CatalogFilter expectedFilter = CatalogFilter.sortedBy("price-asc")
+                .withRange(CatalogField.PRICE, 300, 700)
+                .withRange(CatalogField.ENERGY_CONSUMPTION, 800, 1000);
+        Page<PC> expected = new PageImpl<>(List.of(testPc), pageable, 1);
+        when(pcRepository.findAllByFilter(expectedFilter, pageable)).thenReturn(expected);
 
         // Act
-        Page<PC> result = service.getPcs(pageable, "price-asc", 300, 700, null, null);
+        Page<PC> actual = service.getPcs(pageable, "price-asc", 300, 700, 800, 1000);
 
         // Assert
-        assertEquals(2, result.getTotalElements());
-        assertEquals(testPc2, result.getContent().get(0));
-        assertEquals(testPc, result.getContent().get(1));
-        verify(pcRepository).findAll();
-    }
-
-    @Test
-    void getPcs_shouldReturnFilteredAndSortedPcsByEnergyConsumptionRange() {
-        // Arrange
-        when(pcRepository.findAll()).thenReturn(pcs);
-
-        // Act
-        Page<PC> result = service.getPcs(pageable, "price-asc", null, null, 800, 1000);
-
-        // Assert
-        assertEquals(1, result.getTotalElements());
-        assertEquals(testPc, result.getContent().get(0));
-        verify(pcRepository).findAll();
-    }
-
-    @Test
-    void getPcs_shouldSortPcsByPriceAsc() {
-        // Arrange
-        when(pcRepository.findAll()).thenReturn(pcs);
-
-        // Act
-        Page<PC> result = service.getPcs(pageable, "price-asc", null, null, null, null);
-
-        // Assert
-        assertEquals(2, result.getTotalElements());
-        assertEquals(testPc2, result.getContent().get(0));
-        assertEquals(testPc, result.getContent().get(1));
-        verify(pcRepository).findAll();
-    }
-
-    @Test
-    void getPcs_shouldSortPcsByPriceDesc() {
-        // Arrange
-        when(pcRepository.findAll()).thenReturn(pcs);
-
-        // Act
-        Page<PC> result = service.getPcs(pageable, "price-desc", null, null, null, null);
-
-        // Assert
-        assertEquals(2, result.getTotalElements());
-        assertEquals(testPc, result.getContent().get(0));
-        assertEquals(testPc2, result.getContent().get(1));
-        verify(pcRepository).findAll();
-    }
-
-    @Test
-    void getPcs_shouldSortPcsByRatingAsc() {
-        // Arrange
-        when(pcRepository.findAll()).thenReturn(pcs);
-
-        // Act
-        Page<PC> result = service.getPcs(pageable, "rating-asc", null, null, null, null);
-
-        // Assert
-        assertEquals(2, result.getTotalElements());
-        assertEquals(testPc, result.getContent().get(0));
-        assertEquals(testPc2, result.getContent().get(1));
-        verify(pcRepository).findAll();
-    }
-
-    @Test
-    void getPcs_shouldSortPcsByRatingDesc() {
-        // Arrange
-        when(pcRepository.findAll()).thenReturn(pcs);
-
-        // Act
-        Page<PC> result = service.getPcs(pageable, "rating-desc", null, null, null, null);
-
-        // Assert
-        assertEquals(2, result.getTotalElements());
-        assertEquals(testPc2, result.getContent().get(0));
-        assertEquals(testPc, result.getContent().get(1));
-        verify(pcRepository).findAll();
+        assertEquals(expected, actual);
+        verify(pcRepository).findAllByFilter(expectedFilter, pageable);
+        verify(pcRepository, never()).findAll();
     }
 
-
-
     @Test
     void createPcResponse_shouldCreateResponseProperly() {
         // Arrange
@@ -371,14 +310,14 @@ class PcServiceTest {
                 specsIds
         );
 
-        when(cpuRepository.findById("cpuId")).thenReturn(Optional.of(cpu));
-        when(gpuRepository.findById("gpuId")).thenReturn(Optional.of(gpu));
-        when(motherboardRepository.findById("motherboardId")).thenReturn(Optional.of(motherboard));
-        when(ramRepository.findById("ramId")).thenReturn(Optional.of(ram));
-        when(ssdRepository.findById("ssdId")).thenReturn(Optional.of(ssd));
-        when(hddRepository.findById("hddId")).thenReturn(Optional.of(hdd));
-        when(pcCaseRepository.findById("pcCaseId")).thenReturn(Optional.of(pcCase));
-        when(powerSupplyRepository.findById("powerSupplyId")).thenReturn(Optional.of(powerSupply));
+        when(cpuRepository.findAllById(Set.of("cpuId"))).thenReturn(List.of(cpu));
+        when(gpuRepository.findAllById(Set.of("gpuId"))).thenReturn(List.of(gpu));
+        when(motherboardRepository.findAllById(Set.of("motherboardId"))).thenReturn(List.of(motherboard));
+        when(ramRepository.findAllById(Set.of("ramId"))).thenReturn(List.of(ram));
+        when(ssdRepository.findAllById(Set.of("ssdId"))).thenReturn(List.of(ssd));
+        when(hddRepository.findAllById(Set.of("hddId"))).thenReturn(List.of(hdd));
+        when(pcCaseRepository.findAllById(Set.of("pcCaseId"))).thenReturn(List.of(pcCase));
+        when(powerSupplyRepository.findAllById(Set.of("powerSupplyId"))).thenReturn(List.of(powerSupply));
 
         when(pcRepository.save(any(PC.class))).thenReturn(testPc);
 
@@ -416,14 +355,14 @@ class PcServiceTest {
                 )
         );
 
-        when(cpuRepository.findById("cpuId")).thenReturn(Optional.of(cpu));
-        when(gpuRepository.findById("gpuId")).thenReturn(Optional.of(gpu));
-        when(motherboardRepository.findById("motherboardId")).thenReturn(Optional.of(motherboard));
-        when(ramRepository.findById("ramId")).thenReturn(Optional.of(ram));
-        when(ssdRepository.findById("ssdId")).thenReturn(Optional.of(ssd));
-        when(hddRepository.findById("hddId")).thenReturn(Optional.of(hdd));
-        when(pcCaseRepository.findById("pcCaseId")).thenReturn(Optional.of(pcCase));
-        when(powerSupplyRepository.findById("powerSupplyId")).thenReturn(Optional.of(powerSupply));
+        when(cpuRepository.findAllById(Set.of("cpuId"))).thenReturn(List.of(cpu));
+        when(gpuRepository.findAllById(Set.of("gpuId"))).thenReturn(List.of(gpu));
+        when(motherboardRepository.findAllById(Set.of("motherboardId"))).thenReturn(List.of(motherboard));
+        when(ramRepository.findAllById(Set.of("ramId"))).thenReturn(List.of(ram));
+        when(ssdRepository.findAllById(Set.of("ssdId"))).thenReturn(List.of(ssd));
+        when(hddRepository.findAllById(Set.of("hddId"))).thenReturn(List.of(hdd));
+        when(pcCaseRepository.findAllById(Set.of("pcCaseId"))).thenReturn(List.of(pcCase));
+        when(powerSupplyRepository.findAllById(Set.of("powerSupplyId"))).thenReturn(List.of(powerSupply));
 
         when(pcRepository.saveAll(anyList())).thenReturn(pcs);
 
@@ -434,6 +373,51 @@ class PcServiceTest {
         verify(pcRepository).saveAll(anyList());
     }
 
+    @Test
+    void saveAll_shouldResolveComponentsWithOneQueryPerCollection() {
+        // Arrange
+        CPU secondCpu = new CPU("secondCpuId", new HardwareSpec("secondCpu", "test", new BigDecimal(20), 3.5f), 10, "AM5");
+        SpecsIds secondSpecsIds = new SpecsIds("secondCpuId", "gpuId", "motherboardId", "ramId", "ssdId", "hddId", "powerSupplyId", "pcCaseId");
+        List<CreatePC> createPCs = List.of(
+                new CreatePC(new HardwareSpec("PC1", "Description1", new BigDecimal("1000"), 3.5f), specsIds),
+                new CreatePC(new HardwareSpec("PC2", "Description2", new BigDecimal("2000"), 4.5f), secondSpecsIds),
+                new CreatePC(new HardwareSpec("PC3", "Description3", new BigDecimal("3000"), 5f), specsIds)
+        );
+
+        when(cpuRepository.findAllById(Set.of("cpuId", "secondCpuId"))).thenReturn(List.of(cpu, secondCpu));
+        when(gpuRepository.findAllById(Set.of("gpuId"))).thenReturn(List.of(gpu));
+        when(motherboardRepository.findAllById(Set.of("motherboardId"))).thenReturn(List.of(motherboard));
+        when(ramRepository.findAllById(Set.of("ramId"))).thenReturn(List.of(ram));
+        when(ssdRepository.findAllById(Set.of("ssdId"))).thenReturn(List.of(ssd));
+        when(hddRepository.findAllById(Set.of("hddId"))).thenReturn(List.of(hdd));
+        when(pcCaseRepository.findAllById(Set.of("pcCaseId"))).thenReturn(List.of(pcCase));
+        when(powerSupplyRepository.findAllById(Set.of("powerSupplyId"))).thenReturn(List.of(powerSupply));
+
+        // Act
+        service.saveAll(createPCs);
+
+        // Assert
+        verify(cpuRepository).findAllById(Set.of("cpuId", "secondCpuId"));
+        verify(cpuRepository, never()).findById(any());
+        verify(pcRepository).saveAll(argThat((List<PC> saved) -> saved.size() == 3 && saved.get(1).specs().cpu().equals(secondCpu)));
+    }
+
+    @Test
+    void getSpecs_shouldThrowCpuNotFoundException_whenComponentDoesNotExist() {
+        // Arrange
+        when(cpuRepository.findAllById(Set.of("cpuId"))).thenReturn(List.of());
+        when(gpuRepository.findAllById(Set.of("gpuId"))).thenReturn(List.of(gpu));
+        when(motherboardRepository.findAllById(Set.of("motherboardId"))).thenReturn(List.of(motherboard));
+        when(ramRepository.findAllById(Set.of("ramId"))).thenReturn(List.of(ram));
+        when(ssdRepository.findAllById(Set.of("ssdId"))).thenReturn(List.of(ssd));
+        when(hddRepository.findAllById(Set.of("hddId"))).thenReturn(List.of(hdd));
+        when(pcCaseRepository.findAllById(Set.of("pcCaseId"))).thenReturn(List.of(pcCase));
+        when(powerSupplyRepository.findAllById(Set.of("powerSupplyId"))).thenReturn(List.of(powerSupply));
+
+        // Act & Assert
+        assertThrows(CpuNotFoundException.class, () -> service.getSpecs(specsIds));
+    }
+
     @Test
     void update_shouldUpdatePC() {
         // Arrange
@@ -468,14 +452,14 @@ class PcServiceTest {
                 2,
                 Collections.emptyList()
         );
-        when(cpuRepository.findById("cpuId")).thenReturn(Optional.of(cpu));
-        when(gpuRepository.findById("gpuId")).thenReturn(Optional.of(gpu));
-        when(motherboardRepository.findById("motherboardId")).thenReturn(Optional.of(motherboard));
-        when(ramRepository.findById("ramId")).thenReturn(Optional.of(ram));
-        when(ssdRepository.findById("ssdId")).thenReturn(Optional.of(ssd));
-        when(hddRepository.findById("hddId")).thenReturn(Optional.of(hdd));
-        when(powerSupplyRepository.findById("powerSupplyId")).thenReturn(Optional.of(powerSupply));
-        when(pcCaseRepository.findById("pcCaseId")).thenReturn(Optional.of(pcCase));
+        when(cpuRepository.findAllById(Set.of("cpuId"))).thenReturn(List.of(cpu));
+        when(gpuRepository.findAllById(Set.of("gpuId"))).thenReturn(List.of(gpu));
+        when(motherboardRepository.findAllById(Set.of("motherboardId"))).thenReturn(List.of(motherboard));
+        when(ramRepository.findAllById(Set.of("ramId"))).thenReturn(List.of(ram));
+        when(ssdRepository.findAllById(Set.of("ssdId"))).thenReturn(List.of(ssd));
+        when(hddRepository.findAllById(Set.of("hddId"))).thenReturn(List.of(hdd));
+        when(powerSupplyRepository.findAllById(Set.of("powerSupplyId"))).thenReturn(List.of(powerSupply));
+        when(pcCaseRepository.findAllById(Set.of("pcCaseId"))).thenReturn(List.of(pcCase));
 
         when(pcRepository.findById("testId")).thenReturn(Optional.of(existingPC));
         when(pcRepository.save(any(PC.class))).thenReturn(updatedPC);
@@ -516,9 +500,9 @@ class PcServiceTest {
     void getAllByPage_shouldReturnPageOfPcs() {
         // Arrange
         Pageable pageable = PageRequest.of(0, 2);
-        List<PC> pcList = List.of(testPc, testPc2);
-        Page<PC> expectedPage = new PageImpl<>(pcList, pageable, pcList.size());
-        when(pcRepository.findAll(pageable)).thenReturn(expectedPage);
+        List<PcResponse> pcList = List.of(pcResponse, pcResponse);
+        Page<PcResponse> expectedPage = new PageImpl<>(pcList, pageable, pcList.size());
+        when(pcRepository.findAllListings(pageable)).thenReturn(expectedPage);
 
         // Act
         Page<PcResponse> actualPage = service.getAllByPage(pageable);
@@ -526,6 +510,7 @@ class PcServiceTest {
         // Assert
         assertEquals(2, actualPage.getTotalElements());
         assertEquals(pcList.size(), actualPage.getContent().size());
+        verify(pcRepository, never()).findAll(pageable);
     }
 
     @Test
@@ -544,12 +529,12 @@ class PcServiceTest {
     @Test
     void calculateEnergyConsumptionWithConvertingSpecsIdsIntoSpecs_shouldCalculateEnergyConsumptionProperly() {
         // Arrange
-        when(cpuRepository.findById("cpuId")).thenReturn(Optional.of(cpu));
-        when(gpuRepository.findById("gpuId")).thenReturn(Optional.of(gpu));
-        when(motherboardRepository.findById("motherboardId")).thenReturn(Optional.of(motherboard));
-        when(ramRepository.findById("ramId")).thenReturn(Optional.of(ram));
-        when(ssdRepository.findById("ssdId")).thenReturn(Optional.of(ssd));
-        when(hddRepository.findById("hddId")).thenReturn(Optional.of(hdd));
+        when(cpuRepository.findAllById(Set.of("cpuId"))).thenReturn(List.of(cpu));
+        when(gpuRepository.findAllById(Set.of("gpuId"))).thenReturn(List.of(gpu));
+        when(motherboardRepository.findAllById(Set.of("motherboardId"))).thenReturn(List.of(motherboard));
+        when(ramRepository.findAllById(Set.of("ramId"))).thenReturn(List.of(ram));
+        when(ssdRepository.findAllById(Set.of("ssdId"))).thenReturn(List.of(ssd));
+        when(hddRepository.findAllById(Set.of("hddId"))).thenReturn(List.of(hdd));
 
         // Act
         int actual = service.calculateEnergyConsumptionWithConvertingSpecsIdsIntoSpecs(new SpecsIdsForEnergyConsumption(
@@ -564,4 +549,72 @@ class PcServiceTest {
         // Assert
         assertEquals(50, actual);
     }
+
+    @Test
+    void propagateComponentChange_shouldRecalculatePcsUsingChangedComponent() {
+        // Arrange
+        CPU updatedCpu = cpu.withHardwareSpec(new HardwareSpec("testCpu", "test", new BigDecimal(500), 2.5f));
+        when(pcRepository.findAllByComponent(SpecsComponent.CPU, "cpuId")).thenReturn(List.of(testPc));
+        when(cpuRepository.findAllById(Set.of("cpuId"))).thenReturn(List.of(updatedCpu));
+        when(pcRepository.updateComponent(any(), anyString(), any(), anyList())).thenReturn(1);
+        int expectedEnergyConsumption = service.calculateEnergyConsumptionOfPc(new SpecsForEnergyConsumption(updatedCpu, gpu, motherboard, ram, ssd, hdd));
+
+        // Act
+        int actual = service.propagateComponentChange(SpecsComponent.CPU, "cpuId");
+
+        // Assert
+        assertEquals(1, actual);
+        verify(pcRepository).updateComponent(SpecsComponent.CPU, "cpuId", updatedCpu,
+                List.of(new SpecsTotals("testId", new BigDecimal(899), expectedEnergyConsumption)));
+    }
+
+    @Test
+    void propagateComponentChange_shouldPublishOneEventPerUpdatedPc() {
+        // Arrange
+        ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+        service.setApplicationEventPublisher(eventPublisher);
+        when(pcRepository.findAllByComponent(SpecsComponent.CPU, "cpuId")).thenReturn(List.of(testPc, testPc.withId("otherId")));
+        when(cpuRepository.findAllById(Set.of("cpuId"))).thenReturn(List.of(cpu));
+        when(pcRepository.updateComponent(any(), anyString(), any(), anyList())).thenReturn(2);
+
+        // Act
+        service.propagateComponentChange(SpecsComponent.CPU, "cpuId");
+
+        // Assert
+        verify(eventPublisher).publishEvent(new CatalogChangedEvent("pc", "testId"));
+        verify(eventPublisher).publishEvent(new CatalogChangedEvent("pc", "otherId"));
+        verify(eventPublisher, never()).publishEvent(new CatalogChangedEvent("pc", null));
+    }
+
+    @Test
+    void propagateComponentChange_shouldPublishOneCategoryEvent_whenManyPcsWereUpdated() {
+        // Arrange
+        ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+        service.setApplicationEventPublisher(eventPublisher);
+        List<PC> pcs = IntStream.range(0, 11).mapToObj(i -> testPc.withId("pcId" + i)).toList();
+        when(pcRepository.findAllByComponent(SpecsComponent.CPU, "cpuId")).thenReturn(pcs);
+        when(cpuRepository.findAllById(Set.of("cpuId"))).thenReturn(List.of(cpu));
+        when(pcRepository.updateComponent(any(), anyString(), any(), anyList())).thenReturn(11);
+
+        // Act
+        service.propagateComponentChange(SpecsComponent.CPU, "cpuId");
+
+        // Assert
+        verify(eventPublisher, times(1)).publishEvent(any(CatalogChangedEvent.class));
+        verify(eventPublisher).publishEvent(new CatalogChangedEvent("pc", null));
+    }
+
+    @Test
+    void propagateComponentChange_shouldKeepPcs_whenComponentWasDeleted() {
+        // Arrange
+        when(pcRepository.findAllByComponent(SpecsComponent.GPU, "gpuId")).thenReturn(List.of(testPc));
+        when(gpuRepository.findAllById(Set.of("gpuId"))).thenReturn(Collections.emptyList());
+
+        // Act
+        int actual = service.propagateComponentChange(SpecsComponent.GPU, "gpuId");
+
+        // Assert
+        assertEquals(0, actual);
+        verify(pcRepository, never()).updateComponent(any(), anyString(), any(), anyList());
+    }
 }
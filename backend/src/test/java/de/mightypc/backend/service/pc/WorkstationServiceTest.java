@@ -1,6 +1,8 @@
 package de.mightypc.backend.service.pc;
 
 import de.mightypc.backend.exception.pc.WorkstationNotFoundException;
+import de.mightypc.backend.model.catalog.CatalogField;
+import de.mightypc.backend.model.catalog.CatalogFilter;
 import de.mightypc.backend.model.hardware.*;
 import de.mightypc.backend.model.pc.Workstation;
 import de.mightypc.backend.model.pc.createpc.CreateWorkstation;
@@ -33,6 +35,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -40,6 +43,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyList;
@@ -64,7 +68,6 @@ class WorkstationServiceTest {
     private final PowerSupplyService powerSupplyService = new PowerSupplyService(powerSupplyRepository);
     private final MotherboardService motherboardService = new MotherboardService(motherboardRepository);
 
-
     private final WorkstationService service = new WorkstationService(
             workstationRepository,
             cpuService,
@@ -163,7 +166,7 @@ class WorkstationServiceTest {
     @Test
     void getAllByPage_whenPagesIsEmpty_thenThrowWorkationNotFoundException(){
         // Arrange
-        when(workstationRepository.findAll(pageable)).thenReturn(new PageImpl<>(new ArrayList<>()));
+        when(workstationRepository.findAllListings(pageable)).thenReturn(new PageImpl<>(new ArrayList<>()));
 
         // Act & Assert
         assertThrows(WorkstationNotFoundException.class,
@@ -175,27 +178,27 @@ class WorkstationServiceTest {
         // Arrange
         Specs expected = new Specs(cpu, gpu, motherboard, ram, ssd, hdd, powerSupply, pcCase);
 
-        when(cpuRepository.findById("cpuId")).thenReturn(Optional.of(cpu));
-        when(gpuRepository.findById("gpuId")).thenReturn(Optional.of(gpu));
-        when(motherboardRepository.findById("motherboardId")).thenReturn(Optional.of(motherboard));
-        when(ramRepository.findById("ramId")).thenReturn(Optional.of(ram));
-        when(ssdRepository.findById("ssdId")).thenReturn(Optional.of(ssd));
-        when(hddRepository.findById("hddId")).thenReturn(Optional.of(hdd));
-        when(powerSupplyRepository.findById("powerSupplyId")).thenReturn(Optional.of(powerSupply));
-        when(pcCaseRepository.findById("pcCaseId")).thenReturn(Optional.of(pcCase));
+        when(cpuRepository.findAllById(Set.of("cpuId"))).thenReturn(List.of(cpu));
+        when(gpuRepository.findAllById(Set.of("gpuId"))).thenReturn(List.of(gpu));
+        when(motherboardRepository.findAllById(Set.of("motherboardId"))).thenReturn(List.of(motherboard));
+        when(ramRepository.findAllById(Set.of("ramId"))).thenReturn(List.of(ram));
+        when(ssdRepository.findAllById(Set.of("ssdId"))).thenReturn(List.of(ssd));
+        when(hddRepository.findAllById(Set.of("hddId"))).thenReturn(List.of(hdd));
+        when(powerSupplyRepository.findAllById(Set.of("powerSupplyId"))).thenReturn(List.of(powerSupply));
+        when(pcCaseRepository.findAllById(Set.of("pcCaseId"))).thenReturn(List.of(pcCase));
 
         // Act
         Specs actual = service.getSpecs(specsIds);
 
         // Assert
-        verify(cpuRepository).findById("cpuId");
-        verify(gpuRepository).findById("gpuId");
-        verify(motherboardRepository).findById("motherboardId");
-        verify(ramRepository).findById("ramId");
-        verify(ssdRepository).findById("ssdId");
-        verify(hddRepository).findById("hddId");
-        verify(powerSupplyRepository).findById("powerSupplyId");
-        verify(pcCaseRepository).findById("pcCaseId");
+        verify(cpuRepository).findAllById(Set.of("cpuId"));
+        verify(gpuRepository).findAllById(Set.of("gpuId"));
+        verify(motherboardRepository).findAllById(Set.of("motherboardId"));
+        verify(ramRepository).findAllById(Set.of("ramId"));
+        verify(ssdRepository).findAllById(Set.of("ssdId"));
+        verify(hddRepository).findAllById(Set.of("hddId"));
+        verify(powerSupplyRepository).findAllById(Set.of("powerSupplyId"));
+        verify(pcCaseRepository).findAllById(Set.of("pcCaseId"));
 
         assertEquals(expected, actual);
     }
@@ -221,95 +224,23 @@ class WorkstationServiceTest {
     }
 
     @Test
-    void getWorkstations_shouldReturnFilteredAndSortedWorkstationsByPriceRange() {
-        // Arrange
-        when(workstationRepository.findAll()).thenReturn(workstations);
-
-        // Act
-        Page<Workstation> result = service.getWorkstations(pageable, "price-asc", 300, 700, null, null);
-
-        // Assert
-        assertEquals(2, result.getTotalElements());
-        assertEquals(testWorkstation2, result.getContent().get(0));
-        assertEquals(testWorkstation, result.getContent().get(1));
-        verify(workstationRepository).findAll();
-    }
-
-    @Test
-    void getWorkstations_shouldReturnFilteredAndSortedWorkstationsByEnergyConsumptionRange() {
-        // Arrange
-        when(workstationRepository.findAll()).thenReturn(workstations);
-
-        // Act
-        Page<Workstation> result = service.getWorkstations(pageable, "price-asc", null, null, 800, 1000);
-
-        // Assert
-        assertEquals(1, result.getTotalElements());
-        assertEquals(testWorkstation, result.getContent().get(0));
-        verify(workstationRepository).findAll();
-    }
-
-    @Test
-    void getWorkstations_shouldSortWorkstationsByPriceAsc() {
+    void getWorkstations_shouldQueryRepositoryWithCatalogFilter() {
         // Arrange
-        when(workstationRepository.findAll()).thenReturn(workstations);
+        CatalogFilter expectedFilter = CatalogFilter.sortedBy("price-asc")
+                .withRange(CatalogField.PRICE, 300, 700)
+                .withRange(CatalogField.ENERGY_CONSUMPTION, 800, 1000);
+        Page<Workstation> expected = new PageImpl<>(List.of(testWorkstation), pageable, 1);
+        when(workstationRepository.findAllByFilter(expectedFilter, pageable)).thenReturn(expected);
 
         // Act
-        Page<Workstation> result = service.getWorkstations(pageable, "price-asc", null, null, null, null);
+        Page<Workstation> actual = service.getWorkstations(pageable, "price-asc", 300, 700, 800, 1000);
 
         // Assert
-        assertEquals(2, result.getTotalElements());
-        assertEquals(testWorkstation2, result.getContent().get(0));
-        assertEquals(testWorkstation, result.getContent().get(1));
-        verify(workstationRepository).findAll();
-    }
-
-    @Test
-    void getWorkstations_shouldSortWorkstationsByPriceDesc() {
-        // Arrange
-        when(workstationRepository.findAll()).thenReturn(workstations);
-
-        // Act
-        Page<Workstation> result = service.getWorkstations(pageable, "price-desc", null, null, null, null);
-
-        // Assert
-        assertEquals(2, result.getTotalElements());
-        assertEquals(testWorkstation, result.getContent().get(0));
-        assertEquals(testWorkstation2, result.getContent().get(1));
-        verify(workstationRepository).findAll();
-    }
-
-    @Test
-    void getWorkstations_shouldSortWorkstationsByRatingAsc() {
-        // Arrange
-        when(workstationRepository.findAll()).thenReturn(workstations);
-
-        // Act
-        Page<Workstation> result = service.getWorkstations(pageable, "rating-asc", null, null, null, null);
-
-        // Assert
-        assertEquals(2, result.getTotalElements());
-        assertEquals(testWorkstation, result.getContent().get(0));
-        assertEquals(testWorkstation2, result.getContent().get(1));
-        verify(workstationRepository).findAll();
-    }
-
-    @Test
-    void getWorkstations_shouldSortWorkstationsByRatingDesc() {
-        // Arrange
-        when(workstationRepository.findAll()).thenReturn(workstations);
-
-        // Act
-        Page<Workstation> result = service.getWorkstations(pageable, "rating-desc", null, null, null, null);
-
-        // Assert
-        assertEquals(2, result.getTotalElements());
-        assertEquals(testWorkstation2, result.getContent().get(0));
-        assertEquals(testWorkstation, result.getContent().get(1));
-        verify(workstationRepository).findAll();
+        assertEquals(expected, actual);
+        verify(workstationRepository).findAllByFilter(expectedFilter, pageable);
+        verify(workstationRepository, never()).findAll();
     }
 
-
     @Test
     void getAll_shouldReturnAllGpus() {
         // Arrange
@@ -386,14 +317,14 @@ class WorkstationServiceTest {
                 1
         );
 
-        when(cpuRepository.findById("cpuId")).thenReturn(Optional.of(cpu));
-        when(gpuRepository.findById("gpuId")).thenReturn(Optional.of(gpu));
-        when(motherboardRepository.findById("motherboardId")).thenReturn(Optional.of(motherboard));
-        when(ramRepository.findById("ramId")).thenReturn(Optional.of(ram));
-        when(ssdRepository.findById("ssdId")).thenReturn(Optional.of(ssd));
-        when(hddRepository.findById("hddId")).thenReturn(Optional.of(hdd));
-        when(powerSupplyRepository.findById("powerSupplyId")).thenReturn(Optional.of(powerSupply));
-        when(pcCaseRepository.findById("pcCaseId")).thenReturn(Optional.of(pcCase));
+        when(cpuRepository.findAllById(Set.of("cpuId"))).thenReturn(List.of(cpu));
+        when(gpuRepository.findAllById(Set.of("gpuId"))).thenReturn(List.of(gpu));
+        when(motherboardRepository.findAllById(Set.of("motherboardId"))).thenReturn(List.of(motherboard));
+        when(ramRepository.findAllById(Set.of("ramId"))).thenReturn(List.of(ram));
+        when(ssdRepository.findAllById(Set.of("ssdId"))).thenReturn(List.of(ssd));
+        when(hddRepository.findAllById(Set.of("hddId"))).thenReturn(List.of(hdd));
+        when(powerSupplyRepository.findAllById(Set.of("powerSupplyId"))).thenReturn(List.of(powerSupply));
+        when(pcCaseRepository.findAllById(Set.of("pcCaseId"))).thenReturn(List.of(pcCase));
 
         when(workstationRepository.save(any(Workstation.class))).thenReturn(expected);
 
@@ -443,14 +374,14 @@ class WorkstationServiceTest {
                 )
         );
 
-        when(cpuRepository.findById("cpuId")).thenReturn(Optional.of(cpu));
-        when(gpuRepository.findById("gpuId")).thenReturn(Optional.of(gpu));
-        when(motherboardRepository.findById("motherboardId")).thenReturn(Optional.of(motherboard));
-        when(ramRepository.findById("ramId")).thenReturn(Optional.of(ram));
-        when(ssdRepository.findById("ssdId")).thenReturn(Optional.of(ssd));
-        when(hddRepository.findById("hddId")).thenReturn(Optional.of(hdd));
-        when(powerSupplyRepository.findById("powerSupplyId")).thenReturn(Optional.of(powerSupply));
-        when(pcCaseRepository.findById("pcCaseId")).thenReturn(Optional.of(pcCase));
+        when(cpuRepository.findAllById(Set.of("cpuId"))).thenReturn(List.of(cpu));
+        when(gpuRepository.findAllById(Set.of("gpuId"))).thenReturn(List.of(gpu));
+        when(motherboardRepository.findAllById(Set.of("motherboardId"))).thenReturn(List.of(motherboard));
+        when(ramRepository.findAllById(Set.of("ramId"))).thenReturn(List.of(ram));
+        when(ssdRepository.findAllById(Set.of("ssdId"))).thenReturn(List.of(ssd));
+        when(hddRepository.findAllById(Set.of("hddId"))).thenReturn(List.of(hdd));
+        when(powerSupplyRepository.findAllById(Set.of("powerSupplyId"))).thenReturn(List.of(powerSupply));
+        when(pcCaseRepository.findAllById(Set.of("pcCaseId"))).thenReturn(List.of(pcCase));
 
         when(workstationRepository.saveAll(anyList())).thenReturn(expectedWorkstations);
 
@@ -491,9 +422,9 @@ class WorkstationServiceTest {
     void getAllByPage_shouldReturnPageOfWorkstations() {
         // Arrange
         Pageable pageable = PageRequest.of(0, 2);
-        List<Workstation> workstationList = List.of(testWorkstation, testWorkstation2);
-        Page<Workstation> expectedPage = new PageImpl<>(workstationList, pageable, workstationList.size());
-        when(workstationRepository.findAll(pageable)).thenReturn(expectedPage);
+        List<WorkstationResponse> workstationList = List.of(workstationResponse, workstationResponse);
+        Page<WorkstationResponse> expectedPage = new PageImpl<>(workstationList, pageable, workstationList.size());
+        when(workstationRepository.findAllListings(pageable)).thenReturn(expectedPage);
 
         // Act
         Page<WorkstationResponse> actualPage = service.getAllByPage(pageable);
@@ -501,6 +432,7 @@ class WorkstationServiceTest {
         // Assert
         assertEquals(2, actualPage.getTotalElements());
         assertEquals(workstationList.size(), actualPage.getContent().size());
+        verify(workstationRepository, never()).findAll(pageable);
     }
 
     @Test
@@ -543,14 +475,14 @@ class WorkstationServiceTest {
                 1200,
                 Collections.emptyList()
         );
-        when(cpuRepository.findById("cpuId")).thenReturn(Optional.of(cpu));
-        when(gpuRepository.findById("gpuId")).thenReturn(Optional.of(gpu));
-        when(motherboardRepository.findById("motherboardId")).thenReturn(Optional.of(motherboard));
-        when(ramRepository.findById("ramId")).thenReturn(Optional.of(ram));
-        when(ssdRepository.findById("ssdId")).thenReturn(Optional.of(ssd));
-        when(hddRepository.findById("hddId")).thenReturn(Optional.of(hdd));
-        when(powerSupplyRepository.findById("powerSupplyId")).thenReturn(Optional.of(powerSupply));
-        when(pcCaseRepository.findById("pcCaseId")).thenReturn(Optional.of(pcCase));
+        when(cpuRepository.findAllById(Set.of("cpuId"))).thenReturn(List.of(cpu));
+        when(gpuRepository.findAllById(Set.of("gpuId"))).thenReturn(List.of(gpu));
+        when(motherboardRepository.findAllById(Set.of("motherboardId"))).thenReturn(List.of(motherboard));
+        when(ramRepository.findAllById(Set.of("ramId"))).thenReturn(List.of(ram));
+        when(ssdRepository.findAllById(Set.of("ssdId"))).thenReturn(List.of(ssd));
+        when(hddRepository.findAllById(Set.of("hddId"))).thenReturn(List.of(hdd));
+        when(powerSupplyRepository.findAllById(Set.of("powerSupplyId"))).thenReturn(List.of(powerSupply));
+        when(pcCaseRepository.findAllById(Set.of("pcCaseId"))).thenReturn(List.of(pcCase));
 
         when(workstationRepository.findById("testId")).thenReturn(Optional.of(existingWorkstation));
         when(workstationRepository.save(any(Workstation.class))).thenReturn(updatedWorkstation);
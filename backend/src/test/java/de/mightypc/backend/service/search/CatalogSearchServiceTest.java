@@ -0,0 +1,79 @@
+package de.mightypc.backend.service.search;
+
+import de.mightypc.backend.model.catalog.CatalogChangedEvent;
+import de.mightypc.backend.model.search.SearchDocument;
+import de.mightypc.backend.model.search.SearchResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CatalogSearchServiceTest {
+    private final SearchableCatalog gpuCatalog = mock(SearchableCatalog.class);
+    private final SearchDocument gpu = new SearchDocument("gpu", "gpu1", "GeForce RTX 4090", "Flagship graphics card", new BigDecimal(1999), 4.8f);
+    private CatalogSearchService catalogSearchService;
+
+    @BeforeEach
+    void setUp() {
+        when(gpuCatalog.getCategory()).thenReturn("gpu");
+        when(gpuCatalog.getSearchDocuments()).thenReturn(List.of(gpu));
+        catalogSearchService = new CatalogSearchService(List.of(gpuCatalog));
+        catalogSearchService.rebuild();
+    }
+
+    @Test
+    void search_shouldAnswerFromIndexBuiltOnStartup() {
+        // Act
+        List<SearchResult> actual = catalogSearchService.search("rtx", 10);
+
+        // Assert
+        assertEquals("gpu1", actual.getFirst().id());
+    }
+
+    @Test
+    void onCatalogChanged_shouldReindexOnlyChangedDocument() {
+        // Arrange
+        when(gpuCatalog.getSearchDocument("gpu1")).thenReturn(Optional.of(new SearchDocument("gpu", "gpu1", "Radeon RX 7900", "Graphics card", new BigDecimal(999), 4.5f)));
+
+        // Act
+        catalogSearchService.onCatalogChanged(new CatalogChangedEvent("gpu", "gpu1"));
+
+        // Assert
+        assertTrue(catalogSearchService.search("rtx", 10).isEmpty());
+        assertEquals("gpu1", catalogSearchService.search("radeon", 10).getFirst().id());
+        assertTrue(catalogSearchService.suggest("gef", 10).isEmpty());
+        assertEquals("Radeon RX 7900", catalogSearchService.suggest("rad", 10).getFirst().name());
+        verify(gpuCatalog).getSearchDocuments();
+    }
+
+    @Test
+    void onCatalogChanged_shouldRemoveDeletedDocument() {
+        // Arrange
+        when(gpuCatalog.getSearchDocument("gpu1")).thenReturn(Optional.empty());
+
+        // Act
+        catalogSearchService.onCatalogChanged(new CatalogChangedEvent("gpu", "gpu1"));
+
+        // Assert
+        assertTrue(catalogSearchService.search("rtx", 10).isEmpty());
+        assertTrue(catalogSearchService.suggest("gef", 10).isEmpty());
+    }
+
+    @Test
+    void onCatalogChanged_shouldIgnoreUnknownCategories() {
+        // Act
+        catalogSearchService.onCatalogChanged(new CatalogChangedEvent("order", "order1"));
+
+        // Assert
+        verify(gpuCatalog, never()).getSearchDocument("order1");
+    }
+}
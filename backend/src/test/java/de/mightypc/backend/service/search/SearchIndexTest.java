@@ -0,0 +1,110 @@
+package de.mightypc.backend.service.search;
+
+import de.mightypc.backend.model.search.SearchDocument;
+import de.mightypc.backend.model.search.SearchResult;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SearchIndexTest {
+    private final SearchIndex searchIndex = new SearchIndex();
+
+    private final SearchDocument rtx4090 = new SearchDocument("gpu", "gpu1", "GeForce RTX 4090", "Flagship graphics card", new BigDecimal(1999), 4.8f);
+    private final SearchDocument rtx4060 = new SearchDocument("gpu", "gpu2", "GeForce RTX 4060", "Entry level graphics card", new BigDecimal(299), 4.2f);
+    private final SearchDocument radeon = new SearchDocument("gpu", "gpu3", "Radeon RX 7900 XTX", "Competes with the RTX 4080", new BigDecimal(999), 4.5f);
+    private final SearchDocument gamingPc = new SearchDocument("pc", "pc1", "Gaming PC", "Ryzen 7 with RTX 4090", new BigDecimal(3499), 4.9f);
+
+    @Test
+    void search_shouldRankNameMatchesAboveDescriptionMatches() {
+        // Arrange
+        searchIndex.put(radeon);
+        searchIndex.put(rtx4060);
+
+        // Act
+        List<SearchResult> actual = searchIndex.search("rtx", 10);
+
+        // Assert
+        assertEquals(List.of("gpu2", "gpu3"), actual.stream().map(SearchResult::id).toList());
+    }
+
+    @Test
+    void search_shouldMatchPrefixesAndRequireEveryTerm() {
+        // Arrange
+        searchIndex.put(rtx4090);
+        searchIndex.put(rtx4060);
+        searchIndex.put(gamingPc);
+
+        // Act
+        List<SearchResult> actual = searchIndex.search("RTX 409", 10);
+
+        // Assert
+        assertEquals(List.of("gpu1", "pc1"), actual.stream().map(SearchResult::id).toList());
+        assertEquals("pc", actual.get(1).category());
+    }
+
+    @Test
+    void search_shouldRankExactTermAbovePrefixExpansion() {
+        // Arrange
+        searchIndex.put(new SearchDocument("ram", "ram1", "DDR5 kit", "", new BigDecimal(120), 4f));
+        searchIndex.put(new SearchDocument("ram", "ram2", "DDR kit", "", new BigDecimal(80), 4f));
+
+        // Act
+        List<SearchResult> actual = searchIndex.search("ddr", 10);
+
+        // Assert
+        assertEquals(List.of("ram2", "ram1"), actual.stream().map(SearchResult::id).toList());
+    }
+
+    @Test
+    void put_shouldReplacePreviousVersionOfDocument() {
+        // Arrange
+        searchIndex.put(rtx4090);
+
+        // Act
+        searchIndex.put(new SearchDocument("gpu", "gpu1", "GeForce RTX 4090 Super", "Renamed", new BigDecimal(1899), 4.8f));
+
+        // Assert
+        assertEquals(1, searchIndex.size());
+        assertTrue(searchIndex.search("flagship", 10).isEmpty());
+        assertEquals(new BigDecimal(1899), searchIndex.search("super", 10).getFirst().price());
+    }
+
+    @Test
+    void remove_shouldDropDocumentFromResults() {
+        // Arrange
+        searchIndex.put(rtx4090);
+        searchIndex.put(rtx4060);
+
+        // Act
+        searchIndex.remove("gpu", "gpu1");
+
+        // Assert
+        assertEquals(List.of("gpu2"), searchIndex.search("geforce", 10).stream().map(SearchResult::id).toList());
+    }
+
+    @Test
+    void replaceCategory_shouldKeepOtherCategories() {
+        // Arrange
+        searchIndex.put(rtx4090);
+        searchIndex.put(gamingPc);
+
+        // Act
+        searchIndex.replaceCategory("gpu", List.of(rtx4060));
+
+        // Assert
+        assertEquals(List.of("gpu2", "pc1"), searchIndex.search("rtx", 10).stream().map(SearchResult::id).toList());
+    }
+
+    @Test
+    void search_shouldReturnNothing_whenQueryHasNoTerms() {
+        // Arrange
+        searchIndex.put(rtx4090);
+
+        // Act & Assert
+        assertTrue(searchIndex.search(" - ", 10).isEmpty());
+    }
+}
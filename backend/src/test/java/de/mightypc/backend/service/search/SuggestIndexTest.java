@@ -0,0 +1,111 @@
+package de.mightypc.backend.service.search;
+
+import de.mightypc.backend.model.search.SearchDocument;
+import de.mightypc.backend.model.search.Suggestion;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SuggestIndexTest {
+    private final SuggestIndex suggestIndex = new SuggestIndex();
+
+    @Test
+    void suggest_shouldReturnPrefixMatchesOrderedByRating() {
+        // Arrange
+        suggestIndex.put(document("gpu", "gpu1", "GeForce RTX 4060", 4.2f));
+        suggestIndex.put(document("gpu", "gpu2", "GeForce RTX 4090", 4.8f));
+        suggestIndex.put(document("gpu", "gpu3", "Radeon RX 7900", 4.5f));
+
+        // Act
+        List<Suggestion> actual = suggestIndex.suggest("GeF", 10);
+
+        // Assert
+        assertEquals(List.of("gpu2", "gpu1"), ids(actual));
+    }
+
+    @Test
+    void suggest_shouldMatchFromEveryWordOfName() {
+        // Arrange
+        suggestIndex.put(document("gpu", "gpu1", "GeForce RTX 4090", 4.8f));
+        suggestIndex.put(document("pc", "pc1", "RTX Gaming Tower", 4.9f));
+
+        // Act & Assert
+        assertEquals(List.of("pc1", "gpu1"), ids(suggestIndex.suggest("rtx", 10)));
+        assertEquals(List.of("gpu1"), ids(suggestIndex.suggest("rtx 40", 10)));
+        assertEquals(List.of("gpu1"), ids(suggestIndex.suggest("4090", 10)));
+    }
+
+    @Test
+    void suggest_shouldKeepOnlyTopRatedPerPrefix() {
+        // Arrange
+        for (int i = 0; i < 15; i++) {
+            suggestIndex.put(document("ram", "ram" + i, "DDR5 Kit " + i, i));
+        }
+
+        // Act
+        List<Suggestion> actual = suggestIndex.suggest("ddr", 20);
+
+        // Assert
+        assertEquals(SuggestIndex.MAXIMUM_SUGGESTIONS, actual.size());
+        assertEquals("ram14", actual.getFirst().id());
+        assertEquals("ram5", actual.getLast().id());
+        assertEquals(List.of("ram14", "ram13"), ids(suggestIndex.suggest("ddr", 2)));
+    }
+
+    @Test
+    void remove_shouldPromoteNextBestSuggestion() {
+        // Arrange
+        for (int i = 0; i < 15; i++) {
+            suggestIndex.put(document("ram", "ram" + i, "DDR5 Kit " + i, i));
+        }
+
+        // Act
+        suggestIndex.remove("ram", "ram14");
+
+        // Assert
+        List<Suggestion> actual = suggestIndex.suggest("d", 20);
+        assertEquals(SuggestIndex.MAXIMUM_SUGGESTIONS, actual.size());
+        assertEquals("ram13", actual.getFirst().id());
+        assertEquals("ram4", actual.getLast().id());
+        assertTrue(suggestIndex.suggest("ddr5 kit 14", 10).isEmpty());
+    }
+
+    @Test
+    void put_shouldReplaceRenamedEntry() {
+        // Arrange
+        suggestIndex.put(document("cpu", "cpu1", "Ryzen 7 7800X3D", 4.9f));
+
+        // Act
+        suggestIndex.put(document("cpu", "cpu1", "Ryzen 9 7950X3D", 4.7f));
+
+        // Assert
+        assertEquals(1, suggestIndex.size());
+        assertTrue(suggestIndex.suggest("ryzen 7", 10).isEmpty());
+        assertEquals(4.7f, suggestIndex.suggest("ryzen 9", 10).getFirst().rating());
+    }
+
+    @Test
+    void replaceCategory_shouldKeepOtherCategories() {
+        // Arrange
+        suggestIndex.put(document("gpu", "gpu1", "GeForce RTX 4090", 4.8f));
+        suggestIndex.put(document("pc", "pc1", "RTX Gaming Tower", 4.9f));
+
+        // Act
+        suggestIndex.replaceCategory("gpu", List.of(document("gpu", "gpu2", "GeForce RTX 4060", 4.2f)));
+
+        // Assert
+        assertEquals(List.of("pc1", "gpu2"), ids(suggestIndex.suggest("rtx", 10)));
+    }
+
+    private static SearchDocument document(String category, String id, String name, float rating) {
+        return new SearchDocument(category, id, name, "", BigDecimal.TEN, rating);
+    }
+
+    private static List<String> ids(List<Suggestion> suggestions) {
+        return suggestions.stream().map(Suggestion::id).toList();
+    }
+}
@@ -1,9 +1,11 @@
 package de.mightypc.backend.service.shop;
 
 import de.mightypc.backend.exception.shop.ItemNotFoundException;
+import de.mightypc.backend.exception.shop.user.UserNotFoundException;
 import de.mightypc.backend.model.shop.order.Item;
 import de.mightypc.backend.model.shop.user.User;
 import de.mightypc.backend.repository.shop.UserRepository;
+import de.mightypc.backend.service.concurrency.OptimisticLockRetrier;
 import de.mightypc.backend.service.shop.user.UserService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -21,7 +23,7 @@ import static org.mockito.Mockito.*;
 class BasketServiceTest {
     private final UserRepository userRepository = mock(UserRepository.class);
     private final PasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
-    private final UserService userService = new UserService(userRepository, passwordEncoder);
+    private final UserService userService = new UserService(userRepository, passwordEncoder, new OptimisticLockRetrier());
     private final BasketService basketService = new BasketService(userService, userRepository);
 
     private User user;
@@ -72,76 +74,78 @@ class BasketServiceTest {
     }
 
     @Test
-    void saveItem() {
+    void saveItem_shouldPushItemWithoutSavingWholeUser() {
         // Arrange
         Item testItem = new Item("new", "something", "new", new BigDecimal(333), "", "");
 
-        when(userRepository.findById("testId")).thenReturn(Optional.of(user));
+        when(userRepository.pushBasketItem("testId", testItem)).thenReturn(true);
 
         // Act
         basketService.saveItem("testId", testItem);
 
         // Assert
-        verify(userRepository).save(user);
-        verify(userRepository).findById("testId");
-        assertEquals(2, user.getBasket().size());
+        verify(userRepository).pushBasketItem("testId", testItem);
+        verify(userRepository, never()).findById(any());
+        verify(userRepository, never()).save(any());
     }
 
     @Test
-    void saveItem_shouldSaveProperly_whenUserBasketIsNull() {
+    void saveItem_shouldThrowUserNotFoundException_whenUserDoesNotExist() {
         // Arrange
-        User specialUser = user.withId("specialId").withBasket(null);
         Item testItem = new Item("new", "something", "new", new BigDecimal(333), "", "");
 
-        when(userRepository.findById("specialId")).thenReturn(Optional.of(specialUser));
-
-        // Act
-        basketService.saveItem("specialId", testItem);
+        when(userRepository.pushBasketItem("unknownId", testItem)).thenReturn(false);
 
-        // Assert
-        verify(userRepository).save(specialUser);
-        verify(userRepository).findById("specialId");
-        assertEquals(1, specialUser.getBasket().size());
+        // Act & Assert
+        assertThrows(UserNotFoundException.class, () -> basketService.saveItem("unknownId", testItem));
     }
 
     @Test
-    void getItemById_whenThereIsNoSuchItem_shouldThrowNoSuchItemException() {
+    void deleteItem_shouldThrowItemNotFoundException_whenThereIsNoSuchItem() {
         // Arrange
-        when(userRepository.findById("testId")).thenReturn(Optional.of(user));
-        user.setOrders(new ArrayList<>());
+        when(userRepository.pullBasketItem("testId", "orderId")).thenReturn(false);
+        when(userRepository.existsById("testId")).thenReturn(true);
 
         // Act & Assert
         assertThrows(ItemNotFoundException.class,
                 () -> basketService.deleteItemByUserIdAndItemId("testId", "orderId"));
+    }
+
+    @Test
+    void deleteItem_shouldThrowUserNotFoundException_whenUserDoesNotExist() {
+        // Arrange
+        when(userRepository.pullBasketItem("unknownId", "itemId")).thenReturn(false);
+        when(userRepository.existsById("unknownId")).thenReturn(false);
 
+        // Act & Assert
+        assertThrows(UserNotFoundException.class,
+                () -> basketService.deleteItemByUserIdAndItemId("unknownId", "itemId"));
     }
 
     @Test
     void deleteItem() {
         // Arrange
-        when(userRepository.findById("testId")).thenReturn(Optional.of(user)).thenReturn(Optional.of(user));
+        when(userRepository.pullBasketItem("testId", "itemId")).thenReturn(true);
 
         // Act
         basketService.deleteItemByUserIdAndItemId("testId", "itemId");
 
         // Assert
-        verify(userRepository).findById("testId");
-        verify(userRepository).save(user);
-        assertTrue(user.getBasket().isEmpty());
+        verify(userRepository).pullBasketItem("testId", "itemId");
+        verify(userRepository, never()).save(any());
     }
 
     @Test
     void deleteAll() {
         // Arrange
-        when(userRepository.findById("testId")).thenReturn(Optional.of(user)).thenReturn(Optional.of(user));
+        when(userRepository.clearBasket("testId")).thenReturn(true);
 
         // Act
         basketService.deleteAll("testId");
 
         // Assert
-        verify(userRepository).findById("testId");
-        verify(userRepository).save(user);
-        assertTrue(user.getBasket().isEmpty());
+        verify(userRepository).clearBasket("testId");
+        verify(userRepository, never()).save(any());
     }
 
     @Test
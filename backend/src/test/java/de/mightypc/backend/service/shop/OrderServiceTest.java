@@ -1,135 +1,186 @@
 package de.mightypc.backend.service.shop;
 
 import de.mightypc.backend.exception.shop.OrderNotFoundException;
+import de.mightypc.backend.exception.shop.user.UserNotFoundException;
 import de.mightypc.backend.model.shop.order.Item;
 import de.mightypc.backend.model.shop.order.Order;
 import de.mightypc.backend.model.shop.order.OrderStatus;
 import de.mightypc.backend.model.shop.order.OrderStatusRequest;
 import de.mightypc.backend.model.shop.user.User;
+import de.mightypc.backend.repository.shop.OrderRepository;
 import de.mightypc.backend.repository.shop.UserRepository;
+import de.mightypc.backend.service.concurrency.OptimisticLockRetrier;
 import de.mightypc.backend.service.shop.user.UserService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.verify;
 
 class OrderServiceTest {
     private final UserRepository userRepository = mock(UserRepository.class);
+    private final OrderRepository orderRepository = mock(OrderRepository.class);
     private final PasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
-    private final UserService userService = new UserService(userRepository, passwordEncoder);
+    private final UserService userService = new UserService(userRepository, passwordEncoder, new OptimisticLockRetrier());
     private final BasketService basketService = new BasketService(userService, userRepository);
-    private final OrderService orderService = new OrderService(userService, basketService, userRepository);
+    private final OrderService orderService = new OrderService(userService, basketService, userRepository, orderRepository);
 
     private User user;
+    private Order testOrder;
 
     @BeforeEach
     void setUp() {
         Item testItem = new Item("itemId", "pc", "destroyer", new BigDecimal(666), "", "");
-        Order testOrder = new Order("orderId", new ArrayList<>(List.of(testItem)), new BigDecimal(666), OrderStatus.PENDING, Collections.emptyList());
+        testOrder = new Order("orderId", "testId", new ArrayList<>(List.of(testItem)), new BigDecimal(666), OrderStatus.PENDING, Collections.emptyList(), Instant.parse("2024-01-01T00:00:00Z"));
 
-        user = new User("testId", "testEmail", new ArrayList<>(List.of(testOrder)), new ArrayList<>(), new ArrayList<>(), true, "user", "23.32", "link");
+        user = new User("testId", "testEmail", new ArrayList<>(), new ArrayList<>(List.of(testItem)), new ArrayList<>(), true, "user", "23.32", "link");
     }
 
     @Test
     void placeOrder() {
+        // Arrange
         List<Item> items = new ArrayList<>(List.of(new Item("new", "new", "something", new BigDecimal(333), "", "")));
+        ArgumentCaptor<Order> savedOrder = ArgumentCaptor.forClass(Order.class);
 
         when(userRepository.findById("testId")).thenReturn(Optional.of(user));
 
+        // Act
         orderService.placeOrder("testId", items);
 
-        verify(userRepository).findById("testId");
-        verify(userRepository).save(user);
-        assertEquals(2, user.getOrders().size());
-    }
-
-    @Test
-    void placeOrder_shouldPlaceOrderProperly_whenOrdersListIsNull() {
-        User specialUser = user.withId("specialId").withOrders(null);
-        List<Item> items = new ArrayList<>(List.of(new Item("new", "new", "something", new BigDecimal(333), "", "")));
-        when(userRepository.findById("specialId")).thenReturn(Optional.of(specialUser));
-
-        orderService.placeOrder("specialId", items);
-
-        verify(userRepository).findById("specialId");
-        verify(userRepository).save(specialUser);
-        assertEquals(1, user.getOrders().size());
+        // Assert
+        verify(orderRepository).save(savedOrder.capture());
+        verify(userRepository, never()).save(any());
+        assertEquals("testId", savedOrder.getValue().getUserId());
+        assertEquals(OrderStatus.PENDING, savedOrder.getValue().getOrderStatus());
+        assertEquals(new BigDecimal(666), savedOrder.getValue().getCompletePrice());
+        assertNotNull(savedOrder.getValue().getCreatedAt());
     }
 
     @Test
     void removeOrder() {
-        when(userRepository.findById("testId")).thenReturn(Optional.of(user)).thenReturn(Optional.of(user));
+        // Arrange
+        when(orderRepository.deleteByIdAndUserId("orderId", "testId")).thenReturn(1L);
 
+        // Act
         orderService.removeOrder("testId", "orderId");
 
-        verify(userRepository).findById("testId");
-        verify(userRepository).save(user);
-        assertTrue(user.getOrders().isEmpty());
+        // Assert
+        verify(orderRepository).deleteByIdAndUserId("orderId", "testId");
     }
 
     @Test
     void getOrderByUserIdAndOrderId() {
-        when(userRepository.findById("testId")).thenReturn(Optional.of(user));
+        // Arrange
+        when(orderRepository.findByIdAndUserId("orderId", "testId")).thenReturn(Optional.of(testOrder));
 
+        // Act
         Order order = orderService.getOrderByUserIdAndOrderId("testId", "orderId");
 
-        verify(userRepository).findById("testId");
-        assertNotNull(order);
+        // Assert
+        assertEquals(testOrder, order);
     }
 
     @Test
     void getAllOrders() {
-        when(userRepository.findById("testId")).thenReturn(Optional.of(user));
+        // Arrange
+        when(orderRepository.findAllByUserIdOrderByCreatedAtAsc("testId")).thenReturn(List.of(testOrder));
 
+        // Act
         List<Order> orders = orderService.getAllOrdersByUserId("testId");
 
-        verify(userRepository).findById("testId");
+        // Assert
         assertEquals(1, orders.size());
     }
 
+    @Test
+    void getAllOrders_shouldThrowUserNotFoundException_whenUserDoesNotExist() {
+        // Arrange
+        when(orderRepository.findAllByUserIdOrderByCreatedAtAsc("unknownId")).thenReturn(List.of());
+        when(userRepository.existsById("unknownId")).thenReturn(false);
+
+        // Act & Assert
+        assertThrows(UserNotFoundException.class, () -> orderService.getAllOrdersByUserId("unknownId"));
+    }
+
+    @Test
+    void getOrdersByUserId_shouldSortNewestFirst_whenNoSortIsRequested() {
+        // Arrange
+        Pageable expectedPageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
+        Page<Order> expected = new PageImpl<>(List.of(testOrder), expectedPageable, 1);
+
+        when(orderRepository.findAllByUserId("testId", expectedPageable)).thenReturn(expected);
+
+        // Act
+        Page<Order> actual = orderService.getOrdersByUserId("testId", PageRequest.of(0, 10));
+
+        // Assert
+        assertEquals(expected, actual);
+    }
+
     @Test
     void getOrderByUserAndOrderId_whenThereIsNoSuchOrder_shouldOrderNotFoundException() {
         // Arrange
-        when(userRepository.findById("testId")).thenReturn(Optional.of(user));
-        user.setOrders(new ArrayList<>());
+        when(orderRepository.findByIdAndUserId("orderId", "testId")).thenReturn(Optional.empty());
+        when(userRepository.existsById("testId")).thenReturn(true);
 
         // Act & Assert
         assertThrows(OrderNotFoundException.class,
                 () -> orderService.getOrderByUserIdAndOrderId("testId", "orderId"));
-
     }
 
     @Test
     void updateStatus() {
+        // Arrange
         OrderStatusRequest statusRequest = new OrderStatusRequest(OrderStatus.COMPLETED);
-        when(userRepository.findById("testId")).thenReturn(Optional.of(user));
+        when(orderRepository.updateOrderStatus("testId", "orderId", OrderStatus.COMPLETED)).thenReturn(true);
 
+        // Act
         orderService.updateStatus("testId", "orderId", statusRequest);
 
-        verify(userRepository).findById("testId");
-        verify(userRepository).save(user);
-        assertEquals(OrderStatus.COMPLETED, user.getOrders().get(0).getOrderStatus());
+        // Assert
+        verify(orderRepository).updateOrderStatus("testId", "orderId", OrderStatus.COMPLETED);
+        verify(orderRepository, never()).save(any());
+    }
+
+    @Test
+    void updateStatus_shouldThrowOrderNotFoundException_whenOrderDoesNotExist() {
+        // Arrange
+        OrderStatusRequest statusRequest = new OrderStatusRequest(OrderStatus.COMPLETED);
+        when(orderRepository.updateOrderStatus("testId", "unknownId", OrderStatus.COMPLETED)).thenReturn(false);
+        when(userRepository.existsById("testId")).thenReturn(true);
+
+        // Act & Assert
+        assertThrows(OrderNotFoundException.class, () -> orderService.updateStatus("testId", "unknownId", statusRequest));
     }
 
     @Test
     void deleteAll() {
-        when(userRepository.findById("testId")).thenReturn(Optional.of(user));
+        // Arrange
+        when(orderRepository.deleteAllByUserId("testId")).thenReturn(1L);
 
+        // Act
         orderService.deleteAll("testId");
 
-        verify(userRepository).findById("testId");
-        verify(userRepository).save(user);
-        assertTrue(user.getOrders().isEmpty());
+        // Assert
+        verify(orderRepository).deleteAllByUserId("testId");
     }
 }
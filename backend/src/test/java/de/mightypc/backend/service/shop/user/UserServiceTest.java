@@ -1,14 +1,21 @@
 package de.mightypc.backend.service.shop.user;
 
 import de.mightypc.backend.exception.shop.user.UserNotFoundException;
+import de.mightypc.backend.model.shop.user.ChangePassword;
 import de.mightypc.backend.model.shop.user.CreateUser;
 import de.mightypc.backend.model.shop.user.User;
+import de.mightypc.backend.model.shop.user.UserCredentials;
+import de.mightypc.backend.model.shop.user.UserCredentialsChangedEvent;
 import de.mightypc.backend.model.shop.user.UserResponse;
 import de.mightypc.backend.repository.shop.UserRepository;
+import de.mightypc.backend.service.concurrency.OptimisticLockRetrier;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
@@ -20,6 +27,7 @@ import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 class UserServiceTest {
@@ -29,6 +37,9 @@ class UserServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Spy
+    private OptimisticLockRetrier optimisticLockRetrier = new OptimisticLockRetrier();
+
     @InjectMocks
     private UserService userService;
 
@@ -156,4 +167,89 @@ class UserServiceTest {
         // Assert
         verify(userRepository).delete(user);
     }
+
+    @Test
+    void deleteAccount_shouldEvictCachedPrincipal() {
+        // Arrange
+        ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+        userService.setApplicationEventPublisher(eventPublisher);
+        User user = new User(UUID.randomUUID().toString(), "user@example.com", "", new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), false, "CUSTOMER", ZonedDateTime.now().format(DateTimeFormatter.ofLocalizedDateTime(FormatStyle.FULL, FormatStyle.FULL)), "");
+        when(userRepository.findById("userId")).thenReturn(Optional.of(user));
+
+        // Act
+        userService.deleteAccount("userId");
+
+        // Assert
+        verify(eventPublisher).publishEvent(new UserCredentialsChangedEvent("user@example.com"));
+    }
+
+    @Test
+    void attachPhoto_shouldReloadAndRetry_whenUserWasModifiedConcurrently() {
+        // Arrange
+        User user = new User(UUID.randomUUID().toString(), "user@example.com", "", new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), false, "CUSTOMER", ZonedDateTime.now().format(DateTimeFormatter.ofLocalizedDateTime(FormatStyle.FULL, FormatStyle.FULL)), "");
+        when(userRepository.findById("userId")).thenReturn(Optional.of(user));
+        when(userRepository.save(any(User.class)))
+                .thenThrow(new OptimisticLockingFailureException("conflict"))
+                .thenReturn(user);
+
+        // Act
+        User result = userService.attachPhoto("userId", "photoUrl");
+
+        // Assert
+        assertEquals("photoUrl", result.getUserPhoto());
+        verify(userRepository, times(2)).findById("userId");
+        verify(userRepository, times(2)).save(user);
+    }
+
+    @Test
+    void changePassword_shouldStoreNewHashAndEvictTokens() {
+        // Arrange
+        ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+        userService.setApplicationEventPublisher(eventPublisher);
+        when(userRepository.findCredentialsByEmail("user@example.com")).thenReturn(Optional.of(new UserCredentials("userId", "user@example.com", "oldHash", "CUSTOMER")));
+        when(passwordEncoder.matches("oldPassword", "oldHash")).thenReturn(true);
+        when(passwordEncoder.encode("newPassword")).thenReturn("newHash");
+
+        // Act
+        userService.changePassword("user@example.com", new ChangePassword("oldPassword", "newPassword"));
+
+        // Assert
+        verify(userRepository).changePassword("user@example.com", "newHash");
+        verify(eventPublisher).publishEvent(new UserCredentialsChangedEvent("user@example.com"));
+    }
+
+    @Test
+    void changePassword_shouldThrowException_whenCurrentPasswordIsWrong() {
+        // Arrange
+        when(userRepository.findCredentialsByEmail("user@example.com")).thenReturn(Optional.of(new UserCredentials("userId", "user@example.com", "oldHash", "CUSTOMER")));
+        when(passwordEncoder.matches("wrongPassword", "oldHash")).thenReturn(false);
+        ChangePassword changePassword = new ChangePassword("wrongPassword", "newPassword");
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> userService.changePassword("user@example.com", changePassword));
+        verify(userRepository, never()).changePassword(anyString(), anyString());
+    }
+
+    @Test
+    void logoutEverywhere_shouldIncrementTokenVersionAndEvictTokens() {
+        // Arrange
+        ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+        userService.setApplicationEventPublisher(eventPublisher);
+        when(userRepository.incrementTokenVersion("user@example.com")).thenReturn(true);
+
+        // Act
+        userService.logoutEverywhere("user@example.com");
+
+        // Assert
+        verify(eventPublisher).publishEvent(new UserCredentialsChangedEvent("user@example.com"));
+    }
+
+    @Test
+    void logoutEverywhere_shouldThrowUserNotFoundException_whenUserDoesNotExist() {
+        // Arrange
+        when(userRepository.incrementTokenVersion("unknown@example.com")).thenReturn(false);
+
+        // Act & Assert
+        assertThrows(UserNotFoundException.class, () -> userService.logoutEverywhere("unknown@example.com"));
+    }
 }